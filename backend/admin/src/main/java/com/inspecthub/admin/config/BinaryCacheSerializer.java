@@ -0,0 +1,172 @@
+package com.inspecthub.admin.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캐시별 바이너리 Redis 직렬화
+ *
+ * GenericJackson2JsonRedisSerializer는 클래스 이름과 필드 이름을 매번 JSON으로 쓰지만,
+ * 이 직렬화는 CacheValueCodec이 정한 필드 값만 쓴다.
+ *
+ * 형식: [magic 0xB1][schemaVersion][encoding][payload]
+ * - encoding 0: 원본, 1: deflate (payload가 compressThreshold 바이트 이상이고 압축 결과가 더 작을 때만)
+ * - magic/버전/encoding이 맞지 않거나 읽을 수 없는 값 (이전 JSON 값, 다른 스키마 버전, 없어진 enum 상수)은
+ *   null을 반환해 미적중으로 처리한다 - 다시 로드한 값이 덮어쓴다
+ *
+ * @param <T> 캐시 값 타입
+ */
+@Slf4j
+public class BinaryCacheSerializer<T> implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB1;
+    static final byte ENCODING_RAW = 0;
+    static final byte ENCODING_DEFLATE = 1;
+
+    private static final int HEADER_SIZE = 3;
+
+    private final CacheValueCodec<T> codec;
+    private final int compressThreshold;
+
+    /**
+     * @param compressThreshold 이 크기(바이트) 이상인 payload만 압축 시도 (0 이하면 압축하지 않음)
+     */
+    public BinaryCacheSerializer(CacheValueCodec<T> codec, int compressThreshold) {
+        if (codec.schemaVersion() < 0 || codec.schemaVersion() > 255) {
+            throw new IllegalArgumentException("schemaVersion은 0 ~ 255: " + codec.schemaVersion());
+        }
+        this.codec = codec;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        if (!codec.type().isInstance(value)) {
+            throw new SerializationException(
+                    "지원하지 않는 캐시 값 타입: " + value.getClass().getName() + " (기대: " + codec.type().getName() + ")");
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        buffer.write(MAGIC);
+        buffer.write(codec.schemaVersion());
+        buffer.write(ENCODING_RAW);
+        try {
+            codec.write(codec.type().cast(value), new DataOutputStream(buffer));
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + codec.type().getName(), e);
+        }
+        byte[] raw = buffer.toByteArray();
+
+        int payloadSize = raw.length - HEADER_SIZE;
+        if (compressThreshold <= 0 || payloadSize < compressThreshold) {
+            return raw;
+        }
+        byte[] compressed = deflate(raw, payloadSize);
+        return compressed != null ? compressed : raw;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER_SIZE) {
+            return null;
+        }
+        if (bytes[0] != MAGIC || Byte.toUnsignedInt(bytes[1]) != codec.schemaVersion()) {
+            log.debug("캐시 값 형식/스키마 버전 불일치, 미적중 처리: type={}, version={}",
+                    codec.type().getSimpleName(), bytes[0] == MAGIC ? Byte.toUnsignedInt(bytes[1]) : "non-binary");
+            return null;
+        }
+
+        byte[] payload;
+        if (bytes[2] == ENCODING_RAW) {
+            payload = Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+        } else if (bytes[2] == ENCODING_DEFLATE) {
+            try {
+                payload = inflate(bytes);
+            } catch (SerializationException e) {
+                log.warn("압축된 캐시 값 해제 실패, 미적중 처리: type={}, error={}", codec.type().getSimpleName(), e.getMessage());
+                return null;
+            }
+        } else {
+            log.debug("알 수 없는 캐시 값 encoding, 미적중 처리: type={}, encoding={}", codec.type().getSimpleName(), bytes[2]);
+            return null;
+        }
+        try {
+            return codec.read(new DataInputStream(new ByteArrayInputStream(payload)));
+        } catch (IOException | RuntimeException e) {
+            log.warn("캐시 값 역직렬화 실패, 미적중 처리: type={}, error={}", codec.type().getSimpleName(), e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * payload 압축 - 더 작아지지 않으면 null
+     * 형식: header + [원본 크기 int] + deflate 데이터
+     */
+    private static byte[] deflate(byte[] raw, int payloadSize) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw, HEADER_SIZE, payloadSize);
+            deflater.finish();
+            byte[] out = new byte[HEADER_SIZE + Integer.BYTES + payloadSize];
+            int length = HEADER_SIZE + Integer.BYTES;
+            while (!deflater.finished() && length < out.length) {
+                length += deflater.deflate(out, length, out.length - length);
+            }
+            if (!deflater.finished()) {
+                return null;
+            }
+            out[0] = raw[0];
+            out[1] = raw[1];
+            out[2] = ENCODING_DEFLATE;
+            out[3] = (byte) (payloadSize >>> 24);
+            out[4] = (byte) (payloadSize >>> 16);
+            out[5] = (byte) (payloadSize >>> 8);
+            out[6] = (byte) payloadSize;
+            return Arrays.copyOf(out, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        if (bytes.length < HEADER_SIZE + Integer.BYTES) {
+            throw new SerializationException("압축된 캐시 값 헤더가 잘렸습니다");
+        }
+        int payloadSize = ((bytes[3] & 0xFF) << 24) | ((bytes[4] & 0xFF) << 16) | ((bytes[5] & 0xFF) << 8) | (bytes[6] & 0xFF);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, HEADER_SIZE + Integer.BYTES, bytes.length - HEADER_SIZE - Integer.BYTES);
+            byte[] payload = new byte[payloadSize];
+            int length = 0;
+            while (length < payloadSize && !inflater.finished()) {
+                int read = inflater.inflate(payload, length, payloadSize - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != payloadSize) {
+                throw new SerializationException("압축된 캐시 값 크기 불일치: " + length + " != " + payloadSize);
+            }
+            return payload;
+        } catch (DataFormatException e) {
+            throw new SerializationException("압축된 캐시 값 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
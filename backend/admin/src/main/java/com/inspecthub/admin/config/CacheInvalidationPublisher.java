@@ -0,0 +1,16 @@
+package com.inspecthub.admin.config;
+
+/**
+ * 캐시 L1 무효화 전파
+ *
+ * 한 노드에서 L2(Redis) 항목을 지우거나 바꾸면 다른 노드의 L1(메모리) 사본도 지우도록 알린다.
+ * 발행 실패는 예외로 던지지 않는다 - 다른 노드는 L1 TTL 경과 후 반영된다.
+ */
+public interface CacheInvalidationPublisher {
+
+    /**
+     * @param cacheName 캐시 이름
+     * @param key       항목 키 (null이면 캐시 전체)
+     */
+    void publish(String cacheName, String key);
+}
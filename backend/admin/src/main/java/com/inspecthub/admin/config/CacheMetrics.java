@@ -0,0 +1,128 @@
+package com.inspecthub.admin.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 캐시별 Micrometer 지표 (TwoLevelCache)
+ *
+ * 모든 지표에 cache 태그, 계층 구분이 필요한 지표에 layer(l1/l2) 태그를 붙인다.
+ * - cache.gets{layer, result=hit|miss}: L1 조회, L1 미적중 후 L2 조회
+ * - cache.puts{layer=l2}: L2 저장 (@CachePut, 로더 결과)
+ * - cache.evictions{layer=l1, cause=invalidation|size}: 무효화(이 노드/다른 노드) 또는 용량 확보로 제거된 L1 항목
+ * - cache.load{result=success|failure}: 로더(DB) 실행 시간 - 백그라운드 재로드 포함
+ * - cache.size{layer=l1}: L1 항목 수 (TTL 지난 항목 포함, 다음 조회/용량 확보 때 정리)
+ *
+ * L2 직렬화 크기는 MeteredRedisSerializer(cache.payload.bytes)에서 기록한다.
+ */
+public class CacheMetrics {
+
+    public static final String PREFIX = "cache";
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter puts;
+    private final Counter invalidations;
+    private final Counter sizeEvictions;
+    private final Timer loadSuccess;
+    private final Timer loadFailure;
+    private final Supplier<Number> l1Size;
+
+    /**
+     * 캐시 하나의 현재 지표 값 (actuator cachestats)
+     */
+    public record Snapshot(
+            long l1Size,
+            double l1Hits,
+            double l1Misses,
+            double l2Hits,
+            double l2Misses,
+            double puts,
+            double invalidations,
+            double sizeEvictions,
+            long loads,
+            long loadFailures,
+            double loadMeanMillis,
+            double loadMaxMillis
+    ) {
+    }
+
+    public CacheMetrics(String cacheName, MeterRegistry registry, Supplier<Number> l1Size) {
+        this.l1Hits = counter(PREFIX + ".gets", cacheName, registry, "layer", "l1", "result", "hit");
+        this.l1Misses = counter(PREFIX + ".gets", cacheName, registry, "layer", "l1", "result", "miss");
+        this.l2Hits = counter(PREFIX + ".gets", cacheName, registry, "layer", "l2", "result", "hit");
+        this.l2Misses = counter(PREFIX + ".gets", cacheName, registry, "layer", "l2", "result", "miss");
+        this.puts = counter(PREFIX + ".puts", cacheName, registry, "layer", "l2");
+        this.invalidations = counter(PREFIX + ".evictions", cacheName, registry, "layer", "l1", "cause", "invalidation");
+        this.sizeEvictions = counter(PREFIX + ".evictions", cacheName, registry, "layer", "l1", "cause", "size");
+        this.loadSuccess = Timer.builder(PREFIX + ".load").tag("cache", cacheName).tag("result", "success")
+                .description("캐시 로더 실행 시간").register(registry);
+        this.loadFailure = Timer.builder(PREFIX + ".load").tag("cache", cacheName).tag("result", "failure")
+                .description("캐시 로더 실행 시간").register(registry);
+        Gauge.builder(PREFIX + ".size", l1Size).tag("cache", cacheName).tag("layer", "l1")
+                .description("L1 캐시 항목 수").register(registry);
+        this.l1Size = l1Size;
+    }
+
+    private static Counter counter(String name, String cacheName, MeterRegistry registry, String... tags) {
+        return Counter.builder(name).tag("cache", cacheName).tags(tags).register(registry);
+    }
+
+    void l1Hit() {
+        l1Hits.increment();
+    }
+
+    void l1Miss() {
+        l1Misses.increment();
+    }
+
+    void l2Hit() {
+        l2Hits.increment();
+    }
+
+    void l2Miss() {
+        l2Misses.increment();
+    }
+
+    void put() {
+        puts.increment();
+    }
+
+    void invalidated(int entries) {
+        invalidations.increment(entries);
+    }
+
+    void evictedForSize(int entries) {
+        sizeEvictions.increment(entries);
+    }
+
+    void loaded(long nanos, boolean success) {
+        (success ? loadSuccess : loadFailure).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public Snapshot snapshot() {
+        long loads = loadSuccess.count() + loadFailure.count();
+        double totalMillis = loadSuccess.totalTime(TimeUnit.MILLISECONDS) + loadFailure.totalTime(TimeUnit.MILLISECONDS);
+        return new Snapshot(
+                l1Size.get().longValue(),
+                l1Hits.count(),
+                l1Misses.count(),
+                l2Hits.count(),
+                l2Misses.count(),
+                puts.count(),
+                invalidations.count(),
+                sizeEvictions.count(),
+                loads,
+                loadFailure.count(),
+                loads == 0 ? 0 : totalMillis / loads,
+                Math.max(loadSuccess.max(TimeUnit.MILLISECONDS), loadFailure.max(TimeUnit.MILLISECONDS))
+        );
+    }
+}
@@ -0,0 +1,131 @@
+package com.inspecthub.admin.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 캐시 통계/삭제 actuator 엔드포인트 (/actuator/cachestats)
+ *
+ * Spring Boot 기본 caches 엔드포인트는 캐시 이름만 보여주므로, 모든 CacheManager의 캐시에 대해
+ * L1/L2 적중률, 로드 시간, 무효화 수, L2 값 크기를 함께 보여준다.
+ * - GET /actuator/cachestats: 전체 캐시
+ * - GET /actuator/cachestats/{name}: 캐시 하나
+ * - DELETE /actuator/cachestats/{name}?key=...: 키 하나 (key가 없으면 캐시 전체) 삭제 - 다른 노드 L1에도 전파된다
+ *
+ * 키는 캐시 키의 문자열 표현이다 (인자 없는 @Cacheable은 "SimpleKey []").
+ * 지표 값은 이 노드 기준이다. TwoLevelCache가 아닌 캐시는 이름/타입과 값 크기만 보여준다.
+ */
+@Slf4j
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+
+    private final Map<String, CacheManager> cacheManagers;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시 하나의 통계
+     *
+     * @param stats TwoLevelCache가 아니면 null
+     * @param payloadBytesMean L2에 쓴 값의 평균 크기 (기록이 없으면 0)
+     */
+    public record CacheStats(
+            String cacheManager,
+            String name,
+            String type,
+            CacheMetrics.Snapshot stats,
+            long payloadWrites,
+            double payloadBytesMean,
+            double payloadBytesMax
+    ) {
+    }
+
+    public CacheStatsEndpoint(Map<String, CacheManager> cacheManagers, MeterRegistry meterRegistry) {
+        this.cacheManagers = new TreeMap<>(cacheManagers);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ReadOperation
+    public List<CacheStats> caches() {
+        List<CacheStats> result = new ArrayList<>();
+        cacheManagers.forEach((managerName, manager) -> {
+            for (String cacheName : manager.getCacheNames()) {
+                Cache cache = manager.getCache(cacheName);
+                if (cache != null) {
+                    result.add(stats(managerName, cache));
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return 없는 캐시면 null (404)
+     */
+    @ReadOperation
+    @Nullable
+    public List<CacheStats> cache(@Selector String name) {
+        List<CacheStats> result = new ArrayList<>();
+        cacheManagers.forEach((managerName, manager) -> {
+            Cache cache = manager.getCache(name);
+            if (cache != null && manager.getCacheNames().contains(name)) {
+                result.add(stats(managerName, cache));
+            }
+        });
+        return result.isEmpty() ? null : result;
+    }
+
+    /**
+     * 키 하나 또는 캐시 전체 삭제
+     *
+     * @return 삭제 후 통계, 없는 캐시면 null (404)
+     */
+    @DeleteOperation
+    @Nullable
+    public List<CacheStats> evict(@Selector String name, @Nullable String key) {
+        List<CacheStats> result = new ArrayList<>();
+        cacheManagers.forEach((managerName, manager) -> {
+            if (!manager.getCacheNames().contains(name)) {
+                return;
+            }
+            Cache cache = manager.getCache(name);
+            if (cache == null) {
+                return;
+            }
+            if (key == null) {
+                cache.clear();
+            } else {
+                cache.evict(key);
+            }
+            log.info("캐시 삭제 (actuator): cacheManager={}, cache={}, key={}", managerName, name, key == null ? "*" : key);
+            result.add(stats(managerName, cache));
+        });
+        return result.isEmpty() ? null : result;
+    }
+
+    private CacheStats stats(String managerName, Cache cache) {
+        DistributionSummary payload = meterRegistry.find(CacheMetrics.PREFIX + ".payload.bytes")
+                .tag("cache", cache.getName()).tag("op", "write").summary();
+        return new CacheStats(
+                managerName,
+                cache.getName(),
+                cache.getClass().getSimpleName(),
+                cache instanceof TwoLevelCache twoLevel ? twoLevel.stats() : null,
+                payload == null ? 0 : payload.count(),
+                payload == null ? 0 : payload.mean(),
+                payload == null ? 0 : payload.max()
+        );
+    }
+}
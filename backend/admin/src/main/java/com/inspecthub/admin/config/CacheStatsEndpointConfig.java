@@ -0,0 +1,29 @@
+package com.inspecthub.admin.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * 캐시 통계 actuator 엔드포인트 등록 - actuator가 있는 애플리케이션(server)에서만
+ *
+ * 노출: management.endpoints.web.exposure.include에 cachestats 추가, 접근은 ADMIN 권한 (SecurityConfig)
+ */
+@Configuration
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+public class CacheStatsEndpointConfig {
+
+    @Bean
+    public CacheStatsEndpoint cacheStatsEndpoint(
+            Map<String, CacheManager> cacheManagers,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new CacheStatsEndpoint(cacheManagers, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -0,0 +1,27 @@
+package com.inspecthub.admin.config;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 캐시 값 바이너리 코덱 (BinaryCacheSerializer에서 사용)
+ *
+ * 필드를 정해진 순서로 직접 쓰고 읽는다. 필드 구성이 바뀌면 schemaVersion을 올린다
+ * - 다른 버전으로 저장된 값은 역직렬화하지 않고 미적중으로 처리되어 다시 로드된다 (배포 중 구/신 노드 공존 포함).
+ *
+ * @param <T> 캐시 값 타입
+ */
+public interface CacheValueCodec<T> {
+
+    Class<T> type();
+
+    /**
+     * 값 스키마 버전 (0 ~ 255)
+     */
+    int schemaVersion();
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+}
@@ -0,0 +1,46 @@
+package com.inspecthub.admin.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * L2 값 직렬화 크기 기록 - cache.payload.bytes{cache, op=write|read}
+ *
+ * 캐시별 직렬화(RedisCacheConfig)를 감싸 Redis로 보내고 받는 값의 바이트 수를 기록한다.
+ * 설정이 없는 캐시들이 함께 쓰는 기본 직렬화는 cache="default"로 기록한다.
+ */
+public class MeteredRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+    private final DistributionSummary written;
+    private final DistributionSummary read;
+
+    public MeteredRedisSerializer(RedisSerializer<Object> delegate, String cacheName, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.written = DistributionSummary.builder(CacheMetrics.PREFIX + ".payload.bytes")
+                .tag("cache", cacheName).tag("op", "write").baseUnit("bytes")
+                .description("L2 캐시 값 직렬화 크기").register(registry);
+        this.read = DistributionSummary.builder(CacheMetrics.PREFIX + ".payload.bytes")
+                .tag("cache", cacheName).tag("op", "read").baseUnit("bytes")
+                .description("L2 캐시 값 직렬화 크기").register(registry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes != null) {
+            written.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes != null) {
+            read.record(bytes.length);
+        }
+        return delegate.deserialize(bytes);
+    }
+}
@@ -1,5 +1,11 @@
 package com.inspecthub.admin.config;
 
+import com.inspecthub.admin.config.TwoLevelCacheManager.CacheSpec;
+import com.inspecthub.admin.loginpolicy.cache.LoginPolicyCacheCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,20 +13,44 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Redis Cache 설정
  *
- * - TTL: 1시간
+ * L2 (Redis, 노드 간 공유)
+ * - TTL: 캐시별 CacheSpec (CACHE_SPECS, 없으면 DEFAULT_SPEC 1시간)
  * - Key: String 직렬화
- * - Value: JSON 직렬화 (GenericJackson2JsonRedisSerializer)
+ * - Value: 캐시별 직렬화 (CACHE_SERIALIZERS, 없으면 GenericJackson2JsonRedisSerializer JSON)
+ *   - BinaryCacheSerializer: 필드 값만 쓰는 바이너리 + 스키마 버전, COMPRESS_THRESHOLD 이상이면 deflate 압축
  * - Null 값 캐싱 비활성화
  *
+ * L1 (노드 메모리, TwoLevelCacheManager)
+ * - 캐시마다 최대 1,000개, 60초
+ * - 삭제/변경 시 Redis pub/sub(admin:cache:invalidate)으로 다른 노드의 L1 제거
+ *
+ * 로드 (@Cacheable(sync = true))
+ * - 같은 키 미적중은 노드당 하나의 로더만 실행
+ * - 이 노드가 로드한 항목은 만료 refreshAhead 전부터 백그라운드 재로드 (cache-refresh 스레드)
+ *
+ * 지표: CacheMetrics(cache.gets/puts/evictions/load/size), MeteredRedisSerializer(cache.payload.bytes)
+ * 조회/삭제: actuator cachestats (CacheStatsEndpoint)
+ *
  * @Profile("!test") - test 프로파일에서는 TestCacheConfig 사용
  */
 @Configuration
@@ -28,20 +58,96 @@ import java.time.Duration;
 @Profile("!test")
 public class RedisCacheConfig {
 
+    private static final Duration L1_TTL = Duration.ofSeconds(60);
+
+    /**
+     * 캐시별 설정이 없는 캐시
+     */
+    private static final CacheSpec DEFAULT_SPEC = new CacheSpec(Duration.ofHours(1), Duration.ZERO, 1_000);
+
+    /**
+     * 캐시별 설정 - 단일 키로 모든 요청이 읽는 설정성 캐시는 만료 전에 미리 다시 읽는다
+     */
+    private static final Map<String, CacheSpec> CACHE_SPECS = Map.of(
+            "system:login-policy", new CacheSpec(Duration.ofHours(1), Duration.ofMinutes(5), 16)
+    );
+
+    /**
+     * 바이너리 값 압축 시도 기준 (바이트)
+     */
+    private static final int COMPRESS_THRESHOLD = 512;
+
+    /**
+     * 캐시별 값 직렬화 - 없으면 JSON
+     */
+    private static final Map<String, RedisSerializer<Object>> CACHE_SERIALIZERS = Map.of(
+            "system:login-policy", new BinaryCacheSerializer<>(new LoginPolicyCacheCodec(), COMPRESS_THRESHOLD)
+    );
+
+    private static final RedisSerializer<Object> DEFAULT_SERIALIZER = new GenericJackson2JsonRedisSerializer();
+
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1))
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            ObjectProvider<CacheInvalidationPublisher> invalidationPublisher,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        Set<String> cacheNames = new HashSet<>(CACHE_SPECS.keySet());
+        cacheNames.addAll(CACHE_SERIALIZERS.keySet());
+        cacheNames.forEach(name -> cacheConfigurations.put(name, redisCacheConfiguration(
+                CACHE_SPECS.getOrDefault(name, DEFAULT_SPEC),
+                new MeteredRedisSerializer(CACHE_SERIALIZERS.getOrDefault(name, DEFAULT_SERIALIZER), name, registry))));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(redisCacheConfiguration(DEFAULT_SPEC,
+                        new MeteredRedisSerializer(DEFAULT_SERIALIZER, "default", registry)))
+                .withInitialCacheConfigurations(cacheConfigurations)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        // 발행자는 이 CacheManager에 의존하므로 생성 시점이 아닌 무효화 시점에 조회한다
+        return new TwoLevelCacheManager(redisCacheManager, CACHE_SPECS, DEFAULT_SPEC, L1_TTL, Clock.systemUTC(),
+                refreshExecutor, invalidationPublisher::getIfAvailable, registry);
+    }
+
+    private static RedisCacheConfiguration redisCacheConfiguration(CacheSpec spec, RedisSerializer<Object> valueSerializer) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(spec.ttl())
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
+                        RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer)
                 )
                 .disableCachingNullValues();
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+    @Bean
+    public RedisCacheInvalidation cacheInvalidation(StringRedisTemplate redisTemplate, TwoLevelCacheManager cacheManager) {
+        return new RedisCacheInvalidation(redisTemplate, cacheManager);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisCacheInvalidation cacheInvalidation
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidation, new ChannelTopic(RedisCacheInvalidation.CHANNEL));
+        return container;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
     }
 }
@@ -0,0 +1,58 @@
+package com.inspecthub.admin.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 기반 캐시 L1 무효화 전파
+ *
+ * 메시지: {nodeId}|{E=항목, C=전체}|{캐시 이름}|{key}
+ * 자신이 보낸 메시지는 이미 로컬에서 제거했으므로 무시한다.
+ * 발행 실패는 로그만 남기며, 다른 노드의 L1 항목은 TTL 경과 후 갱신된다.
+ */
+@Slf4j
+public class RedisCacheInvalidation implements CacheInvalidationPublisher, MessageListener {
+
+    public static final String CHANNEL = "admin:cache:invalidate";
+
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    private final StringRedisTemplate redisTemplate;
+    private final TwoLevelCacheManager cacheManager;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisCacheInvalidation(StringRedisTemplate redisTemplate, TwoLevelCacheManager cacheManager) {
+        this.redisTemplate = redisTemplate;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        String message = nodeId + "|" + (key == null ? CLEAR : EVICT) + "|" + cacheName + "|" + (key == null ? "" : key);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 전파 실패 - 다른 노드는 L1 TTL 후 반영: cache={}, key={}, error={}",
+                    cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length != 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+        switch (parts[1]) {
+            case EVICT -> cacheManager.evictLocal(parts[2], parts[3]);
+            case CLEAR -> cacheManager.evictLocal(parts[2], null);
+            default -> log.debug("알 수 없는 캐시 무효화 메시지: {}", parts[1]);
+        }
+    }
+}
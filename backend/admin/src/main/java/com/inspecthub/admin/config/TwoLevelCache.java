@@ -0,0 +1,392 @@
+package com.inspecthub.admin.config;
+
+import com.inspecthub.common.cache.BoundedCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 2단계 캐시 - 노드 메모리 L1 + 공유 L2(Redis)
+ *
+ * 조회: L1 적중 시 L2/역직렬화 없이 반환, 미적중 시 L2에서 읽어 L1에 둔다.
+ * 쓰기/삭제: L2에 반영하고 L1을 지운 뒤 다른 노드에 전파한다 (CacheInvalidationPublisher).
+ * - 트랜잭션 안의 쓰기는 커밋된 경우에만 L2에 쓴다 (롤백된 값이 다른 노드에 보이지 않도록)
+ * - 트랜잭션 안이면 완료 후 L2/L1을 한 번 더 지우고, 커밋된 경우에만 전파한다
+ *   (커밋 전에 다른 요청이 변경 전 값을 다시 캐시한 경우 대비)
+ * - 조회 중 무효화가 일어나면 방금 읽은 값은 L1에 두지 않는다 (세대 번호 비교)
+ * - ttl: 전파 메시지를 놓친 경우의 반영 지연 상한
+ *
+ * 로더 조회 (@Cacheable(sync = true) -> get(key, valueLoader)):
+ * - 같은 키의 미적중은 노드 안에서 하나의 로더만 실행하고 나머지는 그 결과를 기다린다 (single-flight)
+ *   로더 예외는 ValueRetrievalException, L2 조회/저장 예외는 그대로 대기 중인 요청에도 전달된다.
+ * - 이 노드가 로드한 항목은 L2 만료 refreshAhead 전부터 적중 시 백그라운드에서 다시 로드해
+ *   L2 TTL을 연장한다 (만료 순간 모든 요청이 동시에 DB로 가지 않도록). 다시 로드하는 동안은 기존 값을 반환하고,
+ *   실패하면 경고만 남긴다. 다른 노드가 로드한 항목은 그 노드가 갱신한다.
+ *
+ * L1이 maxSize에 도달하면 TTL 경과 항목 정리 후 10%를 임의 제거한다 (BoundedCache).
+ * L1은 값을 복사하지 않고 같은 인스턴스를 돌려주므로 (ConcurrentMapCache와 같음) 캐시된 객체를 변경하면 안 된다.
+ * null 값은 캐시하지 않는다 (RedisCacheConfig와 같음).
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache l2;
+    private final int maxSize;
+    private final Duration ttl;
+    private final Duration refreshAfter;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final Supplier<CacheInvalidationPublisher> publisher;
+    private final CacheMetrics metrics;
+
+    private final BoundedCache<String, LocalEntry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 진행 중인 로드 (키별 single-flight)
+     */
+    private final Map<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+    /**
+     * 이 노드가 로드한 항목의 백그라운드 재로드 시각
+     */
+    private final Map<String, Instant> refreshDue = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param spec L2 TTL/재로드 구간/L1 최대 항목 수
+     * @param l1Ttl L1 유지 시간 (L2 TTL보다 길면 L2 TTL)
+     * @param refreshExecutor 백그라운드 재로드 실행
+     * @param meterRegistry 지표 등록 (CacheMetrics)
+     */
+    public TwoLevelCache(
+            String name,
+            Cache l2,
+            TwoLevelCacheManager.CacheSpec spec,
+            Duration l1Ttl,
+            Clock clock,
+            Executor refreshExecutor,
+            Supplier<CacheInvalidationPublisher> publisher,
+            MeterRegistry meterRegistry
+    ) {
+        super(false);
+        this.name = name;
+        this.l2 = l2;
+        this.maxSize = spec.maxSize();
+        this.ttl = l1Ttl.compareTo(spec.ttl()) < 0 ? l1Ttl : spec.ttl();
+        this.refreshAfter = spec.refreshAhead().isZero() || spec.refreshAhead().compareTo(spec.ttl()) >= 0
+                ? null
+                : spec.ttl().minus(spec.refreshAhead());
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.publisher = publisher;
+        this.entries = new BoundedCache<>(maxSize, entry -> !isFresh(entry, clock.instant()));
+        this.metrics = new CacheMetrics(name, meterRegistry, entries::size);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return lookup(key, true);
+    }
+
+    /**
+     * @param record 지표 기록 여부 (single-flight 재확인 조회는 기록하지 않음)
+     */
+    private Object lookup(Object key, boolean record) {
+        String localKey = localKey(key);
+        Instant now = clock.instant();
+        LocalEntry local = entries.get(localKey);
+        if (local != null && isFresh(local, now)) {
+            if (record) {
+                metrics.l1Hit();
+            }
+            return local.value();
+        }
+
+        long observedGeneration = generation.get();
+        ValueWrapper shared = l2.get(key);
+        if (shared == null || shared.get() == null) {
+            if (record) {
+                metrics.l1Miss();
+                metrics.l2Miss();
+            }
+            return null;
+        }
+        if (record) {
+            metrics.l1Miss();
+            metrics.l2Hit();
+        }
+        storeLocal(localKey, shared.get(), observedGeneration, now);
+        return shared.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object cached = lookup(key);
+        if (cached != null) {
+            refreshIfDue(key, localKey, valueLoader);
+            return (T) cached;
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = loads.putIfAbsent(localKey, load);
+        if (running != null) {
+            return (T) await(running, key, valueLoader);
+        }
+        try {
+            // 앞선 로드가 방금 끝났을 수 있다
+            Object loaded = lookup(key, false);
+            if (loaded == null) {
+                loaded = load(key, localKey, valueLoader);
+            }
+            load.complete(loaded);
+            return (T) loaded;
+        } catch (RuntimeException | Error e) {
+            // 로더 실패뿐 아니라 L2(Redis) 조회/저장 실패도 대기 중인 요청에 전달 - 완료하지 않으면 영원히 대기한다
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(localKey, load);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> running, Object key, Callable<?> valueLoader) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ValueRetrievalException retrieval) {
+                throw new ValueRetrievalException(key, valueLoader, retrieval.getCause());
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, cause);
+        }
+    }
+
+    /**
+     * 로더 실행 후 L2/L1에 저장 - 로드 중 무효화가 있었다면 변경 전 값일 수 있으므로 저장하지 않고 반환만 한다
+     */
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        long observedGeneration = generation.get();
+        long started = System.nanoTime();
+        Object loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            metrics.loaded(System.nanoTime() - started, false);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        metrics.loaded(System.nanoTime() - started, true);
+        if (loaded == null || generation.get() != observedGeneration) {
+            return loaded;
+        }
+        Instant now = clock.instant();
+        l2.put(key, loaded);
+        metrics.put();
+        storeLocal(localKey, loaded, observedGeneration, now);
+        if (refreshAfter != null && generation.get() == observedGeneration) {
+            refreshDue.put(localKey, now.plus(refreshAfter));
+        }
+        return loaded;
+    }
+
+    /**
+     * 재로드 시각이 지났으면 백그라운드에서 다시 로드 (키당 하나)
+     */
+    private void refreshIfDue(Object key, String localKey, Callable<?> valueLoader) {
+        Instant due = refreshDue.get(localKey);
+        if (due == null || clock.instant().isBefore(due) || !refreshing.add(localKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, localKey, valueLoader);
+                } catch (ValueRetrievalException e) {
+                    log.warn("캐시 백그라운드 재로드 실패, 기존 값 유지: cache={}, key={}, error={}",
+                            name, localKey, e.getCause().toString());
+                } finally {
+                    refreshing.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(localKey);
+        }
+    }
+
+    /**
+     * L2에 저장하고 다른 노드의 L1 사본을 지운다 (@CachePut, @Cacheable 미적중 후 저장)
+     *
+     * 트랜잭션 안이면 L1에만 두고 L2는 커밋 후에 쓴다. 롤백되면 L2는 그대로이고 L1 사본은 완료 시 지워진다.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        String localKey = localKey(key);
+        long observedGeneration = generation.get();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    l2.put(key, value);
+                    metrics.put();
+                }
+            });
+        } else {
+            l2.put(key, value);
+            metrics.put();
+        }
+        storeLocal(localKey, value, observedGeneration, clock.instant());
+        onCompletion(() -> evictLocal(localKey), localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        l2.evict(key);
+        evictLocal(localKey);
+        onCompletion(() -> {
+            l2.evict(key);
+            evictLocal(localKey);
+        }, localKey);
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        clearLocal();
+        onCompletion(() -> {
+            l2.clear();
+            clearLocal();
+        }, null);
+    }
+
+    /**
+     * L1 항목 제거 (다른 노드의 무효화 메시지 수신 시)
+     */
+    public void evictLocal(String localKey) {
+        generation.incrementAndGet();
+        if (entries.remove(localKey) != null) {
+            metrics.invalidated(1);
+        }
+        refreshDue.remove(localKey);
+    }
+
+    /**
+     * L1 전체 제거 (다른 노드의 무효화 메시지 수신 시)
+     */
+    public void clearLocal() {
+        generation.incrementAndGet();
+        int removed = entries.size();
+        entries.clear();
+        metrics.invalidated(removed);
+        refreshDue.clear();
+    }
+
+    /**
+     * 현재 L1 항목 수
+     */
+    public int localSize() {
+        return entries.size();
+    }
+
+    /**
+     * 현재 지표 값
+     */
+    public CacheMetrics.Snapshot stats() {
+        return metrics.snapshot();
+    }
+
+    /**
+     * L1/전파 메시지 키 - RedisCache와 같이 키의 문자열 표현을 쓴다 (SimpleKey.EMPTY -> "SimpleKey []")
+     */
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private void storeLocal(String localKey, Object value, long observedGeneration, Instant now) {
+        if (maxSize <= 0) {
+            return;
+        }
+        BoundedCache.Eviction eviction = entries.put(localKey, new LocalEntry(value, now));
+        if (eviction.total() > 0) {
+            refreshDue.keySet().retainAll(entries.keys());
+            metrics.evictedForSize(eviction.evicted());
+        }
+        // 읽는 동안 무효화가 있었다면 방금 읽은 값이 변경 전 값일 수 있다
+        if (generation.get() != observedGeneration) {
+            entries.remove(localKey);
+        }
+    }
+
+    /**
+     * 트랜잭션 완료 후 로컬 재무효화, 커밋된 경우에만 다른 노드로 전파
+     */
+    private void onCompletion(Runnable evict, String localKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(localKey);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict.run();
+                if (status == STATUS_COMMITTED) {
+                    publish(localKey);
+                }
+            }
+        });
+    }
+
+    private void publish(String localKey) {
+        CacheInvalidationPublisher target = publisher.get();
+        if (target != null) {
+            target.publish(name, localKey);
+        }
+    }
+
+    private boolean isFresh(LocalEntry entry, Instant now) {
+        return now.isBefore(entry.loadedAt().plus(ttl));
+    }
+
+    private record LocalEntry(Object value, Instant loadedAt) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.inspecthub.admin.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 2단계 CacheManager - L2 CacheManager(RedisCacheManager)의 각 캐시 앞에 노드 메모리 L1을 둔다
+ *
+ * 캐시 이름/직렬화는 L2 설정을 그대로 따르고, 캐시별 CacheSpec(없으면 defaultSpec)으로
+ * L1 최대 항목 수와 백그라운드 재로드 시점을 정한다. L1은 l1Ttl(L2 TTL보다 길면 L2 TTL) 동안 유지한다.
+ * L2 TTL 자체는 L2 CacheManager 설정이다 (RedisCacheConfig에서 같은 CacheSpec으로 구성).
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager l2;
+    private final Map<String, CacheSpec> specs;
+    private final CacheSpec defaultSpec;
+    private final Duration l1Ttl;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final Supplier<CacheInvalidationPublisher> publisher;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시별 설정
+     *
+     * @param ttl L2 TTL
+     * @param refreshAhead 이 노드가 로드한 항목을 L2 만료 얼마 전부터 백그라운드에서 다시 로드할지 (0이면 하지 않음)
+     * @param maxSize L1 최대 항목 수 (0이면 L1 미사용)
+     */
+    public record CacheSpec(Duration ttl, Duration refreshAhead, int maxSize) {
+    }
+
+    public TwoLevelCacheManager(
+            CacheManager l2,
+            Map<String, CacheSpec> specs,
+            CacheSpec defaultSpec,
+            Duration l1Ttl,
+            Clock clock,
+            Executor refreshExecutor,
+            Supplier<CacheInvalidationPublisher> publisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.l2 = l2;
+        this.specs = Map.copyOf(specs);
+        this.defaultSpec = defaultSpec;
+        this.l1Ttl = l1Ttl;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache shared = l2.getCache(name);
+        if (shared == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name,
+                cacheName -> new TwoLevelCache(cacheName, shared, specs.getOrDefault(cacheName, defaultSpec),
+                        l1Ttl, clock, refreshExecutor, publisher, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(l2.getCacheNames());
+        names.addAll(caches.keySet());
+        return names;
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 반영 - 이 노드에서 아직 쓰지 않은 캐시는 L1이 없으므로 무시
+     *
+     * @param key null이면 캐시 전체
+     */
+    public void evictLocal(String cacheName, String key) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.inspecthub.admin.loginpolicy.cache;
+
+import com.inspecthub.admin.config.CacheValueCodec;
+import com.inspecthub.admin.loginpolicy.domain.LoginMethod;
+import com.inspecthub.admin.loginpolicy.domain.LoginPolicy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * LoginPolicy 캐시 코덱 (system:login-policy)
+ *
+ * schemaVersion 1:
+ * - id, name, createdBy, updatedBy: nullable 문자열 (존재 여부 1바이트 + UTF)
+ * - enabledMethods, priority: 개수 1바이트 + LoginMethod 이름 (순서 유지, 이름 기준이라 enum 순서 변경에 안전)
+ * - active: 1바이트
+ * - createdAt, updatedAt: nullable (존재 여부 1바이트 + epoch second long + nano int)
+ */
+public class LoginPolicyCacheCodec implements CacheValueCodec<LoginPolicy> {
+
+    @Override
+    public Class<LoginPolicy> type() {
+        return LoginPolicy.class;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public void write(LoginPolicy policy, DataOutput out) throws IOException {
+        writeNullable(out, policy.getId());
+        out.writeUTF(policy.getName());
+        writeMethods(out, policy.getEnabledMethods());
+        writeMethods(out, policy.getPriority());
+        out.writeBoolean(policy.isActive());
+        writeNullable(out, policy.getCreatedBy());
+        writeNullable(out, policy.getCreatedAt());
+        writeNullable(out, policy.getUpdatedBy());
+        writeNullable(out, policy.getUpdatedAt());
+    }
+
+    @Override
+    public LoginPolicy read(DataInput in) throws IOException {
+        return LoginPolicy.builder()
+                .id(readNullableString(in))
+                .name(in.readUTF())
+                .enabledMethods(readMethods(in, new LinkedHashSet<>()))
+                .priority(readMethods(in, new ArrayList<>()))
+                .active(in.readBoolean())
+                .createdBy(readNullableString(in))
+                .createdAt(readNullableTime(in))
+                .updatedBy(readNullableString(in))
+                .updatedAt(readNullableTime(in))
+                .build();
+    }
+
+    private static void writeMethods(DataOutput out, Collection<LoginMethod> methods) throws IOException {
+        out.writeByte(methods.size());
+        for (LoginMethod method : methods) {
+            out.writeUTF(method.name());
+        }
+    }
+
+    private static <C extends Collection<LoginMethod>> C readMethods(DataInput in, C target) throws IOException {
+        int size = in.readUnsignedByte();
+        for (int i = 0; i < size; i++) {
+            target.add(LoginMethod.valueOf(in.readUTF()));
+        }
+        return target;
+    }
+
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static void writeNullable(DataOutput out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static LocalDateTime readNullableTime(DataInput in) throws IOException {
+        return in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+    }
+}
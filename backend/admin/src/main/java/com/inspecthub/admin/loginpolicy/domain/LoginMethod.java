@@ -4,6 +4,9 @@ package com.inspecthub.admin.loginpolicy.domain;
  * 로그인 방식 Enum
  *
  * 우선순위: SSO > AD > LOCAL
+ *
+ * 선언 순서(ordinal)가 login_policy 저장 형식이다 (비트마스크/ordinal 바이트).
+ * 새 방식은 끝에만 추가하고, 순서 변경/삭제는 데이터 마이그레이션과 함께 한다.
  */
 public enum LoginMethod {
     /**
@@ -7,12 +7,16 @@ import com.inspecthub.admin.loginpolicy.domain.LoginPolicy;
 import com.inspecthub.admin.loginpolicy.exception.EmptyMethodsException;
 import com.inspecthub.admin.loginpolicy.exception.PolicyNotFoundException;
 import com.inspecthub.admin.loginpolicy.repository.LoginPolicyRepository;
+import com.inspecthub.common.outbox.DomainEventOutbox;
 import com.inspecthub.common.service.AuditLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,21 +32,39 @@ import java.util.Set;
 @Slf4j
 public class LoginPolicyService {
 
+    /**
+     * 감사 로그 정책 변경 이력 단위 (정책 종류)
+     */
+    static final String LOGIN_POLICY_SUBJECT = "LOGIN_POLICY";
+
     private final LoginPolicyRepository loginPolicyRepository;
     private final AuditLogService auditLogService;
+    private final DomainEventOutbox domainEventOutbox;
     private final ObjectMapper objectMapper;
 
+    /**
+     * 캐시 프록시를 거치는 자기 참조 - 내부 호출(this.getGlobalPolicy())은 @Cacheable을 우회하므로
+     * 조회 메서드는 이 참조로 호출한다. 프록시 없이 생성된 경우(단위 테스트) 자기 자신.
+     */
+    private LoginPolicyService self = this;
+
+    @Autowired
+    void setSelf(@Lazy LoginPolicyService self) {
+        this.self = self;
+    }
+
     /**
      * 시스템 전역 로그인 정책 조회
      *
      * Redis 캐시 사용:
      * - Cache Key: "system:login-policy"
-     * - TTL: 1시간 (application.yml 설정)
-     * - Null 값 캐싱 안 함
+     * - TTL: 1시간, 만료 5분 전부터 백그라운드 재로드 (RedisCacheConfig)
+     * - sync: 동시 미적중 시 DB 조회는 한 번만 (나머지는 그 결과를 기다림)
+     * - Null 값 캐싱 안 함 (없으면 예외)
      *
      * @return 로그인 정책
      */
-    @Cacheable(value = "system:login-policy", unless = "#result == null")
+    @Cacheable(value = "system:login-policy", sync = true)
     public LoginPolicy getGlobalPolicy() {
         log.debug("조회: 시스템 전역 로그인 정책 (DB)");
         return loginPolicyRepository.findGlobalPolicy()
@@ -50,23 +72,23 @@ public class LoginPolicyService {
     }
 
     /**
-     * 시스템의 사용 가능한 로그인 방식 리스트 조회
+     * 시스템의 사용 가능한 로그인 방식 리스트 조회 (캐시된 정책 사용)
      *
      * @return 활성화된 로그인 방식 Set
      */
     public Set<LoginMethod> getAvailableMethods() {
-        LoginPolicy policy = getGlobalPolicy();
+        LoginPolicy policy = self.getGlobalPolicy();
         log.debug("사용 가능한 로그인 방식 조회: {}", policy.getEnabledMethods());
         return policy.getEnabledMethods();
     }
 
     /**
-     * 시스템의 최우선 로그인 방식 조회
+     * 시스템의 최우선 로그인 방식 조회 (캐시된 정책 사용)
      *
      * @return 최우선 로그인 방식
      */
     public LoginMethod getPrimaryMethod() {
-        LoginPolicy policy = getGlobalPolicy();
+        LoginPolicy policy = self.getGlobalPolicy();
         LoginMethod primaryMethod = policy.getPrimaryMethod();
         log.debug("최우선 로그인 방식 조회: {}", primaryMethod);
         return primaryMethod;
@@ -83,6 +105,7 @@ public class LoginPolicyService {
      * @return 업데이트된 로그인 정책
      */
     @CacheEvict(value = "system:login-policy", allEntries = true)
+    @Transactional
     public LoginPolicy updateGlobalPolicy(
         String name,
         Set<LoginMethod> enabledMethods,
@@ -119,10 +142,15 @@ public class LoginPolicyService {
         auditLogService.logPolicyChange(
             "SYSTEM_LOGIN_POLICY_UPDATED",
             "SYSTEM",  // TODO: SecurityContext에서 가져오기
+            LOGIN_POLICY_SUBJECT,
+            updated.getId(),
             beforeJson,
             afterJson
         );
 
+        // 도메인 이벤트 (정책 저장과 같은 트랜잭션으로 outbox에 기록, 커밋 후 relay가 발행)
+        domainEventOutbox.append(LOGIN_POLICY_SUBJECT, updated.getId(), "SYSTEM_LOGIN_POLICY_UPDATED", afterJson);
+
         log.info("업데이트 완료: 시스템 전역 로그인 정책 - id={}", updated.getId());
 
         return updated;
@@ -137,6 +165,7 @@ public class LoginPolicyService {
      * @return 업데이트된 로그인 정책
      */
     @CacheEvict(value = "system:login-policy", allEntries = true)
+    @Transactional
     public LoginPolicy updateEnabledMethods(Set<LoginMethod> enabledMethods) {
         log.debug("업데이트: 활성화된 로그인 방식 - methods={}", enabledMethods);
 
@@ -172,10 +201,15 @@ public class LoginPolicyService {
         auditLogService.logPolicyChange(
             "LOGIN_METHOD_ENABLED",
             "SYSTEM",
+            LOGIN_POLICY_SUBJECT,
+            updated.getId(),
             beforeJson,
             afterJson
         );
 
+        // 도메인 이벤트 (정책 저장과 같은 트랜잭션으로 outbox에 기록, 커밋 후 relay가 발행)
+        domainEventOutbox.append(LOGIN_POLICY_SUBJECT, updated.getId(), "LOGIN_METHOD_ENABLED", afterJson);
+
         log.info("업데이트 완료: 활성화된 로그인 방식 - id={}, methods={}", updated.getId(), enabledMethods);
 
         return updated;
@@ -190,6 +224,7 @@ public class LoginPolicyService {
      * @return 업데이트된 로그인 정책
      */
     @CacheEvict(value = "system:login-policy", allEntries = true)
+    @Transactional
     public LoginPolicy updatePriority(List<LoginMethod> priority) {
         log.debug("업데이트: 로그인 방식 우선순위 - priority={}", priority);
 
@@ -215,10 +250,15 @@ public class LoginPolicyService {
         auditLogService.logPolicyChange(
             "LOGIN_PRIORITY_UPDATED",
             "SYSTEM",
+            LOGIN_POLICY_SUBJECT,
+            updated.getId(),
             beforeJson,
             afterJson
         );
 
+        // 도메인 이벤트 (정책 저장과 같은 트랜잭션으로 outbox에 기록, 커밋 후 relay가 발행)
+        domainEventOutbox.append(LOGIN_POLICY_SUBJECT, updated.getId(), "LOGIN_PRIORITY_UPDATED", afterJson);
+
         log.info("업데이트 완료: 로그인 방식 우선순위 - id={}, priority={}", updated.getId(), priority);
 
         return updated;
@@ -0,0 +1,55 @@
+package com.inspecthub.admin.config;
+
+import com.inspecthub.admin.loginpolicy.cache.LoginPolicyCacheCodec;
+import com.inspecthub.admin.loginpolicy.domain.LoginPolicy;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * BinaryCacheSerializer vs GenericJackson2JsonRedisSerializer 왕복(직렬화 + 역직렬화) 시간 비교
+ *
+ * 측정값은 JIT/GC/공유 CI 장비 부하에 따라 달라지므로 단위 테스트로 판정하지 않고 수동으로 실행한다.
+ * (테스트 클래스패스의 main - IDE에서 실행하거나 test 컴파일 후 java -cp로 실행)
+ *
+ * 크기 비교는 BinaryCacheSerializerTest에서 검증한다.
+ */
+public final class BinaryCacheSerializerBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+    private static final int ITERATIONS = 20_000;
+
+    private BinaryCacheSerializerBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        GenericJackson2JsonRedisSerializer json = BinaryCacheSerializerTest.json();
+        BinaryCacheSerializer<LoginPolicy> binary = new BinaryCacheSerializer<>(new LoginPolicyCacheCodec(), 512);
+        LoginPolicy value = BinaryCacheSerializerTest.policy();
+
+        Runnable jsonRoundTrip = () -> json.deserialize(json.serialize(value));
+        Runnable binaryRoundTrip = () -> binary.deserialize(binary.serialize(value));
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            measure(jsonRoundTrip);
+            measure(binaryRoundTrip);
+        }
+
+        long jsonNanos = Long.MAX_VALUE;
+        long binaryNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            jsonNanos = Math.min(jsonNanos, measure(jsonRoundTrip));
+            binaryNanos = Math.min(binaryNanos, measure(binaryRoundTrip));
+        }
+
+        System.out.printf("LoginPolicy cache value round trip (best of %d x %d):%n", ROUNDS, ITERATIONS);
+        System.out.printf("  json   = %4d bytes, %6d ns/op%n", json.serialize(value).length, jsonNanos);
+        System.out.printf("  binary = %4d bytes, %6d ns/op%n", binary.serialize(value).length, binaryNanos);
+    }
+
+    private static long measure(Runnable roundTrip) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            roundTrip.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,178 @@
+package com.inspecthub.admin.config;
+
+import com.inspecthub.admin.loginpolicy.cache.LoginPolicyCacheCodec;
+import com.inspecthub.admin.loginpolicy.domain.LoginMethod;
+import com.inspecthub.admin.loginpolicy.domain.LoginPolicy;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BinaryCacheSerializer Tests
+ *
+ * 캐시 값 바이너리 직렬화 - 왕복, 스키마 버전/이전 JSON 값은 미적중, 기준 크기 이상 압축, JSON 대비 크기
+ */
+@DisplayName("BinaryCacheSerializer - 캐시 값 바이너리 직렬화")
+class BinaryCacheSerializerTest {
+
+    private final BinaryCacheSerializer<LoginPolicy> serializer = new BinaryCacheSerializer<>(new LoginPolicyCacheCodec(), 512);
+
+    /**
+     * 기존 설정(RedisCacheConfig의 JSON 직렬화)은 LocalDateTime 모듈이 없어 LoginPolicy를 쓰지 못하므로, 비교용으로 모듈을 등록한다
+     */
+    static GenericJackson2JsonRedisSerializer json() {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        json.configure(mapper -> mapper.registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+        return json;
+    }
+
+    static LoginPolicy policy() {
+        return LoginPolicy.builder()
+                .id("01JCXYZ1234567890ABCDEF002")
+                .name("시스템 로그인 정책")
+                .enabledMethods(new LinkedHashSet<>(List.of(LoginMethod.SSO, LoginMethod.AD)))
+                .priority(List.of(LoginMethod.AD, LoginMethod.SSO, LoginMethod.LOCAL))
+                .active(true)
+                .createdBy("SYSTEM")
+                .createdAt(LocalDateTime.of(2026, 3, 2, 9, 0, 0, 123_456_789))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("LoginPolicy 코덱")
+    class LoginPolicyCodec {
+
+        @Test
+        @DisplayName("직렬화 후 역직렬화하면 모든 필드와 순서가 같다 (null 필드 포함)")
+        void shouldRoundTrip() {
+            // Given
+            LoginPolicy original = policy();
+
+            // When
+            LoginPolicy restored = (LoginPolicy) serializer.deserialize(serializer.serialize(original));
+
+            // Then
+            assertThat(restored).usingRecursiveComparison().isEqualTo(original);
+            assertThat(restored.getEnabledMethods()).containsExactly(LoginMethod.SSO, LoginMethod.AD);
+            assertThat(restored.getUpdatedBy()).isNull();
+            assertThat(restored.getUpdatedAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("다른 타입의 값은 SerializationException")
+        void shouldRejectOtherType() {
+            assertThatThrownBy(() -> serializer.serialize("policy"))
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("형식/버전")
+    class Versioning {
+
+        @Test
+        @DisplayName("스키마 버전이 다른 값, 이전 JSON 값, 잘린 값은 null (미적중 -> 다시 로드)")
+        void shouldMiss_WhenIncompatible() {
+            byte[] bytes = serializer.serialize(policy());
+            byte[] otherVersion = bytes.clone();
+            otherVersion[1] = 2;
+            byte[] json = json().serialize(policy());
+            byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+            assertThat(serializer.deserialize(otherVersion)).isNull();
+            assertThat(serializer.deserialize(json)).isNull();
+            assertThat(serializer.deserialize(truncated)).isNull();
+            assertThat(serializer.deserialize(null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("압축")
+    class Compression {
+
+        private final BinaryCacheSerializer<String> textSerializer = new BinaryCacheSerializer<>(new TextCodec(), 64);
+
+        @Test
+        @DisplayName("기준 크기 이상이면 deflate로 저장하고 그대로 복원한다, 미만이면 원본 그대로")
+        void shouldCompressAboveThreshold() {
+            String large = "LOGIN_POLICY_UPDATED;".repeat(100);
+
+            byte[] compressed = textSerializer.serialize(large);
+            byte[] small = textSerializer.serialize("short");
+
+            assertThat(compressed[2]).isEqualTo(BinaryCacheSerializer.ENCODING_DEFLATE);
+            assertThat(compressed.length).isLessThan(large.length() / 5);
+            assertThat(textSerializer.deserialize(compressed)).isEqualTo(large);
+            assertThat(small[2]).isEqualTo(BinaryCacheSerializer.ENCODING_RAW);
+            assertThat(textSerializer.deserialize(small)).isEqualTo("short");
+        }
+
+        @Test
+        @DisplayName("압축 데이터가 손상되면 null")
+        void shouldMiss_WhenCorrupted() {
+            byte[] compressed = textSerializer.serialize("LOGIN_POLICY_UPDATED;".repeat(100));
+            compressed[compressed.length - 3] ^= 0x5A;
+            compressed[8] ^= 0x5A;
+
+            assertThat(textSerializer.deserialize(compressed)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON 직렬화 비교")
+    class JsonComparison {
+
+        @Test
+        @DisplayName("LoginPolicy 값은 GenericJackson2JsonRedisSerializer보다 3배 이상 작다 (속도는 BinaryCacheSerializerBenchmark)")
+        void shouldBeSmallerThanJson() {
+            // Given
+            LoginPolicy value = policy();
+
+            // When
+            byte[] jsonBytes = json().serialize(value);
+            byte[] binaryBytes = serializer.serialize(value);
+
+            // Then
+            assertThat(binaryBytes.length * 3).isLessThan(jsonBytes.length);
+        }
+    }
+
+    private static class TextCodec implements CacheValueCodec<String> {
+
+        @Override
+        public Class<String> type() {
+            return String.class;
+        }
+
+        @Override
+        public int schemaVersion() {
+            return 1;
+        }
+
+        @Override
+        public void write(String value, DataOutput out) throws IOException {
+            out.writeUTF(value);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    }
+}
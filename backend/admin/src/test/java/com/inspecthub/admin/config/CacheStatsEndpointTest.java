@@ -0,0 +1,84 @@
+package com.inspecthub.admin.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CacheStatsEndpoint Tests
+ *
+ * actuator cachestats - 모든 CacheManager의 캐시 통계, 값 크기, 키/캐시 단위 삭제와 전파
+ */
+@DisplayName("CacheStatsEndpoint - 캐시 통계/삭제")
+class CacheStatsEndpointTest {
+
+    private static final String CACHE = "system:login-policy";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> published = new ArrayList<>();
+
+    private TwoLevelCacheManager twoLevel;
+    private ConcurrentMapCacheManager plain;
+    private CacheStatsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        twoLevel = new TwoLevelCacheManager(new ConcurrentMapCacheManager(CACHE), Map.of(),
+                new TwoLevelCacheManager.CacheSpec(Duration.ofHours(1), Duration.ZERO, 100),
+                Duration.ofSeconds(60), Clock.systemUTC(), Runnable::run,
+                () -> (cacheName, key) -> published.add(cacheName + "/" + key), meterRegistry);
+        plain = new ConcurrentMapCacheManager("local:other");
+        endpoint = new CacheStatsEndpoint(Map.of("cacheManager", twoLevel, "localCacheManager", plain), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("모든 CacheManager의 캐시를 나열하고, TwoLevelCache는 계층별 통계와 L2 값 크기를 포함한다")
+    void shouldListAllCaches() {
+        // Given
+        twoLevel.getCache(CACHE).get("SimpleKey []", () -> "policy");
+        twoLevel.getCache(CACHE).get("SimpleKey []", () -> "policy");
+        new MeteredRedisSerializer(new GenericJackson2JsonRedisSerializer(), CACHE, meterRegistry)
+                .serialize("policy-bytes");
+
+        // When
+        List<CacheStatsEndpoint.CacheStats> caches = endpoint.caches();
+
+        // Then
+        assertThat(caches).extracting(CacheStatsEndpoint.CacheStats::name).containsExactly(CACHE, "local:other");
+        CacheStatsEndpoint.CacheStats stats = caches.get(0);
+        assertThat(stats.type()).isEqualTo("TwoLevelCache");
+        assertThat(stats.stats().l1Hits()).isEqualTo(1);
+        assertThat(stats.stats().loads()).isEqualTo(1);
+        assertThat(stats.payloadWrites()).isEqualTo(1);
+        assertThat(stats.payloadBytesMean()).isEqualTo(14);
+        assertThat(caches.get(1).stats()).isNull();
+    }
+
+    @Test
+    @DisplayName("키를 주면 그 키만, 없으면 캐시 전체를 삭제하고 다른 노드에 전파한다, 없는 캐시는 null (404)")
+    void shouldEvict() {
+        twoLevel.getCache(CACHE).get("SimpleKey []", () -> "policy");
+        twoLevel.getCache(CACHE).get("other", () -> "value");
+
+        endpoint.evict(CACHE, "SimpleKey []");
+        assertThat(twoLevel.getCache(CACHE).get("SimpleKey []")).isNull();
+        assertThat(twoLevel.getCache(CACHE).get("other")).isNotNull();
+
+        endpoint.evict(CACHE, null);
+        assertThat(twoLevel.getCache(CACHE).get("other")).isNull();
+        assertThat(published).containsExactly(CACHE + "/SimpleKey []", CACHE + "/null");
+        assertThat(endpoint.evict("missing", null)).isNull();
+        assertThat(endpoint.cache("missing")).isNull();
+    }
+}
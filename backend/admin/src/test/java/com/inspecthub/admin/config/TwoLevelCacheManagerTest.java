@@ -0,0 +1,469 @@
+package com.inspecthub.admin.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+/**
+ * TwoLevelCacheManager Tests
+ *
+ * L1(메모리) + L2 - L1 적중 시 L2 미조회, 삭제 시 L1/L2 제거와 전파, 트랜잭션 커밋 후 전파, 다른 노드 메시지 반영,
+ * 로더 조회 single-flight와 만료 전 백그라운드 재로드, 계층별 지표
+ */
+@DisplayName("TwoLevelCacheManager - L1 메모리 + L2 Redis 캐시")
+class TwoLevelCacheManagerTest {
+
+    private static final String CACHE = "system:login-policy";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-02T00:00:00Z"));
+    private final List<String> published = new ArrayList<>();
+    private final CountingL2 l2 = new CountingL2();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TwoLevelCacheManager cacheManager;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new TwoLevelCacheManager(l2,
+                Map.of(CACHE, new TwoLevelCacheManager.CacheSpec(Duration.ofHours(1), Duration.ofMinutes(5), 16)),
+                new TwoLevelCacheManager.CacheSpec(Duration.ofHours(1), Duration.ZERO, 100),
+                Duration.ofSeconds(60), clock, refreshTasks::add,
+                () -> (cacheName, key) -> published.add(cacheName + "/" + key), meterRegistry);
+        cache = cacheManager.getCache(CACHE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Read {
+
+        @Test
+        @DisplayName("L2에서 한 번 읽은 값은 L1 TTL 동안 L2를 다시 조회하지 않는다")
+        void shouldServeFromL1() {
+            // Given: 다른 노드가 L2에 저장한 값
+            l2.getCache(CACHE).put("policy", "v1");
+
+            // When
+            Object first = cache.get("policy").get();
+            Object second = cache.get("policy").get();
+
+            // Then
+            assertThat(first).isEqualTo("v1");
+            assertThat(second).isEqualTo("v1");
+            assertThat(l2.gets).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("L1 TTL이 지나면 L2에서 다시 읽는다")
+        void shouldReloadFromL2_AfterTtl() {
+            l2.getCache(CACHE).put("policy", "v1");
+            cache.get("policy");
+
+            l2.getCache(CACHE).put("policy", "v2");
+            clock.advance(Duration.ofSeconds(61));
+
+            assertThat(cache.get("policy").get()).isEqualTo("v2");
+            assertThat(l2.gets).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("L2에 없는 키는 null (값 없음을 캐시하지 않음)")
+        void shouldMiss_WhenAbsent() {
+            assertThat(cache.get("missing")).isNull();
+            assertThat(cache.get("missing")).isNull();
+
+            assertThat(l2.gets).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("로더 조회")
+    class Loading {
+
+        @Test
+        @DisplayName("같은 키의 동시 미적중은 로더를 한 번만 실행하고 모두 같은 결과를 받는다")
+        void shouldCoalesceConcurrentMisses() throws Exception {
+            // Given: 로더가 끝나기 전에 모든 요청이 미적중
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService requests = Executors.newFixedThreadPool(8);
+            List<Future<String>> results = new ArrayList<>();
+
+            // When
+            try {
+                for (int i = 0; i < 8; i++) {
+                    results.add(requests.submit(() -> cache.get("policy", () -> {
+                        loads.incrementAndGet();
+                        release.await(5, TimeUnit.SECONDS);
+                        return "v1";
+                    })));
+                }
+                Thread.sleep(200);
+                release.countDown();
+
+                // Then
+                for (Future<String> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+                }
+            } finally {
+                requests.shutdownNow();
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(l2.getCache(CACHE).get("policy").get()).isEqualTo("v1");
+        }
+
+        @Test
+        @DisplayName("로더 예외는 ValueRetrievalException으로 전달하고 값을 캐시하지 않는다")
+        void shouldPropagateLoaderFailure() {
+            assertThatThrownBy(() -> cache.get("policy", () -> {
+                throw new IllegalStateException("db down");
+            }))
+                    .isInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+
+            assertThat(cache.get("policy", () -> "v1")).isEqualTo("v1");
+        }
+
+        @Test
+        @DisplayName("L2 저장이 실패하면 로드를 기다리던 요청도 같은 예외로 끝나고, 다음 조회는 다시 로드한다")
+        void shouldReleaseWaiters_WhenL2Fails() throws Exception {
+            // Given: L2 장애 중, 첫 요청의 로더가 실행 중일 때 두 번째 요청이 대기
+            l2.putFailure = new IllegalStateException("redis down");
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger loads = new AtomicInteger();
+            ExecutorService requests = Executors.newFixedThreadPool(2);
+
+            try {
+                Future<Object> leader = requests.submit(() -> cache.get("policy", () -> {
+                    loads.incrementAndGet();
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "v1";
+                }));
+                assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+                Future<Object> waiter = requests.submit(() -> cache.get("policy", () -> {
+                    loads.incrementAndGet();
+                    return "v2";
+                }));
+                Thread.sleep(100);
+
+                // When
+                release.countDown();
+
+                // Then: 두 요청 모두 L2 예외로 끝난다 (대기 요청이 멈추지 않음)
+                assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                        .hasRootCauseInstanceOf(IllegalStateException.class)
+                        .hasRootCauseMessage("redis down");
+                assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                        .hasRootCauseInstanceOf(IllegalStateException.class)
+                        .hasRootCauseMessage("redis down");
+            } finally {
+                requests.shutdownNow();
+            }
+            assertThat(loads).hasValue(1);
+
+            // L2 복구 후에는 다시 로드한다
+            l2.putFailure = null;
+            assertThat(cache.get("policy", () -> "v3")).isEqualTo("v3");
+        }
+
+        @Test
+        @DisplayName("만료 refreshAhead 전이 지나면 기존 값을 반환하고 백그라운드에서 한 번 다시 로드한다")
+        void shouldRefreshAhead() {
+            // Given: 이 노드가 로드한 값
+            AtomicInteger loads = new AtomicInteger();
+            cache.get("policy", () -> "v" + loads.incrementAndGet());
+
+            // When: 55분 전에는 재로드 없음
+            clock.advance(Duration.ofMinutes(54));
+            cache.get("policy", () -> "v" + loads.incrementAndGet());
+            assertThat(refreshTasks).isEmpty();
+
+            // When: 55분이 지나면 적중 시 재로드 예약 (중복 예약 없음)
+            clock.advance(Duration.ofMinutes(2));
+            Object served = cache.get("policy", () -> "v" + loads.incrementAndGet());
+            cache.get("policy", () -> "v" + loads.incrementAndGet());
+
+            // Then
+            assertThat(served).isEqualTo("v1");
+            assertThat(refreshTasks).hasSize(1);
+            refreshTasks.get(0).run();
+            assertThat(l2.getCache(CACHE).get("policy").get()).isEqualTo("v2");
+            assertThat(cache.get("policy").get()).isEqualTo("v2");
+        }
+
+        @Test
+        @DisplayName("재로드 시각 전에 삭제된 키는 다시 로드하지 않는다, refreshAhead가 없는 캐시도 하지 않는다")
+        void shouldNotRefresh_WhenEvictedOrDisabled() {
+            cache.get("policy", () -> "v1");
+            cache.evict("policy");
+            cache.get("policy", () -> "v2");
+            Cache other = cacheManager.getCache("system:other");
+            other.get("key", () -> "v1");
+
+            clock.advance(Duration.ofMinutes(50));
+            cache.get("policy", () -> "v3");
+            other.get("key", () -> "v2");
+            clock.advance(Duration.ofMinutes(11));
+            other.get("key", () -> "v2");
+
+            assertThat(refreshTasks).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class Invalidation {
+
+        @Test
+        @DisplayName("evict는 L1/L2를 지우고 다른 노드에 키를 전파한다, clear는 캐시 전체를 전파한다")
+        void shouldEvictAndPublish() {
+            cache.put("policy", "v1");
+            published.clear();
+
+            cache.evict("policy");
+
+            assertThat(l2.getCache(CACHE).get("policy")).isNull();
+            assertThat(cache.get("policy")).isNull();
+            cache.clear();
+            assertThat(published).containsExactly(CACHE + "/policy", CACHE + "/null");
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안의 evict는 커밋 후에만 전파하고, 롤백되면 전파하지 않는다")
+        void shouldPublishAfterCommit() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When
+            cache.evict("policy");
+
+            // Then: 완료 전에는 전파 없음
+            assertThat(published).isEmpty();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            assertThat(published).containsExactly(CACHE + "/policy");
+
+            published.clear();
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.initSynchronization();
+            cache.evict("policy");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertThat(published).isEmpty();
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안의 put은 커밋 후에만 L2에 쓰고, 롤백되면 L2와 L1 모두 이전 상태로 남는다")
+        void shouldWriteL2AfterCommit() {
+            // Given
+            l2.getCache(CACHE).put("policy", "v1");
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When
+            cache.put("policy", "v2");
+
+            // Then: 완료 전에는 L2 그대로
+            assertThat(l2.getCache(CACHE).get("policy").get()).isEqualTo("v1");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertThat(l2.getCache(CACHE).get("policy").get()).isEqualTo("v1");
+            assertThat(cache.get("policy").get()).isEqualTo("v1");
+            assertThat(published).isEmpty();
+
+            // When: 커밋
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.initSynchronization();
+            cache.put("policy", "v3");
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // Then
+            assertThat(l2.getCache(CACHE).get("policy").get()).isEqualTo("v3");
+            assertThat(published).containsExactly(CACHE + "/policy");
+        }
+
+        @Test
+        @DisplayName("다른 노드의 무효화 메시지를 받으면 L1만 지우고, 자신이 보낸 메시지는 무시한다")
+        void shouldApplyRemoteInvalidation() {
+            // Given
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            RedisCacheInvalidation invalidation = new RedisCacheInvalidation(redisTemplate, cacheManager);
+            l2.getCache(CACHE).put("policy", "v1");
+            cache.get("policy");
+            l2.getCache(CACHE).put("policy", "v2");
+
+            // When: 다른 노드가 L2를 바꾸고 전파
+            invalidation.onMessage(message("other-node|E|" + CACHE + "|policy"), null);
+
+            // Then
+            assertThat(cache.get("policy").get()).isEqualTo("v2");
+
+            // When: 자신이 보낸 메시지 (nodeId 일치)는 무시 - L1 유지
+            invalidation.publish(CACHE, "policy");
+            ArgumentCaptor<String> sent = ArgumentCaptor.forClass(String.class);
+            then(redisTemplate).should().convertAndSend(eq(RedisCacheInvalidation.CHANNEL), sent.capture());
+            l2.getCache(CACHE).put("policy", "v3");
+            invalidation.onMessage(message(sent.getValue()), null);
+            assertThat(cache.get("policy").get()).isEqualTo("v2");
+        }
+    }
+
+    @Nested
+    @DisplayName("지표")
+    class Metrics {
+
+        private double count(String name, String... tags) {
+            return meterRegistry.get(name).tag("cache", CACHE).tags(tags).counter().count();
+        }
+
+        @Test
+        @DisplayName("L1/L2 적중과 미적중, 로드, 저장, 무효화를 캐시/계층별로 기록한다")
+        void shouldRecordPerLayer() {
+            // Given
+            l2.getCache(CACHE).put("other", "v0");
+
+            // When: L1 미적중+L2 미적중+로드, L1 적중, L1 미적중+L2 적중, 무효화
+            cache.get("policy", () -> "v1");
+            cache.get("policy", () -> "v1");
+            cache.get("other");
+            cache.evict("policy");
+
+            // Then
+            assertThat(count("cache.gets", "layer", "l1", "result", "hit")).isEqualTo(1);
+            assertThat(count("cache.gets", "layer", "l1", "result", "miss")).isEqualTo(2);
+            assertThat(count("cache.gets", "layer", "l2", "result", "hit")).isEqualTo(1);
+            assertThat(count("cache.gets", "layer", "l2", "result", "miss")).isEqualTo(1);
+            assertThat(count("cache.puts", "layer", "l2")).isEqualTo(1);
+            assertThat(count("cache.evictions", "layer", "l1", "cause", "invalidation")).isEqualTo(1);
+            assertThat(meterRegistry.get("cache.load").tag("cache", CACHE).tag("result", "success").timer().count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry.get("cache.size").tag("cache", CACHE).tag("layer", "l1").gauge().value())
+                    .isEqualTo(1);
+
+            CacheMetrics.Snapshot stats = ((TwoLevelCache) cache).stats();
+            assertThat(stats.l1Hits()).isEqualTo(1);
+            assertThat(stats.loads()).isEqualTo(1);
+            assertThat(stats.l1Size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("L1이 가득 차 제거한 항목은 cause=size로 기록한다, 로더 실패는 result=failure")
+        void shouldRecordSizeEvictionsAndFailures() {
+            for (int i = 0; i < 17; i++) {
+                String value = "v" + i;
+                cache.get("key-" + i, () -> value);
+            }
+            assertThatThrownBy(() -> cache.get("broken", () -> {
+                throw new IllegalStateException("db down");
+            })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+            assertThat(count("cache.evictions", "layer", "l1", "cause", "size")).isEqualTo(1);
+            assertThat(((TwoLevelCache) cache).stats().loadFailures()).isEqualTo(1);
+        }
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(RedisCacheInvalidation.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * L2 대신 - 조회 횟수 기록, 저장 실패 주입
+     */
+    private static class CountingL2 extends ConcurrentMapCacheManager {
+
+        private int gets;
+        private volatile RuntimeException putFailure;
+
+        @Override
+        protected Cache createConcurrentMapCache(String name) {
+            return new ConcurrentMapCache(name, false) {
+                @Override
+                public ValueWrapper get(Object key) {
+                    gets++;
+                    return super.get(key);
+                }
+
+                @Override
+                public void put(Object key, Object value) {
+                    if (putFailure != null) {
+                        throw putFailure;
+                    }
+                    super.put(key, value);
+                }
+            };
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
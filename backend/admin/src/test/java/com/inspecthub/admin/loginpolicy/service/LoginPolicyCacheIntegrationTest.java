@@ -4,6 +4,7 @@ import com.inspecthub.admin.config.TestCacheConfig;
 import com.inspecthub.admin.loginpolicy.domain.LoginMethod;
 import com.inspecthub.admin.loginpolicy.domain.LoginPolicy;
 import com.inspecthub.admin.loginpolicy.repository.LoginPolicyRepository;
+import com.inspecthub.common.outbox.DomainEventOutbox;
 import com.inspecthub.common.service.AuditLogService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -52,6 +53,9 @@ class LoginPolicyCacheIntegrationTest {
     @MockBean
     private AuditLogService auditLogService;
 
+    @MockBean
+    private DomainEventOutbox domainEventOutbox;
+
     private LoginPolicy testPolicy;
 
     @BeforeEach
@@ -95,6 +99,25 @@ class LoginPolicyCacheIntegrationTest {
         assertThat(result2.getId()).isEqualTo(result1.getId());
     }
 
+    @Test
+    @DisplayName("사용 가능한 방식/최우선 방식 조회도 캐시된 정책을 사용하여 캐시가 채워져 있으면 DB를 조회하지 않는다")
+    void shouldServeDerivedLookupsFromCache() {
+        // Given - 캐시에 정책 저장
+        given(loginPolicyRepository.findGlobalPolicy())
+            .willReturn(Optional.of(testPolicy));
+        loginPolicyService.getGlobalPolicy();
+        clearInvocations(loginPolicyRepository);
+
+        // When
+        Set<LoginMethod> methods = loginPolicyService.getAvailableMethods();
+        LoginMethod primary = loginPolicyService.getPrimaryMethod();
+
+        // Then
+        assertThat(methods).containsExactlyInAnyOrder(LoginMethod.SSO, LoginMethod.AD, LoginMethod.LOCAL);
+        assertThat(primary).isEqualTo(LoginMethod.SSO);
+        verify(loginPolicyRepository, never()).findGlobalPolicy();
+    }
+
     @Test
     @DisplayName("업데이트 시 캐시가 무효화되고 다음 조회 시 DB에서 다시 조회한다")
     void shouldInvalidateCacheOnUpdate() {
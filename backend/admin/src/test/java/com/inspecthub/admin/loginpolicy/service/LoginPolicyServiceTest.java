@@ -7,6 +7,7 @@ import com.inspecthub.admin.loginpolicy.exception.EmptyMethodsException;
 import com.inspecthub.admin.loginpolicy.exception.LastMethodDisableException;
 import com.inspecthub.admin.loginpolicy.exception.PolicyNotFoundException;
 import com.inspecthub.admin.loginpolicy.repository.LoginPolicyRepository;
+import com.inspecthub.common.outbox.DomainEventOutbox;
 import com.inspecthub.common.service.AuditLogService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +43,9 @@ class LoginPolicyServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private DomainEventOutbox domainEventOutbox;
+
     @Mock
     private ObjectMapper objectMapper;
 
@@ -215,6 +219,8 @@ class LoginPolicyServiceTest {
         verify(auditLogService).logPolicyChange(
             eq("SYSTEM_LOGIN_POLICY_UPDATED"),
             anyString(),  // userId
+            eq("LOGIN_POLICY"),
+            anyString(),  // subjectId (정책 ID)
             anyString(),  // beforeJson
             anyString()   // afterJson
         );
@@ -238,11 +244,34 @@ class LoginPolicyServiceTest {
         verify(auditLogService).logPolicyChange(
             eq("LOGIN_METHOD_ENABLED"),
             anyString(),
+            eq("LOGIN_POLICY"),
+            anyString(),
             anyString(),  // beforeJson - null이 아니어야 함
             anyString()   // afterJson - null이 아니어야 함
         );
     }
 
+    @Test
+    @DisplayName("정책 변경 이벤트를 변경 후 JSON과 함께 outbox에 기록한다")
+    void shouldAppendPolicyChangeToOutbox() throws Exception {
+        // Given (준비)
+        given(loginPolicyRepository.findGlobalPolicy())
+            .willReturn(Optional.of(systemPolicy));
+        given(objectMapper.writeValueAsString(any(LoginPolicy.class)))
+            .willReturn("{\"id\":\"01JCXYZ1234567890ABCDEF002\"}");
+
+        // When (실행)
+        loginPolicyService.updatePriority(Arrays.asList(LoginMethod.AD, LoginMethod.SSO));
+
+        // Then (검증) - 집계 ID(정책 ID)를 key로 기록
+        verify(domainEventOutbox).append(
+            "LOGIN_POLICY",
+            "01JCXYZ1234567890ABCDEF002",
+            "LOGIN_PRIORITY_UPDATED",
+            "{\"id\":\"01JCXYZ1234567890ABCDEF002\"}"
+        );
+    }
+
     // NOTE: 캐시 동작 테스트는 Integration Test에서 수행
     // (Unit Test에서는 Mock 환경이므로 Spring Cache가 실제로 동작하지 않음)
 
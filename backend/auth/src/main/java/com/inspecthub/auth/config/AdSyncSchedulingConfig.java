@@ -0,0 +1,16 @@
+package com.inspecthub.auth.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * AD 일괄 동기화 스케줄링
+ *
+ * auth.ad.sync.enabled=true일 때만 스케줄링을 활성화한다 (AdDirectorySyncService.scheduledSync).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "auth.ad.sync", name = "enabled", havingValue = "true")
+public class AdSyncSchedulingConfig {
+}
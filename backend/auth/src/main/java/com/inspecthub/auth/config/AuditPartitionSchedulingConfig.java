@@ -0,0 +1,16 @@
+package com.inspecthub.auth.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * audit_log 파티션 관리 스케줄링
+ *
+ * auth.audit-partition.enabled=true일 때만 스케줄링을 활성화한다 (AuditLogPartitionManager.scheduledMaintain).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "auth.audit-partition", name = "enabled", havingValue = "true")
+public class AuditPartitionSchedulingConfig {
+}
@@ -0,0 +1,79 @@
+package com.inspecthub.auth.config;
+
+import com.inspecthub.auth.service.LocalLoginRateLimiter;
+import com.inspecthub.auth.service.LoginThrottle;
+import com.inspecthub.auth.service.RedisLoginRateLimiter;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.config.AuthProperties.LoginRateLimitConfig.WindowConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한 설정
+ *
+ * auth.login-rate-limit.store
+ * - local (기본): 노드별 메모리 슬라이딩 윈도우
+ * - redis: 노드 간 공유 슬라이딩 윈도우 (Redis 장애 시 노드 로컬 제한기로 대체)
+ */
+@Configuration
+public class LoginRateLimitConfig {
+
+    private static final String PREFIX = "auth.login-rate-limit";
+
+    @Bean
+    @ConditionalOnProperty(prefix = PREFIX, name = "store", havingValue = "local", matchIfMissing = true)
+    public LoginThrottle localLoginThrottle(AuthProperties authProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        AuthProperties.LoginRateLimitConfig config = authProperties.getLoginRateLimit();
+        return new LoginThrottle(
+                config.isEnabled(),
+                localLimiter(config.getIp(), config.getMaxKeys()),
+                localLimiter(config.getEmployee(), config.getMaxKeys()),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    private static LocalLoginRateLimiter localLimiter(WindowConfig window, int maxKeys) {
+        return new LocalLoginRateLimiter(window.getLimit(), Duration.ofSeconds(window.getWindowSeconds()), maxKeys);
+    }
+
+    /**
+     * Redis 저장소 (spring-data-redis가 클래스패스에 있을 때만 로드)
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+    @ConditionalOnProperty(prefix = PREFIX, name = "store", havingValue = "redis")
+    static class RedisStore {
+
+        @Bean
+        public LoginThrottle redisLoginThrottle(
+                AuthProperties authProperties,
+                StringRedisTemplate redisTemplate,
+                ObjectProvider<MeterRegistry> meterRegistry
+        ) {
+            AuthProperties.LoginRateLimitConfig config = authProperties.getLoginRateLimit();
+            return new LoginThrottle(
+                    config.isEnabled(),
+                    redisLimiter(redisTemplate, "ip", config.getIp(), config.getMaxKeys()),
+                    redisLimiter(redisTemplate, "employee", config.getEmployee(), config.getMaxKeys()),
+                    meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+            );
+        }
+
+        private static RedisLoginRateLimiter redisLimiter(
+                StringRedisTemplate redisTemplate, String scope, WindowConfig window, int maxKeys) {
+            Duration duration = Duration.ofSeconds(window.getWindowSeconds());
+            return new RedisLoginRateLimiter(
+                    redisTemplate, scope, window.getLimit(), duration,
+                    new LocalLoginRateLimiter(window.getLimit(), duration, maxKeys)
+            );
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.inspecthub.auth.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 로그인 통계 집계 스케줄링
+ *
+ * auth.login-stats.enabled=true일 때만 스케줄링을 활성화한다 (LoginStatsRollupJob.scheduledRollup).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "auth.login-stats", name = "enabled", havingValue = "true")
+public class LoginStatsSchedulingConfig {
+}
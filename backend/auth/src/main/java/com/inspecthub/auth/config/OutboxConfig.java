@@ -0,0 +1,52 @@
+package com.inspecthub.auth.config;
+
+import com.inspecthub.auth.service.InMemoryOutboxBroker;
+import com.inspecthub.auth.service.KafkaOutboxBroker;
+import com.inspecthub.auth.service.OutboxBroker;
+import com.inspecthub.common.config.AuthProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * outbox broker 설정
+ *
+ * auth.outbox.broker
+ * - memory (기본): 프로세스 내 보관 - relay가 확인 후 삭제하므로 재시작하면 메시지가 사라진다.
+ *   auth.outbox.enabled=true로는 test 프로파일에서만 기동하고, 그 밖에서는 기동을 거부한다.
+ * - kafka: spring.kafka 설정의 KafkaTemplate으로 전달 (String key/value)
+ */
+@Configuration
+public class OutboxConfig {
+
+    private static final String PREFIX = "auth.outbox";
+
+    @Bean
+    @ConditionalOnProperty(prefix = PREFIX, name = "broker", havingValue = "memory", matchIfMissing = true)
+    public OutboxBroker inMemoryOutboxBroker(AuthProperties authProperties, Environment environment) {
+        if (authProperties.getOutbox().isEnabled() && !environment.acceptsProfiles(Profiles.of("test"))) {
+            throw new IllegalStateException(
+                    "auth.outbox.broker=memory는 test 프로파일 전용입니다 (전달된 메시지가 프로세스 메모리에만 남음) - "
+                            + "auth.outbox.broker=kafka를 설정하세요");
+        }
+        return new InMemoryOutboxBroker();
+    }
+
+    /**
+     * Kafka broker (spring-kafka가 클래스패스에 있을 때만 로드)
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.kafka.core.KafkaTemplate")
+    @ConditionalOnProperty(prefix = PREFIX, name = "broker", havingValue = "kafka")
+    static class KafkaBroker {
+
+        @Bean
+        public OutboxBroker kafkaOutboxBroker(KafkaTemplate<String, String> kafkaTemplate) {
+            return new KafkaOutboxBroker(kafkaTemplate);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.inspecthub.auth.filter.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -16,9 +17,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 /**
  * Spring Security 설정
+ *
+ * 관리자 API는 URL 규칙으로 ROLE_ADMIN을 요구하고, 컨트롤러의 @PreAuthorize도 메서드 보안으로 함께 적용된다.
  */
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -39,6 +43,7 @@ public class SecurityConfig {
      * - JWT 기반 Stateless 인증
      * - CSRF 비활성화 (JWT 사용)
      * - 공개 엔드포인트: /api/v1/auth/login, /api/v1/auth/refresh
+     * - 관리자 엔드포인트: /api/v1/system/**, /api/v1/audit-logs/** (ROLE_ADMIN)
      * - 보호 엔드포인트: 나머지 모든 API (인증 필요)
      */
     @Bean
@@ -61,6 +66,10 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/request-reset").permitAll()   // 비밀번호 리셋 요청
                         .requestMatchers(HttpMethod.GET, "/api/v1/auth/validate-reset-token").permitAll()  // 리셋 토큰 검증
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/reset-password").permitAll()  // 비밀번호 리셋 실행
+                        .requestMatchers(HttpMethod.GET, "/api/v1/auth/jwks").permitAll()             // JWT 공개 키 (JWKS)
+                        .requestMatchers("/api/v1/system/**").hasRole("ADMIN")                      // 시스템 설정/서명 키 관리
+                        .requestMatchers("/api/v1/audit-logs", "/api/v1/audit-logs/**").hasRole("ADMIN")  // 감사 로그 조회/내보내기/검증
+                        .requestMatchers("/actuator/cachestats", "/actuator/cachestats/**").hasRole("ADMIN")  // 캐시 통계/삭제
                         .requestMatchers("/actuator/**").permitAll()                 // Health Check
 
                         // 나머지 모든 요청은 인증 필요
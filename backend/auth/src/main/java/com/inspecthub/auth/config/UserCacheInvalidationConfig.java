@@ -0,0 +1,45 @@
+package com.inspecthub.auth.config;
+
+import com.inspecthub.auth.repository.CachingUserRepository;
+import com.inspecthub.auth.service.RedisUserCacheInvalidation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 사용자 near-cache 노드 간 무효화 설정
+ *
+ * auth.user-cache.invalidation
+ * - redis (기본): 커밋된 변경을 pub/sub으로 전파 (spring-data-redis가 클래스패스에 있을 때만 로드)
+ *   다른 노드에서 잠금/비활성화한 사용자가 이 노드의 near-cache로 로그인/토큰 갱신하지 못하도록 기본값으로 둔다
+ * - local: 노드 내 무효화만 - 다른 노드는 TTL 후 반영 (단일 노드 또는 Redis 없는 환경 전용)
+ */
+@Configuration
+@ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+@ConditionalOnProperty(prefix = "auth.user-cache", name = "invalidation", havingValue = "redis", matchIfMissing = true)
+public class UserCacheInvalidationConfig {
+
+    @Bean
+    public RedisUserCacheInvalidation redisUserCacheInvalidation(
+            StringRedisTemplate redisTemplate,
+            CachingUserRepository userCache
+    ) {
+        return new RedisUserCacheInvalidation(redisTemplate, userCache);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer userCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisUserCacheInvalidation invalidation
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidation, new ChannelTopic(RedisUserCacheInvalidation.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,210 @@
+package com.inspecthub.auth.controller;
+
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.dto.AuditLogResponse;
+import com.inspecthub.auth.dto.LoginStatsResponse;
+import com.inspecthub.auth.service.AuditChainVerifier;
+import com.inspecthub.auth.service.AuditLogExportService;
+import com.inspecthub.auth.service.AuditLogQueryService;
+import com.inspecthub.auth.service.LoginStatsService;
+import com.inspecthub.auth.service.PolicyRevisionService;
+import com.inspecthub.common.dto.ApiResponse;
+import com.inspecthub.common.dto.CursorPage;
+import com.inspecthub.common.exception.BusinessException;
+import com.inspecthub.common.exception.ErrorCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 감사 로그 조회 컨트롤러
+ *
+ * - 목록: 조회 조건 하나와 커서로 페이지를 조회한다. 다음 페이지는 응답의 nextCursor를 cursor로 넘긴다.
+ * - 추출: 기간 내 전체를 CSV/NDJSON으로 스트리밍한다 (ApiResponse로 감싸지 않음).
+ * - 로그인 통계: 기간 내 로그인 성공/실패 건수 (시간별 집계 기반)
+ * - 무결성 검증: 기간 내 해시 체인 검증
+ */
+@Tag(name = "Audit Logs", description = "감사 로그 조회 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/audit-logs")
+@RequiredArgsConstructor
+public class AuditLogController {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private final AuditLogQueryService auditLogQueryService;
+    private final AuditLogExportService auditLogExportService;
+    private final LoginStatsService loginStatsService;
+    private final AuditChainVerifier auditChainVerifier;
+    private final PolicyRevisionService policyRevisionService;
+
+    /**
+     * GET /api/v1/audit-logs - 감사 로그 목록 (최신순, 커서 페이지)
+     *
+     * 조건 우선순위: userId > employeeId > action > clientIp > success > startDate/endDate
+     */
+    @Operation(
+            summary = "감사 로그 조회",
+            description = "조회 조건 하나로 감사 로그를 최신순 조회합니다. 다음 페이지는 nextCursor를 cursor로 전달합니다."
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorPage<AuditLogResponse>>> getAuditLogs(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String employeeId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String clientIp,
+            @RequestParam(required = false) Boolean success,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "직전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + AuditLogQueryService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        CursorPage<AuditLog> page;
+        if (userId != null) {
+            page = auditLogQueryService.findByUserId(userId, cursor, size);
+        } else if (employeeId != null) {
+            page = auditLogQueryService.findByEmployeeId(employeeId, cursor, size);
+        } else if (action != null) {
+            page = auditLogQueryService.findByAction(action, cursor, size);
+        } else if (clientIp != null) {
+            page = auditLogQueryService.findByClientIp(clientIp, cursor, size);
+        } else if (success != null) {
+            page = auditLogQueryService.findBySuccess(success, cursor, size);
+        } else if (startDate != null && endDate != null) {
+            page = auditLogQueryService.findByTimestampBetween(startDate, endDate, cursor, size);
+        } else {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR,
+                    "조회 조건(userId, employeeId, action, clientIp, success, startDate+endDate) 중 하나가 필요합니다");
+        }
+
+        CursorPage<AuditLogResponse> response = CursorPage.of(
+                page.getItems().stream().map(AuditLogResponse::from).toList(),
+                page.getNextCursor());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * GET /api/v1/audit-logs/export - 기간 내 감사 로그 전체 추출 (오래된 순)
+     *
+     * 응답 본문에 행 단위로 바로 기록하므로 건수와 관계없이 API 서버 메모리 사용량이 일정하다.
+     */
+    @Operation(
+            summary = "감사 로그 추출",
+            description = "[startDate, endDate) 기간의 감사 로그를 CSV 또는 NDJSON으로 스트리밍합니다. gzip=true면 압축합니다."
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/export")
+    public void export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String action,
+            @Parameter(description = "csv | ndjson")
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        if (!startDate.isBefore(endDate)) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "startDate는 endDate보다 이전이어야 합니다");
+        }
+        AuditLogExportService.Format exportFormat = AuditLogExportService.Format.of(format);
+        log.info("GET /api/v1/audit-logs/export - 감사 로그 추출: range=[{}, {}), action={}, format={}, gzip={}",
+                startDate, endDate, action, exportFormat, gzip);
+
+        String filename = "audit-log_" + FILE_DATE.format(startDate) + "_" + FILE_DATE.format(endDate)
+                + "." + exportFormat.extension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : exportFormat.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        auditLogExportService.export(startDate, endDate, action, exportFormat, gzip, response.getOutputStream());
+    }
+
+    /**
+     * GET /api/v1/audit-logs/login-stats - 기간 내 로그인 성공/실패 건수
+     */
+    @Operation(
+            summary = "로그인 통계 조회",
+            description = "[startDate, endDate) 기간의 로그인 성공/실패 건수를 조회합니다. 집계가 끝난 시간 구간은 집계 테이블에서 읽습니다."
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/login-stats")
+    public ResponseEntity<ApiResponse<LoginStatsResponse>> getLoginStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        if (!startDate.isBefore(endDate)) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "startDate는 endDate보다 이전이어야 합니다");
+        }
+
+        LoginStatsResponse response = LoginStatsResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .successCount(loginStatsService.countLoginSuccess(startDate, endDate))
+                .failureCount(loginStatsService.countLoginFailure(startDate, endDate))
+                .build();
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * POST /api/v1/audit-logs/verify - 기간 내 감사 로그 해시 체인 검증
+     *
+     * 체인별로 순번이 가장 작은 끊김(삭제/수정/위조 연결)을 보고한다.
+     */
+    @Operation(
+            summary = "감사 로그 무결성 검증",
+            description = "[startDate, endDate) 기간에 기록된 감사 로그의 해시 체인을 구간별로 병렬 검증합니다."
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/verify")
+    public ResponseEntity<ApiResponse<AuditChainVerifier.Report>> verify(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate
+    ) {
+        if (!startDate.isBefore(endDate)) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "startDate는 endDate보다 이전이어야 합니다");
+        }
+        log.info("POST /api/v1/audit-logs/verify - 해시 체인 검증: range=[{}, {})", startDate, endDate);
+
+        return ResponseEntity.ok(ApiResponse.success(auditChainVerifier.verify(startDate, endDate)));
+    }
+
+    /**
+     * GET /api/v1/audit-logs/{id}/policy-state - 정책 변경 감사 로그 시점의 정책 전체 상태
+     *
+     * 변경분(JSON Patch)으로 저장된 이력을 가장 가까운 checkpoint부터 적용해 복원한다.
+     */
+    @Operation(
+            summary = "정책 버전 복원",
+            description = "정책 변경 감사 로그 시점의 정책 전체 상태를 복원합니다."
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{id}/policy-state")
+    public ResponseEntity<ApiResponse<PolicyRevisionService.PolicyRevision>> getPolicyState(
+            @Parameter(description = "감사 로그 ID") @PathVariable String id
+    ) {
+        log.info("GET /api/v1/audit-logs/{}/policy-state - 정책 버전 복원", id);
+
+        return ResponseEntity.ok(ApiResponse.success(policyRevisionService.reconstruct(id)));
+    }
+}
@@ -4,6 +4,7 @@ import com.inspecthub.auth.dto.LoginRequest;
 import com.inspecthub.auth.dto.RefreshTokenRequest;
 import com.inspecthub.auth.dto.TokenResponse;
 import com.inspecthub.auth.service.AuthService;
+import com.inspecthub.auth.service.LoginThrottle;
 import com.inspecthub.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -34,6 +35,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final com.inspecthub.auth.service.AdAuthenticationService adAuthenticationService;
+    private final LoginThrottle loginThrottle;
 
     /**
      * LOCAL 로그인
@@ -61,6 +63,10 @@ public class AuthController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "423",
                     description = "계정 잠금 - 로그인 실패 횟수 초과"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "로그인 요청 과다 - IP/사원ID별 시도 한도 초과 또는 비밀번호 검증 대기열 포화"
             )
     })
     @PostMapping("/login")
@@ -70,6 +76,9 @@ public class AuthController {
     ) {
         log.info("Login attempt: employeeId={}", request.getEmployeeId());
 
+        // DB/BCrypt 작업 전에 시도 한도 확인
+        loginThrottle.check(httpRequest, request.getEmployeeId());
+
         TokenResponse tokenResponse = authService.authenticate(request, httpRequest);
 
         return ResponseEntity.ok(
@@ -105,16 +114,24 @@ public class AuthController {
                     description = "계정 잠금"
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
-                    responseCode = "500",
-                    description = "AD 서버 연결 실패"
+                    responseCode = "429",
+                    description = "로그인 요청 과다 - IP/사원ID별 시도 한도 초과"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "AD 서버 연결 실패 (연속 실패 시 차단기가 열려 즉시 응답)"
             )
     })
     @PostMapping("/login/ad")
     public ResponseEntity<ApiResponse<TokenResponse>> loginWithAd(
-            @Valid @RequestBody LoginRequest request
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
     ) {
         log.info("AD login attempt: employeeId={}", request.getEmployeeId());
 
+        // DB/LDAP 작업 전에 시도 한도 확인
+        loginThrottle.check(httpRequest, request.getEmployeeId());
+
         TokenResponse tokenResponse = adAuthenticationService.authenticate(request);
 
         return ResponseEntity.ok(
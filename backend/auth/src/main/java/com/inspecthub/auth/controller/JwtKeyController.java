@@ -0,0 +1,57 @@
+package com.inspecthub.auth.controller;
+
+import com.inspecthub.auth.dto.JwtKeyResponse;
+import com.inspecthub.auth.service.JwtKeyRing;
+import com.inspecthub.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 컨트롤러
+ *
+ * - 공개 키 배포 (JWKS): 다른 서비스가 공유 secret 없이 ES256 토큰 검증
+ * - 서명 키 조회: 등록된 kid와 현재 서명 키 (키 추가/전환/폐기는 설정 배포로만 - JwtKeyRing 참고)
+ */
+@Tag(name = "JWT Keys", description = "JWT 서명 키 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class JwtKeyController {
+
+    private final JwtKeyRing keyRing;
+
+    /**
+     * GET /api/v1/auth/jwks - 공개 키 목록 (RFC 7517 JWK Set, ApiResponse로 감싸지 않음)
+     */
+    @Operation(summary = "JWK Set 조회", description = "ES256 검증용 공개 키 목록을 조회합니다. HMAC 키는 포함되지 않습니다.")
+    @GetMapping("/auth/jwks")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok(keyRing.toJwks());
+    }
+
+    /**
+     * GET /api/v1/system/jwt-keys - 등록된 서명 키 목록
+     */
+    @Operation(summary = "서명 키 목록 조회", description = "Key Ring에 등록된 서명 키 목록을 조회합니다 (키 material 제외)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/system/jwt-keys")
+    public ResponseEntity<ApiResponse<List<JwtKeyResponse>>> getKeys() {
+        String activeKid = keyRing.activeKid();
+        List<JwtKeyResponse> keys = keyRing.keys().stream()
+                .map(key -> JwtKeyResponse.of(key, key.kid().equals(activeKid)))
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.success(keys));
+    }
+}
@@ -2,6 +2,8 @@ package com.inspecthub.auth.domain;
 
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 /**
  * Account Lock Policy (Domain Service)
  *
@@ -12,6 +14,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class AccountLockPolicy {
 
+    /**
+     * 영구 잠금 만료 시각 (User.lockPermanently와 동일)
+     */
+    public static final LocalDateTime PERMANENT_LOCK_UNTIL = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     /**
      * 실패 횟수에 따른 잠금 정책 적용
      *
@@ -33,6 +40,26 @@ public class AccountLockPolicy {
         }
     }
 
+    /**
+     * 실패 횟수에 따른 잠금 해제 시각 계산 (applyLockPolicy와 같은 정책)
+     *
+     * 원자적으로 증가시킨 실패 횟수로 잠금 여부를 판단할 때 사용한다.
+     *
+     * @param failedAttempts 실패 횟수 (증가 후 값)
+     * @param now 기준 시각
+     * @return 잠금 해제 시각, 잠금 대상이 아니면 null
+     */
+    public LocalDateTime lockedUntil(int failedAttempts, LocalDateTime now) {
+        if (failedAttempts >= 15) {
+            return PERMANENT_LOCK_UNTIL;
+        } else if (failedAttempts >= 10) {
+            return now.plusMinutes(30);
+        } else if (failedAttempts >= 5) {
+            return now.plusMinutes(5);
+        }
+        return null;
+    }
+
     /**
      * 잠금 해제 가능 여부 확인
      */
@@ -0,0 +1,44 @@
+package com.inspecthub.auth.domain;
+
+import java.util.Locale;
+
+/**
+ * AD 디렉터리 사용자 속성
+ *
+ * AD 동기화 및 AD 로그인 시 사용자 생성에 사용하는 값 객체.
+ * users 테이블의 같은 컬럼과 그대로 비교할 수 있도록 정규화된 값만 담는다.
+ *
+ * @param employeeId 사원ID (sAMAccountName)
+ * @param name 이름 (displayName, 없으면 사원ID)
+ * @param email 이메일 (mail, 없으면 null)
+ * @param department 부서 (department, 없으면 null)
+ */
+public record AdUserEntry(String employeeId, String name, String email, String department) {
+
+    public static AdUserEntry of(String employeeId, String displayName, String mail, String department) {
+        return new AdUserEntry(
+                employeeId,
+                hasText(displayName) ? displayName.trim() : employeeId,
+                hasText(mail) ? mail.trim() : null,
+                hasText(department) ? department.trim() : null
+        );
+    }
+
+    /**
+     * 사원ID 비교 키 - sAMAccountName은 대소문자를 구분하지 않으므로 대소문자만 다른 값은 같은 사용자
+     */
+    public static String normalize(String employeeId) {
+        return employeeId.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 사원ID만 바꾼 사본 (기존 users 행의 표기로 맞출 때)
+     */
+    public AdUserEntry withEmployeeId(String employeeId) {
+        return new AdUserEntry(employeeId, name, email, department);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,12 @@
+package com.inspecthub.auth.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 해시 체인의 순번 범위
+ *
+ * 검증 기간 안에 기록된 한 체인의 최소/최대 chainSeq와 그 행들의 최소/최대 timestamp.
+ */
+public record AuditChainRange(String chainId, long minSeq, long maxSeq,
+                              LocalDateTime minTimestamp, LocalDateTime maxTimestamp) {
+}
@@ -1,5 +1,6 @@
 package com.inspecthub.auth.domain;
 
+import com.inspecthub.common.audit.AuditEventType;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -107,6 +108,42 @@ public class AuditLog {
      */
     private LocalDateTime createdAt;
 
+    /**
+     * 해시 체인 ID (writer 프로세스마다 하나, AuditHashChain)
+     * null이면 해시 체인 도입 전 기록
+     */
+    private String chainId;
+
+    /**
+     * 체인 내 순번 (0부터 빈틈없이 증가)
+     */
+    private Long chainSeq;
+
+    /**
+     * 직전 레코드의 hash (순번 0은 체인 genesis 해시)
+     */
+    private String prevHash;
+
+    /**
+     * 이 레코드의 해시 - SHA-256(prevHash, 체인 위치, 모든 필드)
+     */
+    private String hash;
+
+    /**
+     * 변경 대상 종류 (정책 변경 시 LOGIN_POLICY 등, 그 외 null)
+     */
+    private String subjectType;
+
+    /**
+     * 변경 대상 ID - subjectType과 함께 정책 버전 이력 단위
+     */
+    private String subjectId;
+
+    /**
+     * 감사 이벤트 유형 - 기록 파이프라인의 유형별 지표용 (저장하지 않음, null이면 미분류)
+     */
+    private AuditEventType eventType;
+
     /**
      * 로그인 성공 로그 생성
      */
@@ -125,6 +162,7 @@ public class AuditLog {
         return AuditLog.builder()
             .id(id)
             .action("LOGIN_SUCCESS")
+            .eventType(AuditEventType.LOGIN_SUCCESS)
             .employeeId(employeeId)
             .userId(userId)
             .username(username)
@@ -158,6 +196,7 @@ public class AuditLog {
         return AuditLog.builder()
             .id(id)
             .action("LOGIN_SUCCESS")
+            .eventType(AuditEventType.LOGIN_SUCCESS)
             .employeeId(employeeId)
             .userId(userId)
             .username(username)
@@ -190,6 +229,7 @@ public class AuditLog {
         return AuditLog.builder()
             .id(id)
             .action("LOGIN_FAILURE")
+            .eventType(AuditEventType.LOGIN_FAILURE)
             .employeeId(employeeId)
             .clientIp(clientIp)
             .method(method)
@@ -202,4 +242,32 @@ public class AuditLog {
             .createdAt(now)
             .build();
     }
+
+    /**
+     * 정책 변경 로그 생성
+     *
+     * @param details 변경 내용 JSON (PolicyRevisionCodec - checkpoint 또는 JSON Patch)
+     */
+    public static AuditLog createPolicyChange(
+        String id,
+        String action,
+        String userId,
+        String subjectType,
+        String subjectId,
+        LocalDateTime occurredAt,
+        String details
+    ) {
+        return AuditLog.builder()
+            .id(id)
+            .action(action)
+            .eventType(AuditEventType.POLICY_CHANGE)
+            .userId(userId)
+            .subjectType(subjectType)
+            .subjectId(subjectId)
+            .details(details)
+            .success(true)
+            .timestamp(occurredAt)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
 }
@@ -0,0 +1,55 @@
+package com.inspecthub.auth.domain;
+
+import com.inspecthub.common.exception.BusinessException;
+import com.inspecthub.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 감사 로그 keyset 페이지 커서
+ *
+ * 직전 페이지 마지막 행의 (timestamp, id). 정렬이 (timestamp DESC, id DESC)이므로
+ * 같은 시각의 행이 여러 개여도 id로 순서가 정해져 누락/중복 없이 이어진다.
+ * 외부에는 Base64URL 토큰으로만 노출하여 클라이언트가 형식에 의존하지 않도록 한다.
+ */
+public record AuditLogCursor(LocalDateTime timestamp, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static AuditLogCursor after(AuditLog last) {
+        return new AuditLogCursor(last.getTimestamp(), last.getId());
+    }
+
+    /**
+     * 토큰 복원
+     *
+     * @param token 직전 응답의 nextCursor (null/빈 값이면 첫 페이지)
+     * @return 커서 (첫 페이지면 null)
+     * @throws BusinessException INVALID_CURSOR - 형식이 맞지 않는 토큰
+     */
+    public static AuditLogCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == value.length() - 1) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new AuditLogCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    value.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String value = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,71 @@
+package com.inspecthub.auth.domain;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox 메시지
+ *
+ * 도메인/감사 이벤트와 같은 트랜잭션으로 outbox_message에 기록되고, relay가 broker로 전달한 뒤 삭제한다.
+ * id(ULID)는 소비자 중복 제거 키다 (at-least-once 전달이므로 같은 메시지가 다시 올 수 있음).
+ * 전달 순서는 DB가 INSERT 시 부여하는 seq를 따른다 (감사 로그 메시지 id는 단조 증가가 아니고 spool 재기록 시 과거 ID).
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class OutboxMessage {
+
+    /**
+     * 메시지 ID (ULID)
+     */
+    private String id;
+
+    /**
+     * 기록 순번 (DB 부여, 조회 시에만 채워짐)
+     */
+    private Long seq;
+
+    /**
+     * 집계 유형 (topic 결정: LOGIN_POLICY -> inspecthub.login-policy)
+     */
+    private String aggregateType;
+
+    /**
+     * 집계 ID (partition key)
+     */
+    private String aggregateId;
+
+    /**
+     * 이벤트 유형
+     */
+    private String eventType;
+
+    /**
+     * 이벤트 본문 (JSON)
+     */
+    private String payload;
+
+    /**
+     * 기록 시각
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 전달 실패 횟수
+     */
+    private int attempts;
+
+    /**
+     * 마지막 전달 실패 사유
+     */
+    private String lastError;
+
+    /**
+     * topic 이름의 집계 유형 부분 (LOGIN_POLICY -> login-policy)
+     */
+    public String topicSuffix() {
+        return aggregateType.toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,48 @@
+package com.inspecthub.auth.domain;
+
+import lombok.*;
+
+/**
+ * 사용자 권한 부여 항목
+ *
+ * 권한 그룹, feature:action 권한, 메뉴 접근을 한 번의 조회로 가져오기 위한 평탄화된 행
+ *
+ * MyBatis 매핑용 POJO
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PermissionGrant {
+
+    /**
+     * 부여 유형
+     */
+    private GrantType grantType;
+
+    /**
+     * 코드
+     * GROUP: PG.ADMIN, PERMISSION: case:read, MENU: MENU.DASHBOARD
+     */
+    private String code;
+
+    public enum GrantType {
+        GROUP,
+        PERMISSION,
+        MENU
+    }
+
+    /**
+     * Spring Security 권한 문자열
+     *
+     * - GROUP: PG.ADMIN → ROLE_ADMIN (hasRole('ADMIN')과 호환)
+     * - PERMISSION, MENU: 코드 그대로
+     */
+    public String toAuthority() {
+        if (grantType == GrantType.GROUP) {
+            String role = code.startsWith("PG.") ? code.substring(3) : code;
+            return "ROLE_" + role;
+        }
+        return code;
+    }
+}
@@ -0,0 +1,70 @@
+package com.inspecthub.auth.dto;
+
+import com.inspecthub.auth.domain.AuditLog;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 응답 DTO
+ */
+@Schema(description = "감사 로그")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogResponse {
+
+    @Schema(description = "감사 로그 ID (ULID)", example = "01JBZ8Q3M4N5P6R7S8T9V0W1X2")
+    private String id;
+
+    @Schema(description = "작업 타입", example = "LOGIN_FAILURE")
+    private String action;
+
+    @Schema(description = "사용자 ID")
+    private String userId;
+
+    @Schema(description = "사원ID", example = "202401001")
+    private String employeeId;
+
+    @Schema(description = "사용자명")
+    private String username;
+
+    @Schema(description = "이벤트 발생 시각")
+    private LocalDateTime timestamp;
+
+    @Schema(description = "클라이언트 IP", example = "10.0.0.1")
+    private String clientIp;
+
+    @Schema(description = "성공 여부")
+    private Boolean success;
+
+    @Schema(description = "로그인 방식", example = "AD")
+    private String method;
+
+    @Schema(description = "실패 사유", example = "INVALID_PASSWORD")
+    private String reason;
+
+    @Schema(description = "상세 정보 (JSON)")
+    private String details;
+
+    public static AuditLogResponse from(AuditLog auditLog) {
+        return AuditLogResponse.builder()
+                .id(auditLog.getId())
+                .action(auditLog.getAction())
+                .userId(auditLog.getUserId())
+                .employeeId(auditLog.getEmployeeId())
+                .username(auditLog.getUsername())
+                .timestamp(auditLog.getTimestamp())
+                .clientIp(auditLog.getClientIp())
+                .success(auditLog.getSuccess())
+                .method(auditLog.getMethod())
+                .reason(auditLog.getReason())
+                .details(auditLog.getDetails())
+                .build();
+    }
+}
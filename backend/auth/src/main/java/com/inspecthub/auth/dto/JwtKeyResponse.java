@@ -0,0 +1,40 @@
+package com.inspecthub.auth.dto;
+
+import com.inspecthub.auth.service.JwtSigningKey;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * JWT 서명 키 정보 응답 DTO (키 material 제외)
+ */
+@Schema(description = "JWT 서명 키 정보")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JwtKeyResponse {
+
+    @Schema(description = "키 ID (JWT header kid)", example = "2024-11")
+    private String kid;
+
+    @Schema(description = "알고리즘", example = "HMAC")
+    private String algorithm;
+
+    @Schema(description = "현재 서명 키 여부", example = "true")
+    private boolean active;
+
+    @Schema(description = "서명 가능 여부 (false면 검증 전용)", example = "true")
+    private boolean canSign;
+
+    public static JwtKeyResponse of(JwtSigningKey key, boolean active) {
+        return JwtKeyResponse.builder()
+                .kid(key.kid())
+                .algorithm(key.algorithm().name())
+                .active(active)
+                .canSign(key.canSign())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.inspecthub.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 통계 응답 DTO
+ */
+@Schema(description = "로그인 통계")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginStatsResponse {
+
+    @Schema(description = "조회 시작 (포함)")
+    private LocalDateTime startDate;
+
+    @Schema(description = "조회 끝 (미포함)")
+    private LocalDateTime endDate;
+
+    @Schema(description = "로그인 성공 건수", example = "1520")
+    private long successCount;
+
+    @Schema(description = "로그인 실패 건수", example = "37")
+    private long failureCount;
+}
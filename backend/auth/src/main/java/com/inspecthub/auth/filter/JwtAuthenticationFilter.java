@@ -1,7 +1,11 @@
 package com.inspecthub.auth.filter;
 
 import com.inspecthub.auth.service.JwtTokenProvider;
+import com.inspecthub.auth.service.PermissionSnapshot;
+import com.inspecthub.auth.service.PermissionSnapshotService;
+import com.inspecthub.auth.service.VerifiedToken;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.FilterChain;
@@ -11,8 +15,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -20,7 +22,6 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * JWT Authentication Filter
@@ -29,6 +30,8 @@ import java.util.List;
  * 유효한 토큰인 경우 SecurityContext에 Authentication 설정
  *
  * OncePerRequestFilter를 상속하여 요청당 한 번만 실행 보장
+ * 토큰은 JwtTokenProvider.verify()로 요청당 한 번만 파싱/검증
+ * 권한은 PermissionSnapshotService의 컴파일된 스냅샷에서 가져오므로 캐시 적중 시 DB 조회 없음
  */
 @Slf4j
 @Component
@@ -38,7 +41,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    /**
+     * 상태 없는 details source - 요청마다 새로 만들 필요 없음
+     */
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final PermissionSnapshotService permissionSnapshotService;
 
     /**
      * 특정 경로는 JWT 필터를 건너뛰기
@@ -50,8 +59,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         
         // /api/v1/auth/** 경로는 필터 건너뛰기 (SecurityConfig에서 접근 제어)
+        // actuator 중 cachestats는 ADMIN 권한이 필요하므로 토큰 인증
         return path.startsWith("/api/v1/auth/") ||  
-               path.startsWith("/actuator/");
+               (path.startsWith("/actuator/") && !path.startsWith("/actuator/cachestats"));
     }
 
     @Override
@@ -65,18 +75,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. Authorization 헤더에서 JWT 토큰 추출
             String token = extractTokenFromRequest(request);
 
-            // 2. 토큰이 존재하고 유효한 경우
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                // 3. Access Token인지 확인 (Refresh Token은 인증에 사용 불가)
-                if (jwtTokenProvider.isAccessToken(token)) {
-                    // 4. EmployeeId 추출
-                    String employeeId = jwtTokenProvider.getEmployeeId(token);
-                    String userId = jwtTokenProvider.getUserId(token);
+            // 2. 토큰이 존재하는 경우 서명 검증 + Claims 추출 (단일 파싱)
+            if (token != null) {
+                VerifiedToken verified = jwtTokenProvider.verify(token);
 
-                    // 5. SecurityContext에 인증 정보 설정
-                    setAuthentication(request, employeeId, userId);
+                // 3. Access Token인지 확인 (Refresh Token은 인증에 사용 불가)
+                if (verified.isAccessToken()) {
+                    // 4. SecurityContext에 인증 정보 설정
+                    setAuthentication(request, verified.employeeId(), verified.userId());
 
-                    log.debug("JWT authentication successful for employeeId: {}", employeeId);
+                    log.debug("JWT authentication successful for employeeId: {}", verified.employeeId());
                 } else {
                     log.warn("Refresh token cannot be used for authentication");
                 }
@@ -91,12 +99,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (MalformedJwtException e) {
             log.warn("Malformed JWT token: {}", e.getMessage());
             request.setAttribute("exception", "MALFORMED_TOKEN");
+        } catch (JwtException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            request.setAttribute("exception", "INVALID_TOKEN");
         } catch (Exception e) {
             log.error("JWT authentication error: {}", e.getMessage(), e);
             request.setAttribute("exception", "AUTHENTICATION_ERROR");
         }
 
-        // 6. 다음 필터로 진행 (인증 실패해도 계속 진행 - SecurityConfig에서 접근 제어)
+        // 5. 다음 필터로 진행 (인증 실패해도 계속 진행 - SecurityConfig에서 접근 제어)
         filterChain.doFilter(request, response);
     }
 
@@ -118,10 +129,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * SecurityContext에 인증 정보 설정
      *
-     * UsernamePasswordAuthenticationToken 사용
-     * - Principal: employeeId
+     * JwtAuthenticationToken 사용
+     * - Principal: JwtPrincipal (employeeId + userId)
      * - Credentials: null (토큰 기반 인증이므로 비밀번호 불필요)
-     * - Authorities: 기본 "ROLE_USER" (추후 UserDetailsService에서 실제 권한 로드)
+     * - Authorities: 사용자 권한 스냅샷 (ROLE_USER + 그룹 역할 + feature:action + 메뉴)
      */
     private void setAuthentication(
             HttpServletRequest request,
@@ -131,23 +142,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 간단한 Principal 객체 (employeeId + userId)
         JwtPrincipal principal = new JwtPrincipal(employeeId, userId);
 
-        // 기본 권한 설정 (추후 실제 권한으로 교체 필요)
-        List<SimpleGrantedAuthority> authorities = List.of(
-                new SimpleGrantedAuthority("ROLE_USER")
-        );
+        // 컴파일된 권한 스냅샷 (캐시 적중 시 DB 조회 없음)
+        PermissionSnapshot snapshot = permissionSnapshotService.getSnapshot(employeeId);
 
         // Authentication 토큰 생성
-        UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(
-                        principal,
-                        null,
-                        authorities
-                );
-
-        // Request details 설정
-        authentication.setDetails(
-                new WebAuthenticationDetailsSource().buildDetails(request)
-        );
+        JwtAuthenticationToken authentication = new JwtAuthenticationToken(principal, snapshot.authorities());
+
+        // Request details 설정 (공유 details source 사용)
+        authentication.setDetails(DETAILS_SOURCE.buildDetails(request));
 
         // SecurityContext에 설정
         SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -0,0 +1,53 @@
+package com.inspecthub.auth.filter;
+
+import com.inspecthub.auth.filter.JwtAuthenticationFilter.JwtPrincipal;
+import com.inspecthub.auth.service.CompiledAuthorities;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * JWT 인증 토큰
+ *
+ * UsernamePasswordAuthenticationToken은 권한 목록을 ArrayList로 복사하므로,
+ * 컴파일된 BitSet 권한 집합을 그대로 노출하기 위해 별도 Authentication을 사용한다.
+ *
+ * - Principal: JwtPrincipal (employeeId + userId)
+ * - Credentials: null (토큰 기반 인증)
+ * - Authorities: CompiledAuthorities (O(1) 권한 확인)
+ */
+public class JwtAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final JwtPrincipal principal;
+    private final CompiledAuthorities authorities;
+
+    public JwtAuthenticationToken(JwtPrincipal principal, CompiledAuthorities authorities) {
+        super(null);
+        this.principal = principal;
+        this.authorities = authorities;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public JwtPrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * 권한 보유 여부 (O(1) 비트 테스트)
+     */
+    public boolean hasAuthority(String authority) {
+        return authorities.hasAuthority(authority);
+    }
+}
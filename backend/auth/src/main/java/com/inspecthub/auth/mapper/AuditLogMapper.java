@@ -1,8 +1,10 @@
 package com.inspecthub.auth.mapper;
 
+import com.inspecthub.auth.domain.AuditChainRange;
 import com.inspecthub.auth.domain.AuditLog;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,6 +22,13 @@ public interface AuditLogMapper {
      */
     void insert(AuditLog auditLog);
 
+    /**
+     * 감사 로그 저장 (같은 ID가 이미 있으면 무시)
+     *
+     * spool 재기록용 - ULID가 이벤트 생성 시 정해지므로 같은 이벤트를 여러 번 넣어도 한 행만 남는다.
+     */
+    void insertIfAbsent(AuditLog auditLog);
+
     /**
      * ID로 조회
      */
@@ -80,6 +89,134 @@ public interface AuditLogMapper {
         @Param("limit") int limit
     );
 
+    // ========== Keyset (seek) pagination ==========
+    // (timestamp, id) 내림차순. 직전 페이지 마지막 행의 (timestamp, id)를 cursor로 넘기면
+    // 그보다 오래된 행부터 limit건을 읽는다 (cursorTimestamp/cursorId가 null이면 첫 페이지).
+    // OFFSET을 쓰지 않으므로 페이지 깊이와 관계없이 비용이 같다.
+
+    /**
+     * 사용자별 감사 로그 조회 (keyset)
+     */
+    List<AuditLog> findByUserIdAfter(
+        @Param("userId") String userId,
+        @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+        @Param("cursorId") String cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 사원ID별 감사 로그 조회 (keyset)
+     */
+    List<AuditLog> findByEmployeeIdAfter(
+        @Param("employeeId") String employeeId,
+        @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+        @Param("cursorId") String cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 정책별 변경 이력 조회 (keyset)
+     */
+    List<AuditLog> findBySubjectAfter(
+        @Param("subjectType") String subjectType,
+        @Param("subjectId") String subjectId,
+        @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+        @Param("cursorId") String cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 날짜 범위별 조회 (keyset)
+     */
+    List<AuditLog> findByTimestampBetweenAfter(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+        @Param("cursorId") String cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 작업 타입별 조회 (keyset)
+     */
+    List<AuditLog> findByActionAfter(
+        @Param("action") String action,
+        @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+        @Param("cursorId") String cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * IP 주소별 조회 (keyset)
+     */
+    List<AuditLog> findByClientIpAfter(
+        @Param("clientIp") String clientIp,
+        @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+        @Param("cursorId") String cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 성공/실패별 조회 (keyset)
+     */
+    List<AuditLog> findBySuccessAfter(
+        @Param("success") Boolean success,
+        @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+        @Param("cursorId") String cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 기간별 전체 추출 (오래된 순, 스트리밍)
+     *
+     * 행을 fetchSize 단위로 DB에서 가져오므로 건수와 관계없이 메모리 사용량이 일정하다.
+     * PostgreSQL은 트랜잭션 안(autocommit=false)에서만 fetchSize로 나눠 가져오므로
+     * 반드시 트랜잭션 안에서 열고 다 읽은 뒤 닫아야 한다.
+     *
+     * @param endDate 미포함
+     * @param action null이면 전체
+     */
+    Cursor<AuditLog> streamByTimestampRange(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("action") String action
+    );
+
+    // ========== Hash chain ==========
+
+    /**
+     * 기간 안에 기록된 해시 체인별 순번 범위
+     */
+    List<AuditChainRange> findChainRanges(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 기간 안의 체인 정보 없는 행 수 (해시 체인 도입 전 기록)
+     */
+    long countUnchained(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 체인 순번 구간 조회 (afterSeq 초과, toSeq 이하, 순번 오름차순, 최대 limit건)
+     *
+     * timestamp(파티션 키) 조건이 있어야 해당 월 파티션만 읽는다. 없으면 모든 파티션의 인덱스를 확인한다.
+     *
+     * @param fromTimestamp 포함, null이면 하한 없음
+     * @param toTimestamp 포함, null이면 상한 없음
+     */
+    List<AuditLog> findChainSegment(
+        @Param("chainId") String chainId,
+        @Param("afterSeq") long afterSeq,
+        @Param("toSeq") long toSeq,
+        @Param("fromTimestamp") LocalDateTime fromTimestamp,
+        @Param("toTimestamp") LocalDateTime toTimestamp,
+        @Param("limit") int limit
+    );
+
     /**
      * 일별 로그인 성공 횟수 통계
      */
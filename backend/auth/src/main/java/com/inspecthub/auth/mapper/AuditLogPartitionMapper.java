@@ -0,0 +1,50 @@
+package com.inspecthub.auth.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * audit_log 파티션 관리 MyBatis Mapper (PostgreSQL 전용)
+ *
+ * 파티션 이름은 audit_log_pYYYYMM (V009 audit_log_ensure_partition)
+ */
+@Mapper
+public interface AuditLogPartitionMapper {
+
+    /**
+     * 월 파티션 생성 (이미 있으면 생성하지 않음)
+     *
+     * @param month 해당 월의 아무 날짜
+     * @return 파티션 이름
+     */
+    String ensurePartition(@Param("month") LocalDate month);
+
+    /**
+     * audit_log에 붙어 있는 파티션 이름 목록 (default 파티션 포함)
+     */
+    List<String> findPartitionNames();
+
+    /**
+     * 현재 트랜잭션의 lock_timeout 설정 (SET LOCAL - 커밋/롤백 시 원래 값으로)
+     *
+     * @return 설정된 값
+     */
+    String setLockTimeout(@Param("millis") long millis);
+
+    /**
+     * 파티션 분리 - 데이터는 독립 테이블로 남음
+     *
+     * @param name AuditLogPartitionManager가 검증한 파티션 이름 (SQL 식별자로 직접 사용)
+     */
+    void detachPartition(@Param("name") String name);
+
+    /**
+     * 파티션 삭제
+     *
+     * @param name AuditLogPartitionManager가 검증한 파티션 이름 (SQL 식별자로 직접 사용)
+     */
+    void dropPartition(@Param("name") String name);
+}
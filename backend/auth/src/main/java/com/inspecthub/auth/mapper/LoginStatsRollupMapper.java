@@ -0,0 +1,51 @@
+package com.inspecthub.auth.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 통계 시간별 집계 MyBatis Mapper
+ *
+ * audit_log_login_stats_hourly / audit_log_rollup_state (V010)
+ */
+@Mapper
+public interface LoginStatsRollupMapper {
+
+    /**
+     * 집계 완료 위치 (이 시각 이전 구간은 집계 완료, 집계 전이면 null)
+     */
+    LocalDateTime findSealedUntil();
+
+    /**
+     * 집계 완료 위치 갱신
+     */
+    void updateSealedUntil(@Param("sealedUntil") LocalDateTime sealedUntil);
+
+    /**
+     * 가장 오래된 감사 로그 시각 (최초 집계 시작점, 없으면 null)
+     */
+    LocalDateTime findOldestEventTimestamp();
+
+    /**
+     * [startDate, endDate) 시간 구간을 원본에서 다시 집계 (같은 구간을 여러 번 집계해도 결과 동일)
+     *
+     * @param startDate 시간 경계 (분/초 0)
+     * @param endDate 시간 경계 (미포함)
+     * @return upsert된 집계 행 수
+     */
+    int rollup(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 집계 테이블 기준 건수 - bucket_start가 [startDate, endDate)인 구간 합계
+     */
+    long sumEventCount(
+        @Param("action") String action,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+}
@@ -0,0 +1,51 @@
+package com.inspecthub.auth.mapper;
+
+import com.inspecthub.auth.domain.OutboxMessage;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * outbox MyBatis Mapper
+ */
+@Mapper
+public interface OutboxMapper {
+
+    /**
+     * 메시지 기록 (호출자 트랜잭션 안에서)
+     */
+    void insert(OutboxMessage message);
+
+    /**
+     * 메시지 기록 - 같은 ID가 이미 있으면 무시 (감사 로그 spool 재기록 경로)
+     */
+    void insertIfAbsent(OutboxMessage message);
+
+    /**
+     * relay 잠금 (트랜잭션 advisory lock, 커밋/롤백 시 해제)
+     *
+     * @return 다른 노드가 relay 중이면 false
+     */
+    boolean tryRelayLock(@Param("lockKey") long lockKey);
+
+    /**
+     * 전달 대기 메시지 - 기록 순(id)으로 limit건
+     */
+    List<OutboxMessage> findPending(@Param("limit") int limit);
+
+    /**
+     * 전달 완료 메시지 삭제
+     */
+    int deleteByIds(@Param("ids") List<String> ids);
+
+    /**
+     * 전달 실패 기록
+     */
+    int markFailed(@Param("ids") List<String> ids, @Param("error") String error);
+
+    /**
+     * 메시지를 outbox_dead_letter로 복사 (호출자가 같은 트랜잭션에서 deleteByIds)
+     */
+    int insertDeadLetter(@Param("id") String id, @Param("error") String error);
+}
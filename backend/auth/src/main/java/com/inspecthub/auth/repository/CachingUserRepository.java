@@ -0,0 +1,281 @@
+package com.inspecthub.auth.repository;
+
+import com.inspecthub.auth.domain.AdUserEntry;
+import com.inspecthub.auth.domain.User;
+import com.inspecthub.auth.domain.UserId;
+import com.inspecthub.auth.service.UserCacheInvalidationPublisher;
+import com.inspecthub.common.cache.BoundedCache;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 사원ID 기준 사용자 조회 near-cache (UserRepository 데코레이터)
+ *
+ * 로그인/토큰 갱신의 findByEmployeeId를 노드 메모리에서 처리하여 캐시 적중 시 DB 조회가 없다.
+ * User는 도메인 메서드로 상태가 바뀌는 가변 객체이므로 캐시에는 호출자와 공유하지 않는 사본을 두고,
+ * 조회할 때마다 새 사본을 반환한다.
+ *
+ * 무효화:
+ * - 모든 쓰기(save, 실패 횟수 증가/초기화, 잠금, AD upsert 등) 직후 로컬 항목 제거
+ * - 트랜잭션 안이면 완료 후 한 번 더 제거 (커밋 전 행을 다른 요청이 다시 캐시한 경우 대비)
+ * - 커밋 후 UserCacheInvalidationPublisher로 다른 노드에 전파 (auth.user-cache.invalidation=redis)
+ * - 조회 중 무효화가 일어나면 방금 읽은 행은 캐시하지 않는다 (세대 번호 비교)
+ * - ttlSeconds: 전파 메시지를 놓친 경우의 반영 지연 상한
+ * - maxSize: 가득 차면 TTL 경과 항목 정리 후 10%를 임의 제거 (BoundedCache)
+ *
+ * Metrics: auth.user.cache.gets{result=hit|miss}, auth.user.cache.evictions, auth.user.cache.size
+ */
+@Primary
+@Repository
+public class CachingUserRepository implements UserRepository {
+
+    private static final String METRIC_PREFIX = "auth.user.cache";
+
+    private final UserRepository delegate;
+    private final Supplier<UserCacheInvalidationPublisher> publisher;
+
+    private final BoundedCache<String, CachedUser> users;
+    private final Map<UserId, String> employeeIds = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Clock clock;
+
+    private final Counter evictions;
+
+    @Autowired
+    public CachingUserRepository(
+            @Qualifier("userRepository") UserRepository delegate,
+            AuthProperties authProperties,
+            ObjectProvider<UserCacheInvalidationPublisher> publisher,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        // 발행자는 이 저장소에 의존하므로 생성 시점이 아닌 쓰기 시점에 조회한다
+        this(
+                delegate,
+                authProperties.getUserCache(),
+                publisher::getIfAvailable,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                Clock.systemUTC()
+        );
+    }
+
+    public CachingUserRepository(
+            UserRepository delegate,
+            AuthProperties.UserCacheConfig config,
+            Supplier<UserCacheInvalidationPublisher> publisher,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.delegate = delegate;
+        this.publisher = publisher;
+        this.enabled = config.isEnabled() && config.getMaxSize() > 0;
+        this.ttl = Duration.ofSeconds(config.getTtlSeconds());
+        this.clock = clock;
+        this.users = new BoundedCache<>(config.getMaxSize(), cached -> !isFresh(cached, clock.instant()),
+                meterRegistry, METRIC_PREFIX, "사용자");
+        this.evictions = Counter.builder(METRIC_PREFIX + ".evictions")
+                .description("쓰기/전파로 무효화된 사용자 캐시 항목").register(meterRegistry);
+    }
+
+    /**
+     * 사원ID로 사용자 조회 (read-through)
+     *
+     * 반환된 User는 호출자 전용 사본이므로 도메인 메서드로 변경해도 캐시에 영향이 없다.
+     * 존재하지 않는 사원ID는 캐시하지 않는다.
+     */
+    @Override
+    public Optional<User> findByEmployeeId(String employeeId) {
+        if (!enabled) {
+            return delegate.findByEmployeeId(employeeId);
+        }
+
+        Instant now = clock.instant();
+        CachedUser cached = users.get(employeeId);
+        if (cached != null && isFresh(cached, now)) {
+            users.recordHit();
+            return Optional.of(cached.copy());
+        }
+
+        users.recordMiss();
+        long observedGeneration = generation.get();
+        Optional<User> loaded = delegate.findByEmployeeId(employeeId);
+        loaded.ifPresent(user -> cache(employeeId, user, observedGeneration, now));
+        return loaded;
+    }
+
+    @Override
+    public int incrementFailedAttempts(UserId id) {
+        int failedAttempts = delegate.incrementFailedAttempts(id);
+        invalidate(id);
+        return failedAttempts;
+    }
+
+    @Override
+    public void resetFailedAttempts(UserId id) {
+        delegate.resetFailedAttempts(id);
+        invalidate(id);
+    }
+
+    @Override
+    public void updateLastLoginAt(UserId id) {
+        delegate.updateLastLoginAt(id);
+        invalidate(id);
+    }
+
+    @Override
+    public void lockAccount(UserId id, LocalDateTime lockedUntil) {
+        delegate.lockAccount(id, lockedUntil);
+        invalidate(id);
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        invalidate(user.getEmployeeId());
+        if (user.getId() != null) {
+            invalidate(user.getId());
+        }
+        return saved;
+    }
+
+    @Override
+    public List<AdUserEntry> findAdUserEntries() {
+        return delegate.findAdUserEntries();
+    }
+
+    @Override
+    public int upsertAdUsers(List<AdUserEntry> entries) {
+        int applied = delegate.upsertAdUsers(entries);
+        for (AdUserEntry entry : entries) {
+            invalidate(entry.employeeId());
+        }
+        return applied;
+    }
+
+    @Override
+    public boolean tryAdSyncLock(long lockKey) {
+        return delegate.tryAdSyncLock(lockKey);
+    }
+
+    /**
+     * 로컬 캐시에서 사원ID 항목 제거 (다른 노드의 무효화 메시지 수신 시)
+     */
+    public void evictLocal(String employeeId) {
+        generation.incrementAndGet();
+        CachedUser removed = users.remove(employeeId);
+        if (removed != null) {
+            evictions.increment();
+            if (removed.user().getId() != null) {
+                employeeIds.remove(removed.user().getId(), employeeId);
+            }
+        }
+    }
+
+    /**
+     * 로컬 캐시에서 사용자 ID 항목 제거 (다른 노드의 무효화 메시지 수신 시)
+     */
+    public void evictLocal(UserId id) {
+        generation.incrementAndGet();
+        String employeeId = employeeIds.remove(id);
+        if (employeeId != null) {
+            evictLocal(employeeId);
+        }
+    }
+
+    /**
+     * 현재 캐시 항목 수
+     */
+    public int size() {
+        return users.size();
+    }
+
+    private void cache(String employeeId, User user, long observedGeneration, Instant now) {
+        if (users.put(employeeId, new CachedUser(user.toBuilder().build(), now)).total() > 0) {
+            // 용량 확보로 밀려난 사용자의 ID 매핑 정리
+            employeeIds.values().removeIf(cachedEmployeeId -> users.get(cachedEmployeeId) == null);
+        }
+        if (user.getId() != null) {
+            employeeIds.put(user.getId(), employeeId);
+        }
+        // 조회하는 동안 무효화가 있었다면 방금 읽은 행이 변경 전 값일 수 있다
+        if (generation.get() != observedGeneration) {
+            users.remove(employeeId);
+        }
+    }
+
+    private void invalidate(String employeeId) {
+        if (employeeId == null) {
+            return;
+        }
+        evictLocal(employeeId);
+        onCompletion(() -> evictLocal(employeeId), p -> p.publishEmployeeId(employeeId));
+    }
+
+    private void invalidate(UserId id) {
+        evictLocal(id);
+        onCompletion(() -> evictLocal(id), p -> p.publishUserId(id));
+    }
+
+    /**
+     * 트랜잭션 완료 후 로컬 재무효화, 커밋된 경우에만 다른 노드로 전파
+     */
+    private void onCompletion(Runnable evict, Consumer<UserCacheInvalidationPublisher> publish) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(publish);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict.run();
+                if (status == STATUS_COMMITTED) {
+                    publish(publish);
+                }
+            }
+        });
+    }
+
+    private void publish(Consumer<UserCacheInvalidationPublisher> publish) {
+        UserCacheInvalidationPublisher target = publisher.get();
+        if (target != null) {
+            publish.accept(target);
+        }
+    }
+
+    private boolean isFresh(CachedUser cached, Instant now) {
+        return now.isBefore(cached.loadedAt().plus(ttl));
+    }
+
+    /**
+     * 캐시 항목 - user는 외부에 노출하지 않는 사본
+     */
+    private record CachedUser(User user, Instant loadedAt) {
+
+        User copy() {
+            return user.toBuilder().build();
+        }
+    }
+}
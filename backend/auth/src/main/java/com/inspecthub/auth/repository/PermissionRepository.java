@@ -0,0 +1,24 @@
+package com.inspecthub.auth.repository;
+
+import com.inspecthub.auth.domain.PermissionGrant;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 권한 Repository (MyBatis Mapper)
+ */
+@Mapper
+public interface PermissionRepository {
+
+    /**
+     * 사원ID의 권한 그룹, feature:action 권한, 메뉴 접근을 한 번에 조회
+     */
+    List<PermissionGrant> findGrantsByEmployeeId(@Param("employeeId") String employeeId);
+
+    /**
+     * 권한 카탈로그 버전 (그룹/권한/메뉴/사용자-그룹 매핑 변경 시 트리거가 증가)
+     */
+    Long findPermissionVersion();
+}
@@ -1,10 +1,12 @@
 package com.inspecthub.auth.repository;
 
+import com.inspecthub.auth.domain.AdUserEntry;
 import com.inspecthub.auth.domain.User;
 import com.inspecthub.auth.domain.UserId;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,9 +21,14 @@ public interface UserRepository {
     Optional<User> findByEmployeeId(@Param("employeeId") String employeeId);
 
     /**
-     * 로그인 실패 횟수 증가
+     * 로그인 실패 횟수 원자적 증가
+     *
+     * UPDATE ... SET failed_attempts = failed_attempts + 1 RETURNING failed_attempts
+     * 동시 실패 요청에서도 증가분이 유실되지 않으며, 각 요청은 자신의 증가 결과를 받는다.
+     *
+     * @return 증가 후 실패 횟수
      */
-    void incrementFailedAttempts(@Param("id") UserId id);
+    int incrementFailedAttempts(@Param("id") UserId id);
 
     /**
      * 로그인 실패 횟수 초기화
@@ -35,6 +42,8 @@ public interface UserRepository {
 
     /**
      * 계정 잠금 설정
+     *
+     * 기존 잠금보다 짧아지지 않도록 locked_until이 더 늦은 경우에만 갱신한다.
      */
     void lockAccount(@Param("id") UserId id, @Param("lockedUntil") java.time.LocalDateTime lockedUntil);
 
@@ -42,4 +51,25 @@ public interface UserRepository {
      * 사용자 저장 (신규 또는 업데이트)
      */
     User save(@Param("user") User user);
+
+    /**
+     * AD 사용자의 동기화 대상 속성 전체 조회 (AD 동기화 diff용)
+     */
+    List<AdUserEntry> findAdUserEntries();
+
+    /**
+     * AD 사용자 일괄 upsert (employee_id 기준)
+     *
+     * 기존 행은 login_method가 AD인 경우에만 갱신한다 (같은 사원ID의 LOCAL 계정 보호).
+     *
+     * @return 실제 반영된 행 수
+     */
+    int upsertAdUsers(@Param("users") List<AdUserEntry> users);
+
+    /**
+     * AD 동기화 잠금 (트랜잭션 advisory lock, 커밋/롤백 시 해제)
+     *
+     * @return 다른 노드가 동기화 중이면 false
+     */
+    boolean tryAdSyncLock(@Param("lockKey") long lockKey);
 }
@@ -6,7 +6,6 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ldap.core.LdapTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.Set;
@@ -16,18 +15,22 @@ import java.util.stream.Collectors;
  * AD (Active Directory) Authentication Service
  *
  * LDAP 기반 AD 인증 서비스
+ *
+ * LDAP 호출은 AdDirectory의 search/bind 연결 풀을 통해 수행하고,
+ * AD 연결 실패가 누적되면 AdCircuitBreaker가 DB/LDAP 작업 없이 즉시 AD_CONNECTION_ERROR로 응답한다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AdAuthenticationService {
 
-    private final LdapTemplate ldapTemplate;
+    private final AdDirectory adDirectory;
+    private final AdCircuitBreaker adCircuitBreaker;
     private final com.inspecthub.auth.repository.UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuditLogService auditLogService;
     private final Validator validator;
-    private final com.inspecthub.auth.domain.AccountLockPolicy accountLockPolicy;
+    private final LoginFailureCounter loginFailureCounter;
 
     /**
      * AD 인증
@@ -48,6 +51,13 @@ public class AdAuthenticationService {
             throw new com.inspecthub.common.exception.BusinessException("VALIDATION_ERROR", errorMessage);
         }
 
+        // AD 차단기 OPEN - 타임아웃까지 기다리지 않고 즉시 실패
+        if (!adCircuitBreaker.tryAcquirePermission()) {
+            log.warn("AD 차단기 OPEN - AD 로그인 즉시 실패: employeeId={}", request.getEmployeeId());
+            auditLogService.logLoginFailure(request.getEmployeeId(), "AD_CIRCUIT_OPEN", "AD");
+            throw new com.inspecthub.common.exception.BusinessException("AD_CONNECTION_ERROR", "AD 서버 연결 실패");
+        }
+
         try {
             // 1. 사용자 조회
             com.inspecthub.auth.domain.User user = userRepository.findByEmployeeId(request.getEmployeeId())
@@ -65,42 +75,45 @@ public class AdAuthenticationService {
                 }
             }
 
-            // 3. LDAP 인증
+            // 3. LDAP 인증 (DN 검색과 같은 요청으로 displayName/mail/department 조회)
+            com.inspecthub.auth.domain.AdUserEntry adUser;
             try {
-                org.springframework.ldap.query.LdapQuery query = org.springframework.ldap.query.LdapQueryBuilder
-                    .query()
-                    .where("sAMAccountName").is(request.getEmployeeId());
-                
-                ldapTemplate.authenticate(query, request.getPassword());
+                adUser = adDirectory.authenticate(request.getEmployeeId(), request.getPassword());
+                adCircuitBreaker.onSuccess();
                 log.debug("LDAP 인증 성공: employeeId={}", request.getEmployeeId());
             } catch (org.springframework.ldap.AuthenticationException e) {
+                // AD는 정상 응답 - 차단기 기준으로는 성공
+                adCircuitBreaker.onSuccess();
                 log.warn("LDAP 인증 실패: employeeId={}", request.getEmployeeId(), e);
                 
-                // AD 인증 실패 시에도 계정 잠금 정책 적용
+                // AD 인증 실패 시에도 계정 잠금 정책 적용 (원자적 카운터)
                 if (user != null) {
-                    user.recordLoginFailure();
-                    accountLockPolicy.applyLockPolicy(user, user.getFailedAttempts());
-                    userRepository.save(user);
+                    loginFailureCounter.recordFailure(user);
                 }
                 
                 auditLogService.logLoginFailure(request.getEmployeeId(), "INVALID_AD_PASSWORD", "AD");
                 throw new com.inspecthub.common.exception.BusinessException("AUTH_002", "비밀번호가 일치하지 않습니다");
+            } catch (AdDirectory.PoolExhaustedException e) {
+                // 로컬 풀 대기 초과 - AD 장애가 아니므로 차단기에 집계하지 않음
+                log.warn("AD 연결 풀 대기 시간 초과: employeeId={}", request.getEmployeeId());
+                auditLogService.logLoginFailure(request.getEmployeeId(), "AD_POOL_EXHAUSTED", "AD");
+                throw new com.inspecthub.common.exception.BusinessException("AD_CONNECTION_ERROR", "AD 서버 연결 실패");
             } catch (org.springframework.ldap.CommunicationException e) {
+                adCircuitBreaker.onFailure();
                 log.error("AD 서버 연결 실패: employeeId={}", request.getEmployeeId(), e);
                 auditLogService.logLoginFailure(request.getEmployeeId(), "AD_CONNECTION_ERROR", "AD");
                 throw new com.inspecthub.common.exception.BusinessException("AD_CONNECTION_ERROR", "AD 서버 연결 실패");
             }
 
             // 4. 사용자가 없으면 자동 생성 (도메인 Factory Method)
+            //    보통은 AdDirectorySyncService가 미리 생성하며, 동기화 전 신규 입사자만 여기서 생성
             if (user == null) {
                 log.info("AD 인증 성공 - 신규 사용자 자동 생성: employeeId={}", request.getEmployeeId());
-                
-                // TODO: LDAP에서 사용자 정보 조회 (displayName, mail, department 등)
-                // 현재는 기본값으로 생성
+
                 user = com.inspecthub.auth.domain.User.createAdUser(
                     request.getEmployeeId(),
-                    "신규사용자", // TODO: LDAP에서 조회
-                    "new@company.com" // TODO: LDAP에서 조회
+                    adUser != null ? adUser.name() : "신규사용자",
+                    adUser != null ? adUser.email() : "new@company.com"
                 );
                 
                 user = userRepository.save(user);
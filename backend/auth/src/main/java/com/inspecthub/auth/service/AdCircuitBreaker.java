@@ -0,0 +1,160 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * AD 연결 차단기 (Circuit Breaker)
+ *
+ * AD 연결 실패가 failureThreshold회 연속되면 OPEN으로 전환하여 openSeconds 동안
+ * AD 로그인을 LDAP 호출 없이 즉시 실패시킨다 (Tomcat 스레드가 타임아웃까지 묶이지 않도록).
+ * openSeconds가 지나면 HALF_OPEN에서 시험 요청 1건만 허용하고, 결과에 따라 CLOSED/OPEN으로 전환한다.
+ *
+ * 비밀번호 불일치는 AD가 정상 응답한 것이므로 성공으로 본다.
+ * 상태는 불변 State 객체를 CAS로만 갱신한다.
+ *
+ * Metrics:
+ * - auth.ad.circuit.state: 0=CLOSED, 1=OPEN, 2=HALF_OPEN
+ * - auth.ad.circuit.rejected: OPEN 상태로 즉시 실패한 요청 수
+ */
+@Slf4j
+@Component
+public class AdCircuitBreaker {
+
+    public enum Status { CLOSED, OPEN, HALF_OPEN }
+
+    private static final String METRIC_PREFIX = "auth.ad.circuit";
+
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final Counter rejected;
+
+    @Autowired
+    public AdCircuitBreaker(AuthProperties authProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(
+                authProperties.getAd().getCircuitBreaker().isEnabled(),
+                authProperties.getAd().getCircuitBreaker().getFailureThreshold(),
+                Duration.ofSeconds(authProperties.getAd().getCircuitBreaker().getOpenSeconds()),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                System::currentTimeMillis
+        );
+    }
+
+    public AdCircuitBreaker(
+            boolean enabled,
+            int failureThreshold,
+            Duration openDuration,
+            MeterRegistry meterRegistry,
+            LongSupplier clock
+    ) {
+        this.enabled = enabled;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("AD 차단기 OPEN으로 즉시 실패한 요청").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".state", state, s -> s.get().status().ordinal())
+                .description("AD 차단기 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)").register(meterRegistry);
+    }
+
+    /**
+     * AD 호출 허용 여부
+     *
+     * HALF_OPEN의 시험 요청이 openSeconds 안에 결과를 보고하지 않으면 (예: 잠긴 계정이라 LDAP 미호출)
+     * 다음 요청을 새 시험 요청으로 허용한다.
+     *
+     * @return 허용되면 true
+     */
+    public boolean tryAcquirePermission() {
+        if (!enabled) {
+            return true;
+        }
+
+        while (true) {
+            State current = state.get();
+            if (current.status() == Status.CLOSED) {
+                return true;
+            }
+
+            long now = clock.getAsLong();
+            if (now - current.since() < openMillis) {
+                rejected.increment();
+                return false;
+            }
+
+            // OPEN 만료 또는 HALF_OPEN 시험 요청 방치 - 새 시험 요청 1건 허용
+            if (state.compareAndSet(current, new State(Status.HALF_OPEN, 0, now))) {
+                log.info("AD 차단기 HALF_OPEN - 시험 요청 허용");
+                return true;
+            }
+        }
+    }
+
+    /**
+     * AD 정상 응답 (인증 성공 또는 비밀번호 불일치)
+     */
+    public void onSuccess() {
+        State previous = state.get();
+        if (previous == State.CLOSED) {
+            return;  // 정상 경로 - 쓰기 없음
+        }
+        state.set(State.CLOSED);
+        if (previous.status() != Status.CLOSED) {
+            log.info("AD 차단기 CLOSED - AD 연결 복구");
+        }
+    }
+
+    /**
+     * AD 연결 실패 (타임아웃, 연결 거부, 풀 고갈 등)
+     */
+    public void onFailure() {
+        while (true) {
+            State current = state.get();
+            State next = switch (current.status()) {
+                case CLOSED -> current.failures() + 1 >= failureThreshold
+                        ? new State(Status.OPEN, 0, clock.getAsLong())
+                        : new State(Status.CLOSED, current.failures() + 1, current.since());
+                case HALF_OPEN -> new State(Status.OPEN, 0, clock.getAsLong());
+                case OPEN -> current;  // OPEN 전에 시작된 요청의 늦은 결과
+            };
+            if (next == current || state.compareAndSet(current, next)) {
+                if (next.status() == Status.OPEN && current.status() != Status.OPEN) {
+                    log.warn("AD 차단기 OPEN - {}ms 동안 AD 로그인 즉시 실패 처리", openMillis);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 현재 상태
+     */
+    public Status status() {
+        return state.get().status();
+    }
+
+    /**
+     * 차단기 상태 (불변)
+     *
+     * @param failures CLOSED 상태의 연속 실패 횟수
+     * @param since OPEN 전환 또는 HALF_OPEN 시험 요청 시각
+     */
+    private record State(Status status, int failures, long since) {
+        static final State CLOSED = new State(Status.CLOSED, 0, 0L);
+    }
+}
@@ -0,0 +1,358 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AdUserEntry;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.config.AuthProperties.AdConfig;
+import com.inspecthub.common.config.AuthProperties.AdConfig.LdapPoolConfig;
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.BindRequest;
+import com.unboundid.ldap.sdk.FailoverServerSet;
+import com.unboundid.ldap.sdk.Filter;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPConnectionOptions;
+import com.unboundid.ldap.sdk.LDAPConnectionPool;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPURL;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchRequest;
+import com.unboundid.ldap.sdk.SearchResult;
+import com.unboundid.ldap.sdk.SearchResultEntry;
+import com.unboundid.ldap.sdk.SearchScope;
+import com.unboundid.ldap.sdk.ServerSet;
+import com.unboundid.ldap.sdk.SimpleBindRequest;
+import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
+import com.unboundid.util.ssl.JVMDefaultTrustManager;
+import com.unboundid.util.ssl.SSLUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.ldap.AuthenticationException;
+import org.springframework.ldap.CommunicationException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.net.SocketFactory;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * AD(LDAP) 디렉터리 접근
+ *
+ * 용도별로 분리된 두 개의 연결 풀을 사용한다.
+ * - search 풀: 서비스 계정으로 바인드된 연결에서 사원ID → DN 검색
+ * - bind 풀: 사용자 DN/비밀번호로 바인드한 뒤 연결의 인증 상태를 원복하여 재사용
+ *
+ * 풀은 initialSize로 시작해 필요 시 maxSize까지 연결을 늘린다. 풀별 세마포어가 동시 대여 수를
+ * maxSize로 제한하므로, 모든 연결이 사용 중이면 maxWaitMillis만큼만 기다린 뒤 PoolExhaustedException으로 실패한다.
+ * AD가 느려져도 동시 LDAP 작업 수(=연결 수)는 풀 크기를 넘지 않는다.
+ * 풀은 첫 사용 시 생성되며 AD가 내려가 있어도 애플리케이션 기동을 막지 않는다.
+ *
+ * 사용자 속성(displayName, mail, department)은 DN 검색과 같은 요청으로 가져오므로
+ * 로그인 시 속성 조회를 위한 추가 왕복이 없다. 전체 사용자 조회는 Paged Results 제어로 페이지 단위 수행한다.
+ *
+ * 예외는 기존 Spring LDAP 계약을 따른다.
+ * - AuthenticationException: 사용자 없음, 비밀번호 불일치
+ * - CommunicationException: 연결/타임아웃 등 그 외 LDAP 오류
+ * - PoolExhaustedException (CommunicationException 하위): 로컬 풀 대기 시간 초과 - AD 장애가 아님
+ *
+ * Metrics: auth.ad.pool.available{pool=search|bind}
+ */
+@Slf4j
+@Component
+public class AdDirectory {
+
+    private static final String ATTR_ACCOUNT = "sAMAccountName";
+    private static final String ATTR_DISPLAY_NAME = "displayName";
+    private static final String ATTR_MAIL = "mail";
+    private static final String ATTR_DEPARTMENT = "department";
+    private static final String[] USER_ATTRIBUTES = {ATTR_ACCOUNT, ATTR_DISPLAY_NAME, ATTR_MAIL, ATTR_DEPARTMENT};
+
+    private final AdConfig config;
+    private final Semaphore searchPermits;
+    private final Semaphore bindPermits;
+
+    private volatile LDAPConnectionPool searchPool;
+    private volatile LDAPConnectionPool bindPool;
+
+    @Autowired
+    public AdDirectory(AuthProperties authProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(authProperties.getAd(), meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public AdDirectory(AdConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.searchPermits = new Semaphore(config.getSearchPool().getMaxSize(), true);
+        this.bindPermits = new Semaphore(config.getBindPool().getMaxSize(), true);
+        Gauge.builder("auth.ad.pool.available", this, d -> available(d.searchPool))
+                .tag("pool", "search").description("사용 가능한 AD 검색 연결 수").register(meterRegistry);
+        Gauge.builder("auth.ad.pool.available", this, d -> available(d.bindPool))
+                .tag("pool", "bind").description("사용 가능한 AD 바인드 연결 수").register(meterRegistry);
+    }
+
+    /**
+     * 사원ID/비밀번호로 AD 인증
+     *
+     * @param employeeId 사원ID (sAMAccountName)
+     * @param password 비밀번호
+     * @return 인증된 사용자의 AD 속성
+     * @throws AuthenticationException 사용자 없음, 비밀번호 불일치
+     * @throws CommunicationException AD 연결 실패
+     * @throws PoolExhaustedException 풀 대기 시간 초과
+     */
+    public AdUserEntry authenticate(String employeeId, String password) {
+        if (!StringUtils.hasLength(password)) {
+            // 빈 비밀번호 simple bind는 익명 바인드로 성공하므로 미리 거절
+            throw invalidCredentials("빈 비밀번호");
+        }
+
+        try {
+            SearchResultEntry entry = findUser(employeeId);
+            if (entry == null) {
+                throw invalidCredentials("AD 사용자 없음: " + employeeId);
+            }
+            acquire(bindPermits, "ad-bind", config.getBindPool());
+            try {
+                bindPool().bindAndRevertAuthentication(entry.getDN(), password);
+            } finally {
+                bindPermits.release();
+            }
+            return toUserEntry(entry, employeeId);
+        } catch (LDAPException e) {
+            if (e.getResultCode() == ResultCode.INVALID_CREDENTIALS) {
+                throw invalidCredentials(e.getMessage());
+            }
+            throw communicationFailure(e);
+        }
+    }
+
+    /**
+     * 디렉터리 전체 사용자 조회 (Paged Results)
+     *
+     * search 풀의 연결 하나를 빌려 모든 페이지를 같은 연결에서 조회한다 (페이지 쿠키는 연결에 묶임).
+     * 메모리에는 한 페이지만 유지된다.
+     *
+     * @param filter 사용자 필터 (예: (&amp;(objectClass=user)(sAMAccountName=*)))
+     * @param pageSize 페이지 크기 (AD MaxPageSize 기본값 1000 이하)
+     * @param consumer 사용자별 처리
+     * @return 조회한 사용자 수
+     * @throws CommunicationException AD 연결 실패
+     */
+    public int forEachUser(String filter, int pageSize, Consumer<AdUserEntry> consumer) {
+        LDAPConnectionPool pool;
+        LDAPConnection connection;
+        acquire(searchPermits, "ad-search", config.getSearchPool());
+        try {
+            pool = searchPool();
+            connection = pool.getConnection();
+        } catch (LDAPException e) {
+            searchPermits.release();
+            throw communicationFailure(e);
+        }
+
+        int count = 0;
+        int pages = 0;
+        try {
+            ASN1OctetString cookie = null;
+            do {
+                SearchRequest request = new SearchRequest(config.getBase(), SearchScope.SUB, filter, USER_ATTRIBUTES);
+                request.addControl(new SimplePagedResultsControl(pageSize, cookie));
+
+                SearchResult result = connection.search(request);
+                for (SearchResultEntry entry : result.getSearchEntries()) {
+                    String employeeId = entry.getAttributeValue(ATTR_ACCOUNT);
+                    if (employeeId != null) {
+                        consumer.accept(toUserEntry(entry, employeeId));
+                        count++;
+                    }
+                }
+                pages++;
+
+                SimplePagedResultsControl response = SimplePagedResultsControl.get(result);
+                cookie = response != null && response.moreResultsToReturn() ? response.getCookie() : null;
+            } while (cookie != null);
+
+            pool.releaseConnection(connection);
+        } catch (LDAPException e) {
+            pool.releaseConnectionAfterException(connection, e);
+            throw communicationFailure(e);
+        } catch (RuntimeException e) {
+            pool.releaseConnection(connection);
+            throw e;
+        } finally {
+            searchPermits.release();
+        }
+
+        log.debug("AD 사용자 페이지 조회 완료: users={}, pages={}", count, pages);
+        return count;
+    }
+
+    /**
+     * 사원ID로 사용자 검색 (search 풀) - DN과 속성을 한 번에 조회
+     */
+    private SearchResultEntry findUser(String employeeId) throws LDAPException {
+        String filter = config.getUserSearchFilter().replace("{0}", Filter.encodeValue(employeeId));
+        acquire(searchPermits, "ad-search", config.getSearchPool());
+        try {
+            return searchPool().searchForEntry(config.getBase(), SearchScope.SUB, filter, USER_ATTRIBUTES);
+        } finally {
+            searchPermits.release();
+        }
+    }
+
+    /**
+     * 풀 대여 허가 획득 - maxWaitMillis 안에 빈 자리가 없으면 PoolExhaustedException
+     */
+    private static void acquire(Semaphore permits, String name, LdapPoolConfig poolConfig) {
+        try {
+            if (permits.tryAcquire(poolConfig.getMaxWaitMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new PoolExhaustedException(name, poolConfig.getMaxWaitMillis());
+    }
+
+    private static AdUserEntry toUserEntry(SearchResultEntry entry, String employeeId) {
+        return AdUserEntry.of(
+                employeeId,
+                entry.getAttributeValue(ATTR_DISPLAY_NAME),
+                entry.getAttributeValue(ATTR_MAIL),
+                entry.getAttributeValue(ATTR_DEPARTMENT)
+        );
+    }
+
+    LDAPConnectionPool searchPool() throws LDAPException {
+        LDAPConnectionPool pool = searchPool;
+        if (pool == null) {
+            synchronized (this) {
+                if (searchPool == null) {
+                    searchPool = createPool("ad-search", config.getSearchPool(), serviceBindRequest());
+                }
+                pool = searchPool;
+            }
+        }
+        return pool;
+    }
+
+    LDAPConnectionPool bindPool() throws LDAPException {
+        LDAPConnectionPool pool = bindPool;
+        if (pool == null) {
+            synchronized (this) {
+                if (bindPool == null) {
+                    // 익명 연결 - 사용자 바인드 후 익명으로 원복
+                    bindPool = createPool("ad-bind", config.getBindPool(), null);
+                }
+                pool = bindPool;
+            }
+        }
+        return pool;
+    }
+
+    private BindRequest serviceBindRequest() {
+        if (!StringUtils.hasText(config.getServiceDn())) {
+            return null;
+        }
+        return new SimpleBindRequest(config.getServiceDn(), config.getServicePassword());
+    }
+
+    private LDAPConnectionPool createPool(String name, LdapPoolConfig poolConfig, BindRequest bindRequest)
+            throws LDAPException {
+        LDAPConnectionPool pool = new LDAPConnectionPool(
+                serverSet(),
+                bindRequest,
+                Math.min(poolConfig.getInitialSize(), poolConfig.getMaxSize()),
+                poolConfig.getMaxSize(),
+                null,
+                false  // AD 장애 시에도 풀 생성 - 연결은 사용 시 재시도
+        );
+        pool.setConnectionPoolName(name);
+        // 동시 대여 수는 세마포어가 maxSize로 제한 - 허가를 얻었는데 빈 연결이 없으면 기다리지 않고 새로 만든다
+        pool.setCreateIfNecessary(true);
+        pool.setMaxWaitTimeMillis(0);
+        pool.setMaxConnectionAgeMillis(poolConfig.getMaxConnectionAgeSeconds() * 1_000);
+        pool.setRetryFailedOperationsDueToInvalidConnections(true);
+
+        log.info("AD 연결 풀 생성: name={}, urls={}, maxSize={}", name, config.getUrls(), poolConfig.getMaxSize());
+        return pool;
+    }
+
+    private ServerSet serverSet() throws LDAPException {
+        if (config.getUrls().isEmpty()) {
+            throw new LDAPException(ResultCode.CONNECT_ERROR, "AD 서버 URL이 설정되지 않았습니다 (auth.ad.urls)");
+        }
+
+        LDAPConnectionOptions options = new LDAPConnectionOptions();
+        options.setConnectTimeoutMillis((int) config.getConnectTimeoutMillis());
+        options.setResponseTimeoutMillis(config.getResponseTimeoutMillis());
+
+        int size = config.getUrls().size();
+        String[] hosts = new String[size];
+        int[] ports = new int[size];
+        boolean secure = false;
+        for (int i = 0; i < size; i++) {
+            LDAPURL url = new LDAPURL(config.getUrls().get(i));
+            hosts[i] = url.getHost();
+            ports[i] = url.getPort();
+            secure |= "ldaps".equalsIgnoreCase(url.getScheme());
+        }
+        return new FailoverServerSet(hosts, ports, socketFactory(secure), options);
+    }
+
+    private static SocketFactory socketFactory(boolean secure) throws LDAPException {
+        if (!secure) {
+            return SocketFactory.getDefault();
+        }
+        try {
+            return new SSLUtil(JVMDefaultTrustManager.getInstance()).createSSLSocketFactory();
+        } catch (GeneralSecurityException e) {
+            throw new LDAPException(ResultCode.CONNECT_ERROR, "LDAPS 소켓 생성 실패", e);
+        }
+    }
+
+    private static int available(LDAPConnectionPool pool) {
+        return pool != null ? pool.getCurrentAvailableConnections() : 0;
+    }
+
+    private static AuthenticationException invalidCredentials(String message) {
+        return new AuthenticationException(new javax.naming.AuthenticationException(message));
+    }
+
+    private static CommunicationException communicationFailure(LDAPException e) {
+        javax.naming.CommunicationException cause = new javax.naming.CommunicationException(
+                e.getResultCode() + ": " + e.getMessage());
+        cause.setRootCause(e);
+        return new CommunicationException(cause);
+    }
+
+    /**
+     * 로컬 풀 대기 시간 초과
+     *
+     * AD 응답과 무관한 로컬 자원 부족이므로 AD 차단기 실패로 집계하지 않는다.
+     */
+    public static class PoolExhaustedException extends CommunicationException {
+
+        PoolExhaustedException(String pool, long maxWaitMillis) {
+            super(new javax.naming.CommunicationException(
+                    "AD 연결 풀 대기 시간 초과: pool=" + pool + ", maxWaitMillis=" + maxWaitMillis));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        closeQuietly(searchPool);
+        closeQuietly(bindPool);
+    }
+
+    private static void closeQuietly(LDAPConnectionPool pool) {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AdUserEntry;
+import com.inspecthub.auth.repository.UserRepository;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.config.AuthProperties.AdConfig.SyncConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AD 디렉터리 일괄 동기화
+ *
+ * 1. users의 AD 사용자 속성을 메모리(Map)로 한 번에 적재
+ * 2. AD 전체 사용자를 페이지 단위로 조회하며 메모리에서 비교
+ *    - 사원ID는 대소문자 구분 없이 비교 (AdUserEntry.normalize) - 기존 행이 있으면 그 표기로 upsert
+ *    - 대소문자만 다른 사원ID가 다시 나오면 건너뜀 (한 upsert에 같은 행이 두 번 들어가면 ON CONFLICT 오류)
+ * 3. 신규/변경된 사용자만 batchSize 단위 multi-row upsert로 반영 (배치마다 별도 트랜잭션)
+ *
+ * 여러 노드의 스케줄이 겹쳐도 한 노드만 실행하도록 트랜잭션 advisory lock을 잡는다.
+ * 잠금을 잡은 트랜잭션은 동기화가 끝날 때까지 유지되고(행 잠금 없음), upsert는 별도 트랜잭션으로 커밋한다.
+ *
+ * 로그인 시에는 속성 조회 왕복 없이 동기화된 값을 사용한다.
+ * AD에서 사라진 사용자의 비활성화는 이 작업의 범위가 아니다.
+ *
+ * Metrics: auth.ad.sync.duration, auth.ad.sync.duplicates
+ */
+@Slf4j
+@Service
+public class AdDirectorySyncService {
+
+    /**
+     * pg_try_advisory_xact_lock 키 ("adsync")
+     */
+    static final long SYNC_LOCK_KEY = 0x616473796e63L;
+
+    private final AdDirectory adDirectory;
+    private final UserRepository userRepository;
+    private final TransactionOperations lockTransaction;
+    private final TransactionOperations batchTransaction;
+    private final SyncConfig config;
+    private final Timer duration;
+    private final Counter duplicates;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    public AdDirectorySyncService(
+            AdDirectory adDirectory,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            AuthProperties authProperties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(adDirectory, userRepository, new TransactionTemplate(transactionManager),
+                requiresNew(transactionManager), authProperties.getAd().getSync(),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /**
+     * @param lockTransaction 동기화 전체를 감싸 advisory lock을 유지하는 트랜잭션
+     * @param batchTransaction upsert 배치 하나를 커밋하는 트랜잭션 (lockTransaction과 독립)
+     */
+    public AdDirectorySyncService(
+            AdDirectory adDirectory,
+            UserRepository userRepository,
+            TransactionOperations lockTransaction,
+            TransactionOperations batchTransaction,
+            SyncConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.adDirectory = adDirectory;
+        this.userRepository = userRepository;
+        this.lockTransaction = lockTransaction;
+        this.batchTransaction = batchTransaction;
+        this.config = config;
+        this.duration = Timer.builder("auth.ad.sync.duration")
+                .description("AD 사용자 일괄 동기화 소요 시간").register(meterRegistry);
+        this.duplicates = Counter.builder("auth.ad.sync.duplicates")
+                .description("대소문자만 다른 중복 사원ID라 건너뛴 AD 사용자").register(meterRegistry);
+    }
+
+    private static TransactionTemplate requiresNew(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    /**
+     * 정기 동기화 (auth.ad.sync.enabled=true일 때 AdSyncSchedulingConfig가 스케줄링 활성화)
+     */
+    @Scheduled(cron = "${auth.ad.sync.cron:0 0 3 * * *}")
+    public void scheduledSync() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("AD 정기 동기화 실패", e);
+        }
+    }
+
+    /**
+     * AD 동기화 실행
+     *
+     * 이 노드에서 이미 실행 중이거나 다른 노드가 실행 중이면 건너뛴다.
+     *
+     * @return 동기화 결과 (건너뛴 경우 null)
+     */
+    public AdSyncResult sync() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("AD 동기화가 이미 실행 중입니다 - 건너뜀");
+            return null;
+        }
+
+        try {
+            return lockTransaction.execute(status -> {
+                if (!userRepository.tryAdSyncLock(SYNC_LOCK_KEY)) {
+                    log.warn("다른 노드에서 AD 동기화가 실행 중입니다 - 건너뜀");
+                    return null;
+                }
+                return syncLocked();
+            });
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private AdSyncResult syncLocked() {
+        long startedAt = System.nanoTime();
+        Map<String, AdUserEntry> current = loadCurrent();
+        Set<String> seen = new HashSet<>(Math.max(16, current.size() * 4 / 3 + 1));
+        Batch batch = new Batch(Math.max(1, config.getBatchSize()));
+
+        int scanned = adDirectory.forEachUser(config.getUserFilter(), config.getPageSize(), entry -> {
+            String key = AdUserEntry.normalize(entry.employeeId());
+            if (!seen.add(key)) {
+                batch.duplicates++;
+                duplicates.increment();
+                log.warn("AD 사원ID 중복 (대소문자만 다름) - 건너뜀: employeeId={}", entry.employeeId());
+                return;
+            }
+            AdUserEntry existing = current.get(key);
+            AdUserEntry target = existing != null ? entry.withEmployeeId(existing.employeeId()) : entry;
+            if (!target.equals(existing)) {
+                batch.add(target);
+            }
+        });
+        batch.flush();
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        AdSyncResult result = new AdSyncResult(
+                scanned, batch.changed, batch.applied, batch.duplicates, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        log.info("AD 동기화 완료: scanned={}, changed={}, applied={}, unchanged={}, duplicates={}, elapsed={}ms",
+                result.scanned(), result.changed(), result.applied(), result.unchanged(), result.duplicates(),
+                result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * 정규화한 사원ID -> 현재 users의 AD 속성
+     */
+    private Map<String, AdUserEntry> loadCurrent() {
+        List<AdUserEntry> entries = userRepository.findAdUserEntries();
+        Map<String, AdUserEntry> current = new HashMap<>(Math.max(16, entries.size() * 4 / 3 + 1));
+        for (AdUserEntry entry : entries) {
+            current.putIfAbsent(AdUserEntry.normalize(entry.employeeId()), entry);
+        }
+        return current;
+    }
+
+    /**
+     * 변경분 버퍼 - batchSize마다 upsert 1회
+     */
+    private class Batch {
+
+        private final int size;
+        private final List<AdUserEntry> pending;
+        private int changed;
+        private int applied;
+        private int duplicates;
+
+        Batch(int size) {
+            this.size = size;
+            this.pending = new ArrayList<>(size);
+        }
+
+        void add(AdUserEntry entry) {
+            pending.add(entry);
+            changed++;
+            if (pending.size() >= size) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<AdUserEntry> users = List.copyOf(pending);
+            Integer upserted = batchTransaction.execute(status -> userRepository.upsertAdUsers(users));
+            applied += upserted == null ? 0 : upserted;
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.inspecthub.auth.service;
+
+/**
+ * AD 동기화 결과
+ *
+ * @param scanned AD에서 조회한 사용자 수
+ * @param changed 신규/변경으로 판단되어 upsert한 사용자 수
+ * @param applied DB에 실제 반영된 행 수 (같은 사원ID의 LOCAL 계정 등은 제외)
+ * @param duplicates 앞서 조회된 사원ID와 대소문자만 다른 중복이라 건너뛴 사용자 수
+ * @param elapsedMillis 소요 시간
+ */
+public record AdSyncResult(int scanned, int changed, int applied, int duplicates, long elapsedMillis) {
+
+    public int unchanged() {
+        return scanned - changed - duplicates;
+    }
+}
@@ -0,0 +1,336 @@
+package com.inspecthub.auth.service;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.inspecthub.auth.domain.AuditChainRange;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.config.AuthProperties.AuditChainConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 감사 로그 해시 체인 검증
+ *
+ * 기간 안에 기록된 체인마다 순번 범위를 segmentSize 단위 구간으로 나누고, 구간들을 병렬로 검증한다.
+ * - 구간 안: 순번 연속(MISSING), prevHash = 직전 행 hash(BROKEN_LINK), 저장된 hash = 재계산 값(TAMPERED)
+ * - 구간 경계: 각 구간 첫 행의 prevHash를 앞 구간 마지막 hash(anchor)와 비교
+ * - 체인 첫 구간: 순번 0이면 genesis(chainId), 아니면 기간 직전 행(minSeq - 1)의 hash가 anchor
+ *   직전 행을 포함해 체인 앞부분이 하나도 남아 있지 않으면 (보존 기간 정리로 파티션 DETACH/DROP)
+ *   끊김이 아니라 시작을 확인할 수 없음(startRetainedOut)으로 보고한다
+ *   (앞부분을 행 단위로 모두 지운 경우와 구별되지 않으므로 아래 head 해시 비교로 확인한다)
+ *
+ * 구간 조회는 기간 안 행들의 timestamp 범위 ± timestampSlackMinutes로 제한해 해당 월 파티션만 읽는다.
+ *
+ * 체인마다 순번이 가장 작은 끊김 하나를 보고한다 (그 뒤는 이미 신뢰할 수 없으므로).
+ * 체인 끝부분을 통째로 지운 경우는 체인만으로 알 수 없으므로 보고서의 체인별 head 해시를
+ * 외부에 보관해 두고 다음 검증 결과와 비교한다.
+ *
+ * Metrics: auth.audit.chain.verify.duration, auth.audit.chain.breaks{type}
+ */
+@Slf4j
+@Service
+public class AuditChainVerifier {
+
+    private static final String METRIC_PREFIX = "auth.audit.chain";
+
+    private final AuditLogMapper auditLogMapper;
+    private final int segmentSize;
+    private final int pageSize;
+    private final Duration timestampSlack;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Timer verifyDuration;
+
+    /**
+     * 끊김 유형
+     */
+    public enum BreakType {
+        /** 순번이 비어 있음 (행 삭제) */
+        MISSING,
+        /** prevHash가 직전 행 hash와 다름 (행 삭제/삽입 또는 재계산된 위조) */
+        BROKEN_LINK,
+        /** 저장된 hash가 필드로 재계산한 값과 다름 (행 수정) */
+        TAMPERED
+    }
+
+    /**
+     * 체인 끊김
+     *
+     * @param chainSeq 끊긴 순번
+     * @param id 해당 행 ID (MISSING이면 null)
+     * @param expected 기대 해시 (MISSING이면 null)
+     * @param actual 저장된 해시 (MISSING이면 null)
+     */
+    public record ChainBreak(String chainId, long chainSeq, String id, BreakType type, String expected, String actual) {
+    }
+
+    /**
+     * 체인별 검증 결과
+     *
+     * @param headHash 검증 범위 마지막 행의 hash - 외부에 보관해 두면 끝부분 삭제/전체 재계산을 탐지할 수 있다
+     * @param firstBreak 순번이 가장 작은 끊김 (없으면 null)
+     * @param startRetainedOut 기간 직전 행부터 앞부분이 보존 기간 정리로 남아 있지 않아 첫 행의 prevHash를 확인하지 못함
+     */
+    public record ChainResult(String chainId, long fromSeq, long toSeq, long verified, String headHash,
+                              ChainBreak firstBreak, boolean startRetainedOut) {
+    }
+
+    /**
+     * 검증 보고서
+     *
+     * @param unchained 체인 정보 없는 행 수 (해시 체인 도입 전 기록 - 검증 대상 아님)
+     */
+    public record Report(LocalDateTime startDate, LocalDateTime endDate, long verified, long unchained,
+                         int segments, long elapsedMillis, List<ChainResult> chains) {
+
+        @JsonProperty("intact")
+        public boolean intact() {
+            return chains.stream().allMatch(chain -> chain.firstBreak() == null);
+        }
+
+        public List<ChainBreak> breaks() {
+            return chains.stream().map(ChainResult::firstBreak).filter(Objects::nonNull).toList();
+        }
+    }
+
+    /**
+     * 검증 구간 [fromSeq, toSeq] - 행 조회는 [fromTimestamp, toTimestamp]로 제한
+     */
+    private record Segment(String chainId, long fromSeq, long toSeq,
+                           LocalDateTime fromTimestamp, LocalDateTime toTimestamp) {
+    }
+
+    /**
+     * 구간 검증 결과
+     *
+     * @param firstPrevHash 구간 첫 행의 prevHash (첫 행이 fromSeq가 아니면 null - 이미 MISSING으로 보고)
+     * @param lastHash 구간 마지막 행의 hash (다음 구간의 anchor)
+     */
+    private record SegmentResult(Segment segment, long verified, String firstPrevHash, String lastHash,
+                                 ChainBreak firstBreak) {
+    }
+
+    @Autowired
+    public AuditChainVerifier(
+            AuthProperties authProperties,
+            AuditLogMapper auditLogMapper,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(authProperties.getAuditChain(), auditLogMapper, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    public AuditChainVerifier(AuditChainConfig config, AuditLogMapper auditLogMapper, MeterRegistry meterRegistry) {
+        this.auditLogMapper = auditLogMapper;
+        this.segmentSize = Math.max(1, config.getSegmentSize());
+        this.pageSize = Math.max(1, config.getPageSize());
+        this.timestampSlack = Duration.ofMinutes(Math.max(0, config.getTimestampSlackMinutes()));
+        int parallelism = config.getParallelism() > 0
+                ? config.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "audit-chain-verify-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.meterRegistry = meterRegistry;
+        this.verifyDuration = Timer.builder(METRIC_PREFIX + ".verify.duration")
+                .description("감사 로그 해시 체인 검증 시간").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 기간 검증
+     *
+     * @param endDate 미포함
+     */
+    public Report verify(LocalDateTime startDate, LocalDateTime endDate) {
+        long startedAt = System.nanoTime();
+
+        List<AuditChainRange> ranges = auditLogMapper.findChainRanges(startDate, endDate);
+        long unchained = auditLogMapper.countUnchained(startDate, endDate);
+
+        List<List<CompletableFuture<SegmentResult>>> pending = new ArrayList<>(ranges.size());
+        int segments = 0;
+        for (AuditChainRange range : ranges) {
+            List<CompletableFuture<SegmentResult>> chainSegments = new ArrayList<>();
+            for (Segment segment : split(range)) {
+                chainSegments.add(CompletableFuture.supplyAsync(() -> verifySegment(segment), executor));
+            }
+            segments += chainSegments.size();
+            pending.add(chainSegments);
+        }
+
+        List<ChainResult> chains = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            List<SegmentResult> results = pending.get(i).stream().map(CompletableFuture::join).toList();
+            chains.add(joinSegments(ranges.get(i), results));
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        verifyDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Report report = new Report(startDate, endDate,
+                chains.stream().mapToLong(ChainResult::verified).sum(), unchained, segments,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), chains);
+        report.breaks().forEach(chainBreak -> {
+            Counter.builder(METRIC_PREFIX + ".breaks").tag("type", chainBreak.type().name())
+                    .description("감사 로그 해시 체인 끊김").register(meterRegistry).increment();
+            log.error("감사 로그 해시 체인 끊김: chainId={}, chainSeq={}, id={}, type={}",
+                    chainBreak.chainId(), chainBreak.chainSeq(), chainBreak.id(), chainBreak.type());
+        });
+        log.info("감사 로그 해시 체인 검증 완료: {} ~ {}, chains={}, segments={}, verified={}, unchained={}, breaks={}, "
+                        + "startRetainedOut={}, elapsed={}ms",
+                startDate, endDate, chains.size(), segments, report.verified(), unchained,
+                report.breaks().size(), chains.stream().filter(ChainResult::startRetainedOut).count(),
+                report.elapsedMillis());
+        return report;
+    }
+
+    private List<Segment> split(AuditChainRange range) {
+        LocalDateTime fromTimestamp = range.minTimestamp().minus(timestampSlack);
+        LocalDateTime toTimestamp = range.maxTimestamp().plus(timestampSlack);
+        List<Segment> segments = new ArrayList<>();
+        for (long from = range.minSeq(); from <= range.maxSeq(); from += segmentSize) {
+            segments.add(new Segment(range.chainId(), from, Math.min(range.maxSeq(), from + segmentSize - 1),
+                    fromTimestamp, toTimestamp));
+        }
+        return segments;
+    }
+
+    /**
+     * 한 구간을 순번 순으로 읽으며 검증 (구간 첫 행의 prevHash는 joinSegments에서 anchor와 비교)
+     */
+    private SegmentResult verifySegment(Segment segment) {
+        String chainId = segment.chainId();
+        long expectedSeq = segment.fromSeq();
+        long verified = 0;
+        String firstPrevHash = null;
+        String previousHash = null;
+        ChainBreak firstBreak = null;
+
+        long afterSeq = segment.fromSeq() - 1;
+        List<AuditLog> page;
+        do {
+            page = auditLogMapper.findChainSegment(chainId, afterSeq, segment.toSeq(),
+                    segment.fromTimestamp(), segment.toTimestamp(), pageSize);
+            for (AuditLog row : page) {
+                long seq = row.getChainSeq();
+                if (seq != expectedSeq) {
+                    firstBreak = first(firstBreak, new ChainBreak(chainId, expectedSeq, null, BreakType.MISSING, null, null));
+                } else if (seq == segment.fromSeq()) {
+                    firstPrevHash = row.getPrevHash();
+                } else if (!row.getPrevHash().equals(previousHash)) {
+                    firstBreak = first(firstBreak,
+                            new ChainBreak(chainId, seq, row.getId(), BreakType.BROKEN_LINK, previousHash, row.getPrevHash()));
+                }
+
+                String recomputed = AuditHashChain.hash(row);
+                if (!recomputed.equals(row.getHash())) {
+                    firstBreak = first(firstBreak,
+                            new ChainBreak(chainId, seq, row.getId(), BreakType.TAMPERED, recomputed, row.getHash()));
+                }
+
+                previousHash = row.getHash();
+                expectedSeq = seq + 1;
+                afterSeq = seq;
+                verified++;
+            }
+        } while (page.size() == pageSize);
+
+        if (expectedSeq <= segment.toSeq()) {
+            firstBreak = first(firstBreak, new ChainBreak(chainId, expectedSeq, null, BreakType.MISSING, null, null));
+        }
+        return new SegmentResult(segment, verified, firstPrevHash, previousHash, firstBreak);
+    }
+
+    /**
+     * 구간 경계(anchor)를 확인하고 체인 결과로 합친다
+     */
+    private ChainResult joinSegments(AuditChainRange range, List<SegmentResult> results) {
+        String chainId = range.chainId();
+        ChainBreak firstBreak = null;
+        long verified = 0;
+
+        String anchor = anchorBefore(range);
+        boolean startRetainedOut = false;
+        if (anchor == null && hasRowsBefore(range, range.minSeq() - 1)) {
+            firstBreak = new ChainBreak(chainId, range.minSeq() - 1, null, BreakType.MISSING, null, null);
+        } else if (anchor == null) {
+            startRetainedOut = true;
+        }
+
+        for (SegmentResult result : results) {
+            verified += result.verified();
+            firstBreak = first(firstBreak, result.firstBreak());
+            if (anchor != null && result.firstPrevHash() != null && !anchor.equals(result.firstPrevHash())) {
+                firstBreak = first(firstBreak, new ChainBreak(chainId, result.segment().fromSeq(),
+                        null, BreakType.BROKEN_LINK, anchor, result.firstPrevHash()));
+            }
+            anchor = result.lastHash();
+        }
+
+        return new ChainResult(chainId, range.minSeq(), range.maxSeq(), verified, anchor, firstBreak, startRetainedOut);
+    }
+
+    /**
+     * 체인 첫 구간의 anchor - 순번 0이면 genesis, 아니면 직전 행의 hash (직전 행이 없으면 null)
+     *
+     * 직전 행은 보통 기간 시작 직전에 기록되었으므로 먼저 timestamp 범위 안에서 찾고,
+     * 체인이 한동안 기록하지 않았던 경우에만 하한 없이 다시 찾는다.
+     */
+    private String anchorBefore(AuditChainRange range) {
+        if (range.minSeq() == 0) {
+            return AuditHashChain.genesis(range.chainId());
+        }
+        LocalDateTime toTimestamp = range.maxTimestamp().plus(timestampSlack);
+        List<AuditLog> previous = auditLogMapper.findChainSegment(range.chainId(), range.minSeq() - 2,
+                range.minSeq() - 1, range.minTimestamp().minus(timestampSlack), toTimestamp, 1);
+        if (previous.isEmpty()) {
+            previous = auditLogMapper.findChainSegment(range.chainId(), range.minSeq() - 2,
+                    range.minSeq() - 1, null, toTimestamp, 1);
+        }
+        return previous.isEmpty() ? null : previous.get(0).getHash();
+    }
+
+    /**
+     * beforeSeq보다 앞선 행이 남아 있는지 - 없으면 체인 앞부분이 통째로 보존 기간 정리된 것
+     */
+    private boolean hasRowsBefore(AuditChainRange range, long beforeSeq) {
+        return !auditLogMapper.findChainSegment(range.chainId(), -1, beforeSeq - 1,
+                null, range.maxTimestamp().plus(timestampSlack), 1).isEmpty();
+    }
+
+    private static ChainBreak first(ChainBreak current, ChainBreak candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        if (current == null) {
+            return candidate;
+        }
+        return Comparator.comparingLong(ChainBreak::chainSeq).compare(candidate, current) < 0 ? candidate : current;
+    }
+}
@@ -0,0 +1,86 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.common.audit.AuditEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 감사 이벤트 유형별 지표
+ *
+ * - auth.audit.events.submitted{type}: 기록기에 접수 요청된 건수
+ * - auth.audit.events.persisted{type}: DB에 기록된 건수 (spool 재기록 포함) - 처리량
+ * - auth.audit.events.dropped{type}: 대기열 초과 또는 spool 용량 초과로 버려진 건수
+ * - auth.audit.events.latency{type}: 이벤트 발생(timestamp)부터 DB 기록 완료까지 걸린 시간
+ *
+ * type은 AuditEventType.tag() (유형이 없는 레코드는 unclassified). 같은 이름/태그의 meter는
+ * registry가 공유하므로 기록기와 spool 재기록기가 각각 만들어도 한 지표로 합쳐진다.
+ */
+public class AuditEventMetrics {
+
+    private static final String METRIC_PREFIX = "auth.audit.events";
+    private static final String UNCLASSIFIED = "unclassified";
+
+    private record Meters(Counter submitted, Counter persisted, Counter dropped, Timer latency) {
+    }
+
+    private final Map<AuditEventType, Meters> byType = new EnumMap<>(AuditEventType.class);
+    private final Meters unclassified;
+
+    public AuditEventMetrics(MeterRegistry meterRegistry) {
+        for (AuditEventType type : AuditEventType.values()) {
+            byType.put(type, register(meterRegistry, type.tag()));
+        }
+        this.unclassified = register(meterRegistry, UNCLASSIFIED);
+    }
+
+    private static Meters register(MeterRegistry meterRegistry, String type) {
+        return new Meters(
+                Counter.builder(METRIC_PREFIX + ".submitted").tag("type", type)
+                        .description("접수 요청된 감사 이벤트").register(meterRegistry),
+                Counter.builder(METRIC_PREFIX + ".persisted").tag("type", type)
+                        .description("DB에 기록된 감사 이벤트").register(meterRegistry),
+                Counter.builder(METRIC_PREFIX + ".dropped").tag("type", type)
+                        .description("기록하지 못하고 버려진 감사 이벤트").register(meterRegistry),
+                Timer.builder(METRIC_PREFIX + ".latency").tag("type", type)
+                        .description("감사 이벤트 발생부터 DB 기록까지 걸린 시간").register(meterRegistry));
+    }
+
+    private Meters of(AuditLog auditLog) {
+        AuditEventType type = auditLog.getEventType();
+        return type == null ? unclassified : byType.get(type);
+    }
+
+    public void submitted(AuditLog auditLog) {
+        of(auditLog).submitted().increment();
+    }
+
+    public void dropped(AuditLog auditLog) {
+        of(auditLog).dropped().increment();
+    }
+
+    public void dropped(List<AuditLog> auditLogs) {
+        auditLogs.forEach(this::dropped);
+    }
+
+    /**
+     * DB 기록 완료 - 건수와 발생 시각부터의 지연 기록
+     */
+    public void persisted(List<AuditLog> auditLogs) {
+        LocalDateTime now = LocalDateTime.now();
+        for (AuditLog auditLog : auditLogs) {
+            Meters meters = of(auditLog);
+            meters.persisted().increment();
+            if (auditLog.getTimestamp() != null) {
+                meters.latency().record(Duration.between(auditLog.getTimestamp(), now));
+            }
+        }
+    }
+}
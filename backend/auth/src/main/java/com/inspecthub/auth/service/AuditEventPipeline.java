@@ -0,0 +1,64 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.common.audit.AuditEvent;
+import com.inspecthub.common.audit.AuditEventPublisher;
+import com.inspecthub.common.audit.AuditEventType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 감사 이벤트 파이프라인
+ *
+ * common의 AuditEventPublisher 구현. 모듈에서 발행한 타입 있는 AuditEvent를 audit_log 레코드로 바꿔
+ * AuditLogWriter에 넘긴다. 정책 변경은 PolicyRevisionCodec으로 직전 버전 대비 변경분만 details에 담는다.
+ * 인증 모듈의 AuditLogService도 같은 AuditLogWriter로 기록하므로
+ * 로그인/정책 변경 이벤트가 한 대기열, 한 batch INSERT 경로, 같은 유형별 지표(AuditEventMetrics)를 공유한다.
+ *
+ * 정책 변경 이벤트가 저장되지 못하면(대기열 초과, spool 유실) codec의 직전 상태를 폐기해
+ * 저장되지 않은 상태를 기준으로 한 patch가 이어지지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class AuditEventPipeline implements AuditEventPublisher {
+
+    private final AuditLogWriter auditLogWriter;
+    private final PolicyRevisionCodec policyRevisionCodec;
+
+    public AuditEventPipeline(AuditLogWriter auditLogWriter, PolicyRevisionCodec policyRevisionCodec) {
+        this.auditLogWriter = auditLogWriter;
+        this.policyRevisionCodec = policyRevisionCodec;
+        auditLogWriter.onDropped(this::onDropped);
+    }
+
+    @Override
+    public void publish(AuditEvent event) {
+        try {
+            auditLogWriter.submit(toAuditLog(event));
+        } catch (Exception e) {
+            log.error("감사 이벤트 접수 실패: type={}, id={}", event.type(), event.id(), e);
+        }
+    }
+
+    private void onDropped(AuditLog auditLog) {
+        if (auditLog.getEventType() == AuditEventType.POLICY_CHANGE) {
+            policyRevisionCodec.forget(auditLog.getSubjectType(), auditLog.getSubjectId());
+            log.warn("정책 변경 감사 로그 유실 - 다음 변경은 checkpoint로 기록: subject={}/{}, id={}",
+                    auditLog.getSubjectType(), auditLog.getSubjectId(), auditLog.getId());
+        }
+    }
+
+    AuditLog toAuditLog(AuditEvent event) {
+        return switch (event) {
+            case AuditEvent.LoginSucceeded success -> AuditLog.createLoginSuccess(
+                            success.id(), success.employeeId(), null, null, null, success.method(), null, null, null)
+                    .toBuilder().timestamp(success.occurredAt()).build();
+            case AuditEvent.LoginFailed failure -> AuditLog.createLoginFailure(
+                            failure.id(), failure.employeeId(), null, failure.method(), failure.reason(), null, null, null)
+                    .toBuilder().timestamp(failure.occurredAt()).build();
+            case AuditEvent.PolicyChanged change -> AuditLog.createPolicyChange(
+                    change.id(), change.action(), change.actorId(), change.subjectType(), change.subjectId(),
+                    change.occurredAt(), policyRevisionCodec.encode(change));
+        };
+    }
+}
@@ -0,0 +1,165 @@
+package com.inspecthub.auth.service;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.inspecthub.auth.domain.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 감사 로그 해시 체인
+ *
+ * 기록 순서대로 각 레코드에 (chainId, chainSeq, prevHash, hash)를 붙인다.
+ * hash = SHA-256(prevHash, chainId, chainSeq, 모든 필드)이므로 한 행을 고치거나 지우면
+ * 그 행 또는 다음 행에서 체인이 끊긴다 (AuditChainVerifier).
+ *
+ * 체인은 프로세스마다 새로 시작한다 (chainId = 기동 시 ULID, 순번 0의 prevHash = genesis(chainId)).
+ * 여러 노드가 동시에 기록해도 체인이 갈라지지 않고, 기동 시 DB에서 마지막 해시를 읽지 않아도 되므로
+ * DB 장애 중에 기동해도 spool로 보낸 이벤트까지 체인에 포함된다.
+ *
+ * 해시는 메모리 상태만으로 계산하므로 DB 왕복이 추가되지 않는다.
+ */
+@Slf4j
+@Component
+public class AuditHashChain {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final String chainId;
+    private final Clock clock;
+    private long nextSeq;
+    private String lastHash;
+
+    @Autowired
+    public AuditHashChain() {
+        this(UlidCreator.getMonotonicUlid().toString(), Clock.systemDefaultZone());
+    }
+
+    public AuditHashChain(String chainId, Clock clock) {
+        this.chainId = chainId;
+        this.clock = clock;
+        this.lastHash = genesis(chainId);
+        log.info("감사 로그 해시 체인 시작: chainId={}", chainId);
+    }
+
+    public String chainId() {
+        return chainId;
+    }
+
+    /**
+     * 배치를 순서대로 체인에 연결
+     *
+     * @return 체인 정보가 채워진 복사본 (입력 순서 유지)
+     */
+    public synchronized List<AuditLog> link(List<AuditLog> auditLogs) {
+        List<AuditLog> linked = new ArrayList<>(auditLogs.size());
+        for (AuditLog auditLog : auditLogs) {
+            linked.add(linkOne(auditLog));
+        }
+        return linked;
+    }
+
+    /**
+     * 한 건을 체인에 연결
+     */
+    public synchronized AuditLog link(AuditLog auditLog) {
+        return linkOne(auditLog);
+    }
+
+    private AuditLog linkOne(AuditLog auditLog) {
+        // DB TIMESTAMP는 마이크로초까지 저장하므로 저장될 값 그대로 해시한다
+        LocalDateTime createdAt = auditLog.getCreatedAt() != null ? auditLog.getCreatedAt() : LocalDateTime.now(clock);
+        AuditLog unsigned = auditLog.toBuilder()
+                .timestamp(truncate(auditLog.getTimestamp()))
+                .createdAt(truncate(createdAt))
+                .chainId(chainId)
+                .chainSeq(nextSeq)
+                .prevHash(lastHash)
+                .hash(null)
+                .build();
+
+        String hash = hash(unsigned);
+        nextSeq++;
+        lastHash = hash;
+        return unsigned.toBuilder().hash(hash).build();
+    }
+
+    /**
+     * 체인 시작 해시 (순번 0의 prevHash)
+     */
+    public static String genesis(String chainId) {
+        MessageDigest digest = sha256();
+        digest.update("inspecthub-audit-chain:".getBytes(StandardCharsets.UTF_8));
+        digest.update(chainId.getBytes(StandardCharsets.UTF_8));
+        return HEX.formatHex(digest.digest());
+    }
+
+    /**
+     * 레코드 해시 - prevHash, chainId, chainSeq와 모든 데이터 필드 (hash, eventType 제외)
+     *
+     * 각 필드를 (null 표시, 길이, UTF-8 바이트)로 넣어 구분자가 값에 섞여도 다른 레코드와 겹치지 않는다.
+     */
+    public static String hash(AuditLog auditLog) {
+        MessageDigest digest = sha256();
+        update(digest, auditLog.getPrevHash());
+        update(digest, auditLog.getChainId());
+        update(digest, auditLog.getChainSeq());
+        update(digest, auditLog.getId());
+        update(digest, auditLog.getAction());
+        update(digest, auditLog.getUserId());
+        update(digest, auditLog.getEmployeeId());
+        update(digest, auditLog.getUsername());
+        update(digest, auditLog.getTimestamp());
+        update(digest, auditLog.getClientIp());
+        update(digest, auditLog.getSuccess());
+        update(digest, auditLog.getMethod());
+        update(digest, auditLog.getSessionId());
+        update(digest, auditLog.getUserAgent());
+        update(digest, auditLog.getReferer());
+        update(digest, auditLog.getReason());
+        update(digest, auditLog.getDetails());
+        update(digest, auditLog.getOrgId());
+        update(digest, auditLog.getOrgName());
+        update(digest, auditLog.getCreatedAt());
+        // 체인 도입 후 추가된 필드 - 값이 있을 때만 넣어 이전 레코드의 해시가 바뀌지 않게 한다
+        if (auditLog.getSubjectType() != null || auditLog.getSubjectId() != null) {
+            update(digest, auditLog.getSubjectType());
+            update(digest, auditLog.getSubjectId());
+        }
+        return HEX.formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, Object value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static LocalDateTime truncate(LocalDateTime value) {
+        return value == null ? null : value.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
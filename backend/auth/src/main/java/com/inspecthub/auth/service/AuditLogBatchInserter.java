@@ -0,0 +1,78 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.domain.OutboxMessage;
+import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.auth.mapper.OutboxMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 감사 로그 JDBC batch INSERT
+ *
+ * BATCH executor로 한 트랜잭션 안에서 INSERT를 모아 한 번에 전송하고 한 번 커밋한다.
+ * 호출 스레드의 기존 트랜잭션과 섞이지 않도록 항상 새 트랜잭션으로 실행한다.
+ * outbox가 켜져 있으면 같은 트랜잭션에 audit-log outbox 메시지도 기록한다 (OutboxWriter.auditMessages).
+ */
+@Component
+public class AuditLogBatchInserter {
+
+    private final SqlSessionTemplate batchSession;
+    private final TransactionTemplate transaction;
+    private final OutboxWriter outboxWriter;
+
+    public AuditLogBatchInserter(
+            SqlSessionFactory sqlSessionFactory,
+            PlatformTransactionManager transactionManager,
+            OutboxWriter outboxWriter
+    ) {
+        this.batchSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.outboxWriter = outboxWriter;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 일괄 저장 (writer 경로)
+     */
+    public void insert(List<AuditLog> auditLogs) {
+        execute(auditLogs, AuditLogMapper::insert, OutboxMapper::insert);
+    }
+
+    /**
+     * 일괄 저장 - 이미 있는 ID는 무시 (spool 재기록 경로)
+     */
+    public void insertIfAbsent(List<AuditLog> auditLogs) {
+        execute(auditLogs, AuditLogMapper::insertIfAbsent, OutboxMapper::insertIfAbsent);
+    }
+
+    private void execute(
+            List<AuditLog> auditLogs,
+            BiConsumer<AuditLogMapper, AuditLog> statement,
+            BiConsumer<OutboxMapper, OutboxMessage> outboxStatement
+    ) {
+        List<OutboxMessage> outboxMessages = outboxWriter.auditMessages(auditLogs);
+        transaction.executeWithoutResult(status -> {
+            // Mapper 등록은 MapperFactoryBean 초기화 시점이므로 호출 시 조회한다
+            AuditLogMapper mapper = batchSession.getMapper(AuditLogMapper.class);
+            for (AuditLog auditLog : auditLogs) {
+                statement.accept(mapper, auditLog);
+            }
+            if (!outboxMessages.isEmpty()) {
+                OutboxMapper outboxMapper = batchSession.getMapper(OutboxMapper.class);
+                for (OutboxMessage message : outboxMessages) {
+                    outboxStatement.accept(outboxMapper, message);
+                }
+            }
+            batchSession.flushStatements();
+        });
+    }
+}
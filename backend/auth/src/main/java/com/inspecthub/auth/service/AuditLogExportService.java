@@ -0,0 +1,186 @@
+package com.inspecthub.auth.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.common.exception.BusinessException;
+import com.inspecthub.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 감사 로그 추출 서비스 (CSV / NDJSON)
+ *
+ * MyBatis Cursor로 한 행씩 읽어 바로 출력 스트림에 쓴다. 목록을 모으지 않으므로
+ * 건수와 관계없이 메모리 사용량은 fetchSize + 출력 버퍼로 일정하다.
+ * 클라이언트가 느리게 받으면 출력 스트림 쓰기가 블록되고, 그동안 다음 fetch도 일어나지 않는다 (backpressure).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditLogExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static final String[] CSV_COLUMNS = {
+            "id", "action", "user_id", "employee_id", "username", "timestamp", "client_ip", "success",
+            "method", "session_id", "user_agent", "referer", "reason", "details", "org_id", "org_name", "created_at"
+    };
+
+    private final AuditLogMapper auditLogMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 추출 형식
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new BusinessException(ErrorCode.VALIDATION_ERROR, "지원하지 않는 추출 형식입니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 기간 내 감사 로그를 오래된 순으로 추출
+     *
+     * Cursor가 트랜잭션 안에서만 유효하므로 출력까지 이 트랜잭션 안에서 끝낸다.
+     *
+     * @param endDate 미포함
+     * @param action null이면 전체
+     * @param gzip true면 gzip으로 압축하여 출력
+     * @return 추출 건수
+     */
+    @Transactional(readOnly = true)
+    public long export(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String action,
+            Format format,
+            boolean gzip,
+            OutputStream out
+    ) {
+        long startedAt = System.nanoTime();
+        long count = 0;
+        try (Cursor<AuditLog> cursor = auditLogMapper.streamByTimestampRange(startDate, endDate, action)) {
+            OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+            count = format == Format.CSV ? writeCsv(cursor, writer) : writeNdjson(cursor, writer);
+
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 추출 중 출력 실패 (written=" + count + ")", e);
+        }
+
+        log.info("감사 로그 추출 완료: range=[{}, {}), action={}, format={}, gzip={}, count={}, elapsedMs={}",
+                startDate, endDate, action, format, gzip, count, (System.nanoTime() - startedAt) / 1_000_000);
+        return count;
+    }
+
+    private long writeCsv(Cursor<AuditLog> cursor, Writer writer) throws IOException {
+        writer.write('\uFEFF'); // Excel에서 UTF-8(한글)로 열리도록 BOM
+        writer.write(String.join(",", CSV_COLUMNS));
+        writer.write("\r\n");
+
+        long count = 0;
+        for (AuditLog auditLog : cursor) {
+            writeCsvRow(writer,
+                    auditLog.getId(), auditLog.getAction(), auditLog.getUserId(), auditLog.getEmployeeId(),
+                    auditLog.getUsername(), auditLog.getTimestamp(), auditLog.getClientIp(), auditLog.getSuccess(),
+                    auditLog.getMethod(), auditLog.getSessionId(), auditLog.getUserAgent(), auditLog.getReferer(),
+                    auditLog.getReason(), auditLog.getDetails(), auditLog.getOrgId(), auditLog.getOrgName(),
+                    auditLog.getCreatedAt());
+            count++;
+        }
+        return count;
+    }
+
+    private long writeNdjson(Cursor<AuditLog> cursor, Writer writer) throws IOException {
+        long count = 0;
+        try (SequenceWriter sequence = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(writer)) {
+            for (AuditLog auditLog : cursor) {
+                sequence.write(auditLog);
+                count++;
+            }
+            sequence.flush();
+        }
+        if (count > 0) {
+            writer.write('\n');
+        }
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 필드 인코딩
+     *
+     * 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @로 시작하는 값은 앞에 '를 붙인다 (CSV injection 방지).
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = Objects.toString(value);
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,204 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.mapper.AuditLogPartitionMapper;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.config.AuthProperties.AuditPartitionConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * audit_log 월별 파티션 관리
+ *
+ * - 이번 달부터 premakeMonths개월 뒤까지 파티션을 미리 만들어 INSERT가 default 파티션으로 가지 않게 한다.
+ * - retentionMonths보다 오래된 월 파티션은 DETACH 또는 DROP - 행 단위 DELETE 없이 메타데이터 작업으로 정리
+ *   둘 다 audit_log에 ACCESS EXCLUSIVE 잠금이 필요하고, 잠금을 기다리는 동안 뒤따르는 INSERT/조회도 막힌다.
+ *   그래서 파티션마다 트랜잭션을 열고 SET LOCAL lock_timeout(lockTimeoutMillis)을 건 뒤 실행하며,
+ *   시간 안에 잠금을 못 얻으면 포기하고 다음 실행에 다시 시도한다.
+ *   (DETACH ... CONCURRENTLY는 V009의 default 파티션이 있으면 쓸 수 없음)
+ *
+ * auth.audit-partition.enabled=true일 때 기동 직후와 cron 주기로 실행 (AuditPartitionSchedulingConfig)
+ *
+ * Metrics: auth.audit.partition.retired{action}, auth.audit.partition.failures
+ */
+@Slf4j
+@Component
+public class AuditLogPartitionManager {
+
+    /**
+     * V009 audit_log_ensure_partition이 만드는 이름 - DDL에 식별자로 넣기 전에 반드시 이 형식인지 확인
+     */
+    static final Pattern PARTITION_NAME = Pattern.compile("audit_log_p(\\d{4})(\\d{2})");
+
+    private static final String METRIC_PREFIX = "auth.audit.partition";
+
+    private final AuditPartitionConfig config;
+    private final AuditLogPartitionMapper partitionMapper;
+    private final TransactionOperations transaction;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    /**
+     * 보존 기간이 지난 파티션 처리 방식
+     */
+    public enum RetentionAction {
+        DETACH,
+        DROP;
+
+        public static RetentionAction of(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * 1회 실행 결과
+     *
+     * @param ensured 확인/생성한 파티션
+     * @param retired 분리/삭제한 파티션
+     */
+    public record Maintenance(List<String> ensured, List<String> retired) {
+    }
+
+    @Autowired
+    public AuditLogPartitionManager(
+            AuthProperties authProperties,
+            AuditLogPartitionMapper partitionMapper,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(authProperties.getAuditPartition(), partitionMapper, new TransactionTemplate(transactionManager),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new), Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param transaction 파티션 하나의 detach/drop을 감싸는 트랜잭션 (lock_timeout 적용 범위)
+     */
+    public AuditLogPartitionManager(
+            AuditPartitionConfig config,
+            AuditLogPartitionMapper partitionMapper,
+            TransactionOperations transaction,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.config = config;
+        this.partitionMapper = partitionMapper;
+        this.transaction = transaction;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * 기동 직후 실행 - 배포 공백 동안 빠진 미래 파티션 보충
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduledMaintain();
+    }
+
+    /**
+     * 정기 실행 (auth.audit-partition.enabled=true일 때 AuditPartitionSchedulingConfig가 스케줄링 활성화)
+     */
+    @Scheduled(cron = "${auth.audit-partition.cron:0 10 0 * * *}")
+    public void scheduledMaintain() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            meterRegistry.counter(METRIC_PREFIX + ".failures").increment();
+            log.error("audit_log 파티션 관리 실패", e);
+        }
+    }
+
+    /**
+     * 미래 파티션 생성 + 보존 기간 정리
+     */
+    public Maintenance maintain() {
+        YearMonth current = YearMonth.now(clock);
+
+        List<String> ensured = new ArrayList<>();
+        for (int i = 0; i <= Math.max(0, config.getPremakeMonths()); i++) {
+            ensured.add(partitionMapper.ensurePartition(current.plusMonths(i).atDay(1)));
+        }
+
+        List<String> retired = config.getRetentionMonths() > 0
+                ? retire(current.minusMonths(config.getRetentionMonths()))
+                : List.of();
+
+        log.info("audit_log 파티션 관리 완료: ensured={}, retired={}", ensured, retired);
+        return new Maintenance(ensured, retired);
+    }
+
+    /**
+     * oldestKept보다 이전 월 파티션 정리 (하나가 실패해도 나머지는 계속)
+     */
+    private List<String> retire(YearMonth oldestKept) {
+        RetentionAction action = RetentionAction.of(config.getRetentionAction());
+        List<String> retired = new ArrayList<>();
+
+        for (String name : partitionMapper.findPartitionNames()) {
+            YearMonth month = monthOf(name);
+            if (month == null || !month.isBefore(oldestKept)) {
+                continue;
+            }
+            try {
+                transaction.executeWithoutResult(status -> {
+                    if (config.getLockTimeoutMillis() > 0) {
+                        partitionMapper.setLockTimeout(config.getLockTimeoutMillis());
+                    }
+                    if (action == RetentionAction.DROP) {
+                        partitionMapper.dropPartition(name);
+                    } else {
+                        partitionMapper.detachPartition(name);
+                    }
+                });
+                retired.add(name);
+                meterRegistry.counter(METRIC_PREFIX + ".retired", "action", action.name().toLowerCase(Locale.ROOT))
+                        .increment();
+                log.info("audit_log 파티션 보존 기간 경과 - {}: partition={}", action, name);
+            } catch (CannotAcquireLockException e) {
+                meterRegistry.counter(METRIC_PREFIX + ".failures").increment();
+                log.warn("audit_log 파티션 정리 잠금 대기 초과 ({}ms) - 다음 실행에 재시도: partition={}, action={}",
+                        config.getLockTimeoutMillis(), name, action);
+            } catch (RuntimeException e) {
+                meterRegistry.counter(METRIC_PREFIX + ".failures").increment();
+                log.error("audit_log 파티션 정리 실패: partition={}, action={}", name, action, e);
+            }
+        }
+        return retired;
+    }
+
+    /**
+     * 파티션 이름의 월 (audit_log_pYYYYMM 형식이 아니면 null - default 파티션 등은 정리 대상 아님)
+     */
+    static YearMonth monthOf(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        int month = Integer.parseInt(matcher.group(2));
+        if (month < 1 || month > 12) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), month);
+    }
+}
@@ -0,0 +1,78 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.domain.AuditLogCursor;
+import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.common.dto.CursorPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 감사 로그 조회 서비스
+ *
+ * 모든 목록 조회는 (timestamp, id) keyset 페이지로 제공한다.
+ * size + 1건을 읽어 다음 페이지 존재 여부를 판단하고, 마지막 행으로 다음 커서를 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditLogQueryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final AuditLogMapper auditLogMapper;
+
+    public CursorPage<AuditLog> findByUserId(String userId, String cursor, int size) {
+        return page(cursor, size, (timestamp, id, limit) ->
+                auditLogMapper.findByUserIdAfter(userId, timestamp, id, limit));
+    }
+
+    public CursorPage<AuditLog> findByEmployeeId(String employeeId, String cursor, int size) {
+        return page(cursor, size, (timestamp, id, limit) ->
+                auditLogMapper.findByEmployeeIdAfter(employeeId, timestamp, id, limit));
+    }
+
+    public CursorPage<AuditLog> findByTimestampBetween(
+            LocalDateTime startDate, LocalDateTime endDate, String cursor, int size) {
+        return page(cursor, size, (timestamp, id, limit) ->
+                auditLogMapper.findByTimestampBetweenAfter(startDate, endDate, timestamp, id, limit));
+    }
+
+    public CursorPage<AuditLog> findByAction(String action, String cursor, int size) {
+        return page(cursor, size, (timestamp, id, limit) ->
+                auditLogMapper.findByActionAfter(action, timestamp, id, limit));
+    }
+
+    public CursorPage<AuditLog> findByClientIp(String clientIp, String cursor, int size) {
+        return page(cursor, size, (timestamp, id, limit) ->
+                auditLogMapper.findByClientIpAfter(clientIp, timestamp, id, limit));
+    }
+
+    public CursorPage<AuditLog> findBySuccess(Boolean success, String cursor, int size) {
+        return page(cursor, size, (timestamp, id, limit) ->
+                auditLogMapper.findBySuccessAfter(success, timestamp, id, limit));
+    }
+
+    private CursorPage<AuditLog> page(String cursor, int size, SeekQuery query) {
+        AuditLogCursor after = AuditLogCursor.decode(cursor);
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        List<AuditLog> rows = after == null
+                ? query.find(null, null, pageSize + 1)
+                : query.find(after.timestamp(), after.id(), pageSize + 1);
+
+        if (rows.size() <= pageSize) {
+            return CursorPage.of(rows, null);
+        }
+        List<AuditLog> items = rows.subList(0, pageSize);
+        return CursorPage.of(List.copyOf(items), AuditLogCursor.after(items.get(pageSize - 1)).encode());
+    }
+
+    @FunctionalInterface
+    private interface SeekQuery {
+        List<AuditLog> find(LocalDateTime cursorTimestamp, String cursorId, int limit);
+    }
+}
@@ -3,30 +3,28 @@ package com.inspecthub.auth.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.f4b6a3.ulid.UlidCreator;
 import com.inspecthub.auth.domain.AuditLog;
-import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.auth.util.ClientIpResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 감사 로그 서비스
  *
- * 비동기 처리로 메인 플로우에 영향을 주지 않음
- * 저장 실패 시 로그만 출력하고 예외를 던지지 않음
+ * 요청 스레드에서 감사 로그를 만들어 AuditLogWriter 대기열에 넣기만 하며,
+ * DB 기록은 writer 스레드가 JDBC batch로 처리하여 메인 플로우에 영향을 주지 않음
+ * 생성/접수 실패 시 로그만 출력하고 예외를 던지지 않음
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuditLogService {
 
-    private final AuditLogMapper auditLogMapper;
+    private final AuditLogWriter auditLogWriter;
     private final ObjectMapper objectMapper;
 
     /**
@@ -35,8 +33,6 @@ public class AuditLogService {
      * @param employeeId 사원ID
      * @param loginMethod 로그인 방법 (AD, SSO, LOCAL)
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logLoginSuccess(String employeeId, String loginMethod) {
         try {
             String id = UlidCreator.getUlid().toString();
@@ -53,13 +49,13 @@ public class AuditLogService {
                 null   // referer - 나중에 HttpServletRequest에서 추출
             );
 
-            auditLogMapper.insert(auditLog);
+            auditLogWriter.submit(auditLog);
 
-            log.info("로그인 성공 감사 로그 저장: id={}, employeeId={}, method={}",
+            log.info("로그인 성공 감사 로그 접수: id={}, employeeId={}, method={}",
                 id, employeeId, loginMethod);
         } catch (Exception e) {
-            // 감사 로그 저장 실패가 메인 플로우를 방해하지 않도록 로그만 출력
-            log.error("로그인 성공 감사 로그 저장 실패: employeeId={}, method={}",
+            // 감사 로그 접수 실패가 메인 플로우를 방해하지 않도록 로그만 출력
+            log.error("로그인 성공 감사 로그 접수 실패: employeeId={}, method={}",
                 employeeId, loginMethod, e);
         }
     }
@@ -70,8 +66,6 @@ public class AuditLogService {
      * @param user User 도메인 객체 (userId, employeeId, username 포함)
      * @param loginMethod 로그인 방법 (AD, SSO, LOCAL)
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logLoginSuccess(com.inspecthub.auth.domain.User user, String loginMethod) {
         try {
             String id = UlidCreator.getUlid().toString();
@@ -88,13 +82,13 @@ public class AuditLogService {
                 null   // referer - 나중에 HttpServletRequest에서 추출
             );
 
-            auditLogMapper.insert(auditLog);
+            auditLogWriter.submit(auditLog);
 
-            log.info("로그인 성공 감사 로그 저장: id={}, userId={}, employeeId={}, username={}, method={}",
+            log.info("로그인 성공 감사 로그 접수: id={}, userId={}, employeeId={}, username={}, method={}",
                 id, user.getId().getValue(), user.getEmployeeId(), user.getName(), loginMethod);
         } catch (Exception e) {
-            // 감사 로그 저장 실패가 메인 플로우를 방해하지 않도록 로그만 출력
-            log.error("로그인 성공 감사 로그 저장 실패: employeeId={}, method={}",
+            // 감사 로그 접수 실패가 메인 플로우를 방해하지 않도록 로그만 출력
+            log.error("로그인 성공 감사 로그 접수 실패: employeeId={}, method={}",
                 user.getEmployeeId(), loginMethod, e);
         }
     }
@@ -106,8 +100,6 @@ public class AuditLogService {
      * @param request HTTP 요청 (clientIp 추출용)
      * @param loginMethod 로그인 방법 (AD, SSO, LOCAL)
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logLoginSuccess(com.inspecthub.auth.domain.User user, HttpServletRequest request, String loginMethod) {
         try {
             String id = UlidCreator.getUlid().toString();
@@ -132,12 +124,12 @@ public class AuditLogService {
                 details
             );
 
-            auditLogMapper.insert(auditLog);
+            auditLogWriter.submit(auditLog);
 
-            log.info("로그인 성공 감사 로그 저장: id={}, userId={}, employeeId={}, clientIp={}, method={}",
+            log.info("로그인 성공 감사 로그 접수: id={}, userId={}, employeeId={}, clientIp={}, method={}",
                 id, user.getId().getValue(), user.getEmployeeId(), clientIp, loginMethod);
         } catch (Exception e) {
-            log.error("로그인 성공 감사 로그 저장 실패: employeeId={}, method={}",
+            log.error("로그인 성공 감사 로그 접수 실패: employeeId={}, method={}",
                 user.getEmployeeId(), loginMethod, e);
         }
     }
@@ -165,24 +157,13 @@ public class AuditLogService {
     }
 
     /**
-     * 클라이언트 IP 주소 추출
-     *
-     * X-Forwarded-For 헤더 우선 (프록시/로드밸런서를 통한 요청)
-     * 없으면 RemoteAddr 사용
-     * 여러 IP가 있는 경우 첫 번째 IP 반환 (원본 클라이언트 IP)
+     * 클라이언트 IP 주소 추출 (ClientIpResolver 참고)
      *
      * @param request HTTP 요청
      * @return 클라이언트 IP 주소
      */
     private String extractClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        
-        if (xForwardedFor != null && !xForwardedFor.isBlank()) {
-            // 여러 IP가 콤마로 구분된 경우 첫 번째 IP 사용
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        return request.getRemoteAddr();
+        return ClientIpResolver.resolve(request);
     }
 
     /**
@@ -206,8 +187,6 @@ public class AuditLogService {
      * @param reason 실패 사유
      * @param loginMethod 로그인 방법 (AD, SSO, LOCAL)
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logLoginFailure(String employeeId, String reason, String loginMethod) {
         try {
             String id = UlidCreator.getUlid().toString();
@@ -223,13 +202,13 @@ public class AuditLogService {
                 null   // referer - 나중에 HttpServletRequest에서 추출
             );
 
-            auditLogMapper.insert(auditLog);
+            auditLogWriter.submit(auditLog);
 
-            log.warn("로그인 실패 감사 로그 저장: id={}, employeeId={}, reason={}, method={}",
+            log.warn("로그인 실패 감사 로그 접수: id={}, employeeId={}, reason={}, method={}",
                 id, employeeId, reason, loginMethod);
         } catch (Exception e) {
-            // 감사 로그 저장 실패가 메인 플로우를 방해하지 않도록 로그만 출력
-            log.error("로그인 실패 감사 로그 저장 실패: employeeId={}, reason={}, method={}",
+            // 감사 로그 접수 실패가 메인 플로우를 방해하지 않도록 로그만 출력
+            log.error("로그인 실패 감사 로그 접수 실패: employeeId={}, reason={}, method={}",
                 employeeId, reason, loginMethod, e);
         }
     }
@@ -242,8 +221,6 @@ public class AuditLogService {
      * @param loginMethod 로그인 방법 (AD, SSO, LOCAL)
      * @param request HTTP 요청 (clientIp, userAgent, sessionId, referer 추출용)
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logLoginFailure(String employeeId, String reason, String loginMethod, HttpServletRequest request) {
         try {
             String id = UlidCreator.getUlid().toString();
@@ -263,12 +240,12 @@ public class AuditLogService {
                 referer
             );
 
-            auditLogMapper.insert(auditLog);
+            auditLogWriter.submit(auditLog);
 
-            log.warn("로그인 실패 감사 로그 저장: id={}, employeeId={}, clientIp={}, reason={}, method={}",
+            log.warn("로그인 실패 감사 로그 접수: id={}, employeeId={}, clientIp={}, reason={}, method={}",
                 id, employeeId, clientIp, reason, loginMethod);
         } catch (Exception e) {
-            log.error("로그인 실패 감사 로그 저장 실패: employeeId={}, reason={}, method={}",
+            log.error("로그인 실패 감사 로그 접수 실패: employeeId={}, reason={}, method={}",
                 employeeId, reason, loginMethod, e);
         }
     }
@@ -0,0 +1,332 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 감사 로그 일괄 기록기
+ *
+ * 요청 스레드는 고정 크기 대기열(ArrayBlockingQueue 링 버퍼)에 이벤트를 넣기만 하고,
+ * 단일 writer 스레드(audit-writer)가 batchSize개 또는 lingerMillis 단위로 모아
+ * 한 트랜잭션의 JDBC batch INSERT로 기록한다. 이벤트마다 커넥션 획득/커밋을 하지 않는다.
+ * 기록 직전에 AuditHashChain으로 배치를 순서대로 체인에 연결한다 (spool로 가는 이벤트 포함).
+ *
+ * 대기열이 가득 찼을 때 (auth.audit-writer.overflow):
+ * - BLOCK: blockTimeoutMillis까지 대기, 그래도 가득 차 있으면 버림
+ * - SPILL: AuditSpool에 보관
+ * - DROP: 즉시 버림
+ *
+ * DB 장애 시:
+ * - 배치 기록이 실패하면 정책과 관계없이 AuditSpool에 보관하고, AuditSpoolReplayer가 복구 후 재기록한다
+ * - 직전 DB 기록 실패 후 dbRetryIntervalMillis 동안 spool에 재기록 대기 중인 이벤트가 있으면
+ *   DB를 시도하지 않고 spool 뒤에 이어 붙인다 (장애 중 배치마다 커넥션 타임아웃을 기다리지 않도록)
+ * - DB 기록이 성공하고 있으면 spool에 대기 중인 이벤트가 있어도 DB에 바로 기록한다
+ *   (재기록이 밀려 있어도 새 이벤트까지 spool로 보내지 않는다 - 순서는 체인 순번으로 확인)
+ *
+ * Metrics:
+ * - auth.audit.writer.queue.depth: 대기열 길이
+ * - auth.audit.writer.batch.size: 배치당 건수
+ * - auth.audit.writer.flush.duration: 배치 기록 시간
+ * - auth.audit.writer.written: 기록된 건수
+ * - auth.audit.writer.overflow{outcome=spilled|dropped}: 대기열 초과 처리 건수
+ * - auth.audit.writer.spooled{reason=db-failure|pending}: DB 대신 spool에 보관된 건수 (pending = 장애 중 재시도 대기)
+ * - auth.audit.writer.lost: DB와 spool 모두에 기록하지 못한 건수 (spool 용량 초과 등)
+ * - auth.audit.events.{submitted,persisted,dropped,latency}{type}: 이벤트 유형별 지표 (AuditEventMetrics)
+ *
+ * 버려지거나 유실된 이벤트는 onDropped로 등록한 리스너에도 알린다 (직전 기록 상태를 기준으로 인코딩하는 쪽이 기준을 초기화하도록).
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final String METRIC_PREFIX = "auth.audit.writer";
+    private static final long IDLE_POLL_MILLIS = 200;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * 대기열 초과 정책
+     */
+    public enum OverflowPolicy {
+        BLOCK, SPILL, DROP;
+
+        public static OverflowPolicy of(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final BlockingQueue<AuditLog> queue;
+    private final Consumer<List<AuditLog>> batchInserter;
+    private final AuditSpool spool;
+    private final AuditHashChain hashChain;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final OverflowPolicy overflow;
+    private final long blockTimeoutMillis;
+    private final long dbRetryIntervalNanos;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // writer 스레드 전용 - 마지막 DB 기록 실패 시각 (실패 중이 아니면 dbFailing = false)
+    private boolean dbFailing;
+    private long dbFailedAt;
+
+    private final Counter written;
+    private final Counter overflowSpilled;
+    private final Counter overflowDropped;
+    private final Counter spooledOnFailure;
+    private final Counter spooledWhilePending;
+    private final Counter lost;
+    private final DistributionSummary batchSizes;
+    private final Timer flushDuration;
+    private final AuditEventMetrics events;
+    private final List<Consumer<AuditLog>> dropListeners = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public AuditLogWriter(
+            AuthProperties authProperties,
+            AuditLogBatchInserter batchInserter,
+            AuditSpool spool,
+            AuditHashChain hashChain,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(
+                authProperties.getAuditWriter(),
+                batchInserter::insert,
+                spool,
+                hashChain,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    public AuditLogWriter(
+            AuthProperties.AuditWriterConfig config,
+            Consumer<List<AuditLog>> batchInserter,
+            AuditSpool spool,
+            AuditHashChain hashChain,
+            MeterRegistry meterRegistry
+    ) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity()));
+        this.batchInserter = batchInserter;
+        this.spool = spool;
+        this.hashChain = hashChain;
+        this.batchSize = Math.max(1, config.getBatchSize());
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(config.getLingerMillis());
+        this.overflow = OverflowPolicy.of(config.getOverflow());
+        this.blockTimeoutMillis = config.getBlockTimeoutMillis();
+        this.dbRetryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getDbRetryIntervalMillis());
+
+        this.written = Counter.builder(METRIC_PREFIX + ".written")
+                .description("기록된 감사 로그").register(meterRegistry);
+        this.overflowSpilled = Counter.builder(METRIC_PREFIX + ".overflow").tag("outcome", "spilled")
+                .description("대기열 초과로 로컬 보관된 감사 로그").register(meterRegistry);
+        this.overflowDropped = Counter.builder(METRIC_PREFIX + ".overflow").tag("outcome", "dropped")
+                .description("대기열 초과로 버려진 감사 로그").register(meterRegistry);
+        this.spooledOnFailure = Counter.builder(METRIC_PREFIX + ".spooled").tag("reason", "db-failure")
+                .description("DB 기록 실패로 spool에 보관된 감사 로그").register(meterRegistry);
+        this.spooledWhilePending = Counter.builder(METRIC_PREFIX + ".spooled").tag("reason", "pending")
+                .description("spool 재기록 대기 중이라 spool에 이어 붙인 감사 로그").register(meterRegistry);
+        this.lost = Counter.builder(METRIC_PREFIX + ".lost")
+                .description("DB와 spool 모두에 기록하지 못한 감사 로그").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                .description("배치당 감사 로그 건수").register(meterRegistry);
+        this.flushDuration = Timer.builder(METRIC_PREFIX + ".flush.duration")
+                .description("감사 로그 배치 기록 시간").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", queue, BlockingQueue::size)
+                .description("감사 로그 대기열 길이").register(meterRegistry);
+        this.events = new AuditEventMetrics(meterRegistry);
+
+        this.writer = new Thread(this::run, "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+
+        log.info("감사 로그 기록기 초기화: queueCapacity={}, batchSize={}, lingerMillis={}, overflow={}",
+                config.getQueueCapacity(), batchSize, config.getLingerMillis(), overflow);
+    }
+
+    /**
+     * 감사 로그 기록 요청 (비차단, BLOCK 정책일 때만 blockTimeoutMillis까지 대기)
+     *
+     * 예외를 던지지 않으며, 기록하지 못한 이벤트는 overflow 지표로 집계된다.
+     */
+    public void submit(AuditLog auditLog) {
+        events.submitted(auditLog);
+        if (queue.offer(auditLog)) {
+            return;
+        }
+
+        switch (overflow) {
+            case BLOCK -> {
+                if (offerWithin(auditLog, blockTimeoutMillis)) {
+                    return;
+                }
+                overflowDropped.increment();
+                dropped(auditLog);
+                log.warn("감사 로그 대기열 포화 - {}ms 대기 후 버림: action={}, employeeId={}",
+                        blockTimeoutMillis, auditLog.getAction(), auditLog.getEmployeeId());
+            }
+            case SPILL -> {
+                if (spool.append(List.of(hashChain.link(auditLog))) == 1) {
+                    overflowSpilled.increment();
+                } else {
+                    overflowDropped.increment();
+                    dropped(auditLog);
+                }
+            }
+            case DROP -> {
+                overflowDropped.increment();
+                dropped(auditLog);
+                log.warn("감사 로그 대기열 포화 - 버림: action={}, employeeId={}",
+                        auditLog.getAction(), auditLog.getEmployeeId());
+            }
+        }
+    }
+
+    /**
+     * 기록하지 못한 이벤트(대기열 초과로 버림, spool 용량 초과로 유실) 통지 등록
+     *
+     * 요청 스레드 또는 writer 스레드에서 호출된다. 리스너 예외는 기록 경로에 영향을 주지 않는다.
+     */
+    public void onDropped(Consumer<AuditLog> listener) {
+        dropListeners.add(listener);
+    }
+
+    /**
+     * 현재 대기열 길이
+     */
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * 종료 - 남은 대기열을 기록한 뒤 writer 스레드 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            writer.join(SHUTDOWN_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("감사 로그 기록기 종료 대기 시간 초과: remaining={}", queue.size());
+        }
+    }
+
+    private boolean offerWithin(AuditLog auditLog, long timeoutMillis) {
+        try {
+            return queue.offer(auditLog, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void run() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 모은 배치는 기록하고 계속 진행 - 종료는 running 플래그로만 한다
+                Thread.interrupted();
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 이벤트를 기다린 뒤 batchSize가 차거나 lingerNanos가 지날 때까지 모은다
+     */
+    private void collect(List<AuditLog> batch) throws InterruptedException {
+        AuditLog first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                return;
+            }
+            AuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<AuditLog> pending) {
+        long startedAt = System.nanoTime();
+        List<AuditLog> batch = hashChain.link(pending);
+        try {
+            if (dbFailing && startedAt - dbFailedAt < dbRetryIntervalNanos && spool.hasPending()) {
+                toSpool(batch, spooledWhilePending);
+                return;
+            }
+            batchInserter.accept(batch);
+            dbFailing = false;
+            written.increment(batch.size());
+            events.persisted(batch);
+        } catch (RuntimeException e) {
+            dbFailing = true;
+            dbFailedAt = System.nanoTime();
+            log.error("감사 로그 배치 기록 실패 - spool에 보관: count={}", batch.size(), e);
+            toSpool(batch, spooledOnFailure);
+        } finally {
+            batchSizes.record(batch.size());
+            flushDuration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void toSpool(List<AuditLog> batch, Counter spooled) {
+        int stored = spool.append(batch);
+        spooled.increment(stored);
+        if (stored < batch.size()) {
+            lost.increment(batch.size() - stored);
+            batch.subList(stored, batch.size()).forEach(this::dropped);
+            log.error("감사 로그 spool 기록 실패 - 유실: count={}", batch.size() - stored);
+        }
+    }
+
+    private void dropped(AuditLog auditLog) {
+        events.dropped(auditLog);
+        for (Consumer<AuditLog> listener : dropListeners) {
+            try {
+                listener.accept(auditLog);
+            } catch (RuntimeException e) {
+                log.warn("감사 로그 버림 통지 실패: id={}", auditLog.getId(), e);
+            }
+        }
+    }
+}
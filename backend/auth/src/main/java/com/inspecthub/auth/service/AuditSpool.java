@@ -0,0 +1,26 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AuditLog;
+
+import java.util.List;
+
+/**
+ * DB에 기록하지 못한 감사 로그의 로컬 보관소
+ *
+ * AuditLogWriter의 대기열 초과(overflow=spill)와 DB 기록 실패 시 사용하며,
+ * 보관된 이벤트는 AuditSpoolReplayer가 DB 복구 후 audit_log로 재기록한다.
+ */
+public interface AuditSpool {
+
+    /**
+     * 감사 로그 보관 (앞에서부터 순서대로)
+     *
+     * @return 보관된 건수 (용량 초과/IO 오류 시 auditLogs.size()보다 작음)
+     */
+    int append(List<AuditLog> auditLogs);
+
+    /**
+     * 재기록 대기 중인 이벤트 존재 여부
+     */
+    boolean hasPending();
+}
@@ -0,0 +1,188 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 감사 로그 spool 재기록기
+ *
+ * replayIntervalMillis마다 MappedAuditSpool의 레코드를 순서대로 읽어 audit_log에 재기록한다.
+ * INSERT ... ON CONFLICT (id, timestamp) DO NOTHING으로 기록하므로, 재기록 후 checkpoint 저장 전에
+ * JVM이 종료되어 같은 레코드를 다시 넣어도 ULID 기준으로 한 행만 남는다.
+ * 실패 분류:
+ * - DB가 특정 레코드를 거부 (NonTransientDataAccessException - 제약 조건/길이 위반 등, 연결 실패 제외):
+ *   배치를 반으로 나눠 다시 넣고, 한 건만 남아도 거부되면 spool quarantine으로 옮긴 뒤 계속 진행한다.
+ *   한 레코드 때문에 뒤의 모든 재기록이 멈추지 않는다.
+ * - 그 외 (연결 실패, 타임아웃, 일시적 오류): DB가 아직 복구되지 않은 것으로 보고
+ *   읽기 위치를 그대로 두고 다음 주기에 다시 시도한다.
+ *
+ * Metrics: auth.audit.spool.replayed, auth.audit.spool.replay.failures, auth.audit.spool.quarantined,
+ * auth.audit.events.persisted/latency{type} (AuditEventMetrics - 재기록된 건도 유형별 처리량에 포함)
+ */
+@Slf4j
+@Component
+public class AuditSpoolReplayer {
+
+    private static final String METRIC_PREFIX = "auth.audit.spool";
+
+    private final MappedAuditSpool spool;
+    private final Consumer<List<AuditLog>> idempotentInserter;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter replayed;
+    private final Counter failures;
+    private final Counter quarantined;
+    private final AuditEventMetrics events;
+
+    @Autowired
+    public AuditSpoolReplayer(
+            AuthProperties authProperties,
+            MappedAuditSpool spool,
+            AuditLogBatchInserter batchInserter,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(
+                spool,
+                batchInserter::insertIfAbsent,
+                authProperties.getAuditWriter().getSpool().getReplayBatchSize(),
+                authProperties.getAuditWriter().getSpool().getReplayIntervalMillis(),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    /**
+     * @param replayIntervalMillis 0 이하면 주기 실행 없이 replay() 직접 호출로만 동작
+     */
+    public AuditSpoolReplayer(
+            MappedAuditSpool spool,
+            Consumer<List<AuditLog>> idempotentInserter,
+            int batchSize,
+            long replayIntervalMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.spool = spool;
+        this.idempotentInserter = idempotentInserter;
+        this.batchSize = Math.max(1, batchSize);
+        this.replayed = Counter.builder(METRIC_PREFIX + ".replayed")
+                .description("spool에서 audit_log로 재기록된 감사 로그").register(meterRegistry);
+        this.failures = Counter.builder(METRIC_PREFIX + ".replay.failures")
+                .description("DB 미복구로 실패한 재기록 시도").register(meterRegistry);
+        this.quarantined = Counter.builder(METRIC_PREFIX + ".quarantined")
+                .description("DB가 거부해 quarantine으로 옮긴 감사 로그").register(meterRegistry);
+        this.events = new AuditEventMetrics(meterRegistry);
+
+        if (replayIntervalMillis > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "audit-spool-replayer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(
+                    this::replaySafely, replayIntervalMillis, replayIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * 재기록 대기 레코드를 모두 재기록 (DB 미복구 시 중단)
+     *
+     * @return 재기록된 건수 (quarantine으로 옮긴 건 제외)
+     */
+    public int replay() {
+        int total = 0;
+        MappedAuditSpool.ReplayBatch batch;
+        while ((batch = spool.nextBatch(batchSize)) != null) {
+            List<AuditLog> rejected = new ArrayList<>();
+            try {
+                if (!batch.auditLogs().isEmpty()) {
+                    insert(batch.auditLogs(), rejected);
+                }
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("감사 로그 spool 재기록 실패 - 다음 주기에 재시도: pending={}, error={}",
+                        batch.auditLogs().size(), e.getMessage());
+                break;
+            }
+            spool.acknowledge(batch);
+            List<AuditLog> persisted = batch.auditLogs().stream()
+                    .filter(auditLog -> !rejected.contains(auditLog))
+                    .toList();
+            replayed.increment(persisted.size());
+            events.persisted(persisted);
+            total += persisted.size();
+        }
+        if (total > 0) {
+            log.info("감사 로그 spool 재기록: count={}, remainingSegments={}", total, spool.segmentCount());
+        }
+        return total;
+    }
+
+    /**
+     * 배치 재기록 - DB가 거부하면 반으로 나눠 다시 넣고, 거부된 한 건은 quarantine으로 옮긴다
+     *
+     * 멱등 INSERT이므로 나누기 전에 일부가 기록되었어도 다시 넣어도 된다.
+     */
+    private void insert(List<AuditLog> auditLogs, List<AuditLog> rejected) {
+        try {
+            idempotentInserter.accept(auditLogs);
+        } catch (RuntimeException e) {
+            if (!isRejected(e)) {
+                throw e;
+            }
+            if (auditLogs.size() > 1) {
+                int half = auditLogs.size() / 2;
+                insert(auditLogs.subList(0, half), rejected);
+                insert(auditLogs.subList(half, auditLogs.size()), rejected);
+                return;
+            }
+            AuditLog auditLog = auditLogs.get(0);
+            spool.quarantine(auditLog, e.toString());
+            rejected.add(auditLog);
+            quarantined.increment();
+            log.error("DB가 거부한 감사 로그를 quarantine으로 이동: id={}, action={}, error={}",
+                    auditLog.getId(), auditLog.getAction(), e.getMessage());
+        }
+    }
+
+    /**
+     * 레코드 자체의 문제로 DB가 거부했는지 (다시 넣어도 같은 결과) - 연결/자원 실패는 DB 미복구로 본다
+     */
+    static boolean isRejected(RuntimeException e) {
+        return e instanceof NonTransientDataAccessException
+                && !(e instanceof DataAccessResourceFailureException);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    private void replaySafely() {
+        try {
+            replay();
+        } catch (RuntimeException e) {
+            log.error("감사 로그 spool 재기록 중 오류", e);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.inspecthub.auth.service;
 
-import com.inspecthub.auth.domain.AccountLockPolicy;
 import com.inspecthub.auth.domain.User;
 import com.inspecthub.auth.dto.LoginRequest;
 import com.inspecthub.auth.dto.RefreshTokenRequest;
@@ -9,6 +8,7 @@ import com.inspecthub.auth.repository.UserRepository;
 import com.inspecthub.common.config.AuthProperties;
 import com.inspecthub.common.exception.BusinessException;
 
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
@@ -32,12 +32,16 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final AuditLogService auditLogService;
     private final AuthProperties authProperties;
-    private final AccountLockPolicy accountLockPolicy;
+    private final PasswordVerificationExecutor passwordVerificationExecutor;
+    private final LoginFailureCounter loginFailureCounter;
 
     /**
      * LOCAL 로그인 인증
+     *
+     * 트랜잭션으로 감싸지 않는다. BCrypt 검증(~100ms) 동안 DB 커넥션을 점유하지 않도록
+     * 조회/저장은 각각 단일 문장(auto-commit)으로 실행하고,
+     * 비밀번호 검증은 PasswordVerificationExecutor에서 실행한다 (포화 시 AUTH_009).
      */
-    @Transactional
     public TokenResponse authenticate(LoginRequest request, HttpServletRequest httpRequest) {
         // 1. 사용자 조회
         User user = userRepository.findByEmployeeId(request.getEmployeeId())
@@ -70,16 +74,13 @@ public class AuthService {
             }
         }
 
-        // 3. 비밀번호 검증 (도메인 로직)
-        if (!user.isPasswordMatch(request.getPassword(), passwordEncoder)) {
-            // 도메인: 로그인 실패 기록 (LOCAL만 failedAttempts 증가)
-            user.recordLoginFailure();
-            
-            // 도메인 서비스: 계정 잠금 정책 적용
-            accountLockPolicy.applyLockPolicy(user, user.getFailedAttempts());
-            
-            // 변경사항 저장
-            userRepository.save(user);
+        // 3. 비밀번호 검증 (도메인 로직, DB 커넥션 없이 전용 실행기에서 수행)
+        boolean passwordMatched = passwordVerificationExecutor.verify(
+                () -> user.isPasswordMatch(request.getPassword(), passwordEncoder)
+        );
+        if (!passwordMatched) {
+            // 실패 횟수 원자적 증가 + 증가 후 값으로 잠금 정책 적용 (LOCAL만)
+            loginFailureCounter.recordFailure(user);
 
             auditLogService.logLoginFailure(
                     request.getEmployeeId(), "INVALID_PASSWORD", "LOCAL"
@@ -117,23 +118,26 @@ public class AuthService {
     public TokenResponse refreshToken(RefreshTokenRequest request) {
         String refreshToken = request.getRefreshToken();
 
-        // 1. Refresh Token 검증
+        // 1. Refresh Token 검증 (단일 파싱)
+        VerifiedToken verified;
         try {
-            if (!jwtTokenProvider.validateToken(refreshToken)) {
-                throw new BusinessException(
-                        "AUTH_006",
-                        "유효하지 않은 Refresh Token입니다."
-                );
-            }
-        } catch (io.jsonwebtoken.ExpiredJwtException e) {
+            verified = jwtTokenProvider.verify(refreshToken);
+        } catch (ExpiredJwtException e) {
             throw new BusinessException(
                     "AUTH_005",
                     "만료된 Refresh Token입니다. 다시 로그인하세요."
             );
+        } catch (RuntimeException e) {
+            // 서명 불일치, 형식 오류, 검증 불가 등은 모두 유효하지 않은 토큰으로 처리
+            log.warn("Refresh Token 검증 실패: {}", e.getMessage());
+            throw new BusinessException(
+                    "AUTH_006",
+                    "유효하지 않은 Refresh Token입니다."
+            );
         }
 
         // 2. Token Type 확인
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
+        if (!verified.isRefreshToken()) {
             throw new BusinessException(
                     "AUTH_006",
                     "유효하지 않은 Refresh Token입니다."
@@ -141,7 +145,7 @@ public class AuthService {
         }
 
         // 3. 사용자 조회
-        String employeeId = jwtTokenProvider.getEmployeeId(refreshToken);
+        String employeeId = verified.employeeId();
         User user = userRepository.findByEmployeeId(employeeId)
                 .orElseThrow(() -> new BusinessException(
                         "AUTH_001",
@@ -0,0 +1,54 @@
+package com.inspecthub.auth.service;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 권한 문자열 ↔ 비트 위치 사전
+ *
+ * 권한 문자열(ROLE_ADMIN, case:read, MENU.DASHBOARD)마다 고정 비트 위치를 부여한다.
+ * 위치는 추가만 되고 바뀌지 않으므로 이미 컴파일된 CompiledAuthorities는 계속 유효하다.
+ * 크기는 전체 권한 카탈로그 크기(그룹 + 권한 + 메뉴)로 제한된다.
+ */
+public class AuthorityIndex {
+
+    private final Map<String, Integer> positions = new ConcurrentHashMap<>();
+    private final List<GrantedAuthority> authorities = new CopyOnWriteArrayList<>();
+
+    /**
+     * 권한 문자열의 비트 위치 (미등록이면 -1)
+     */
+    public int positionOf(String authority) {
+        Integer position = positions.get(authority);
+        return position != null ? position : -1;
+    }
+
+    /**
+     * 비트 위치 등록 (이미 있으면 기존 위치 반환)
+     */
+    public int register(String authority) {
+        Integer position = positions.get(authority);
+        if (position != null) {
+            return position;
+        }
+
+        synchronized (this) {
+            return positions.computeIfAbsent(authority, key -> {
+                authorities.add(new SimpleGrantedAuthority(key));
+                return authorities.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * 비트 위치의 GrantedAuthority (인스턴스 공유)
+     */
+    public GrantedAuthority authorityAt(int position) {
+        return authorities.get(position);
+    }
+}
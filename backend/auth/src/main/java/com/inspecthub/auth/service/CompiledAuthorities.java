@@ -0,0 +1,80 @@
+package com.inspecthub.auth.service;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * BitSet 기반 불변 GrantedAuthority 집합
+ *
+ * 권한 확인(contains, hasAuthority)은 사전 조회 1회 + 비트 테스트 1회로 O(1)이다.
+ * 순회는 Spring Security 기본 AuthorizationManager 호환을 위해 지원하며,
+ * AuthorityIndex가 공유하는 GrantedAuthority 인스턴스를 반환하므로 할당이 없다.
+ */
+public final class CompiledAuthorities extends AbstractSet<GrantedAuthority> {
+
+    private final AuthorityIndex index;
+    private final BitSet bits;
+    private final int size;
+
+    private CompiledAuthorities(AuthorityIndex index, BitSet bits) {
+        this.index = index;
+        this.bits = bits;
+        this.size = bits.cardinality();
+    }
+
+    /**
+     * 권한 문자열 목록을 컴파일
+     */
+    public static CompiledAuthorities compile(AuthorityIndex index, Collection<String> authorities) {
+        BitSet bits = new BitSet();
+        for (String authority : authorities) {
+            bits.set(index.register(authority));
+        }
+        return new CompiledAuthorities(index, bits);
+    }
+
+    /**
+     * 권한 보유 여부 (O(1))
+     */
+    public boolean hasAuthority(String authority) {
+        int position = index.positionOf(authority);
+        return position >= 0 && bits.get(position);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof GrantedAuthority authority && hasAuthority(authority.getAuthority());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<GrantedAuthority> iterator() {
+        return new Iterator<>() {
+            private int next = bits.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public GrantedAuthority next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                GrantedAuthority authority = index.authorityAt(next);
+                next = bits.nextSetBit(next + 1);
+                return authority;
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.OutboxMessage;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 outbox broker (auth.outbox.broker=memory)
+ *
+ * Kafka 없이 테스트에서 relay 동작을 확인하기 위한 대체 구현 (outbox 활성 시 test 프로파일 전용 - OutboxConfig).
+ * topic별로 받은 순서대로 보관한다.
+ */
+public class InMemoryOutboxBroker implements OutboxBroker {
+
+    /**
+     * 전달된 메시지
+     */
+    public record Delivery(String topic, String key, OutboxMessage message) {
+    }
+
+    private final Map<String, List<Delivery>> topics = new ConcurrentHashMap<>();
+
+    @Override
+    public void send(String topicPrefix, List<OutboxMessage> messages, Duration timeout) {
+        for (OutboxMessage message : messages) {
+            String topic = topicPrefix + "." + message.topicSuffix();
+            List<Delivery> deliveries = topics.computeIfAbsent(topic, name -> new ArrayList<>());
+            synchronized (deliveries) {
+                deliveries.add(new Delivery(topic, message.getAggregateId(), message));
+            }
+        }
+    }
+
+    /**
+     * topic에 전달된 메시지 (전달 순)
+     */
+    public List<Delivery> received(String topic) {
+        List<Delivery> deliveries = topics.getOrDefault(topic, List.of());
+        synchronized (deliveries) {
+            return List.copyOf(deliveries);
+        }
+    }
+
+    public void clear() {
+        topics.clear();
+    }
+}
@@ -0,0 +1,216 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.service.JwtSigningKey.Algorithm;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.config.AuthProperties.JwtConfig;
+import com.inspecthub.common.config.AuthProperties.JwtConfig.SigningKeyConfig;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명 Key Ring
+ *
+ * kid(Key ID)별 서명/검증 키를 미리 계산해 보관하고, 토큰 header의 kid로 검증 키를 O(1) 조회한다.
+ * 키 목록과 현재 서명 키는 기동 시 설정(auth.jwt.keys, auth.jwt.active-key-id)으로 한 번 만든 불변 스냅샷이다.
+ * 런타임 변경은 두지 않는다 - 한 노드의 메모리만 바뀌면 재시작/다른 노드와 서명 키가 어긋나기 때문이다.
+ *
+ * 키 교체 절차 (설정 배포, 각 단계는 모든 노드 롤링 배포 완료 후 다음 단계로):
+ * 1. 새 키를 auth.jwt.keys에 추가해 배포 - 서명 키는 그대로, 모든 노드가 새 kid를 검증할 수 있게 된다
+ * 2. auth.jwt.active-key-id를 새 kid로 바꿔 배포 - 이후 발급 토큰부터 새 kid 사용
+ * 3. 기존 키로 발급된 토큰(refresh token 포함)이 모두 만료된 뒤 기존 키를 설정에서 제거해 배포
+ *
+ * kid 없는 기존 토큰은 auth.jwt.secret 키(kid=default)로 검증한다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private final KeyLocator locator = new KeyLocator();
+
+    private final Snapshot snapshot;
+
+    @Autowired
+    public JwtKeyRing(AuthProperties authProperties) {
+        this(loadKeys(authProperties.getJwt()), authProperties.getJwt().getActiveKeyId());
+    }
+
+    public JwtKeyRing(Collection<JwtSigningKey> keys, String activeKid) {
+        Map<String, JwtSigningKey> byKid = new LinkedHashMap<>();
+        for (JwtSigningKey key : keys) {
+            if (byKid.putIfAbsent(key.kid(), key) != null) {
+                throw new IllegalArgumentException("Duplicate JWT key kid: " + key.kid());
+            }
+        }
+
+        String active = activeKid != null ? activeKid : byKid.values().stream()
+                .filter(JwtSigningKey::canSign)
+                .map(JwtSigningKey::kid)
+                .findFirst()
+                .orElse(null);
+        this.snapshot = Snapshot.of(byKid, active);
+
+        if (byKid.isEmpty()) {
+            log.warn("JWT 서명 키가 설정되지 않았습니다 (auth.jwt.secret 또는 auth.jwt.keys)");
+        } else {
+            log.info("JWT Key Ring 초기화: keys={}, active={}", byKid.keySet(), active);
+        }
+    }
+
+    /**
+     * 현재 서명 키
+     *
+     * @throws IllegalStateException 서명 키가 설정되지 않은 경우
+     */
+    public JwtSigningKey active() {
+        JwtSigningKey active = snapshot.active();
+        if (active == null) {
+            throw new IllegalStateException("No active JWT signing key configured");
+        }
+        return active;
+    }
+
+    /**
+     * 현재 서명 키 ID (서명 키가 없으면 null)
+     */
+    public String activeKid() {
+        JwtSigningKey active = snapshot.active();
+        return active != null ? active.kid() : null;
+    }
+
+    /**
+     * kid로 키 조회 (없으면 null)
+     */
+    public JwtSigningKey find(String kid) {
+        return snapshot.keys().get(kid);
+    }
+
+    /**
+     * 등록된 전체 키 (등록 순서)
+     */
+    public List<JwtSigningKey> keys() {
+        return List.copyOf(snapshot.keys().values());
+    }
+
+    /**
+     * jjwt keyLocator - JWT header의 kid로 검증 키 선택
+     */
+    public LocatorAdapter<Key> locator() {
+        return locator;
+    }
+
+    /**
+     * 공개 키 목록 (JWK Set, RFC 7517)
+     *
+     * ES256 키만 포함한다. HMAC 키는 공유 비밀이므로 절대 노출하지 않는다.
+     */
+    public Map<String, Object> toJwks() {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (JwtSigningKey key : snapshot.keys().values()) {
+            if (key.algorithm() == Algorithm.ES256 && key.verificationKey() instanceof ECPublicKey publicKey) {
+                Map<String, Object> jwk = new LinkedHashMap<>();
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("kid", key.kid());
+                jwk.put("use", "sig");
+                jwk.put("alg", "ES256");
+                jwk.put("x", coordinate(publicKey.getW().getAffineX()));
+                jwk.put("y", coordinate(publicKey.getW().getAffineY()));
+                jwks.add(jwk);
+            }
+        }
+        return Map.of("keys", jwks);
+    }
+
+    /**
+     * 설정에서 키 목록 생성
+     *
+     * auth.jwt.secret이 있으면 kid=default 키로 등록한다 (kid 없는 기존 토큰 검증용).
+     * auth.jwt.keys에 같은 kid가 있으면 keys 설정이 우선한다.
+     */
+    static List<JwtSigningKey> loadKeys(JwtConfig config) {
+        List<JwtSigningKey> keys = new ArrayList<>();
+        for (SigningKeyConfig keyConfig : config.getKeys()) {
+            keys.add(JwtSigningKey.from(keyConfig));
+        }
+
+        boolean legacyConfigured = keys.stream().anyMatch(k -> JwtSigningKey.LEGACY_KID.equals(k.kid()));
+        if (config.getSecret() != null && !legacyConfigured) {
+            keys.add(JwtSigningKey.hmac(JwtSigningKey.LEGACY_KID, config.getSecret()));
+        }
+        return keys;
+    }
+
+    /**
+     * 좌표값을 32바이트 고정 길이 Base64url로 인코딩 (RFC 7518 6.2.1.2)
+     */
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        if (bytes.length > 32) {
+            // 부호 바이트(0x00) 제거
+            bytes = Arrays.copyOfRange(bytes, bytes.length - 32, bytes.length);
+        }
+        System.arraycopy(bytes, 0, fixed, 32 - bytes.length, bytes.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    /**
+     * 키 목록 + 현재 서명 키 (불변)
+     */
+    private record Snapshot(Map<String, JwtSigningKey> keys, JwtSigningKey active) {
+
+        String activeKid() {
+            return active != null ? active.kid() : null;
+        }
+
+        static Snapshot of(Map<String, JwtSigningKey> keys, String activeKid) {
+            JwtSigningKey active = null;
+            if (activeKid != null) {
+                active = keys.get(activeKid);
+                if (active == null || !active.canSign()) {
+                    throw new IllegalArgumentException("Active JWT key must exist and be able to sign: " + activeKid);
+                }
+            }
+            // 등록 순서를 유지하기 위해 Map.copyOf 대신 LinkedHashMap 사본을 사용
+            return new Snapshot(Collections.unmodifiableMap(new LinkedHashMap<>(keys)), active);
+        }
+    }
+
+    /**
+     * kid → 검증 키
+     *
+     * - kid 없음: 기존 단일 secret 키(kid=default)
+     * - 알 수 없는 kid 또는 header alg가 키 알고리즘과 다름: SignatureException
+     */
+    private class KeyLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            String kid = header.getKeyId() != null ? header.getKeyId() : JwtSigningKey.LEGACY_KID;
+            JwtSigningKey key = snapshot.keys().get(kid);
+            if (key == null) {
+                throw new SignatureException("Unknown JWT key id: " + kid);
+            }
+            if (!key.algorithm().accepts(header.getAlgorithm())) {
+                throw new SignatureException("JWT algorithm " + header.getAlgorithm() + " not allowed for key " + kid);
+            }
+            return key.verificationKey();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.common.config.AuthProperties.JwtConfig.SigningKeyConfig;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * Key Ring에 등록된 서명/검증 키 (미리 계산된 불변 키 객체)
+ *
+ * @param kid             키 ID (JWT header kid)
+ * @param algorithm       HMAC 또는 ES256
+ * @param signingKey      서명 키 (SecretKey 또는 PrivateKey, 검증 전용이면 null)
+ * @param verificationKey 검증 키 (SecretKey 또는 PublicKey)
+ */
+public record JwtSigningKey(
+        String kid,
+        Algorithm algorithm,
+        Key signingKey,
+        Key verificationKey
+) {
+
+    /**
+     * kid 없는 기존 토큰과 auth.jwt.secret 단일 키에 부여하는 키 ID
+     */
+    public static final String LEGACY_KID = "default";
+
+    public enum Algorithm {
+        HMAC,
+        ES256;
+
+        /**
+         * JWT header alg 값이 이 키 알고리즘과 일치하는지 확인
+         *
+         * HMAC 키는 키 길이에 따라 HS256/384/512 중 하나로 서명되므로 HS 계열 전체를 허용한다.
+         */
+        boolean accepts(String alg) {
+            if (alg == null) {
+                return false;
+            }
+            return this == HMAC ? alg.startsWith("HS") : name().equals(alg);
+        }
+    }
+
+    /**
+     * HMAC secret으로 생성
+     */
+    public static JwtSigningKey hmac(String kid, String secret) {
+        Key key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return new JwtSigningKey(kid, Algorithm.HMAC, key, key);
+    }
+
+    /**
+     * ES256 키 쌍으로 생성 (privateKey가 null이면 검증 전용)
+     */
+    public static JwtSigningKey es256(String kid, PrivateKey privateKey, PublicKey publicKey) {
+        return new JwtSigningKey(kid, Algorithm.ES256, privateKey, publicKey);
+    }
+
+    /**
+     * 설정에서 생성
+     *
+     * @throws IllegalArgumentException 필수 값 누락 또는 키 형식 오류
+     */
+    public static JwtSigningKey from(SigningKeyConfig config) {
+        if (config.getKid() == null || config.getKid().isBlank()) {
+            throw new IllegalArgumentException("JWT key kid is required");
+        }
+
+        Algorithm algorithm = Algorithm.valueOf(config.getAlgorithm().toUpperCase());
+        if (algorithm == Algorithm.HMAC) {
+            if (config.getSecret() == null) {
+                throw new IllegalArgumentException("HMAC key '" + config.getKid() + "' requires secret");
+            }
+            return hmac(config.getKid(), config.getSecret());
+        }
+
+        if (config.getPublicKey() == null) {
+            throw new IllegalArgumentException("ES256 key '" + config.getKid() + "' requires publicKey");
+        }
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(config.getPublicKey())));
+            PrivateKey privateKey = config.getPrivateKey() != null
+                    ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(config.getPrivateKey())))
+                    : null;
+            return es256(config.getKid(), privateKey, publicKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid ES256 key '" + config.getKid() + "'", e);
+        }
+    }
+
+    /**
+     * 서명 가능 여부 (검증 전용 키는 false)
+     */
+    public boolean canSign() {
+        return signingKey != null;
+    }
+
+    /**
+     * 이 키로 서명하도록 JwtBuilder 설정 (header kid 포함)
+     */
+    JwtBuilder signWith(JwtBuilder builder) {
+        if (!canSign()) {
+            throw new IllegalStateException("JWT key '" + kid + "' is verification-only");
+        }
+
+        builder.header().keyId(kid).and();
+        return algorithm == Algorithm.ES256
+                ? builder.signWith((PrivateKey) signingKey, Jwts.SIG.ES256)
+                : builder.signWith(signingKey);
+    }
+
+    /**
+     * 키 material은 로그에 남기지 않는다
+     */
+    @Override
+    public String toString() {
+        return "JwtSigningKey[kid=" + kid + ", algorithm=" + algorithm + ", canSign=" + canSign() + "]";
+    }
+
+    /**
+     * PEM armor/공백을 제거하고 Base64 DER 디코딩
+     */
+    private static byte[] decodePem(String pem) {
+        String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -4,16 +4,14 @@ import com.inspecthub.auth.domain.User;
 import com.inspecthub.common.config.AuthProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
 
@@ -21,13 +19,37 @@ import java.util.Date;
  * JWT Token Provider
  *
  * Access Token & Refresh Token 생성/검증
+ *
+ * 서명은 JwtKeyRing의 현재 서명 키로 하고 header에 kid를 기록한다.
+ * JwtParser는 한 번만 생성하며, keyLocator가 토큰 kid로 Key Ring에서 검증 키를 고르므로
+ * kid가 추가되어도 파서를 다시 만들 필요가 없다.
+ * 요청 경로에서는 verify()로 토큰당 한 번만 파싱/검증하고,
+ * 검증된 Access Token은 VerifiedTokenCache에 보관하여 재요청 시 서명 검증을 생략한다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final AuthProperties authProperties;
+    private final JwtKeyRing keyRing;
+    private final VerifiedTokenCache tokenCache;
+    private final JwtParser parser;
+
+    public JwtTokenProvider(AuthProperties authProperties) {
+        this(authProperties, VerifiedTokenCache.disabled());
+    }
+
+    public JwtTokenProvider(AuthProperties authProperties, VerifiedTokenCache tokenCache) {
+        this(authProperties, new JwtKeyRing(authProperties), tokenCache);
+    }
+
+    @Autowired
+    public JwtTokenProvider(AuthProperties authProperties, JwtKeyRing keyRing, VerifiedTokenCache tokenCache) {
+        this.authProperties = authProperties;
+        this.keyRing = keyRing;
+        this.tokenCache = tokenCache;
+        this.parser = Jwts.parser().keyLocator(keyRing.locator()).build();
+    }
 
     /**
      * Access Token 생성
@@ -38,7 +60,7 @@ public class JwtTokenProvider {
                 authProperties.getJwt().getAccessToken().getExpirationSeconds()
         );
 
-        return Jwts.builder()
+        return keyRing.active().signWith(Jwts.builder())
                 .subject(user.getEmployeeId())
                 .claim("userId", user.getId().getValue())
                 .claim("name", user.getName())
@@ -46,7 +68,6 @@ public class JwtTokenProvider {
                 .claim("type", "access")
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
-                .signWith(getSigningKey())
                 .compact();
     }
 
@@ -59,15 +80,43 @@ public class JwtTokenProvider {
                 authProperties.getJwt().getRefreshToken().getExpirationSeconds()
         );
 
-        return Jwts.builder()
+        return keyRing.active().signWith(Jwts.builder())
                 .subject(user.getEmployeeId())
                 .claim("type", "refresh")
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
-                .signWith(getSigningKey())
                 .compact();
     }
 
+    /**
+     * Token 검증 + Claims 추출 (단일 파싱)
+     *
+     * 서명 검증과 파싱을 한 번만 수행하고 불변 Claims 뷰를 반환한다.
+     * 캐시에 만료 전 검증 결과가 있으면 서명 검증 없이 바로 반환한다.
+     * 검증 실패 시 jjwt 예외(ExpiredJwtException, SignatureException, MalformedJwtException 등)를 그대로 던진다.
+     *
+     * @param token JWT 문자열
+     * @return 검증된 토큰 정보
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new MalformedJwtException("JWT token is empty");
+        }
+
+        VerifiedToken cached = tokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verified = VerifiedToken.from(getClaims(token));
+
+        // Refresh Token은 Rotation으로 1회만 사용되므로 Access Token만 캐시
+        if (verified.isAccessToken()) {
+            tokenCache.put(token, verified);
+        }
+        return verified;
+    }
+
     /**
      * Token 검증
      */
@@ -98,9 +147,7 @@ public class JwtTokenProvider {
      * Token에서 Claims 추출
      */
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -158,12 +205,4 @@ public class JwtTokenProvider {
     public Long getRefreshTokenExpiration() {
         return authProperties.getJwt().getRefreshToken().getExpirationSeconds();
     }
-
-    /**
-     * JWT 서명 키 생성
-     */
-    private SecretKey getSigningKey() {
-        String secret = authProperties.getJwt().getSecret();
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-    }
 }
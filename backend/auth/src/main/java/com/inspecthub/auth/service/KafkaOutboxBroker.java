@@ -0,0 +1,56 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.OutboxMessage;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Kafka outbox broker (auth.outbox.broker=kafka)
+ *
+ * 배치를 모두 비동기로 보낸 뒤 한 번에 ack를 기다린다.
+ * key = aggregateId이므로 같은 집계는 같은 파티션으로 가고, producer의 enable.idempotence로
+ * 재시도 중에도 파티션 안 순서가 유지된다 (application-prod.yml).
+ * 헤더: outbox-id (소비자 중복 제거), event-type
+ */
+public class KafkaOutboxBroker implements OutboxBroker {
+
+    static final String HEADER_ID = "outbox-id";
+    static final String HEADER_EVENT_TYPE = "event-type";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    public KafkaOutboxBroker(KafkaTemplate<String, String> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    @Override
+    public void send(String topicPrefix, List<OutboxMessage> messages, Duration timeout) {
+        CompletableFuture<?>[] acks = messages.stream()
+                .map(message -> {
+                    ProducerRecord<String, String> record = new ProducerRecord<>(
+                            topicPrefix + "." + message.topicSuffix(), message.getAggregateId(), message.getPayload());
+                    record.headers().add(HEADER_ID, message.getId().getBytes(StandardCharsets.UTF_8));
+                    record.headers().add(HEADER_EVENT_TYPE, message.getEventType().getBytes(StandardCharsets.UTF_8));
+                    return kafkaTemplate.send(record);
+                })
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(acks).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("outbox 전송 대기 중 중단됨", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("outbox 전송 실패: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("outbox 전송 확인 시간 초과: " + timeout.toMillis() + "ms", e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.inspecthub.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 메모리 기반 슬라이딩 윈도우 로그인 시도 제한기 (Lock-free)
+ *
+ * 키별로 직전 윈도우와 현재 윈도우의 카운트만 보관하고,
+ * 직전 윈도우 카운트를 경과 비율만큼 가중해 슬라이딩 윈도우 시도 횟수를 추정한다.
+ * 상태는 불변 Window 객체이며 AtomicReference CAS로만 갱신하므로 락을 잡지 않는다.
+ *
+ * 2개 윈도우 이상 시도가 없는 키는 윈도우마다 최대 1회 정리한다.
+ * 정리 후에도 maxKeys에 도달해 있으면 maxKeys의 10%를 추정 시도 횟수가 적은 키부터 제거한다.
+ * 키(X-Forwarded-For 등)를 계속 바꿔 상한을 채우면 밀려나는 것은 시도 1회짜리 위조 키들이고,
+ * 한도에 가까운(차단 중인) 키는 남으므로 차단이 풀리지 않으며 새 클라이언트도 자기 윈도우를 받는다.
+ */
+@Slf4j
+public class LocalLoginRateLimiter implements LoginRateLimiter {
+
+    private final int limit;
+    private final long windowMillis;
+    private final int maxKeys;
+    private final LongSupplier clock;
+
+    private final Map<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepIndex = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public LocalLoginRateLimiter(int limit, Duration window, int maxKeys) {
+        this(limit, window, maxKeys, System::currentTimeMillis);
+    }
+
+    public LocalLoginRateLimiter(int limit, Duration window, int maxKeys, LongSupplier clock) {
+        if (limit <= 0 || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("limit and window must be positive");
+        }
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean tryAcquire(String key) {
+        long now = clock.getAsLong();
+        long index = now / windowMillis;
+        double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+
+        AtomicReference<Window> ref = windowOf(key, index, previousWeight);
+
+        while (true) {
+            Window current = ref.get();
+            Window rolled = current.rollTo(index);
+
+            if (rolled.estimate(previousWeight) + 1 > limit) {
+                if (rolled != current) {
+                    ref.compareAndSet(current, rolled);
+                }
+                return false;
+            }
+            if (ref.compareAndSet(current, rolled.increment())) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 현재 추적 중인 키 수
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    private AtomicReference<Window> windowOf(String key, long index, double previousWeight) {
+        AtomicReference<Window> ref = windows.get(key);
+        if (ref != null) {
+            return ref;
+        }
+        if (windows.size() >= maxKeys) {
+            sweep(index);
+            if (windows.size() >= maxKeys) {
+                evict(index, previousWeight);
+            }
+        }
+        return windows.computeIfAbsent(key, k -> new AtomicReference<>(new Window(index, 0, 0)));
+    }
+
+    /**
+     * 2개 윈도우 이상 시도가 없는 키 정리 (윈도우당 최대 1회)
+     *
+     */
+    private void sweep(long index) {
+        long last = lastSweepIndex.get();
+        if (last >= index || !lastSweepIndex.compareAndSet(last, index)) {
+            return;
+        }
+        windows.values().removeIf(ref -> ref.get().index() < index - 1);
+    }
+
+    /**
+     * maxKeys의 10%를 추정 시도 횟수가 적은 키부터 제거 (한 번에 한 스레드 - 나머지는 기다리지 않고 저장)
+     *
+     * 한 번 훑으며 후보 count개만 보관(최대 힙)하므로 O(n log count)이고, 상한에 도달했을 때만 실행된다.
+     */
+    private void evict(long index, double previousWeight) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int count = Math.max(1, maxKeys / 10);
+            Comparator<Map.Entry<String, Double>> byEstimate = Map.Entry.comparingByValue();
+            PriorityQueue<Map.Entry<String, Double>> victims = new PriorityQueue<>(count, byEstimate.reversed());
+            windows.forEach((key, ref) -> {
+                double estimate = ref.get().rollTo(index).estimate(previousWeight);
+                if (victims.size() < count) {
+                    victims.add(Map.entry(key, estimate));
+                } else if (estimate < victims.peek().getValue()) {
+                    victims.poll();
+                    victims.add(Map.entry(key, estimate));
+                }
+            });
+            victims.forEach(victim -> windows.remove(victim.getKey()));
+            log.warn("로그인 시도 제한 키 상한 도달 - 시도가 적은 키 {}개 제거: maxKeys={}", victims.size(), maxKeys);
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 직전/현재 윈도우 카운트 (불변)
+     */
+    private record Window(long index, int previous, int current) {
+
+        Window rollTo(long target) {
+            if (target <= index) {
+                // 같은 윈도우 (또는 시계가 뒤로 간 경우) - 그대로 사용
+                return this;
+            }
+            if (target == index + 1) {
+                return new Window(target, current, 0);
+            }
+            return new Window(target, 0, 0);
+        }
+
+        double estimate(double previousWeight) {
+            return previous * previousWeight + current;
+        }
+
+        Window increment() {
+            return new Window(index, previous, current + 1);
+        }
+    }
+}
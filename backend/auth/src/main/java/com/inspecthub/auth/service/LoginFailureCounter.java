@@ -0,0 +1,53 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AccountLockPolicy;
+import com.inspecthub.auth.domain.User;
+import com.inspecthub.auth.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 실패 카운터
+ *
+ * 실패 횟수를 DB에서 원자적으로 증가시키고(increment-and-return),
+ * 반환된 값으로 잠금 여부를 판단한다.
+ *
+ * 기존 방식(User.recordLoginFailure → applyLockPolicy → save)은 read-modify-write라
+ * 동시 무차별 대입 시 증가분이 유실되고 실패마다 행 전체를 다시 썼다.
+ * 이 경로는 카운터 컬럼 UPDATE 1회 + 임계값 도달 시 locked_until UPDATE 1회만 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginFailureCounter {
+
+    private final UserRepository userRepository;
+    private final AccountLockPolicy accountLockPolicy;
+
+    /**
+     * 로그인 실패 기록
+     *
+     * LOCAL 사용자만 실패 횟수를 증가시킨다 (User.recordLoginFailure와 같은 규칙).
+     *
+     * @param user 사용자
+     * @return 증가 후 실패 횟수 (LOCAL 사용자가 아니면 현재 값)
+     */
+    public int recordFailure(User user) {
+        if (!user.isLocalLogin()) {
+            return user.getFailedAttempts();
+        }
+
+        int failedAttempts = userRepository.incrementFailedAttempts(user.getId());
+
+        LocalDateTime lockedUntil = accountLockPolicy.lockedUntil(failedAttempts, LocalDateTime.now());
+        if (lockedUntil != null) {
+            userRepository.lockAccount(user.getId(), lockedUntil);
+            log.warn("계정 잠금: employeeId={}, failedAttempts={}, lockedUntil={}",
+                    user.getEmployeeId(), failedAttempts, lockedUntil);
+        }
+        return failedAttempts;
+    }
+}
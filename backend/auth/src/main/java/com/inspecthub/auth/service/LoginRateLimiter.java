@@ -0,0 +1,17 @@
+package com.inspecthub.auth.service;
+
+/**
+ * 로그인 시도 제한기
+ *
+ * 키(클라이언트 IP 또는 사원ID)별로 윈도우당 허용 횟수를 넘는 시도를 거절한다.
+ */
+public interface LoginRateLimiter {
+
+    /**
+     * 시도 1회 허용 여부 판단 (허용 시 1회 소비)
+     *
+     * @param key 제한 키
+     * @return 허용되면 true
+     */
+    boolean tryAcquire(String key);
+}
@@ -0,0 +1,89 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.auth.mapper.LoginStatsRollupMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.BiFunction;
+
+/**
+ * 로그인 통계 조회 서비스
+ *
+ * [startDate, endDate)를 세 구간으로 나눠 센다.
+ * - 집계 완료(sealed_until 이전)된 온전한 시간 구간: audit_log_login_stats_hourly 합계
+ * - startDate가 정각이 아닐 때 첫 시간의 나머지, sealed_until 이후 진행 중인 구간: audit_log 원본 COUNT
+ * 원본 조회 범위는 최대 몇 시간이므로 이력 크기와 관계없이 조회 비용이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoginStatsService {
+
+    static final String LOGIN_SUCCESS = "LOGIN_SUCCESS";
+    static final String LOGIN_FAILURE = "LOGIN_FAILURE";
+
+    private final LoginStatsRollupMapper rollupMapper;
+    private final AuditLogMapper auditLogMapper;
+
+    /**
+     * 로그인 성공 건수
+     *
+     * @param endDate 미포함
+     */
+    public long countLoginSuccess(LocalDateTime startDate, LocalDateTime endDate) {
+        return count(LOGIN_SUCCESS, startDate, endDate, auditLogMapper::countLoginSuccessByDateRange);
+    }
+
+    /**
+     * 로그인 실패 건수
+     *
+     * @param endDate 미포함
+     */
+    public long countLoginFailure(LocalDateTime startDate, LocalDateTime endDate) {
+        return count(LOGIN_FAILURE, startDate, endDate, auditLogMapper::countLoginFailureByDateRange);
+    }
+
+    private long count(
+            String action,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            BiFunction<LocalDateTime, LocalDateTime, Long> rawCount
+    ) {
+        if (!startDate.isBefore(endDate)) {
+            return 0;
+        }
+
+        LocalDateTime sealedUntil = rollupMapper.findSealedUntil();
+        LocalDateTime rollupFrom = ceilHour(startDate);
+        LocalDateTime rollupTo = sealedUntil == null ? rollupFrom : min(endDate.truncatedTo(ChronoUnit.HOURS), sealedUntil);
+
+        if (!rollupFrom.isBefore(rollupTo)) {
+            return raw(rawCount, startDate, endDate);
+        }
+
+        long total = rollupMapper.sumEventCount(action, rollupFrom, rollupTo);
+        if (startDate.isBefore(rollupFrom)) {
+            total += raw(rawCount, startDate, rollupFrom);
+        }
+        if (rollupTo.isBefore(endDate)) {
+            total += raw(rawCount, rollupTo, endDate);
+        }
+        return total;
+    }
+
+    private static long raw(BiFunction<LocalDateTime, LocalDateTime, Long> rawCount, LocalDateTime from, LocalDateTime to) {
+        Long count = rawCount.apply(from, to);
+        return count == null ? 0 : count;
+    }
+
+    private static LocalDateTime ceilHour(LocalDateTime value) {
+        LocalDateTime floor = value.truncatedTo(ChronoUnit.HOURS);
+        return floor.equals(value) ? floor : floor.plusHours(1);
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
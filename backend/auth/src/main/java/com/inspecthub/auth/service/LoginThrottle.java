@@ -0,0 +1,71 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.util.ClientIpResolver;
+import com.inspecthub.common.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 시도 제한
+ *
+ * 로그인 엔드포인트(LOCAL, AD)에서 DB/LDAP/BCrypt 작업 전에 호출하여
+ * 클라이언트 IP별, 사원ID별 슬라이딩 윈도우 한도를 넘는 시도를 AUTH_010(429)으로 즉시 거절한다.
+ * IP 한도를 먼저 확인하므로 IP에서 거절된 시도는 사원ID 한도를 소비하지 않는다.
+ *
+ * Metrics: auth.login.ratelimit.rejected{scope=ip|employee}
+ */
+@Slf4j
+public class LoginThrottle {
+
+    private static final String REJECTED_MESSAGE = "로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도하세요";
+
+    private final boolean enabled;
+    private final LoginRateLimiter ipLimiter;
+    private final LoginRateLimiter employeeLimiter;
+
+    private final Counter ipRejected;
+    private final Counter employeeRejected;
+
+    public LoginThrottle(
+            boolean enabled,
+            LoginRateLimiter ipLimiter,
+            LoginRateLimiter employeeLimiter,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.ipLimiter = ipLimiter;
+        this.employeeLimiter = employeeLimiter;
+        this.ipRejected = Counter.builder("auth.login.ratelimit.rejected").tag("scope", "ip")
+                .description("IP별 한도 초과로 거절된 로그인 시도").register(meterRegistry);
+        this.employeeRejected = Counter.builder("auth.login.ratelimit.rejected").tag("scope", "employee")
+                .description("사원ID별 한도 초과로 거절된 로그인 시도").register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 허용 확인
+     *
+     * @param request HTTP 요청 (클라이언트 IP 추출용)
+     * @param employeeId 사원ID
+     * @throws BusinessException AUTH_010 - IP 또는 사원ID 한도 초과
+     */
+    public void check(HttpServletRequest request, String employeeId) {
+        if (!enabled) {
+            return;
+        }
+
+        String clientIp = ClientIpResolver.resolve(request);
+        if (clientIp != null && !ipLimiter.tryAcquire(clientIp)) {
+            ipRejected.increment();
+            log.warn("로그인 시도 제한 (IP): clientIp={}, employeeId={}", clientIp, employeeId);
+            throw new BusinessException("AUTH_010", REJECTED_MESSAGE);
+        }
+
+        if (employeeId != null && !employeeLimiter.tryAcquire(employeeId)) {
+            employeeRejected.increment();
+            log.warn("로그인 시도 제한 (사원ID): clientIp={}, employeeId={}", clientIp, employeeId);
+            throw new BusinessException("AUTH_010", REJECTED_MESSAGE);
+        }
+    }
+}
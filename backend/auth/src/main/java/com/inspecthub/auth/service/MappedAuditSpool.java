@@ -0,0 +1,433 @@
+package com.inspecthub.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Memory-mapped 감사 로그 spool (append-only, 세그먼트 회전)
+ *
+ * 세그먼트: {dir}/audit-spool-{sequence}.seg, segmentBytes 크기로 매핑
+ * 레코드: [payload 길이 int][CRC32 int][AuditLog JSON]
+ * - payload와 CRC를 먼저 쓰고 길이를 마지막에 기록하므로, 쓰는 도중 끊긴 레코드는 길이 0으로 남아 무시된다
+ * - 매핑된 페이지는 OS 페이지 캐시에 있으므로 JVM이 비정상 종료되어도 보존된다
+ *   (OS 장애까지 대비하려면 forceOnAppend)
+ *
+ * 읽기 위치(세그먼트, 오프셋)는 AuditSpoolReplayer가 재기록을 확인(acknowledge)할 때마다
+ * {dir}/audit-spool.checkpoint에 저장하고, 모두 재기록된 세그먼트는 삭제한다.
+ * 기동 시 마지막 세그먼트를 CRC로 검사해 쓰기 위치를 복구하고, checkpoint부터 재기록을 이어간다.
+ *
+ * DB가 계속 거부하는 레코드(제약 조건 위반 등)는 {dir}/audit-spool.quarantine에 한 줄씩 JSON으로 옮겨 두고
+ * 재기록 위치를 넘긴다 - 운영자가 원인을 고친 뒤 수동으로 다시 넣는다.
+ *
+ * Metrics: auth.audit.spool.segments, auth.audit.spool.corrupted
+ */
+@Slf4j
+@Component
+public class MappedAuditSpool implements AuditSpool {
+
+    static final String SEGMENT_PREFIX = "audit-spool-";
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String CHECKPOINT_FILE = "audit-spool.checkpoint";
+    static final String QUARANTINE_FILE = "audit-spool.quarantine";
+
+    private static final String METRIC_PREFIX = "auth.audit.spool";
+    private static final int HEADER_BYTES = 8;
+    private static final int TAIL_CLEAR_BYTES = 4_096;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final boolean forceOnAppend;
+
+    // 쓰기 세그먼트 - writeBuffer.position()이 다음 레코드 위치 (세그먼트가 없으면 null)
+    private long writeSequence;
+    private MappedByteBuffer writeBuffer;
+
+    // 재기록 위치 (checkpoint)
+    private long readSequence;
+    private int readOffset;
+    private long readMappedSequence = -1;
+    private MappedByteBuffer readBuffer;
+
+    private final Counter corrupted;
+
+    @Autowired
+    public MappedAuditSpool(
+            AuthProperties authProperties,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(
+                authProperties.getAuditWriter().getSpool(),
+                objectMapper,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    public MappedAuditSpool(
+            AuthProperties.AuditWriterConfig.SpoolConfig config,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.directory = Path.of(config.getDir());
+        this.objectMapper = objectMapper;
+        this.segmentBytes = config.getSegmentBytes();
+        this.maxSegments = Math.max(1, config.getMaxSegments());
+        this.forceOnAppend = config.isForceOnAppend();
+        this.corrupted = Counter.builder(METRIC_PREFIX + ".corrupted")
+                .description("손상되어 재기록하지 못한 spool 레코드").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".segments", this, MappedAuditSpool::segmentCount)
+                .description("재기록 대기 중인 spool 세그먼트 수").register(meterRegistry);
+
+        recover();
+    }
+
+    /**
+     * spool 뒤에 감사 로그 추가
+     *
+     * 세그먼트가 가득 차면 다음 세그먼트로 회전하고, maxSegments에 도달하면 더 기록하지 않는다.
+     */
+    @Override
+    public synchronized int append(List<AuditLog> auditLogs) {
+        int stored = 0;
+        try {
+            for (AuditLog auditLog : auditLogs) {
+                byte[] payload = objectMapper.writeValueAsBytes(auditLog);
+                if (!ensureCapacity(HEADER_BYTES + payload.length)) {
+                    break;
+                }
+                write(payload);
+                stored++;
+            }
+        } catch (IOException e) {
+            log.error("감사 로그 spool 기록 실패: dir={}", directory, e);
+        }
+        if (stored > 0 && forceOnAppend) {
+            writeBuffer.force();
+        }
+        return stored;
+    }
+
+    @Override
+    public synchronized boolean hasPending() {
+        return writeBuffer != null
+                && (readSequence < writeSequence || readOffset < writeBuffer.position());
+    }
+
+    /**
+     * 재기록할 다음 레코드 묶음 (읽기 위치는 acknowledge 전까지 바뀌지 않음)
+     *
+     * 모두 읽은 세그먼트는 여기서 삭제하고 다음 세그먼트로 넘어간다.
+     *
+     * @return 재기록 대기 레코드가 없으면 null
+     */
+    public synchronized ReplayBatch nextBatch(int maxRecords) {
+        try {
+            while (hasPending()) {
+                MappedByteBuffer buffer = readSegment();
+                int limit = readSequence == writeSequence ? writeBuffer.position() : segmentBytes;
+
+                List<AuditLog> auditLogs = new ArrayList<>();
+                int offset = readOffset;
+                while (auditLogs.size() < maxRecords && offset + HEADER_BYTES <= limit) {
+                    int length = buffer.getInt(offset);
+                    if (length <= 0 || offset + HEADER_BYTES + length > limit) {
+                        break;
+                    }
+                    byte[] payload = new byte[length];
+                    buffer.get(offset + HEADER_BYTES, payload);
+                    if (crc(payload) != buffer.getInt(offset + 4)) {
+                        // 레코드 경계를 잃었으므로 세그먼트의 나머지는 건너뛴다
+                        corrupted.increment();
+                        log.error("손상된 spool 레코드 - 세그먼트 나머지 건너뜀: sequence={}, offset={}",
+                                readSequence, offset);
+                        offset = limit;
+                        break;
+                    }
+                    offset += HEADER_BYTES + length;
+                    decode(payload, auditLogs);
+                }
+
+                if (offset > readOffset) {
+                    return new ReplayBatch(List.copyOf(auditLogs), readSequence, offset);
+                }
+                if (readSequence == writeSequence) {
+                    return null;
+                }
+                finishReadSegment();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 spool 읽기 실패: " + directory, e);
+        }
+    }
+
+    /**
+     * 재기록 완료 확인 - 읽기 위치를 batch 끝으로 옮기고 checkpoint 저장
+     */
+    public synchronized void acknowledge(ReplayBatch batch) {
+        readSequence = batch.sequence();
+        readOffset = batch.endOffset();
+        saveCheckpoint();
+    }
+
+    /**
+     * DB가 거부한 레코드 격리 - quarantine 파일 끝에 {quarantinedAt, error, auditLog} 한 줄 추가
+     *
+     * 디스크까지 동기화한 뒤 반환하므로, 이후 acknowledge로 재기록 위치를 넘겨도 레코드는 남는다.
+     *
+     * @throws UncheckedIOException 기록하지 못한 경우 (재기록 위치를 넘기면 안 됨)
+     */
+    public synchronized void quarantine(AuditLog auditLog, String error) {
+        try {
+            ObjectNode line = objectMapper.createObjectNode();
+            line.put("quarantinedAt", Instant.now().toString());
+            line.put("error", error);
+            line.set("auditLog", objectMapper.valueToTree(auditLog));
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(QUARANTINE_FILE),
+                    (objectMapper.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 quarantine 기록 실패: " + directory, e);
+        }
+    }
+
+    /**
+     * 재기록 대기 중인 세그먼트 수
+     */
+    public synchronized int segmentCount() {
+        return writeBuffer == null ? 0 : (int) (writeSequence - readSequence + 1);
+    }
+
+    private boolean ensureCapacity(int recordBytes) throws IOException {
+        if (recordBytes > segmentBytes) {
+            log.error("감사 로그가 spool 세그먼트보다 큼: bytes={}, segmentBytes={}", recordBytes, segmentBytes);
+            return false;
+        }
+        if (writeBuffer == null) {
+            Files.createDirectories(directory);
+            Files.deleteIfExists(directory.resolve(CHECKPOINT_FILE));
+            openWriteSegment(0);
+            readSequence = 0;
+            readOffset = 0;
+            return true;
+        }
+        if (writeBuffer.remaining() >= recordBytes) {
+            return true;
+        }
+        if (segmentCount() >= maxSegments) {
+            log.error("감사 로그 spool 용량 초과: segments={}, dir={}", segmentCount(), directory);
+            return false;
+        }
+        openWriteSegment(writeSequence + 1);
+        return true;
+    }
+
+    private void write(byte[] payload) {
+        int position = writeBuffer.position();
+        writeBuffer.put(position + HEADER_BYTES, payload);
+        writeBuffer.putInt(position + 4, crc(payload));
+        // 길이를 마지막에 기록 - 중간에 끊긴 레코드는 길이 0으로 남는다
+        writeBuffer.putInt(position, payload.length);
+        writeBuffer.position(position + HEADER_BYTES + payload.length);
+    }
+
+    private void openWriteSegment(long sequence) throws IOException {
+        writeBuffer = map(sequence, FileChannel.MapMode.READ_WRITE);
+        writeSequence = sequence;
+    }
+
+    private MappedByteBuffer readSegment() throws IOException {
+        if (readSequence == writeSequence) {
+            return writeBuffer;
+        }
+        if (readMappedSequence != readSequence) {
+            readBuffer = map(readSequence, FileChannel.MapMode.READ_ONLY);
+            readMappedSequence = readSequence;
+        }
+        return readBuffer;
+    }
+
+    private void finishReadSegment() throws IOException {
+        Files.deleteIfExists(segmentPath(readSequence));
+        log.info("감사 로그 spool 세그먼트 재기록 완료: sequence={}", readSequence);
+        readSequence++;
+        readOffset = 0;
+        readBuffer = null;
+        readMappedSequence = -1;
+        saveCheckpoint();
+    }
+
+    private MappedByteBuffer map(long sequence, FileChannel.MapMode mode) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_WRITE
+                ? new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ};
+        try (FileChannel channel = FileChannel.open(segmentPath(sequence), options)) {
+            return channel.map(mode, 0, mode == FileChannel.MapMode.READ_WRITE ? segmentBytes : channel.size());
+        }
+    }
+
+    private void decode(byte[] payload, List<AuditLog> auditLogs) {
+        try {
+            auditLogs.add(objectMapper.readValue(payload, AuditLog.class));
+        } catch (IOException e) {
+            corrupted.increment();
+            log.error("spool 레코드 역직렬화 실패 - 건너뜀: {}", new String(payload, StandardCharsets.UTF_8), e);
+        }
+    }
+
+    /**
+     * 기동 시 복구 - 마지막 세그먼트의 쓰기 위치와 checkpoint의 읽기 위치
+     *
+     * 복구하지 못하면 감사 로그 유실을 막기 위해 기동을 중단한다.
+     */
+    private synchronized void recover() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try {
+            List<Long> sequences = listSegments();
+            if (sequences.isEmpty()) {
+                return;
+            }
+            long first = sequences.get(0);
+            long last = sequences.get(sequences.size() - 1);
+
+            openWriteSegment(last);
+            int end = scanEnd(writeBuffer);
+            clearTornTail(end);
+            writeBuffer.position(end);
+
+            readSequence = first;
+            readOffset = 0;
+            loadCheckpoint(first, last);
+
+            if (hasPending()) {
+                log.warn("감사 로그 spool 재기록 대기: segments={}, from={}:{}", segmentCount(), readSequence, readOffset);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("감사 로그 spool 복구 실패: " + directory, e);
+        }
+    }
+
+    /**
+     * 끊긴 레코드의 잔여 바이트가 다음 레코드로 읽히지 않도록, 0으로 채워진 페이지가 나올 때까지 지운다
+     */
+    private void clearTornTail(int end) {
+        byte[] zeros = new byte[TAIL_CLEAR_BYTES];
+        for (int position = end; position < segmentBytes; position += TAIL_CLEAR_BYTES) {
+            int length = Math.min(TAIL_CLEAR_BYTES, segmentBytes - position);
+            if (isZero(writeBuffer, position, length)) {
+                return;
+            }
+            writeBuffer.put(position, zeros, 0, length);
+        }
+    }
+
+    private static boolean isZero(ByteBuffer buffer, int from, int length) {
+        for (int i = from; i < from + length; i++) {
+            if (buffer.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int scanEnd(ByteBuffer buffer) {
+        int position = 0;
+        while (position + HEADER_BYTES <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_BYTES + length > buffer.limit()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_BYTES, payload);
+            if (crc(payload) != buffer.getInt(position + 4)) {
+                break;
+            }
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void loadCheckpoint(long first, long last) throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpoint)) {
+            return;
+        }
+        String[] parts = Files.readString(checkpoint).trim().split(":");
+        long sequence = Long.parseLong(parts[0]);
+        int offset = Integer.parseInt(parts[1]);
+        if (sequence >= first && sequence <= last) {
+            readSequence = sequence;
+            readOffset = sequence == last ? Math.min(offset, writeBuffer.position()) : offset;
+        }
+    }
+
+    private void saveCheckpoint() {
+        try {
+            Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+            Files.writeString(temp, readSequence + ":" + readOffset);
+            Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // 다음 기동 시 이전 checkpoint부터 다시 재기록 - ULID 멱등 INSERT라 중복 행은 생기지 않는다
+            log.warn("감사 로그 spool checkpoint 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", sequence) + SEGMENT_SUFFIX);
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 재기록 단위 - sequence 세그먼트의 endOffset까지 읽은 레코드
+     */
+    public record ReplayBatch(List<AuditLog> auditLogs, long sequence, int endOffset) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.OutboxMessage;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * outbox 메시지 전달 대상
+ *
+ * OutboxRelay가 기록 순으로 넘긴 배치를 같은 순서로 보내고, 모두 확인(ack)된 뒤에 반환한다.
+ * 하나라도 실패하거나 timeout 안에 확인되지 않으면 예외를 던진다 - relay는 배치 전체를 다음 주기에 다시 보낸다
+ * (maxAttempts번 실패하면 한 건씩 보내 전달 불가 메시지를 격리).
+ * topic = topicPrefix + "." + OutboxMessage.topicSuffix(), key = aggregateId
+ */
+public interface OutboxBroker {
+
+    void send(String topicPrefix, List<OutboxMessage> messages, Duration timeout);
+}
@@ -0,0 +1,258 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.OutboxMessage;
+import com.inspecthub.auth.mapper.OutboxMapper;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.config.AuthProperties.OutboxConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox relay
+ *
+ * pollIntervalMillis마다 outbox_message를 기록 순(DB가 부여한 seq)으로 batchSize건 읽어 broker로 보내고,
+ * broker가 모두 확인한 뒤 같은 트랜잭션에서 삭제한다. 대기 메시지가 batchSize 이상이면 비울 때까지 이어서 보낸다.
+ *
+ * - at-least-once: 전송 후 삭제 전에 죽으면 다음 relay가 같은 메시지를 다시 보낸다 (소비자는 outbox-id로 중복 제거)
+ * - 집계별 순서: 한 번에 한 노드만 relay하도록 트랜잭션 advisory lock을 잡고, 실패한 배치는 건너뛰지 않고
+ *   다음 주기에 처음부터 다시 보낸다 (앞선 메시지가 전달되기 전에는 뒤 메시지를 확정하지 않음)
+ * - poison message 격리: 배치 맨 앞 메시지가 maxAttempts번 실패하면 배치를 한 건씩 다시 보낸다 (isolate)
+ *   실패한 메시지의 집계만 이번 주기에 건너뛰고, 다른 메시지는 전달되는데 계속 실패하는 메시지는 outbox_dead_letter로 옮긴다.
+ *
+ * Metrics: auth.outbox.published, auth.outbox.relay.failures, auth.outbox.parked (0 초과 시 알림 대상),
+ *          auth.outbox.delivery.latency (기록 -> ack)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String METRIC_PREFIX = "auth.outbox";
+
+    /**
+     * pg_try_advisory_xact_lock 키 ("outbox")
+     */
+    static final long RELAY_LOCK_KEY = 0x6f7574626f78L;
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    /**
+     * 한 건씩 보낼 때 전달 성공 없이 이만큼 연속 실패하면 broker 장애로 보고 격리하지 않는다
+     */
+    static final int OUTAGE_FAILURES = 2;
+
+    private final OutboxMapper outboxMapper;
+    private final OutboxBroker broker;
+    private final TransactionOperations transaction;
+    private final OutboxConfig config;
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter published;
+    private final Counter failures;
+    private final Counter parked;
+    private final Timer deliveryLatency;
+
+    @Autowired
+    public OutboxRelay(
+            OutboxMapper outboxMapper,
+            OutboxBroker broker,
+            PlatformTransactionManager transactionManager,
+            AuthProperties authProperties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(outboxMapper, broker, new TransactionTemplate(transactionManager), authProperties.getOutbox(),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /**
+     * @param transaction relay 1회(잠금 - 조회 - 전송 - 삭제)를 감싸는 트랜잭션
+     */
+    public OutboxRelay(
+            OutboxMapper outboxMapper,
+            OutboxBroker broker,
+            TransactionOperations transaction,
+            OutboxConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxMapper = outboxMapper;
+        this.broker = broker;
+        this.transaction = transaction;
+        this.config = config;
+        this.published = Counter.builder(METRIC_PREFIX + ".published")
+                .description("broker로 전달된 outbox 메시지").register(meterRegistry);
+        this.failures = Counter.builder(METRIC_PREFIX + ".relay.failures")
+                .description("실패한 outbox 배치 전송").register(meterRegistry);
+        this.parked = Counter.builder(METRIC_PREFIX + ".parked")
+                .description("전달 불가로 outbox_dead_letter에 격리된 메시지").register(meterRegistry);
+        this.deliveryLatency = Timer.builder(METRIC_PREFIX + ".delivery.latency")
+                .description("outbox 기록부터 broker 확인까지").register(meterRegistry);
+
+        if (config.isEnabled() && config.getPollIntervalMillis() > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "outbox-relay");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(
+                    this::relaySafely, config.getPollIntervalMillis(), config.getPollIntervalMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * 대기 메시지를 모두 전달 (실패하거나 다른 노드가 relay 중이면 중단)
+     *
+     * @return 전달된 건수
+     */
+    public int relay() {
+        int batchSize = Math.max(1, config.getBatchSize());
+        int total = 0;
+        int sent;
+        do {
+            sent = relayOnce(batchSize);
+            total += sent;
+        } while (sent == batchSize);
+        return total;
+    }
+
+    private int relayOnce(int batchSize) {
+        Integer sent = transaction.execute(status -> {
+            if (!outboxMapper.tryRelayLock(RELAY_LOCK_KEY)) {
+                return 0;
+            }
+            List<OutboxMessage> pending = outboxMapper.findPending(batchSize);
+            if (pending.isEmpty()) {
+                return 0;
+            }
+            List<String> ids = pending.stream().map(OutboxMessage::getId).toList();
+            try {
+                send(pending);
+            } catch (RuntimeException e) {
+                failures.increment();
+                outboxMapper.markFailed(ids, truncate(e.getMessage()));
+                int attempts = pending.get(0).getAttempts() + 1;
+                log.warn("outbox 전송 실패 - 다음 주기에 재전송: count={}, firstId={}, attempts={}, error={}",
+                        pending.size(), ids.get(0), attempts, e.getMessage());
+                if (config.getMaxAttempts() <= 0 || attempts < config.getMaxAttempts()) {
+                    return 0;
+                }
+                return isolate(pending);
+            }
+            complete(pending);
+            return pending.size();
+        });
+        return sent == null ? 0 : sent;
+    }
+
+    /**
+     * 반복 실패한 배치를 한 건씩 보내 전달 불가 메시지를 찾는다
+     *
+     * - 실패한 메시지의 집계(topic + key)는 이번 주기에서 건너뛴다 (같은 집계의 뒤 메시지가 앞서 전달되지 않도록)
+     * - 다른 메시지는 전달되는데 실패한 메시지 중 maxAttempts에 도달한 것은 outbox_dead_letter로 옮긴다
+     * - 전달 성공 없이 OUTAGE_FAILURES번 연속 실패하면 broker 장애로 보고 아무것도 옮기지 않는다
+     *
+     * @return 전달된 건수
+     */
+    private int isolate(List<OutboxMessage> pending) {
+        Set<String> blocked = new HashSet<>();
+        List<OutboxMessage> delivered = new ArrayList<>();
+        Map<OutboxMessage, String> rejected = new LinkedHashMap<>();
+        for (OutboxMessage message : pending) {
+            String partition = message.topicSuffix() + ":" + message.getAggregateId();
+            if (blocked.contains(partition)) {
+                continue;
+            }
+            try {
+                send(List.of(message));
+                delivered.add(message);
+            } catch (RuntimeException e) {
+                blocked.add(partition);
+                rejected.put(message, truncate(e.getMessage()));
+                if (delivered.isEmpty() && rejected.size() >= OUTAGE_FAILURES) {
+                    log.warn("outbox 개별 전송도 연속 실패 - broker 장애로 보고 격리하지 않음: firstId={}",
+                            pending.get(0).getId());
+                    return 0;
+                }
+            }
+        }
+        if (delivered.isEmpty()) {
+            return 0;
+        }
+
+        rejected.forEach((message, error) -> {
+            if (message.getAttempts() + 1 >= config.getMaxAttempts()) {
+                park(message, error);
+            }
+        });
+        complete(delivered);
+        return delivered.size();
+    }
+
+    private void park(OutboxMessage message, String error) {
+        outboxMapper.insertDeadLetter(message.getId(), error);
+        outboxMapper.deleteByIds(List.of(message.getId()));
+        parked.increment();
+        log.error("outbox 메시지 격리 (outbox_dead_letter): id={}, aggregate={}:{}, eventType={}, attempts={}, error={}",
+                message.getId(), message.getAggregateType(), message.getAggregateId(), message.getEventType(),
+                message.getAttempts() + 1, error);
+    }
+
+    private void send(List<OutboxMessage> messages) {
+        broker.send(config.getTopicPrefix(), messages, Duration.ofMillis(config.getSendTimeoutMillis()));
+    }
+
+    private void complete(List<OutboxMessage> delivered) {
+        outboxMapper.deleteByIds(delivered.stream().map(OutboxMessage::getId).toList());
+        published.increment(delivered.size());
+        LocalDateTime now = LocalDateTime.now();
+        delivered.forEach(message -> {
+            if (message.getCreatedAt() != null) {
+                deliveryLatency.record(Duration.between(message.getCreatedAt(), now));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    private void relaySafely() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.error("outbox relay 중 오류", e);
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,94 @@
+package com.inspecthub.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.domain.OutboxMessage;
+import com.inspecthub.auth.mapper.OutboxMapper;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.config.AuthProperties.OutboxConfig;
+import com.inspecthub.common.outbox.DomainEventOutbox;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * outbox 기록
+ *
+ * common의 DomainEventOutbox 구현. 호출자 트랜잭션에 참여하며 트랜잭션 밖에서 호출하면 실패한다
+ * (변경과 이벤트가 함께 커밋/롤백되어야 하므로).
+ * 감사 로그는 AuditLogBatchInserter가 audit_log 배치 INSERT와 같은 트랜잭션으로 auditMessages()를 기록한다.
+ */
+@Component
+public class OutboxWriter implements DomainEventOutbox {
+
+    static final String AUDIT_AGGREGATE = "AUDIT_LOG";
+
+    private final OutboxMapper outboxMapper;
+    private final ObjectMapper objectMapper;
+    private final OutboxConfig config;
+
+    @Autowired
+    public OutboxWriter(OutboxMapper outboxMapper, ObjectMapper objectMapper, AuthProperties authProperties) {
+        this(outboxMapper, objectMapper, authProperties.getOutbox());
+    }
+
+    public OutboxWriter(OutboxMapper outboxMapper, ObjectMapper objectMapper, OutboxConfig config) {
+        this.outboxMapper = outboxMapper;
+        this.objectMapper = objectMapper;
+        this.config = config;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, String aggregateId, String eventType, String payload) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        outboxMapper.insert(OutboxMessage.builder()
+                .id(UlidCreator.getMonotonicUlid().toString())
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 감사 로그 -> outbox 메시지 (비활성이면 빈 목록)
+     *
+     * 메시지 ID = 감사 로그 ID (spool 재기록 시 중복 기록 방지, 소비자 중복 제거 키)
+     * key = 해시 체인 ID - 같은 writer 체인의 로그가 순서대로 전달되어 소비자도 chainSeq/prevHash 연결을 확인할 수 있다.
+     * 전달 순서는 메시지 ID(감사 로그 ID, 단조 증가 아님)가 아니라 INSERT 순서(seq)이므로 목록 순서(= 체인 순서)를 유지해 기록한다.
+     */
+    public List<OutboxMessage> auditMessages(List<AuditLog> auditLogs) {
+        if (!config.isEnabled() || !config.isAuditEvents()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return auditLogs.stream()
+                .map(auditLog -> OutboxMessage.builder()
+                        .id(auditLog.getId())
+                        .aggregateType(AUDIT_AGGREGATE)
+                        .aggregateId(auditLog.getChainId() != null ? auditLog.getChainId() : auditLog.getId())
+                        .eventType(auditLog.getAction())
+                        .payload(toJson(auditLog))
+                        .createdAt(now)
+                        .build())
+                .toList();
+    }
+
+    private String toJson(AuditLog auditLog) {
+        try {
+            return objectMapper.writeValueAsString(auditLog);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("감사 로그 outbox 직렬화 실패: id=" + auditLog.getId(), e);
+        }
+    }
+}
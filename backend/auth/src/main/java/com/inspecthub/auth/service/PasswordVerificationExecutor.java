@@ -0,0 +1,160 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 비밀번호(BCrypt) 검증 전용 실행기
+ *
+ * BCrypt 해시 비교(~100ms)를 DB 트랜잭션/커넥션 밖의 고정 크기 스레드 풀에서 실행한다.
+ * 대기열(queueCapacity)이 가득 차면 작업을 쌓지 않고 즉시 AUTH_009(429)로 거절하여
+ * 로그인 폭주 시 Tomcat 스레드가 대기열 뒤에서 묶이지 않도록 한다 (Admission Control).
+ *
+ * Metrics:
+ * - auth.password.verify.duration: BCrypt 실행 시간
+ * - auth.password.verify.wait: 대기열 대기 시간
+ * - auth.password.verify.queue.depth: 현재 대기열 길이
+ * - auth.password.verify.rejected: 과부하로 거절된 요청 수
+ */
+@Slf4j
+@Component
+public class PasswordVerificationExecutor {
+
+    private static final String METRIC_PREFIX = "auth.password.verify";
+    private static final String OVERLOADED_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도하세요";
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    private final Timer duration;
+    private final Timer wait;
+    private final Counter rejected;
+
+    @Autowired
+    public PasswordVerificationExecutor(AuthProperties authProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(
+                authProperties.getPasswordVerification().getThreads(),
+                authProperties.getPasswordVerification().getQueueCapacity(),
+                Duration.ofMillis(authProperties.getPasswordVerification().getTimeoutMillis()),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    public PasswordVerificationExecutor(int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                new VerifierThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeout = timeout;
+
+        this.duration = Timer.builder(METRIC_PREFIX + ".duration")
+                .description("비밀번호 해시 검증 실행 시간").register(meterRegistry);
+        this.wait = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("비밀번호 검증 대기열 대기 시간").register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("과부하로 거절된 비밀번호 검증").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", executor, e -> e.getQueue().size())
+                .description("비밀번호 검증 대기열 길이").register(meterRegistry);
+
+        log.info("비밀번호 검증 실행기 초기화: threads={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 비밀번호 검증 실행
+     *
+     * @param check 해시 비교 (예: user.isPasswordMatch(raw, passwordEncoder))
+     * @return 일치 여부
+     * @throws BusinessException AUTH_009 - 대기열 포화, 제한 시간 초과
+     */
+    public boolean verify(BooleanSupplier check) {
+        long submittedAt = System.nanoTime();
+
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> {
+                wait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                long startedAt = System.nanoTime();
+                try {
+                    return check.getAsBoolean();
+                } finally {
+                    duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 검증 대기열 포화 - 요청 거절 (queue={})", executor.getQueue().size());
+            throw new BusinessException("AUTH_009", OVERLOADED_MESSAGE);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            log.warn("비밀번호 검증 제한 시간 초과: {}ms", timeout.toMillis());
+            throw new BusinessException("AUTH_009", OVERLOADED_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException("AUTH_009", OVERLOADED_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    /**
+     * 현재 대기열 길이
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 데몬 스레드 (password-verify-N)
+     */
+    private static class VerifierThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-verify-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
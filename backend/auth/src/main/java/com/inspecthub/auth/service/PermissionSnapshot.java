@@ -0,0 +1,26 @@
+package com.inspecthub.auth.service;
+
+import java.time.Instant;
+
+/**
+ * 사용자 권한 스냅샷 (불변)
+ *
+ * @param employeeId  사원ID
+ * @param authorities 컴파일된 권한 집합 (그룹 역할 + feature:action + 메뉴)
+ * @param version     컴파일 시점의 권한 카탈로그 버전 (현재 버전과 다르면 재컴파일)
+ * @param loadedAt    컴파일 시각
+ */
+public record PermissionSnapshot(
+        String employeeId,
+        CompiledAuthorities authorities,
+        long version,
+        Instant loadedAt
+) {
+
+    /**
+     * 권한 보유 여부 (O(1))
+     */
+    public boolean hasAuthority(String authority) {
+        return authorities.hasAuthority(authority);
+    }
+}
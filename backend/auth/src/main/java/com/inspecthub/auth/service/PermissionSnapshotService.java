@@ -0,0 +1,211 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.PermissionGrant;
+import com.inspecthub.auth.repository.PermissionRepository;
+import com.inspecthub.common.cache.BoundedCache;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 권한 스냅샷 서비스
+ *
+ * 사용자의 권한 그룹, feature:action 권한, 메뉴 접근을 한 번의 조회로 가져와
+ * BitSet 기반 CompiledAuthorities로 컴파일하고 사원ID별로 캐시한다.
+ * 요청 경로(JwtAuthenticationFilter)는 캐시 적중 시 DB 조회 없이 스냅샷을 사용한다.
+ *
+ * 무효화:
+ * - permission_version: 권한 테이블 변경 시 DB 트리거가 올리는 버전을 versionCheckMillis마다 확인해
+ *   바뀌었으면 invalidateAll() - 변경 경로(다른 노드, 수동 SQL 등)와 무관하게 모든 노드에 반영
+ * - invalidate(employeeId): 한 사용자의 그룹 매핑 변경 시 (이 노드에서 즉시)
+ * - invalidateAll(): 그룹/권한/메뉴 카탈로그 변경 시 - 버전만 올리고 각 항목은 다음 조회 때 재컴파일
+ * - ttlSeconds: 버전 조회가 실패하는 동안의 반영 지연 상한
+ * - maxSize: 가득 차면 지난 버전/TTL 경과 항목 정리 후 10%를 임의 제거 (BoundedCache)
+ *
+ * Metrics: auth.permission.cache.gets{result=hit|miss}, auth.permission.cache.size
+ */
+@Slf4j
+@Service
+public class PermissionSnapshotService {
+
+    /**
+     * 인증된 모든 사용자에게 부여하는 기본 권한
+     */
+    public static final String DEFAULT_AUTHORITY = "ROLE_USER";
+
+    private static final String METRIC_PREFIX = "auth.permission.cache";
+
+    private final PermissionRepository permissionRepository;
+    private final AuthorityIndex authorityIndex = new AuthorityIndex();
+    private final BoundedCache<String, PermissionSnapshot> snapshots;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 마지막으로 확인한 DB 권한 버전 (null: 아직 확인 전)
+     */
+    private volatile Long dbVersion;
+    private final AtomicLong nextVersionCheckAt = new AtomicLong();
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final long versionCheckMillis;
+    private final Clock clock;
+
+    @Autowired
+    public PermissionSnapshotService(
+            PermissionRepository permissionRepository,
+            AuthProperties authProperties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(
+                permissionRepository,
+                authProperties.getPermissionCache(),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                Clock.systemUTC()
+        );
+    }
+
+    public PermissionSnapshotService(
+            PermissionRepository permissionRepository,
+            AuthProperties.PermissionCacheConfig config,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.permissionRepository = permissionRepository;
+        this.enabled = config.isEnabled() && config.getMaxSize() > 0;
+        this.ttl = Duration.ofSeconds(config.getTtlSeconds());
+        this.versionCheckMillis = config.getVersionCheckMillis();
+        this.clock = clock;
+        this.snapshots = new BoundedCache<>(config.getMaxSize(),
+                snapshot -> !isFresh(snapshot, version.get(), clock.instant()),
+                meterRegistry, METRIC_PREFIX, "권한 스냅샷");
+    }
+
+    /**
+     * 사용자 권한 스냅샷 조회
+     *
+     * 캐시된 스냅샷이 현재 버전이고 TTL 이내면 그대로 반환, 아니면 DB에서 다시 컴파일한다.
+     */
+    public PermissionSnapshot getSnapshot(String employeeId) {
+        Instant now = clock.instant();
+        if (enabled) {
+            checkDbVersion(now);
+        }
+        long currentVersion = version.get();
+
+        if (enabled) {
+            PermissionSnapshot cached = snapshots.get(employeeId);
+            if (cached != null && isFresh(cached, currentVersion, now)) {
+                snapshots.recordHit();
+                return cached;
+            }
+        }
+
+        snapshots.recordMiss();
+        long observedGeneration = generation.get();
+        // 조회 전에 읽은 버전으로 태깅 - 컴파일 중 invalidateAll()이 호출되면 다음 조회 때 다시 컴파일
+        PermissionSnapshot snapshot = compile(employeeId, currentVersion, now);
+        if (enabled) {
+            snapshots.put(employeeId, snapshot);
+            // 컴파일하는 동안 invalidate(employeeId)가 있었다면 방금 읽은 권한이 변경 전 값일 수 있다
+            if (generation.get() != observedGeneration) {
+                snapshots.remove(employeeId, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 한 사용자의 스냅샷 무효화 (사용자-그룹 매핑 변경 시)
+     */
+    public void invalidate(String employeeId) {
+        generation.incrementAndGet();
+        snapshots.remove(employeeId);
+    }
+
+    /**
+     * 전체 스냅샷 무효화 (그룹/권한/메뉴 카탈로그 변경 시)
+     *
+     * 버전만 증가시키므로 O(1)이며, 각 스냅샷은 다음 조회 때 재컴파일된다.
+     */
+    public void invalidateAll() {
+        long next = version.incrementAndGet();
+        log.info("권한 스냅샷 전체 무효화: version={}", next);
+    }
+
+    /**
+     * 현재 캐시 항목 수
+     */
+    public int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * DB 권한 버전 확인 - versionCheckMillis에 한 번, 한 스레드만 조회한다
+     *
+     * 조회 실패 시 기존 스냅샷을 유지하고 TTL로 반영 지연을 제한한다.
+     */
+    private void checkDbVersion(Instant now) {
+        if (versionCheckMillis <= 0) {
+            return;
+        }
+        long nowMillis = now.toEpochMilli();
+        long due = nextVersionCheckAt.get();
+        if (nowMillis < due || !nextVersionCheckAt.compareAndSet(due, nowMillis + versionCheckMillis)) {
+            return;
+        }
+
+        Long current;
+        try {
+            current = permissionRepository.findPermissionVersion();
+        } catch (RuntimeException e) {
+            log.warn("권한 버전 조회 실패 - TTL 기준으로 스냅샷 유지: {}", e.getMessage());
+            return;
+        }
+        if (current == null) {
+            return;
+        }
+
+        Long previous = dbVersion;
+        dbVersion = current;
+        if (previous != null && !previous.equals(current)) {
+            log.info("DB 권한 버전 변경: {} -> {}", previous, current);
+            invalidateAll();
+        }
+    }
+
+    private PermissionSnapshot compile(String employeeId, long snapshotVersion, Instant now) {
+        List<PermissionGrant> grants = permissionRepository.findGrantsByEmployeeId(employeeId);
+
+        List<String> authorities = new ArrayList<>(grants.size() + 1);
+        authorities.add(DEFAULT_AUTHORITY);
+        for (PermissionGrant grant : grants) {
+            authorities.add(grant.toAuthority());
+        }
+
+        log.debug("권한 스냅샷 컴파일: employeeId={}, grants={}", employeeId, grants.size());
+        return new PermissionSnapshot(
+                employeeId,
+                CompiledAuthorities.compile(authorityIndex, authorities),
+                snapshotVersion,
+                now
+        );
+    }
+
+    private boolean isFresh(PermissionSnapshot snapshot, long currentVersion, Instant now) {
+        return snapshot.version() == currentVersion
+                && now.isBefore(snapshot.loadedAt().plus(ttl));
+    }
+}
@@ -0,0 +1,180 @@
+package com.inspecthub.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.inspecthub.common.audit.AuditEvent;
+import com.inspecthub.common.audit.JsonPatch;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.config.AuthProperties.AuditPolicyRevisionConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 정책 변경 감사 로그 details 인코딩
+ *
+ * 정책(subjectType, subjectId)마다 직전에 기록한 상태를 메모리에 두고, 변경 전 상태가 그것과 같으면
+ * RFC 6902 JSON Patch만 저장한다. 아래 경우에는 변경 후 전체 상태(checkpoint)를 저장한다.
+ * - 이 프로세스에서 처음 보는 정책 (재기동 직후, 캐시에서 밀려난 정책)
+ * - 변경 전 상태가 직전 기록과 다름 (다른 노드에서 변경됨)
+ * - 직전 checkpoint 뒤로 checkpointInterval - 1개의 patch가 쌓임
+ * - 직전 기록이 저장되지 못함 (AuditLogWriter가 버리거나 유실 - forget으로 통지)
+ *
+ * details 형식:
+ * - {"format":"checkpoint","state":{...}}
+ * - {"format":"json-patch","base":"<적용 전 상태 digest>","patch":[...]}
+ * - {"format":"full","before":{...},"after":{...}} (대상 ID가 없는 변경)
+ *
+ * base digest로 복원 시 patch가 올바른 상태에 적용되는지 확인한다 (중간 이력이 유실되면 복원 실패로 드러남).
+ * 유실 통지 전에 이미 인코딩된 patch는 복원에 실패할 수 있으나, 통지 이후 변경은 checkpoint부터 다시 이어진다.
+ */
+@Slf4j
+@Component
+public class PolicyRevisionCodec {
+
+    public static final String FORMAT_CHECKPOINT = "checkpoint";
+    public static final String FORMAT_PATCH = "json-patch";
+    public static final String FORMAT_FULL = "full";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final ObjectMapper objectMapper;
+    private final int checkpointInterval;
+    private final Map<String, LastRevision> lastRevisions;
+
+    /**
+     * 정책별 직전 기록 상태
+     *
+     * @param patchesSinceCheckpoint 직전 checkpoint 뒤로 저장한 patch 수
+     */
+    private record LastRevision(JsonNode state, int patchesSinceCheckpoint) {
+    }
+
+    @Autowired
+    public PolicyRevisionCodec(AuthProperties authProperties, ObjectMapper objectMapper) {
+        this(authProperties.getAuditPolicyRevision(), objectMapper);
+    }
+
+    public PolicyRevisionCodec(AuditPolicyRevisionConfig config, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.checkpointInterval = Math.max(1, config.getCheckpointInterval());
+        int maxCachedSubjects = Math.max(1, config.getMaxCachedSubjects());
+        this.lastRevisions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LastRevision> eldest) {
+                return size() > maxCachedSubjects;
+            }
+        };
+    }
+
+    /**
+     * 정책 변경 -> details JSON
+     */
+    public synchronized String encode(AuditEvent.PolicyChanged change) {
+        JsonNode before = read(change.beforeJson());
+        JsonNode after = read(change.afterJson());
+        ObjectNode details = objectMapper.createObjectNode();
+
+        if (change.subjectId() == null) {
+            details.put("format", FORMAT_FULL);
+            details.set("before", before);
+            details.set("after", after);
+            return details.toString();
+        }
+
+        String subject = change.subjectType() + "/" + change.subjectId();
+        LastRevision last = lastRevisions.get(subject);
+        if (last != null && last.patchesSinceCheckpoint() + 1 < checkpointInterval && last.state().equals(before)) {
+            details.put("format", FORMAT_PATCH);
+            details.put("base", digest(before));
+            details.set("patch", JsonPatch.diff(before, after));
+            lastRevisions.put(subject, new LastRevision(after, last.patchesSinceCheckpoint() + 1));
+        } else {
+            details.put("format", FORMAT_CHECKPOINT);
+            details.set("state", after);
+            lastRevisions.put(subject, new LastRevision(after, 0));
+        }
+        return details.toString();
+    }
+
+    /**
+     * 정책의 직전 기록 상태 폐기 - 그 기록이 저장되지 못했으면 다음 변경은 checkpoint로 저장한다
+     */
+    public synchronized void forget(String subjectType, String subjectId) {
+        if (subjectId != null) {
+            lastRevisions.remove(subjectType + "/" + subjectId);
+        }
+    }
+
+    /**
+     * 상태 digest - 키 순서와 무관하도록 정렬한 JSON의 SHA-256 (앞 16바이트 hex)
+     */
+    public static String digest(JsonNode state) {
+        StringBuilder canonical = new StringBuilder();
+        appendCanonical(state, canonical);
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HEX.formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static void appendCanonical(JsonNode node, StringBuilder out) {
+        if (node.isObject()) {
+            Map<String, JsonNode> sorted = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                sorted.put(field.getKey(), field.getValue());
+            }
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, JsonNode> field : sorted.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                out.append(TextNode.valueOf(field.getKey()).toString()).append(':');
+                appendCanonical(field.getValue(), out);
+            }
+            out.append('}');
+        } else if (node.isArray()) {
+            out.append('[');
+            for (int i = 0; i < node.size(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                appendCanonical(node.get(i), out);
+            }
+            out.append(']');
+        } else {
+            out.append(node.toString());
+        }
+    }
+
+    /**
+     * JSON 문자열 -> 트리 (JSON이 아니면 문자열 노드, null이면 null 노드)
+     */
+    private JsonNode read(String json) {
+        if (json == null) {
+            return objectMapper.nullNode();
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            return objectMapper.getNodeFactory().textNode(json);
+        }
+    }
+}
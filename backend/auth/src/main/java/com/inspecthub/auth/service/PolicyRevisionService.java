@@ -0,0 +1,154 @@
+package com.inspecthub.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.common.audit.JsonPatch;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.exception.BusinessException;
+import com.inspecthub.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 정책 변경 버전 복원
+ *
+ * PolicyRevisionCodec이 기록한 이력에서 특정 감사 로그 시점의 정책 전체 상태를 만든다.
+ * 대상 로그부터 같은 정책의 이전 로그를 최신순으로 거슬러 올라가 가장 가까운 checkpoint를 찾고,
+ * 그 상태에 patch를 순서대로 적용한다. patch마다 base digest가 현재 상태와 같은지 확인하므로
+ * 중간 로그가 빠졌거나 다른 노드 기록이 섞인 경우 AUDIT_REVISION_BROKEN으로 실패한다.
+ */
+@Slf4j
+@Service
+public class PolicyRevisionService {
+
+    private final AuditLogMapper auditLogMapper;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+
+    /**
+     * 복원된 정책 버전
+     *
+     * @param patchesApplied checkpoint 상태에 적용한 patch 수
+     */
+    public record PolicyRevision(
+            String auditLogId,
+            String subjectType,
+            String subjectId,
+            String action,
+            String userId,
+            LocalDateTime timestamp,
+            JsonNode state,
+            int patchesApplied
+    ) {
+    }
+
+    @Autowired
+    public PolicyRevisionService(AuditLogMapper auditLogMapper, AuthProperties authProperties, ObjectMapper objectMapper) {
+        this(auditLogMapper, authProperties.getAuditPolicyRevision(), objectMapper);
+    }
+
+    public PolicyRevisionService(AuditLogMapper auditLogMapper, AuthProperties.AuditPolicyRevisionConfig config,
+                                 ObjectMapper objectMapper) {
+        this.auditLogMapper = auditLogMapper;
+        this.objectMapper = objectMapper;
+        this.pageSize = Math.max(1, config.getPageSize());
+    }
+
+    /**
+     * 감사 로그 ID 시점의 정책 상태
+     */
+    public PolicyRevision reconstruct(String auditLogId) {
+        AuditLog target = auditLogMapper.findById(auditLogId);
+        if (target == null) {
+            throw new BusinessException(ErrorCode.AUDIT_LOG_NOT_FOUND);
+        }
+        if (target.getSubjectType() == null || target.getSubjectId() == null) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR, "정책 변경 감사 로그가 아닙니다: " + auditLogId);
+        }
+
+        JsonNode details = read(target);
+        String format = details.path("format").asText();
+        if (PolicyRevisionCodec.FORMAT_FULL.equals(format)) {
+            return revision(target, details.path("after"), 0);
+        }
+
+        // 대상 로그부터 가장 가까운 checkpoint까지 (최신 -> 과거)
+        Deque<JsonNode> patches = new ArrayDeque<>();
+        patches.push(details);
+        JsonNode state = null;
+        LocalDateTime cursorTimestamp = target.getTimestamp();
+        String cursorId = target.getId();
+        if (PolicyRevisionCodec.FORMAT_CHECKPOINT.equals(format)) {
+            state = patches.pop().path("state");
+        } else if (!PolicyRevisionCodec.FORMAT_PATCH.equals(format)) {
+            throw broken(target, "알 수 없는 details 형식: " + target.getId());
+        }
+        while (state == null) {
+            List<AuditLog> page = auditLogMapper.findBySubjectAfter(
+                    target.getSubjectType(), target.getSubjectId(), cursorTimestamp, cursorId, pageSize);
+            if (page.isEmpty()) {
+                throw broken(target, "checkpoint를 찾지 못했습니다");
+            }
+            for (AuditLog row : page) {
+                JsonNode rowDetails = read(row);
+                String rowFormat = rowDetails.path("format").asText();
+                if (PolicyRevisionCodec.FORMAT_PATCH.equals(rowFormat)) {
+                    patches.push(rowDetails);
+                } else if (PolicyRevisionCodec.FORMAT_CHECKPOINT.equals(rowFormat)) {
+                    state = rowDetails.path("state");
+                    break;
+                } else if (PolicyRevisionCodec.FORMAT_FULL.equals(rowFormat)) {
+                    state = rowDetails.path("after");
+                    break;
+                } else {
+                    throw broken(target, "알 수 없는 details 형식: " + row.getId());
+                }
+            }
+            AuditLog last = page.get(page.size() - 1);
+            cursorTimestamp = last.getTimestamp();
+            cursorId = last.getId();
+        }
+
+        int applied = 0;
+        while (!patches.isEmpty()) {
+            JsonNode delta = patches.pop();
+            if (!delta.path("base").asText().equals(PolicyRevisionCodec.digest(state))) {
+                throw broken(target, "patch 적용 전 상태가 기록과 다릅니다");
+            }
+            try {
+                state = JsonPatch.apply(state, delta.path("patch"));
+            } catch (IllegalArgumentException e) {
+                throw broken(target, e.getMessage());
+            }
+            applied++;
+        }
+        return revision(target, state, applied);
+    }
+
+    private BusinessException broken(AuditLog target, String reason) {
+        log.warn("정책 변경 이력 복원 실패: auditLogId={}, subject={}/{}, reason={}",
+                target.getId(), target.getSubjectType(), target.getSubjectId(), reason);
+        return new BusinessException(ErrorCode.AUDIT_REVISION_BROKEN);
+    }
+
+    private JsonNode read(AuditLog row) {
+        try {
+            return objectMapper.readTree(row.getDetails() == null ? "{}" : row.getDetails());
+        } catch (Exception e) {
+            return objectMapper.createObjectNode();
+        }
+    }
+
+    private static PolicyRevision revision(AuditLog target, JsonNode state, int patchesApplied) {
+        return new PolicyRevision(target.getId(), target.getSubjectType(), target.getSubjectId(),
+                target.getAction(), target.getUserId(), target.getTimestamp(), state, patchesApplied);
+    }
+}
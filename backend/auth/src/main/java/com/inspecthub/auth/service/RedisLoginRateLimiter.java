@@ -0,0 +1,97 @@
+package com.inspecthub.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Redis 기반 슬라이딩 윈도우 로그인 시도 제한기 (다중 노드 공유)
+ *
+ * LocalLoginRateLimiter와 같은 직전/현재 윈도우 가중 추정을 Lua 스크립트 한 번으로 원자적으로 수행한다.
+ * 키: auth:login-rate:{scope}:{key}:{windowIndex} - 해시 태그로 같은 키의 윈도우는 같은 슬롯에 배치
+ *
+ * Redis 호출이 실패하면 노드 로컬 제한기(fallback)로 판단한다.
+ */
+@Slf4j
+public class RedisLoginRateLimiter implements LoginRateLimiter {
+
+    private static final String KEY_PREFIX = "auth:login-rate:";
+
+    /**
+     * KEYS[1]=현재 윈도우, KEYS[2]=직전 윈도우
+     * ARGV[1]=limit, ARGV[2]=직전 윈도우 가중치, ARGV[3]=키 만료(ms)
+     */
+    private static final RedisScript<Long> SLIDING_WINDOW = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if previous * tonumber(ARGV[2]) + current + 1 > tonumber(ARGV[1]) then
+              return 0
+            end
+            redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String scope;
+    private final int limit;
+    private final long windowMillis;
+    private final LoginRateLimiter fallback;
+    private final LongSupplier clock;
+
+    public RedisLoginRateLimiter(
+            StringRedisTemplate redisTemplate,
+            String scope,
+            int limit,
+            Duration window,
+            LoginRateLimiter fallback
+    ) {
+        this(redisTemplate, scope, limit, window, fallback, System::currentTimeMillis);
+    }
+
+    public RedisLoginRateLimiter(
+            StringRedisTemplate redisTemplate,
+            String scope,
+            int limit,
+            Duration window,
+            LoginRateLimiter fallback,
+            LongSupplier clock
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.scope = scope;
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.fallback = fallback;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean tryAcquire(String key) {
+        long now = clock.getAsLong();
+        long index = now / windowMillis;
+        double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+
+        try {
+            Long allowed = redisTemplate.execute(
+                    SLIDING_WINDOW,
+                    List.of(windowKey(key, index), windowKey(key, index - 1)),
+                    String.valueOf(limit),
+                    String.valueOf(previousWeight),
+                    String.valueOf(windowMillis * 2)
+            );
+            return allowed == null || allowed == 1L;
+        } catch (RuntimeException e) {
+            log.warn("Redis 로그인 시도 제한 실패 - 로컬 제한기로 대체: scope={}, error={}", scope, e.getMessage());
+            return fallback.tryAcquire(key);
+        }
+    }
+
+    private String windowKey(String key, long index) {
+        return KEY_PREFIX + scope + ":{" + key + "}:" + index;
+    }
+}
@@ -0,0 +1,67 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.UserId;
+import com.inspecthub.auth.repository.CachingUserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 기반 사용자 near-cache 무효화 전파
+ *
+ * 메시지: {nodeId}|{E=사원ID, I=사용자ID}|{key}
+ * 자신이 보낸 메시지는 이미 로컬에서 제거했으므로 무시한다.
+ * 발행 실패는 로그만 남기며, 다른 노드의 항목은 TTL 경과 후 갱신된다.
+ */
+@Slf4j
+public class RedisUserCacheInvalidation implements UserCacheInvalidationPublisher, MessageListener {
+
+    public static final String CHANNEL = "auth:user-cache:invalidate";
+
+    private static final String EMPLOYEE_ID = "E";
+    private static final String USER_ID = "I";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CachingUserRepository userCache;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisUserCacheInvalidation(StringRedisTemplate redisTemplate, CachingUserRepository userCache) {
+        this.redisTemplate = redisTemplate;
+        this.userCache = userCache;
+    }
+
+    @Override
+    public void publishEmployeeId(String employeeId) {
+        send(EMPLOYEE_ID, employeeId);
+    }
+
+    @Override
+    public void publishUserId(UserId id) {
+        send(USER_ID, id.getValue());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        switch (parts[1]) {
+            case EMPLOYEE_ID -> userCache.evictLocal(parts[2]);
+            case USER_ID -> userCache.evictLocal(UserId.of(parts[2]));
+            default -> log.debug("알 수 없는 사용자 캐시 무효화 메시지: {}", parts[1]);
+        }
+    }
+
+    private void send(String type, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + type + "|" + key);
+        } catch (RuntimeException e) {
+            log.warn("사용자 캐시 무효화 전파 실패 - 다른 노드는 TTL 후 반영: key={}, error={}", key, e.getMessage());
+        }
+    }
+}
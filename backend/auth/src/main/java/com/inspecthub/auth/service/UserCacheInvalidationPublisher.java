@@ -0,0 +1,21 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.UserId;
+
+/**
+ * 사용자 near-cache 무효화 전파 (다른 노드 대상)
+ *
+ * 사용자 행을 변경한 노드가 커밋 후 호출한다. 수신 노드는 자신의 캐시에서 해당 항목만 제거한다.
+ */
+public interface UserCacheInvalidationPublisher {
+
+    /**
+     * 사원ID 기준 무효화 전파
+     */
+    void publishEmployeeId(String employeeId);
+
+    /**
+     * 사용자 ID 기준 무효화 전파 (잠금/실패 횟수 등 ID로만 갱신하는 경우)
+     */
+    void publishUserId(UserId id);
+}
@@ -0,0 +1,62 @@
+package com.inspecthub.auth.service;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT의 불변 Claims 뷰
+ *
+ * JwtTokenProvider.verify()가 토큰을 한 번만 파싱/검증한 뒤 반환한다.
+ * 필터/서비스는 이 객체에서 필요한 값을 꺼내 쓰므로 같은 토큰을 다시 파싱하지 않는다.
+ *
+ * @param type       토큰 타입 (access, refresh)
+ * @param employeeId 사원ID (JWT subject)
+ * @param userId     사용자 ID (ULID, Refresh Token은 null)
+ * @param expiresAt  만료 시각 (JWT exp)
+ */
+public record VerifiedToken(
+        String type,
+        String employeeId,
+        String userId,
+        Instant expiresAt
+) {
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    /**
+     * 검증된 Claims에서 생성
+     */
+    public static VerifiedToken from(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                claims.get("type", String.class),
+                claims.getSubject(),
+                claims.get("userId", String.class),
+                expiration != null ? expiration.toInstant() : null
+        );
+    }
+
+    /**
+     * Access Token 여부
+     */
+    public boolean isAccessToken() {
+        return ACCESS.equals(type);
+    }
+
+    /**
+     * Refresh Token 여부
+     */
+    public boolean isRefreshToken() {
+        return REFRESH.equals(type);
+    }
+
+    /**
+     * 기준 시각에 만료되었는지 확인
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
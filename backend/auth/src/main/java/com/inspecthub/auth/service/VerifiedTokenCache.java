@@ -0,0 +1,140 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.common.cache.BoundedCache;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+
+/**
+ * 검증된 Access Token 캐시
+ *
+ * 같은 Access Token이 화면당 수십 번 재사용되므로, 한 번 서명 검증한 결과를
+ * 토큰 다이제스트(SHA-256) 기준으로 보관하여 HMAC 검증과 JSON 파싱을 생략한다.
+ *
+ * - Key: 토큰 전체의 SHA-256 다이제스트 (서명부만 키로 쓰면 payload 위조에 취약)
+ * - 만료: 토큰 exp 시각이 지나면 조회 시 제거 (캐시가 만료 토큰을 통과시키지 않음)
+ * - 크기 제한: maxSize 초과 시 만료 항목 정리 후 10%를 임의 제거 (BoundedCache, amortized O(1))
+ * - Metrics: auth.token.cache.gets{result=hit|miss}, auth.token.cache.evictions, auth.token.cache.size
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final String METRIC_PREFIX = "auth.token.cache";
+
+    private final BoundedCache<String, VerifiedToken> entries;
+    private final boolean enabled;
+    private final Clock clock;
+
+    private final Counter evictions;
+
+    @Autowired
+    public VerifiedTokenCache(AuthProperties authProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(
+                authProperties.getJwt().getTokenCache().isEnabled(),
+                authProperties.getJwt().getTokenCache().getMaxSize(),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                Clock.systemUTC()
+        );
+    }
+
+    public VerifiedTokenCache(boolean enabled, int maxSize, MeterRegistry meterRegistry, Clock clock) {
+        this.enabled = enabled && maxSize > 0;
+        this.clock = clock;
+        this.entries = new BoundedCache<>(maxSize, verified -> verified.isExpiredAt(clock.instant()),
+                meterRegistry, METRIC_PREFIX, "검증된 토큰");
+        this.evictions = Counter.builder(METRIC_PREFIX + ".evictions")
+                .description("만료 또는 용량 초과로 제거된 항목").register(meterRegistry);
+    }
+
+    /**
+     * 캐시 비활성 인스턴스 (JwtTokenProvider 단독 생성 시 사용)
+     */
+    public static VerifiedTokenCache disabled() {
+        return new VerifiedTokenCache(false, 0, new SimpleMeterRegistry(), Clock.systemUTC());
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @param token JWT 문자열
+     * @return 만료되지 않은 검증 결과, 없으면 null
+     */
+    public VerifiedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        String key = digest(token);
+        VerifiedToken cached = entries.get(key);
+        if (cached == null) {
+            entries.recordMiss();
+            return null;
+        }
+
+        if (cached.isExpiredAt(clock.instant())) {
+            // exp가 지난 토큰은 캐시에서 제거하고 정식 검증 경로(ExpiredJwtException)로 보낸다
+            if (entries.remove(key, cached)) {
+                evictions.increment();
+            }
+            entries.recordMiss();
+            return null;
+        }
+
+        entries.recordHit();
+        return cached;
+    }
+
+    /**
+     * 검증 성공한 토큰 저장
+     *
+     * exp가 없는 토큰은 만료 시점을 알 수 없으므로 캐시하지 않는다.
+     */
+    public void put(String token, VerifiedToken verified) {
+        if (!enabled || verified.expiresAt() == null) {
+            return;
+        }
+
+        BoundedCache.Eviction eviction = entries.put(digest(token), verified);
+        if (eviction.total() > 0) {
+            evictions.increment(eviction.total());
+        }
+    }
+
+    /**
+     * 전체 무효화 (서명 키 교체 등)
+     */
+    public void invalidateAll() {
+        int size = entries.size();
+        entries.clear();
+        log.info("검증된 토큰 캐시 전체 무효화: {}건", size);
+    }
+
+    /**
+     * 현재 캐시 항목 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
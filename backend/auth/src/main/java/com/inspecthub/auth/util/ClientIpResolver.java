@@ -0,0 +1,37 @@
+package com.inspecthub.auth.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 클라이언트 IP 추출
+ *
+ * 감사 로그와 로그인 시도 제한이 같은 IP 기준을 쓰도록 한 곳에 둔다.
+ */
+public final class ClientIpResolver {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private ClientIpResolver() {
+    }
+
+    /**
+     * 클라이언트 IP 주소 추출
+     *
+     * X-Forwarded-For 헤더 우선 (프록시/로드밸런서를 통한 요청)
+     * 없으면 RemoteAddr 사용
+     * 여러 IP가 있는 경우 첫 번째 IP 반환 (원본 클라이언트 IP)
+     *
+     * @param request HTTP 요청
+     * @return 클라이언트 IP 주소
+     */
+    public static String resolve(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader(X_FORWARDED_FOR);
+
+        if (xForwardedFor != null && !xForwardedFor.isBlank()) {
+            // 여러 IP가 콤마로 구분된 경우 첫 번째 IP 사용
+            return xForwardedFor.split(",")[0].trim();
+        }
+
+        return request.getRemoteAddr();
+    }
+}
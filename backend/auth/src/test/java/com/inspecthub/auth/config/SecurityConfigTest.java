@@ -1,15 +1,27 @@
 package com.inspecthub.auth.config;
 
 import com.inspecthub.auth.TestApplication;
+import com.inspecthub.auth.domain.PermissionGrant;
+import com.inspecthub.auth.domain.User;
+import com.inspecthub.auth.domain.UserId;
+import com.inspecthub.auth.repository.PermissionRepository;
+import com.inspecthub.auth.service.JwtTokenProvider;
+import com.inspecthub.auth.service.PermissionSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.hamcrest.Matchers.not;
+import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -21,7 +33,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Security Configuration 테스트
  * BDD 스타일(Given-When-Then)로 작성
  */
-@SpringBootTest(classes = TestApplication.class)
+@SpringBootTest(
+    classes = TestApplication.class,
+    properties = {
+        "auth.jwt.secret=test-secret-key-minimum-256-bits-required-for-HS256-algorithm",
+        "auth.jwt.access-token.expiration-seconds=600"
+    }
+)
 @AutoConfigureMockMvc
 @DisplayName("SecurityConfig - 보안 설정")
 class SecurityConfigTest {
@@ -29,6 +47,41 @@ class SecurityConfigTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private PermissionSnapshotService permissionSnapshotService;
+
+    /**
+     * 권한 그룹 테이블이 없는 H2 대신 사용자별 권한 부여를 지정
+     */
+    @MockBean
+    private PermissionRepository permissionRepository;
+
+    @BeforeEach
+    void setUp() {
+        permissionSnapshotService.invalidateAll();
+    }
+
+    /**
+     * 테스트 사용자의 Access Token (ROLE_USER 기본 권한 + 지정한 그룹)
+     */
+    private String bearer(String employeeId, String... groups) {
+        List<PermissionGrant> grants = Arrays.stream(groups)
+            .map(group -> new PermissionGrant(PermissionGrant.GrantType.GROUP, group))
+            .toList();
+        given(permissionRepository.findGrantsByEmployeeId(employeeId)).willReturn(grants);
+        User user = User.builder()
+            .id(UserId.generate())
+            .employeeId(employeeId)
+            .name("테스트")
+            .email(employeeId + "@example.com")
+            .active(true)
+            .build();
+        return "Bearer " + jwtTokenProvider.generateAccessToken(user);
+    }
+
     @Nested
     @DisplayName("인증 필수 정책")
     class AuthenticationRequired {
@@ -111,6 +164,17 @@ class SecurityConfigTest {
             mockMvc.perform(get("/actuator/info"))
                 .andExpect(status().is(not(401)));  // 401이 아니면 Security 통과
         }
+
+        @Test
+        @DisplayName("캐시 통계 엔드포인트 - 인증 필요 (캐시 삭제 가능)")
+        void shouldRequireAuthForCacheStats() throws Exception {
+            // Given (준비)
+            // 비인증 사용자
+
+            // When & Then (실행 & 검증)
+            mockMvc.perform(get("/actuator/cachestats"))
+                .andExpect(status().isUnauthorized());
+        }
     }
 
     @Nested
@@ -138,6 +202,64 @@ class SecurityConfigTest {
         }
     }
 
+    @Nested
+    @DisplayName("관리자 전용 API")
+    class AdminOnlyEndpoints {
+
+        @Test
+        @DisplayName("ROLE_USER 토큰으로 서명 키 목록 API 호출 시 403 Forbidden")
+        void shouldForbidJwtKeyList_ForRoleUser() throws Exception {
+            // Given (준비)
+            String token = bearer("EMP001");
+
+            // When & Then (실행 & 검증)
+            mockMvc.perform(get("/api/v1/system/jwt-keys").header("Authorization", token))
+                .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("ROLE_USER 토큰으로 시스템 설정 API 호출 시 403 Forbidden")
+        void shouldForbidSystemConfig_ForRoleUser() throws Exception {
+            // Given (준비)
+            String token = bearer("EMP001");
+
+            // When & Then (실행 & 검증)
+            mockMvc.perform(get("/api/v1/system/login-policy").header("Authorization", token))
+                .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("ROLE_USER 토큰으로 감사 로그 조회/내보내기/통계/검증/정책 상태 API 호출 시 403 Forbidden")
+        void shouldForbidAuditLogs_ForRoleUser() throws Exception {
+            // Given (준비)
+            String token = bearer("EMP001");
+
+            // When & Then (실행 & 검증)
+            mockMvc.perform(get("/api/v1/audit-logs").header("Authorization", token))
+                .andExpect(status().isForbidden());
+            mockMvc.perform(get("/api/v1/audit-logs/export").header("Authorization", token))
+                .andExpect(status().isForbidden());
+            mockMvc.perform(get("/api/v1/audit-logs/login-stats").header("Authorization", token))
+                .andExpect(status().isForbidden());
+            mockMvc.perform(post("/api/v1/audit-logs/verify").header("Authorization", token))
+                .andExpect(status().isForbidden());
+            mockMvc.perform(get("/api/v1/audit-logs/any-id/policy-state").header("Authorization", token))
+                .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("ROLE_ADMIN 토큰은 서명 키 목록을 조회할 수 있다")
+        void shouldAllowJwtKeyList_ForAdmin() throws Exception {
+            // Given (준비)
+            String token = bearer("EMP005", "PG.ADMIN");
+
+            // When & Then (실행 & 검증)
+            mockMvc.perform(get("/api/v1/system/jwt-keys").header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+        }
+    }
+
     @Nested
     @DisplayName("비인증 사용자 리다이렉트")
     class UnauthenticatedUserRedirect {
@@ -4,6 +4,7 @@ import com.inspecthub.auth.TestApplication;
 import com.inspecthub.auth.dto.TokenResponse;
 import com.inspecthub.auth.service.AdAuthenticationService;
 import com.inspecthub.auth.service.AuthService;
+import com.inspecthub.auth.service.LoginThrottle;
 import com.inspecthub.common.exception.BusinessException;
 import com.inspecthub.common.exception.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
@@ -18,7 +19,11 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -43,6 +48,9 @@ class AuthControllerTest {
     @MockBean
     private AdAuthenticationService adAuthenticationService;
 
+    @MockBean
+    private LoginThrottle loginThrottle;
+
     @Nested
     @DisplayName("AD 로그인 API")
     class AdLoginEndpoint {
@@ -278,4 +286,58 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.error.message").value("비밀번호가 만료되었습니다. 비밀번호를 변경해주세요"));
         }
     }
+
+    @Nested
+    @DisplayName("로그인 시도 제한")
+    class LoginRateLimit {
+
+        @Test
+        @DisplayName("POST /api/v1/auth/login/ad - 시도 한도 초과 시 AD 인증 없이 429 응답")
+        void shouldRejectAdLoginBeforeAuthentication() throws Exception {
+            // Given (준비)
+            willThrow(new BusinessException(ErrorCode.AUTH_010))
+                .given(loginThrottle).check(any(), eq("202401001"));
+
+            String requestBody = """
+                {
+                    "employeeId": "202401001",
+                    "password": "ValidPass123!"
+                }
+                """;
+
+            // When & Then (실행 & 검증)
+            mockMvc.perform(post("/api/v1/auth/login/ad")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(requestBody))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error.code").value("AUTH_010"));
+
+            then(adAuthenticationService).should(never()).authenticate(any());
+        }
+
+        @Test
+        @DisplayName("POST /api/v1/auth/login - 시도 한도 초과 시 비밀번호 검증 없이 429 응답")
+        void shouldRejectLocalLoginBeforeAuthentication() throws Exception {
+            // Given (준비)
+            willThrow(new BusinessException(ErrorCode.AUTH_010))
+                .given(loginThrottle).check(any(), eq("202401001"));
+
+            String requestBody = """
+                {
+                    "employeeId": "202401001",
+                    "password": "ValidPass123!"
+                }
+                """;
+
+            // When & Then (실행 & 검증)
+            mockMvc.perform(post("/api/v1/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(requestBody))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.error.code").value("AUTH_010"));
+
+            then(authService).should(never()).authenticate(any(), any());
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package com.inspecthub.auth.mapper;
+
+import com.inspecthub.auth.domain.AuditChainRange;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.service.AuditHashChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuditLogMapper Tests (H2)
+ *
+ * keyset 페이지 쿼리 - 같은 시각의 행이 있어도 누락/중복 없이 (timestamp DESC, id DESC) 순서로 이어지는지 검증
+ * 추출 Cursor - 기간 [start, end)를 오래된 순으로 스트리밍
+ * 해시 체인 - 저장 후 다시 읽은 행으로 재계산한 해시가 저장된 해시와 같은지, 체인 구간 조회
+ */
+@MybatisTest(properties = "mybatis.mapper-locations=classpath:mybatis/mapper/AuditLogMapper.xml")
+@DisplayName("AuditLogMapper - keyset 페이지 쿼리")
+class AuditLogMapperTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Autowired
+    private AuditLogMapper auditLogMapper;
+
+    private final List<String> expectedOrder = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 3건씩 같은 시각 - 시각 내림차순, 같은 시각이면 id 내림차순이 기대 순서
+        for (int second = 9; second >= 0; second--) {
+            for (int n = 2; n >= 0; n--) {
+                String id = String.format("01JBZ8Q3M4N5P6R7S8T9V0%02d%02d", second, n);
+                auditLogMapper.insert(AuditLog.createLoginFailure(
+                                id, "EMP001", "10.0.0.1", "AD", "INVALID_PASSWORD", null, null, null)
+                        .toBuilder().timestamp(BASE.plusSeconds(second)).build());
+                expectedOrder.add(id);
+            }
+        }
+        auditLogMapper.insert(AuditLog.createLoginFailure(
+                "01JBZ8Q3M4N5P6R7S8T9V0ZZZZ", "EMP999", "10.0.0.2", "AD", "INVALID_PASSWORD", null, null, null));
+    }
+
+    @Test
+    @DisplayName("직전 페이지 마지막 행의 (timestamp, id) 이후부터 이어서 조회한다")
+    void shouldSeekThroughAllPages() {
+        // Given
+        List<String> visited = new ArrayList<>();
+        LocalDateTime cursorTimestamp = null;
+        String cursorId = null;
+
+        // When: 4건씩 페이지를 넘긴다 (같은 시각 3건이 페이지 경계에 걸침)
+        List<AuditLog> page;
+        do {
+            page = auditLogMapper.findByEmployeeIdAfter("EMP001", cursorTimestamp, cursorId, 4);
+            page.forEach(auditLog -> visited.add(auditLog.getId()));
+            if (!page.isEmpty()) {
+                AuditLog last = page.get(page.size() - 1);
+                cursorTimestamp = last.getTimestamp();
+                cursorId = last.getId();
+            }
+        } while (page.size() == 4);
+
+        // Then
+        assertThat(visited).containsExactlyElementsOf(expectedOrder);
+    }
+
+    @Test
+    @DisplayName("범위 조회도 같은 커서 규칙으로 이어진다")
+    void shouldSeekWithinTimestampRange() {
+        List<AuditLog> first = auditLogMapper.findByTimestampBetweenAfter(
+                BASE.plusSeconds(2), BASE.plusSeconds(4), null, null, 5);
+        AuditLog last = first.get(first.size() - 1);
+        List<AuditLog> second = auditLogMapper.findByTimestampBetweenAfter(
+                BASE.plusSeconds(2), BASE.plusSeconds(4), last.getTimestamp(), last.getId(), 5);
+
+        assertThat(first).hasSize(5);
+        assertThat(second).extracting(AuditLog::getId)
+                .containsExactlyElementsOf(expectedOrder.subList(3 * 5 + 5, 3 * 5 + 9));
+    }
+
+    @Test
+    @DisplayName("추출 Cursor는 [start, end) 기간을 오래된 순으로 읽는다")
+    void shouldStreamRangeInAscendingOrder() throws IOException {
+        List<String> streamed = new ArrayList<>();
+        try (Cursor<AuditLog> cursor = auditLogMapper.streamByTimestampRange(
+                BASE.plusSeconds(1), BASE.plusSeconds(3), "LOGIN_FAILURE")) {
+            cursor.forEach(auditLog -> streamed.add(auditLog.getId()));
+        }
+
+        List<String> expected = new ArrayList<>(expectedOrder.subList(3 * 7, 3 * 9));
+        Collections.reverse(expected);
+        assertThat(streamed).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("체인 정보를 저장하고 다시 읽어 재계산한 해시가 저장된 해시와 같다")
+    void shouldRoundTripHashChain() {
+        // Given
+        String chainId = "01JBZ8Q3M4N5P6R7S8T9CHAIN0";
+        AuditHashChain chain = new AuditHashChain(chainId, Clock.systemDefaultZone());
+        List<AuditLog> linked = chain.link(List.of(
+                AuditLog.createLoginFailure("01JBZ8Q3M4N5P6R7S8T9CH0000", "EMP100", "10.0.0.1", "AD", "INVALID_PASSWORD",
+                        "Mozilla/5.0", null, null).toBuilder().timestamp(BASE.plusNanos(123_456_789)).build(),
+                AuditLog.createLoginFailure("01JBZ8Q3M4N5P6R7S8T9CH0001", "EMP100", "10.0.0.1", "AD", "ACCOUNT_LOCKED",
+                        null, null, null).toBuilder().timestamp(BASE.plusSeconds(1)).build()));
+        linked.forEach(auditLogMapper::insert);
+
+        // When
+        List<AuditChainRange> ranges = auditLogMapper.findChainRanges(BASE, BASE.plusMinutes(1));
+        List<AuditLog> rows = auditLogMapper.findChainSegment(chainId, -1, 1, null, null, 10);
+        List<AuditLog> bounded = auditLogMapper.findChainSegment(chainId, -1, 1, BASE.plusSeconds(1), BASE.plusMinutes(1), 10);
+
+        // Then
+        assertThat(ranges).containsExactly(new AuditChainRange(chainId, 0, 1,
+                linked.get(0).getTimestamp(), linked.get(1).getTimestamp()));
+        assertThat(bounded).extracting(AuditLog::getChainSeq).containsExactly(1L);
+        assertThat(auditLogMapper.countUnchained(BASE, BASE.plusMinutes(1))).isEqualTo(30);
+        assertThat(rows).extracting(AuditLog::getChainSeq).containsExactly(0L, 1L);
+        assertThat(rows).allSatisfy(row -> assertThat(AuditHashChain.hash(row)).isEqualTo(row.getHash()));
+        assertThat(rows.get(1).getPrevHash()).isEqualTo(rows.get(0).getHash());
+    }
+}
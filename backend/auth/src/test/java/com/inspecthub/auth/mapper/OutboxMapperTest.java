@@ -0,0 +1,87 @@
+package com.inspecthub.auth.mapper;
+
+import com.inspecthub.auth.domain.OutboxMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OutboxMapper Tests (H2)
+ *
+ * 기록 순(seq) 조회, 전달 실패 기록, 전달 후 삭제, 격리
+ * (insertIfAbsent의 ON CONFLICT, tryRelayLock의 advisory lock은 PostgreSQL 전용이라 H2에서 제외)
+ */
+@MybatisTest(properties = "mybatis.mapper-locations=classpath:mybatis/mapper/OutboxMapper.xml")
+@DisplayName("OutboxMapper - outbox 메시지")
+class OutboxMapperTest {
+
+    @Autowired
+    private OutboxMapper outboxMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static OutboxMessage message(String id) {
+        return OutboxMessage.builder()
+                .id(id)
+                .aggregateType("LOGIN_POLICY")
+                .aggregateId("01JCXYZ1234567890ABCDEF002")
+                .eventType("LOGIN_METHOD_ENABLED")
+                .payload("{\"id\":\"" + id + "\"}")
+                .createdAt(LocalDateTime.of(2026, 3, 2, 9, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("id와 무관하게 기록 순(seq)으로 조회하고, 실패를 기록하고, 전달된 메시지를 지운다")
+    void shouldReadInOrderAndDelete() {
+        // Given: id 순서와 다른 기록 순서
+        outboxMapper.insert(message("01JOUTBOX00000000000000002"));
+        outboxMapper.insert(message("01JOUTBOX00000000000000001"));
+        outboxMapper.insert(message("01JOUTBOX00000000000000003"));
+
+        // When
+        List<OutboxMessage> pending = outboxMapper.findPending(2);
+        outboxMapper.markFailed(List.of("01JOUTBOX00000000000000001"), "timeout");
+        int deleted = outboxMapper.deleteByIds(List.of("01JOUTBOX00000000000000002"));
+
+        // Then
+        assertThat(pending).extracting(OutboxMessage::getId)
+                .containsExactly("01JOUTBOX00000000000000002", "01JOUTBOX00000000000000001");
+        assertThat(pending.get(0).getSeq()).isLessThan(pending.get(1).getSeq());
+        assertThat(deleted).isEqualTo(1);
+        assertThat(outboxMapper.findPending(10)).extracting(OutboxMessage::getId)
+                .containsExactly("01JOUTBOX00000000000000001", "01JOUTBOX00000000000000003");
+        OutboxMessage failed = outboxMapper.findPending(1).get(0);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isEqualTo("timeout");
+        assertThat(failed.getPayload()).isEqualTo("{\"id\":\"01JOUTBOX00000000000000001\"}");
+    }
+
+    @Test
+    @DisplayName("격리 시 순서/실패 횟수를 유지한 채 outbox_dead_letter로 복사한다")
+    void shouldCopyToDeadLetter() {
+        // Given
+        outboxMapper.insert(message("01JOUTBOX00000000000000001"));
+        outboxMapper.markFailed(List.of("01JOUTBOX00000000000000001"), "timeout");
+
+        // When
+        int copied = outboxMapper.insertDeadLetter("01JOUTBOX00000000000000001", "record too large");
+        outboxMapper.deleteByIds(List.of("01JOUTBOX00000000000000001"));
+
+        // Then
+        assertThat(copied).isEqualTo(1);
+        assertThat(outboxMapper.findPending(10)).isEmpty();
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT attempts, last_error FROM outbox_dead_letter WHERE id = '01JOUTBOX00000000000000001'"))
+                .containsEntry("ATTEMPTS", 1)
+                .containsEntry("LAST_ERROR", "record too large");
+    }
+}
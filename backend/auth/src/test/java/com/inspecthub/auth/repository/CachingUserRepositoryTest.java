@@ -0,0 +1,252 @@
+package com.inspecthub.auth.repository;
+
+import com.inspecthub.auth.domain.AdUserEntry;
+import com.inspecthub.auth.domain.User;
+import com.inspecthub.auth.domain.UserId;
+import com.inspecthub.auth.service.UserCacheInvalidationPublisher;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * CachingUserRepository Tests
+ *
+ * 사용자 near-cache - 사본 반환, 쓰기 시 무효화, TTL, 조회 중 무효화 경합, 노드 간 전파
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingUserRepository - 사원ID 사용자 near-cache")
+class CachingUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private final UserCacheInvalidationPublisher publisher = mock(UserCacheInvalidationPublisher.class);
+
+    private MutableClock clock;
+    private CachingUserRepository repository;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-15T00:00:00Z"));
+        repository = new CachingUserRepository(
+                delegate, new AuthProperties.UserCacheConfig(), () -> publisher, new SimpleMeterRegistry(), clock);
+        user = User.createLocalUser("EMP001", "홍길동", "hong@example.com", "encoded");
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Lookup {
+
+        @Test
+        @DisplayName("두 번째 조회는 DB를 조회하지 않는다")
+        void shouldServeFromCache() {
+            given(delegate.findByEmployeeId("EMP001")).willReturn(Optional.of(user));
+
+            repository.findByEmployeeId("EMP001");
+            Optional<User> second = repository.findByEmployeeId("EMP001");
+
+            assertThat(second).get().extracting(User::getEmployeeId).isEqualTo("EMP001");
+            then(delegate).should(times(1)).findByEmployeeId("EMP001");
+        }
+
+        @Test
+        @DisplayName("조회마다 새 사본을 반환하므로 호출자의 변경이 캐시에 반영되지 않는다")
+        void shouldReturnIsolatedCopies() {
+            // Given
+            given(delegate.findByEmployeeId("EMP001")).willReturn(Optional.of(user));
+            User first = repository.findByEmployeeId("EMP001").orElseThrow();
+
+            // When: 호출자가 도메인 메서드로 상태 변경
+            first.deactivate();
+            user.lockPermanently();
+            User second = repository.findByEmployeeId("EMP001").orElseThrow();
+
+            // Then
+            assertThat(second).isNotSameAs(first).isNotSameAs(user);
+            assertThat(second.isActive()).isTrue();
+            assertThat(second.isLocked()).isFalse();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 사원ID는 캐시하지 않는다")
+        void shouldNotCacheAbsentUser() {
+            given(delegate.findByEmployeeId("NOBODY")).willReturn(Optional.empty());
+
+            repository.findByEmployeeId("NOBODY");
+            repository.findByEmployeeId("NOBODY");
+
+            then(delegate).should(times(2)).findByEmployeeId("NOBODY");
+            assertThat(repository.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("TTL이 지나면 다시 조회한다")
+        void shouldReload_AfterTtl() {
+            given(delegate.findByEmployeeId("EMP001")).willReturn(Optional.of(user));
+            repository.findByEmployeeId("EMP001");
+
+            clock.advanceSeconds(61);
+            repository.findByEmployeeId("EMP001");
+
+            then(delegate).should(times(2)).findByEmployeeId("EMP001");
+        }
+
+        @Test
+        @DisplayName("비활성화하면 항상 DB를 조회한다")
+        void shouldPassThrough_WhenDisabled() {
+            AuthProperties.UserCacheConfig config = new AuthProperties.UserCacheConfig();
+            config.setEnabled(false);
+            repository = new CachingUserRepository(delegate, config, () -> publisher, new SimpleMeterRegistry(), clock);
+            given(delegate.findByEmployeeId("EMP001")).willReturn(Optional.of(user));
+
+            repository.findByEmployeeId("EMP001");
+            repository.findByEmployeeId("EMP001");
+
+            then(delegate).should(times(2)).findByEmployeeId("EMP001");
+        }
+    }
+
+    @Nested
+    @DisplayName("쓰기 시 무효화")
+    class WriteInvalidation {
+
+        @BeforeEach
+        void cacheUser() {
+            given(delegate.findByEmployeeId("EMP001")).willReturn(Optional.of(user));
+            repository.findByEmployeeId("EMP001");
+        }
+
+        @Test
+        @DisplayName("save 후에는 다시 조회하고 다른 노드에 사원ID를 전파한다")
+        void shouldEvict_OnSave() {
+            repository.save(user);
+            repository.findByEmployeeId("EMP001");
+
+            then(delegate).should(times(2)).findByEmployeeId("EMP001");
+            then(publisher).should().publishEmployeeId("EMP001");
+        }
+
+        @Test
+        @DisplayName("ID 기준 잠금은 사원ID 항목을 제거하고 ID로 전파한다")
+        void shouldEvict_OnLockAccount() {
+            repository.lockAccount(user.getId(), LocalDateTime.now().plusMinutes(5));
+
+            assertThat(repository.size()).isZero();
+            then(publisher).should().publishUserId(user.getId());
+        }
+
+        @Test
+        @DisplayName("실패 횟수 증가는 DB 반환값을 그대로 돌려주고 항목을 제거한다")
+        void shouldEvict_OnIncrementFailedAttempts() {
+            given(delegate.incrementFailedAttempts(user.getId())).willReturn(3);
+
+            int failedAttempts = repository.incrementFailedAttempts(user.getId());
+
+            assertThat(failedAttempts).isEqualTo(3);
+            assertThat(repository.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("실패 횟수 초기화(잠금 해제)도 항목을 제거한다")
+        void shouldEvict_OnResetFailedAttempts() {
+            repository.resetFailedAttempts(user.getId());
+
+            assertThat(repository.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("AD 일괄 upsert는 대상 사원ID를 모두 제거한다")
+        void shouldEvict_OnUpsertAdUsers() {
+            List<AdUserEntry> entries = List.of(AdUserEntry.of("EMP001", "홍길동", "hong@example.com", "개발팀"));
+
+            repository.upsertAdUsers(entries);
+
+            assertThat(repository.size()).isZero();
+            then(publisher).should().publishEmployeeId("EMP001");
+        }
+
+        @Test
+        @DisplayName("다른 노드의 무효화 메시지로 로컬 항목만 제거한다 (재전파 없음)")
+        void shouldEvictLocally_OnRemoteMessage() {
+            repository.evictLocal(UserId.of(user.getId().getValue()));
+
+            assertThat(repository.size()).isZero();
+            then(publisher).should(never()).publishUserId(user.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 중 무효화")
+    class LoadRace {
+
+        @Test
+        @DisplayName("DB 조회 중 무효화가 일어나면 읽은 행을 캐시하지 않는다")
+        void shouldNotCache_WhenInvalidatedDuringLoad() {
+            // Given: 조회 도중 다른 요청이 잠금을 건다
+            given(delegate.findByEmployeeId("EMP001")).willAnswer(invocation -> {
+                repository.lockAccount(user.getId(), LocalDateTime.now().plusMinutes(5));
+                return Optional.of(user);
+            });
+
+            // When
+            Optional<User> loaded = repository.findByEmployeeId("EMP001");
+
+            // Then: 호출자에게는 반환하지만 캐시에는 남기지 않는다
+            assertThat(loaded).isPresent();
+            assertThat(repository.size()).isZero();
+        }
+    }
+
+    /**
+     * 테스트용 가변 Clock
+     */
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceSeconds(long seconds) {
+            now = now.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -4,7 +4,6 @@ import com.inspecthub.auth.domain.User;
 import com.inspecthub.auth.domain.UserId;
 import com.inspecthub.auth.dto.LoginRequest;
 import com.inspecthub.auth.dto.TokenResponse;
-import com.inspecthub.auth.domain.AccountLockPolicy;
 import com.inspecthub.auth.repository.UserRepository;
 import com.inspecthub.common.exception.BusinessException;
 import jakarta.validation.ConstraintViolation;
@@ -17,13 +16,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.ldap.core.LdapTemplate;
-import org.springframework.ldap.core.support.LdapContextSource;
-import org.springframework.ldap.query.LdapQuery;
-
-import javax.naming.NamingException;
-import javax.naming.directory.DirContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Spy;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
@@ -48,7 +44,11 @@ import org.springframework.ldap.CommunicationException;
 class AdAuthenticationServiceTest {
 
     @Mock
-    private LdapTemplate ldapTemplate;
+    private AdDirectory adDirectory;
+
+    @Spy
+    private AdCircuitBreaker adCircuitBreaker =
+            new AdCircuitBreaker(true, 3, Duration.ofSeconds(30), new SimpleMeterRegistry(), System::currentTimeMillis);
 
     @Mock
     private UserRepository userRepository;
@@ -63,7 +63,7 @@ class AdAuthenticationServiceTest {
     private Validator validator;
 
     @Mock
-    private AccountLockPolicy accountLockPolicy;
+    private LoginFailureCounter loginFailureCounter;
 
     @InjectMocks
     private AdAuthenticationService adAuthenticationService;
@@ -170,7 +170,7 @@ class AdAuthenticationServiceTest {
             // LDAP 인증 실패 시뮬레이션 (예외 발생)
             doThrow(new AuthenticationException(
                 new javax.naming.AuthenticationException("Invalid credentials")))
-                .when(ldapTemplate).authenticate(any(LdapQuery.class), eq(validRequest.getPassword()));
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
 
             // When & Then (실행 & 검증)
             assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
@@ -195,7 +195,7 @@ class AdAuthenticationServiceTest {
             // LDAP에서도 존재하지 않는 사원ID (인증 실패)
             doThrow(new AuthenticationException(
                 new javax.naming.AuthenticationException("Invalid credentials")))
-                .when(ldapTemplate).authenticate(any(LdapQuery.class), eq(validRequest.getPassword()));
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
 
             // When & Then (실행 & 검증)
             assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
@@ -299,6 +299,30 @@ class AdAuthenticationServiceTest {
             verify(userRepository, times(2)).save(any(User.class));
             verify(auditLogService).logLoginSuccess(any(User.class), eq("AD"));
         }
+
+        @Test
+        @DisplayName("신규 사용자는 인증 시 함께 조회한 AD 속성(displayName, mail)으로 생성")
+        void shouldCreateUserWithDirectoryAttributes() {
+            // Given (준비)
+            given(userRepository.findByEmployeeId(validRequest.getEmployeeId()))
+                .willReturn(Optional.empty());
+            given(adDirectory.authenticate(validRequest.getEmployeeId(), validRequest.getPassword()))
+                .willReturn(new com.inspecthub.auth.domain.AdUserEntry(
+                    validRequest.getEmployeeId(), "홍길동", "hong@company.com", "준법감시팀"));
+            given(jwtTokenProvider.generateAccessToken(any(User.class)))
+                .willReturn("access-token");
+            given(jwtTokenProvider.generateRefreshToken(any(User.class)))
+                .willReturn("refresh-token");
+
+            // When (실행)
+            adAuthenticationService.authenticate(validRequest);
+
+            // Then (검증)
+            org.mockito.ArgumentCaptor<User> saved = org.mockito.ArgumentCaptor.forClass(User.class);
+            verify(userRepository, times(2)).save(saved.capture());
+            assertThat(saved.getAllValues().get(0).getName()).isEqualTo("홍길동");
+            assertThat(saved.getAllValues().get(0).getEmail()).isEqualTo("hong@company.com");
+        }
     }
 
     @Nested
@@ -315,7 +339,7 @@ class AdAuthenticationServiceTest {
             // LDAP 서버 Read Timeout 시뮬레이션 (3초 초과)
             doThrow(new CommunicationException(
                 new javax.naming.CommunicationException("Read timed out")))
-                .when(ldapTemplate).authenticate(any(LdapQuery.class), eq(validRequest.getPassword()));
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
 
             // When & Then (실행 & 검증)
             assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
@@ -340,7 +364,7 @@ class AdAuthenticationServiceTest {
             // LDAP 서버 연결 실패 시뮬레이션
             doThrow(new CommunicationException(
                 new javax.naming.CommunicationException("Connection refused")))
-                .when(ldapTemplate).authenticate(any(LdapQuery.class), eq(validRequest.getPassword()));
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
 
             // When & Then (실행 & 검증)
             assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
@@ -365,7 +389,7 @@ class AdAuthenticationServiceTest {
             // DNS 해석 실패 시뮬레이션 (UnknownHostException)
             doThrow(new CommunicationException(
                 new javax.naming.CommunicationException("unknown.ad.server:389")))
-                .when(ldapTemplate).authenticate(any(LdapQuery.class), eq(validRequest.getPassword()));
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
 
             // When & Then (실행 & 검증)
             assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
@@ -390,7 +414,7 @@ class AdAuthenticationServiceTest {
             // TLS/SSL 인증서 오류 시뮬레이션 (CertificateException)
             doThrow(new CommunicationException(
                 new javax.naming.CommunicationException("simple bind failed: unknown.ad.server:636")))
-                .when(ldapTemplate).authenticate(any(LdapQuery.class), eq(validRequest.getPassword()));
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
 
             // When & Then (실행 & 검증)
             assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
@@ -415,7 +439,7 @@ class AdAuthenticationServiceTest {
             // AD 서버 서비스 사용 불가 시뮬레이션
             doThrow(new CommunicationException(
                 new javax.naming.CommunicationException("LDAP server is temporarily unavailable")))
-                .when(ldapTemplate).authenticate(any(LdapQuery.class), eq(validRequest.getPassword()));
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
 
             // When & Then (실행 & 검증)
             assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
@@ -431,6 +455,79 @@ class AdAuthenticationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("AD 차단기 시나리오")
+    class CircuitBreakerScenarios {
+
+        @Test
+        @DisplayName("연속 연결 실패로 차단기가 열리면 DB/LDAP 호출 없이 즉시 AD_CONNECTION_ERROR")
+        void shouldFailFast_WhenCircuitOpen() {
+            // Given (준비) - 연결 실패 3회로 차단기 OPEN
+            given(userRepository.findByEmployeeId(validRequest.getEmployeeId()))
+                .willReturn(Optional.of(existingUser));
+            doThrow(new CommunicationException(
+                new javax.naming.CommunicationException("Connection refused")))
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
+                    .isInstanceOf(BusinessException.class);
+            }
+            assertThat(adCircuitBreaker.status()).isEqualTo(AdCircuitBreaker.Status.OPEN);
+            clearInvocations(userRepository, adDirectory);
+
+            // When & Then (실행 & 검증)
+            assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "AD_CONNECTION_ERROR");
+
+            verify(userRepository, never()).findByEmployeeId(anyString());
+            verify(adDirectory, never()).authenticate(anyString(), anyString());
+            verify(auditLogService).logLoginFailure(validRequest.getEmployeeId(), "AD_CIRCUIT_OPEN", "AD");
+        }
+
+        @Test
+        @DisplayName("로컬 연결 풀 대기 초과는 AD 장애가 아니므로 차단기 실패로 집계하지 않는다")
+        void shouldNotCountPoolExhaustion_AsAdFailure() {
+            // Given (준비)
+            given(userRepository.findByEmployeeId(validRequest.getEmployeeId()))
+                .willReturn(Optional.of(existingUser));
+            doThrow(new AdDirectory.PoolExhaustedException("ad-bind", 1_000))
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
+
+            // When (실행)
+            for (int i = 0; i < 5; i++) {
+                assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
+                    .hasFieldOrPropertyWithValue("errorCode", "AD_CONNECTION_ERROR");
+            }
+
+            // Then (검증)
+            verify(adCircuitBreaker, never()).onFailure();
+            assertThat(adCircuitBreaker.status()).isEqualTo(AdCircuitBreaker.Status.CLOSED);
+            verify(auditLogService, org.mockito.Mockito.times(5))
+                .logLoginFailure(validRequest.getEmployeeId(), "AD_POOL_EXHAUSTED", "AD");
+        }
+
+        @Test
+        @DisplayName("비밀번호 불일치는 AD 정상 응답이므로 차단기를 열지 않는다")
+        void shouldNotOpenCircuit_OnInvalidCredentials() {
+            // Given (준비)
+            given(userRepository.findByEmployeeId(validRequest.getEmployeeId()))
+                .willReturn(Optional.of(existingUser));
+            doThrow(new AuthenticationException(
+                new javax.naming.AuthenticationException("Invalid credentials")))
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
+
+            // When (실행)
+            for (int i = 0; i < 5; i++) {
+                assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
+                    .hasFieldOrPropertyWithValue("errorCode", "AUTH_002");
+            }
+
+            // Then (검증)
+            assertThat(adCircuitBreaker.status()).isEqualTo(AdCircuitBreaker.Status.CLOSED);
+        }
+    }
+
     @Nested
     @DisplayName("계정 잠금 정책 시나리오")
     class AccountLockPolicyScenarios {
@@ -448,15 +545,15 @@ class AdAuthenticationServiceTest {
             // LDAP 인증 실패 시뮬레이션 (예외 발생)
             doThrow(new AuthenticationException(
                 new javax.naming.AuthenticationException("Invalid credentials")))
-                .when(ldapTemplate).authenticate(any(LdapQuery.class), eq(validRequest.getPassword()));
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
 
             // When: 5번째 실패
             assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
                 .isInstanceOf(BusinessException.class);
 
-            // Then: 도메인 정책이 적용되고 저장되어야 함
-            verify(accountLockPolicy).applyLockPolicy(any(User.class), any(Integer.class));
-            verify(userRepository).save(any(User.class));
+            // Then: 원자적 카운터로 실패가 기록되고 행 전체 저장은 하지 않아야 함
+            verify(loginFailureCounter).recordFailure(any(User.class));
+            verify(userRepository, never()).save(any(User.class));
         }
 
         @Test
@@ -472,15 +569,15 @@ class AdAuthenticationServiceTest {
             // LDAP 인증 실패 시뮬레이션
             doThrow(new AuthenticationException(
                 new javax.naming.AuthenticationException("Invalid credentials")))
-                .when(ldapTemplate).authenticate(any(LdapQuery.class), eq(validRequest.getPassword()));
+                .when(adDirectory).authenticate(validRequest.getEmployeeId(), validRequest.getPassword());
 
             // When: 10번째 실패
             assertThatThrownBy(() -> adAuthenticationService.authenticate(validRequest))
                 .isInstanceOf(BusinessException.class);
 
-            // Then: 도메인 정책이 적용되고 저장되어야 함
-            verify(accountLockPolicy).applyLockPolicy(any(User.class), any(Integer.class));
-            verify(userRepository).save(any(User.class));
+            // Then: 원자적 카운터로 실패가 기록되고 행 전체 저장은 하지 않아야 함
+            verify(loginFailureCounter).recordFailure(any(User.class));
+            verify(userRepository, never()).save(any(User.class));
         }
     }
 
@@ -595,7 +692,7 @@ class AdAuthenticationServiceTest {
 
             // 데이터베이스 접근 시도조차 하지 않음
             verify(userRepository, never()).findByEmployeeId(anyString());
-            verify(ldapTemplate, never()).authenticate(any(LdapQuery.class), anyString());
+            verify(adDirectory, never()).authenticate(anyString(), anyString());
         }
 
         @Test
@@ -623,7 +720,7 @@ class AdAuthenticationServiceTest {
 
             // 데이터베이스 접근 시도조차 하지 않음
             verify(userRepository, never()).findByEmployeeId(anyString());
-            verify(ldapTemplate, never()).authenticate(any(LdapQuery.class), anyString());
+            verify(adDirectory, never()).authenticate(anyString(), anyString());
         }
     }
 }
@@ -0,0 +1,111 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.service.AdCircuitBreaker.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdCircuitBreaker Tests
+ *
+ * AD 연결 차단기 - CLOSED → OPEN → HALF_OPEN 전환, 시험 요청, 메트릭
+ */
+@DisplayName("AdCircuitBreaker - AD 연결 차단기")
+class AdCircuitBreakerTest {
+
+    private AtomicLong now;
+    private SimpleMeterRegistry meterRegistry;
+    private AdCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000L);
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new AdCircuitBreaker(true, 3, Duration.ofSeconds(30), meterRegistry, now::get);
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onFailure();
+        }
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계값에 도달하면 OPEN으로 전환되어 요청을 거절한다")
+    void shouldOpen_AfterConsecutiveFailures() {
+        failTimes(3);
+
+        assertThat(breaker.status()).isEqualTo(Status.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(meterRegistry.get("auth.ad.circuit.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("auth.ad.circuit.state").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("중간에 성공하면 연속 실패 횟수가 초기화된다")
+    void shouldResetFailures_OnSuccess() {
+        failTimes(2);
+        breaker.onSuccess();
+        failTimes(2);
+
+        assertThat(breaker.status()).isEqualTo(Status.CLOSED);
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 시험 요청 1건만 허용하고, 성공하면 CLOSED로 복구된다")
+    void shouldAllowSingleTrial_ThenClose() {
+        failTimes(3);
+        now.addAndGet(30_000);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.status()).isEqualTo(Status.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.status()).isEqualTo(Status.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 요청이 실패하면 다시 OPEN된다")
+    void shouldReopen_WhenTrialFails() {
+        failTimes(3);
+        now.addAndGet(30_000);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+
+        breaker.onFailure();
+
+        assertThat(breaker.status()).isEqualTo(Status.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("결과 없이 방치된 시험 요청은 OPEN 시간이 지나면 새 시험 요청으로 대체된다")
+    void shouldReplaceAbandonedTrial() {
+        failTimes(3);
+        now.addAndGet(30_000);
+        assertThat(breaker.tryAcquirePermission()).isTrue();  // 결과 보고 없음 (예: 잠긴 계정)
+
+        now.addAndGet(30_000);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("비활성화되면 항상 허용한다")
+    void shouldAlwaysPermit_WhenDisabled() {
+        AdCircuitBreaker disabled = new AdCircuitBreaker(false, 1, Duration.ofSeconds(30), meterRegistry, now::get);
+        disabled.onFailure();
+        disabled.onFailure();
+
+        assertThat(disabled.tryAcquirePermission()).isTrue();
+    }
+}
@@ -0,0 +1,176 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AdUserEntry;
+import com.inspecthub.auth.repository.UserRepository;
+import com.inspecthub.common.config.AuthProperties.AdConfig.SyncConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ldap.CommunicationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * AdDirectorySyncService Tests
+ *
+ * AD 일괄 동기화 - 메모리 diff, 변경분만 배치 upsert, 대소문자 중복 제거, 노드 간 잠금
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdDirectorySyncService - AD 일괄 동기화")
+class AdDirectorySyncServiceTest {
+
+    @Mock
+    private AdDirectory adDirectory;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private AdDirectorySyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        SyncConfig config = new SyncConfig();
+        config.setBatchSize(2);
+        syncService = new AdDirectorySyncService(adDirectory, userRepository,
+                TransactionOperations.withoutTransaction(), TransactionOperations.withoutTransaction(),
+                config, new SimpleMeterRegistry());
+    }
+
+    private void givenLock() {
+        given(userRepository.tryAdSyncLock(anyLong())).willReturn(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDirectory(AdUserEntry... entries) {
+        given(adDirectory.forEachUser(anyString(), anyInt(), any())).willAnswer(invocation -> {
+            Consumer<AdUserEntry> consumer = invocation.getArgument(2);
+            for (AdUserEntry entry : entries) {
+                consumer.accept(entry);
+            }
+            return entries.length;
+        });
+    }
+
+    @Test
+    @DisplayName("변경 없는 사용자는 건너뛰고 신규/변경 사용자만 배치 크기 단위로 upsert한다")
+    @SuppressWarnings("unchecked")
+    void shouldUpsertOnlyChanges_InBatches() {
+        // Given: DB에 3명, AD에 5명 (1명 부서 변경, 2명 신규)
+        givenLock();
+        given(userRepository.findAdUserEntries()).willReturn(List.of(
+                new AdUserEntry("E001", "홍길동", "hong@company.com", "준법감시팀"),
+                new AdUserEntry("E002", "김철수", "kim@company.com", "IT팀"),
+                new AdUserEntry("E003", "이영희", null, null)
+        ));
+        givenDirectory(
+                new AdUserEntry("E001", "홍길동", "hong@company.com", "준법감시팀"),
+                new AdUserEntry("E002", "김철수", "kim@company.com", "AML팀"),
+                new AdUserEntry("E003", "이영희", null, null),
+                new AdUserEntry("E004", "박신입", "park@company.com", "IT팀"),
+                new AdUserEntry("E005", "최신입", null, "IT팀")
+        );
+        given(userRepository.upsertAdUsers(anyList())).willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // When
+        AdSyncResult result = syncService.sync();
+
+        // Then
+        assertThat(result.scanned()).isEqualTo(5);
+        assertThat(result.changed()).isEqualTo(3);
+        assertThat(result.applied()).isEqualTo(3);
+        assertThat(result.unchanged()).isEqualTo(2);
+
+        ArgumentCaptor<List<AdUserEntry>> batches = ArgumentCaptor.forClass(List.class);
+        then(userRepository).should(times(2)).upsertAdUsers(batches.capture());
+        assertThat(batches.getAllValues().get(0)).extracting(AdUserEntry::employeeId).containsExactly("E002", "E004");
+        assertThat(batches.getAllValues().get(1)).extracting(AdUserEntry::employeeId).containsExactly("E005");
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 DB에 쓰지 않는다")
+    void shouldNotWrite_WhenNothingChanged() {
+        AdUserEntry entry = new AdUserEntry("E001", "홍길동", "hong@company.com", "준법감시팀");
+        givenLock();
+        given(userRepository.findAdUserEntries()).willReturn(List.of(entry));
+        givenDirectory(entry);
+
+        AdSyncResult result = syncService.sync();
+
+        assertThat(result.changed()).isZero();
+        then(userRepository).should(never()).upsertAdUsers(anyList());
+    }
+
+    @Test
+    @DisplayName("AD 연결 실패는 호출자에게 전파하고 다음 실행을 막지 않는다")
+    void shouldPropagateFailure_AndAllowNextRun() {
+        givenLock();
+        given(userRepository.findAdUserEntries()).willReturn(List.of());
+        willThrow(new CommunicationException(new javax.naming.CommunicationException("Connection refused")))
+                .given(adDirectory).forEachUser(anyString(), anyInt(), any());
+
+        assertThatThrownBy(() -> syncService.sync()).isInstanceOf(CommunicationException.class);
+        assertThatThrownBy(() -> syncService.sync()).isInstanceOf(CommunicationException.class);
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 사원ID는 한 번만 upsert하고, 기존 행이 있으면 그 표기로 갱신한다")
+    @SuppressWarnings("unchecked")
+    void shouldDedupeCaseVariants_AndKeepExistingSpelling() {
+        // Given: DB에는 E001, AD에는 e001(부서 변경)과 E001 / 신규 e009와 E009
+        givenLock();
+        given(userRepository.findAdUserEntries()).willReturn(List.of(
+                new AdUserEntry("E001", "홍길동", "hong@company.com", "준법감시팀")
+        ));
+        givenDirectory(
+                new AdUserEntry("e001", "홍길동", "hong@company.com", "AML팀"),
+                new AdUserEntry("E001", "홍길동", "hong@company.com", "준법감시팀"),
+                new AdUserEntry("e009", "박신입", null, null),
+                new AdUserEntry("E009", "박신입", null, null)
+        );
+        given(userRepository.upsertAdUsers(anyList())).willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // When
+        AdSyncResult result = syncService.sync();
+
+        // Then
+        assertThat(result.duplicates()).isEqualTo(2);
+        assertThat(result.changed()).isEqualTo(2);
+        assertThat(result.unchanged()).isZero();
+        ArgumentCaptor<List<AdUserEntry>> batch = ArgumentCaptor.forClass(List.class);
+        then(userRepository).should().upsertAdUsers(batch.capture());
+        assertThat(batch.getValue()).containsExactly(
+                new AdUserEntry("E001", "홍길동", "hong@company.com", "AML팀"),
+                new AdUserEntry("e009", "박신입", null, null));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 동기화 중이면 AD를 조회하지 않는다")
+    void shouldSkip_WhenLockHeldElsewhere() {
+        given(userRepository.tryAdSyncLock(anyLong())).willReturn(false);
+
+        assertThat(syncService.sync()).isNull();
+
+        then(adDirectory).should(never()).forEachUser(anyString(), anyInt(), any());
+        then(userRepository).should(never()).upsertAdUsers(anyList());
+    }
+}
@@ -0,0 +1,308 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AdUserEntry;
+import com.inspecthub.common.config.AuthProperties.AdConfig;
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSimpleBindRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.ldap.AuthenticationException;
+import org.springframework.ldap.CommunicationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AdDirectory Tests
+ *
+ * 임베디드 UnboundID LDAP 서버 대상 - search/bind 풀 인증, 예외 변환, 연결 재사용, 동시 로그인 시 풀 확장/고갈
+ */
+@DisplayName("AdDirectory - AD 연결 풀")
+class AdDirectoryTest {
+
+    private static final String BASE = "dc=company,dc=com";
+    private static final String SERVICE_DN = "cn=svc-inspecthub,ou=service," + BASE;
+
+    private InMemoryDirectoryServer server;
+    private AdDirectory directory;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = startServer(null);
+        meterRegistry = new SimpleMeterRegistry();
+        directory = new AdDirectory(config(server.getListenPort()), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        directory.close();
+        server.shutDown(true);
+    }
+
+    private static InMemoryDirectoryServer startServer(InMemoryOperationInterceptor interceptor) throws Exception {
+        InMemoryDirectoryServerConfig serverConfig = new InMemoryDirectoryServerConfig(BASE);
+        serverConfig.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("default", 0));
+        serverConfig.setSchema(null);  // sAMAccountName 등 AD 속성 허용
+        if (interceptor != null) {
+            serverConfig.addInMemoryOperationInterceptor(interceptor);
+        }
+        InMemoryDirectoryServer server = new InMemoryDirectoryServer(serverConfig);
+        server.add("dn: " + BASE, "objectClass: domain", "dc: company");
+        server.add("dn: ou=service," + BASE, "objectClass: organizationalUnit", "ou: service");
+        server.add("dn: ou=users," + BASE, "objectClass: organizationalUnit", "ou: users");
+        server.add("dn: " + SERVICE_DN, "objectClass: person", "cn: svc-inspecthub", "sn: svc",
+                "userPassword: service-secret");
+        server.add("dn: cn=홍길동,ou=users," + BASE, "objectClass: person", "cn: 홍길동", "sn: 홍",
+                "sAMAccountName: 202401001", "userPassword: ValidPass123!",
+                "displayName: 홍길동", "mail: hong@company.com", "department: 준법감시팀");
+        server.startListening();
+        return server;
+    }
+
+    /**
+     * 사용자 바인드만 지연시키는 인터셉터 - 느린 AD 시뮬레이션
+     */
+    private static InMemoryOperationInterceptor slowUserBind(long delayMillis) {
+        return new InMemoryOperationInterceptor() {
+            @Override
+            public void processSimpleBindRequest(InMemoryInterceptedSimpleBindRequest request) {
+                if (request.getRequest().getBindDN().contains("ou=users")) {
+                    try {
+                        Thread.sleep(delayMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * 동시에 출발하는 로그인 N건 - 스레드별 예외(성공 시 null) 반환
+     */
+    private static List<Throwable> authenticateConcurrently(AdDirectory target, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Throwable>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        target.authenticate("202401001", "ValidPass123!");
+                        return null;
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }));
+            }
+            start.countDown();
+            List<Throwable> results = new ArrayList<>();
+            for (Future<Throwable> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static AdConfig config(int port) {
+        AdConfig config = new AdConfig();
+        config.setUrls(List.of("ldap://localhost:" + port));
+        config.setBase(BASE);
+        config.setServiceDn(SERVICE_DN);
+        config.setServicePassword("service-secret");
+        config.setConnectTimeoutMillis(500);
+        config.setResponseTimeoutMillis(1_000);
+        config.getSearchPool().setMaxSize(2);
+        config.getBindPool().setMaxSize(2);
+        config.getSearchPool().setMaxWaitMillis(200);
+        config.getBindPool().setMaxWaitMillis(200);
+        return config;
+    }
+
+    @Nested
+    @DisplayName("인증")
+    class Authenticate {
+
+        @Test
+        @DisplayName("사원ID로 DN을 검색한 뒤 비밀번호 바인드에 성공하고, 같은 검색으로 속성을 반환한다")
+        void shouldAuthenticate() {
+            AdUserEntry entry = directory.authenticate("202401001", "ValidPass123!");
+
+            assertThat(entry).isEqualTo(new AdUserEntry("202401001", "홍길동", "hong@company.com", "준법감시팀"));
+        }
+
+        @Test
+        @DisplayName("비밀번호가 틀리면 AuthenticationException")
+        void shouldRejectInvalidPassword() {
+            assertThatThrownBy(() -> directory.authenticate("202401001", "WrongPass!"))
+                    .isInstanceOf(AuthenticationException.class);
+        }
+
+        @Test
+        @DisplayName("AD에 없는 사원ID는 AuthenticationException")
+        void shouldRejectUnknownUser() {
+            assertThatThrownBy(() -> directory.authenticate("209999999", "ValidPass123!"))
+                    .isInstanceOf(AuthenticationException.class);
+        }
+
+        @Test
+        @DisplayName("빈 비밀번호는 익명 바인드로 통과하지 않도록 AuthenticationException")
+        void shouldRejectEmptyPassword() {
+            assertThatThrownBy(() -> directory.authenticate("202401001", ""))
+                    .isInstanceOf(AuthenticationException.class);
+        }
+
+        @Test
+        @DisplayName("필터 특수문자는 이스케이프되어 다른 사용자와 매칭되지 않는다")
+        void shouldEscapeFilterValue() {
+            assertThatThrownBy(() -> directory.authenticate("*", "ValidPass123!"))
+                    .isInstanceOf(AuthenticationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 사용자 조회")
+    class ForEachUser {
+
+        @Test
+        @DisplayName("페이지 크기보다 많은 사용자를 여러 페이지로 모두 조회한다")
+        void shouldReadAllPages() throws Exception {
+            // Given: 속성이 비어 있는 사용자 포함 총 6명
+            for (int i = 2; i <= 6; i++) {
+                server.add("dn: cn=user" + i + ",ou=users," + BASE, "objectClass: person", "cn: user" + i, "sn: u",
+                        "sAMAccountName: 20240100" + i);
+            }
+
+            // When
+            List<AdUserEntry> entries = new ArrayList<>();
+            int count = directory.forEachUser("(sAMAccountName=*)", 2, entries::add);
+
+            // Then
+            assertThat(count).isEqualTo(6);
+            assertThat(entries).extracting(AdUserEntry::employeeId).hasSize(6).doesNotHaveDuplicates();
+            assertThat(entries).contains(
+                    new AdUserEntry("202401001", "홍길동", "hong@company.com", "준법감시팀"),
+                    new AdUserEntry("202401002", "202401002", null, null));
+        }
+
+        @Test
+        @DisplayName("조회 후 연결을 풀에 반납한다")
+        void shouldReleaseConnection() throws Exception {
+            directory.forEachUser("(sAMAccountName=*)", 2, entry -> { });
+            directory.forEachUser("(sAMAccountName=*)", 2, entry -> { });
+
+            assertThat(directory.searchPool().getConnectionPoolStatistics().getNumReleasedValid()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("연결 풀")
+    class Pooling {
+
+        @Test
+        @DisplayName("반복 인증은 풀 크기를 넘는 연결을 만들지 않고 재사용한다")
+        void shouldReuseConnections() throws Exception {
+            for (int i = 0; i < 20; i++) {
+                directory.authenticate("202401001", "ValidPass123!");
+                assertThatThrownBy(() -> directory.authenticate("202401001", "WrongPass!"))
+                        .isInstanceOf(AuthenticationException.class);
+            }
+
+            assertThat(directory.searchPool().getConnectionPoolStatistics().getNumSuccessfulConnectionAttempts())
+                    .isLessThanOrEqualTo(2);
+            assertThat(directory.bindPool().getConnectionPoolStatistics().getNumSuccessfulConnectionAttempts())
+                    .isLessThanOrEqualTo(2);
+            assertThat(meterRegistry.get("auth.ad.pool.available").tag("pool", "bind").gauge().value())
+                    .isGreaterThanOrEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("바인드가 느려도 maxSize까지 연결을 늘려 동시 로그인이 대기 시간 안에 모두 성공한다")
+        void shouldGrowToMaxSize_UnderConcurrentLogins() throws Exception {
+            // Given: 사용자 바인드 300ms, 대기 허용 200ms, 풀 크기 4
+            InMemoryDirectoryServer slowServer = startServer(slowUserBind(300));
+            AdConfig config = config(slowServer.getListenPort());
+            config.getSearchPool().setMaxSize(4);
+            config.getBindPool().setMaxSize(4);
+            AdDirectory slowDirectory = new AdDirectory(config, new SimpleMeterRegistry());
+
+            try {
+                // When: 동시 로그인 4건
+                List<Throwable> failures = authenticateConcurrently(slowDirectory, 4);
+
+                // Then: 연결 하나에 직렬화되지 않고 모두 성공하며, 연결 수는 maxSize 이하
+                assertThat(failures).containsOnlyNulls();
+                assertThat(slowDirectory.bindPool().getConnectionPoolStatistics().getNumSuccessfulConnectionAttempts())
+                        .isBetween(2L, 4L);
+            } finally {
+                slowDirectory.close();
+                slowServer.shutDown(true);
+            }
+        }
+
+        @Test
+        @DisplayName("동시 로그인이 maxSize를 넘으면 초과분은 대기 후 PoolExhaustedException, 연결은 maxSize를 넘지 않는다")
+        void shouldFailFast_WhenPoolExhausted() throws Exception {
+            // Given: 사용자 바인드 300ms, 대기 허용 200ms, bind 풀 크기 1
+            InMemoryDirectoryServer slowServer = startServer(slowUserBind(300));
+            AdConfig config = config(slowServer.getListenPort());
+            config.getBindPool().setMaxSize(1);
+            AdDirectory slowDirectory = new AdDirectory(config, new SimpleMeterRegistry());
+
+            try {
+                // When: 동시 로그인 2건
+                List<Throwable> results = authenticateConcurrently(slowDirectory, 2);
+
+                // Then
+                assertThat(results).filteredOn(Objects::isNull).hasSize(1);
+                assertThat(results).filteredOn(Objects::nonNull).singleElement()
+                        .isInstanceOf(AdDirectory.PoolExhaustedException.class)
+                        .isInstanceOf(CommunicationException.class);
+                assertThat(slowDirectory.bindPool().getConnectionPoolStatistics().getNumSuccessfulConnectionAttempts())
+                        .isEqualTo(1);
+            } finally {
+                slowDirectory.close();
+                slowServer.shutDown(true);
+            }
+        }
+
+        @Test
+        @DisplayName("AD 서버가 내려가면 CommunicationException")
+        void shouldTranslateConnectionFailure() {
+            server.shutDown(true);
+
+            assertThatThrownBy(() -> directory.authenticate("202401001", "ValidPass123!"))
+                    .isInstanceOf(CommunicationException.class);
+        }
+
+        @Test
+        @DisplayName("URL 미설정 시 CommunicationException")
+        void shouldFail_WhenNotConfigured() {
+            AdDirectory unconfigured = new AdDirectory(new AdConfig(), new SimpleMeterRegistry());
+
+            assertThatThrownBy(() -> unconfigured.authenticate("202401001", "ValidPass123!"))
+                    .isInstanceOf(CommunicationException.class);
+        }
+    }
+}
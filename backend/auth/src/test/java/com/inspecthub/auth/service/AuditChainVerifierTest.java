@@ -0,0 +1,324 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AuditChainRange;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+
+/**
+ * AuditChainVerifier Tests
+ *
+ * 해시 체인 검증 - 구간 병렬 검증, 구간 경계 anchor, 수정/삭제/재계산 위조 탐지, 체인별 첫 끊김 보고,
+ * 보존 기간 정리로 사라진 체인 앞부분
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditChainVerifier - 감사 로그 해시 체인 검증")
+class AuditChainVerifierTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 3, 2, 0, 0);
+    private static final String CHAIN_A = "01JCHAINA00000000000000000";
+    private static final String CHAIN_B = "01JCHAINB00000000000000000";
+
+    @Mock
+    private AuditLogMapper auditLogMapper;
+
+    /**
+     * audit_log 테이블 대신 chainId -> (chainSeq -> row)
+     */
+    private final Map<String, TreeMap<Long, AuditLog>> table = new ConcurrentHashMap<>();
+
+    private AuditChainVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new AuditChainVerifier(config(), auditLogMapper, new SimpleMeterRegistry());
+    }
+
+    private static AuthProperties.AuditChainConfig config() {
+        AuthProperties.AuditChainConfig config = new AuthProperties.AuditChainConfig();
+        config.setParallelism(4);
+        config.setSegmentSize(10);
+        config.setPageSize(3);
+        return config;
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifier.shutdown();
+    }
+
+    /**
+     * 체인에 count건 기록 (AuditLogWriter가 붙이는 것과 같은 해시)
+     */
+    private List<AuditLog> write(String chainId, int count) {
+        AuditHashChain chain = new AuditHashChain(chainId, Clock.systemDefaultZone());
+        List<AuditLog> rows = chain.link(IntStream.range(0, count)
+                .mapToObj(i -> AuditLog.createLoginFailure(
+                        chainId.substring(0, 9) + i, "EMP" + i, "10.0.0.1", "LOCAL", "INVALID_PASSWORD", null, null, null)
+                        .toBuilder().timestamp(START.plusMinutes(i)).build())
+                .toList());
+        TreeMap<Long, AuditLog> bySeq = table.computeIfAbsent(chainId, id -> new TreeMap<>());
+        rows.forEach(row -> bySeq.put(row.getChainSeq(), row));
+        return rows;
+    }
+
+    private void update(String chainId, long seq, AuditLog row) {
+        table.get(chainId).put(seq, row);
+    }
+
+    private void delete(String chainId, long seq) {
+        table.get(chainId).remove(seq);
+    }
+
+    private AuditChainVerifier.Report verify() {
+        given(auditLogMapper.findChainRanges(any(), any())).willAnswer(invocation -> table.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> range(entry.getKey(), entry.getValue().firstKey(), entry.getValue().lastKey()))
+                .toList());
+        return verifyRanges();
+    }
+
+    /**
+     * 체인 순번 범위 - timestamp 범위는 table에 남아 있는 행에서
+     */
+    private AuditChainRange range(String chainId, long minSeq, long maxSeq) {
+        return new AuditChainRange(chainId, minSeq, maxSeq,
+                table.get(chainId).get(minSeq).getTimestamp(), table.get(chainId).get(maxSeq).getTimestamp());
+    }
+
+    /**
+     * findChainRanges를 stub한 뒤 호출 - 구간 조회는 table에서 (afterSeq, toSeq] 순번 순, timestamp 범위 안에서 limit건
+     */
+    private AuditChainVerifier.Report verifyRanges() {
+        given(auditLogMapper.countUnchained(any(), any())).willReturn(0L);
+        given(auditLogMapper.findChainSegment(anyString(), anyLong(), anyLong(), any(), any(), anyInt())).willAnswer(invocation -> {
+            LocalDateTime from = invocation.getArgument(3);
+            LocalDateTime to = invocation.getArgument(4);
+            return table.get(invocation.<String>getArgument(0))
+                    .subMap(invocation.<Long>getArgument(1), false, invocation.<Long>getArgument(2), true)
+                    .values().stream()
+                    .filter(row -> from == null || !row.getTimestamp().isBefore(from))
+                    .filter(row -> to == null || !row.getTimestamp().isAfter(to))
+                    .limit(invocation.<Integer>getArgument(5)).toList();
+        });
+        return verifier.verify(START, END);
+    }
+
+    @Nested
+    @DisplayName("정상 체인")
+    class Intact {
+
+        @Test
+        @DisplayName("여러 구간으로 나눠 병렬 검증해도 모든 행을 확인하고 끊김이 없다")
+        void shouldVerifyAllSegments() {
+            // Given: 구간 10건, 95건 -> 10개 구간
+            List<AuditLog> rows = write(CHAIN_A, 95);
+
+            // When
+            AuditChainVerifier.Report report = verify();
+
+            // Then
+            assertThat(report.intact()).isTrue();
+            assertThat(report.verified()).isEqualTo(95);
+            assertThat(report.segments()).isEqualTo(10);
+            assertThat(report.chains()).singleElement()
+                    .satisfies(chain -> assertThat(chain.headHash()).isEqualTo(rows.get(94).getHash()));
+        }
+
+        @Test
+        @DisplayName("기간이 체인 중간부터 시작하면 직전 행의 hash를 anchor로 쓴다")
+        void shouldAnchorOnPreviousRow() {
+            write(CHAIN_A, 30);
+            given(auditLogMapper.findChainRanges(any(), any()))
+                    .willReturn(List.of(range(CHAIN_A, 12, 29)));
+
+            AuditChainVerifier.Report report = verifyRanges();
+
+            assertThat(report.intact()).isTrue();
+            assertThat(report.verified()).isEqualTo(18);
+            assertThat(report.chains()).singleElement()
+                    .satisfies(chain -> assertThat(chain.startRetainedOut()).isFalse());
+        }
+
+        @Test
+        @DisplayName("직전 행이 기간 timestamp 범위 밖에 있어도 찾아 anchor로 쓴다")
+        void shouldAnchorOnPreviousRow_OutsideTimestampRange() {
+            // Given: 직전 행이 기간 첫 행보다 하루 앞서 기록됨 (anchor는 저장된 hash를 그대로 쓴다)
+            List<AuditLog> rows = write(CHAIN_A, 30);
+            update(CHAIN_A, 11, rows.get(11).toBuilder().timestamp(START.minusDays(1)).build());
+            given(auditLogMapper.findChainRanges(any(), any()))
+                    .willReturn(List.of(range(CHAIN_A, 12, 29)));
+
+            // When
+            AuditChainVerifier.Report report = verifyRanges();
+
+            // Then
+            assertThat(report.intact()).isTrue();
+            assertThat(report.verified()).isEqualTo(18);
+        }
+
+        @Test
+        @DisplayName("구간 조회는 기간 안 행들의 timestamp 범위 ± slack으로 제한한다")
+        void shouldBoundSegmentLookupsByTimestamp() {
+            write(CHAIN_A, 40);
+
+            verify();
+
+            then(auditLogMapper).should(atLeastOnce()).findChainSegment(eq(CHAIN_A), anyLong(), anyLong(),
+                    eq(START.minusMinutes(60)), eq(START.plusMinutes(39).plusMinutes(60)), anyInt());
+            then(auditLogMapper).should(never()).findChainSegment(anyString(), anyLong(), anyLong(),
+                    isNull(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("보존 기간 정리")
+    class Retention {
+
+        @Test
+        @DisplayName("체인 앞부분이 모두 정리되었으면 끊김이 아니라 시작을 확인할 수 없음으로 보고한다")
+        void shouldReportRetainedOutStart() {
+            // Given: 0~11번이 든 파티션이 DETACH/DROP됨
+            write(CHAIN_A, 30);
+            table.get(CHAIN_A).headMap(12L).clear();
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            verifier.shutdown();
+            verifier = new AuditChainVerifier(config(), auditLogMapper, meterRegistry);
+
+            // When
+            AuditChainVerifier.Report report = verify();
+
+            // Then
+            assertThat(report.intact()).isTrue();
+            assertThat(report.verified()).isEqualTo(18);
+            assertThat(report.chains()).singleElement()
+                    .satisfies(chain -> assertThat(chain.startRetainedOut()).isTrue());
+            assertThat(meterRegistry.find("auth.audit.chain.breaks").counters()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("앞선 행이 남아 있는데 직전 행만 없으면 MISSING으로 보고한다")
+        void shouldReportMissingAnchor_WhenEarlierRowsRemain() {
+            write(CHAIN_A, 30);
+            delete(CHAIN_A, 11);
+            given(auditLogMapper.findChainRanges(any(), any()))
+                    .willReturn(List.of(range(CHAIN_A, 12, 29)));
+
+            AuditChainVerifier.Report report = verifyRanges();
+
+            assertThat(report.breaks()).singleElement().satisfies(chainBreak -> {
+                assertThat(chainBreak.type()).isEqualTo(AuditChainVerifier.BreakType.MISSING);
+                assertThat(chainBreak.chainSeq()).isEqualTo(11);
+            });
+            assertThat(report.chains()).singleElement()
+                    .satisfies(chain -> assertThat(chain.startRetainedOut()).isFalse());
+        }
+    }
+
+    @Nested
+    @DisplayName("위변조 탐지")
+    class Tampering {
+
+        @Test
+        @DisplayName("필드를 고친 행을 TAMPERED로 보고한다")
+        void shouldDetectModifiedRow() {
+            List<AuditLog> rows = write(CHAIN_A, 40);
+            update(CHAIN_A, 23, rows.get(23).toBuilder().success(true).reason(null).build());
+
+            AuditChainVerifier.ChainBreak chainBreak = verify().breaks().get(0);
+
+            assertThat(chainBreak.type()).isEqualTo(AuditChainVerifier.BreakType.TAMPERED);
+            assertThat(chainBreak.chainSeq()).isEqualTo(23);
+            assertThat(chainBreak.id()).isEqualTo(rows.get(23).getId());
+        }
+
+        @Test
+        @DisplayName("지운 행을 MISSING으로 보고한다 (구간 경계의 행 포함)")
+        void shouldDetectDeletedRow() {
+            write(CHAIN_A, 40);
+            delete(CHAIN_A, 20);
+
+            AuditChainVerifier.ChainBreak chainBreak = verify().breaks().get(0);
+
+            assertThat(chainBreak.type()).isEqualTo(AuditChainVerifier.BreakType.MISSING);
+            assertThat(chainBreak.chainSeq()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("고친 행의 hash를 다시 계산해 넣어도 다음 행의 prevHash와 이어지지 않아 BROKEN_LINK로 보고한다")
+        void shouldDetectRehashedRow() {
+            List<AuditLog> rows = write(CHAIN_A, 40);
+            AuditLog forged = rows.get(15).toBuilder().employeeId("EMP999").build();
+            update(CHAIN_A, 15, forged.toBuilder().hash(AuditHashChain.hash(forged)).build());
+
+            AuditChainVerifier.ChainBreak chainBreak = verify().breaks().get(0);
+
+            assertThat(chainBreak.type()).isEqualTo(AuditChainVerifier.BreakType.BROKEN_LINK);
+            assertThat(chainBreak.chainSeq()).isEqualTo(16);
+        }
+
+        @Test
+        @DisplayName("구간 첫 행의 끊김은 앞 구간 마지막 hash(anchor)와 비교해 찾는다")
+        void shouldDetectBreakAtSegmentBoundary() {
+            // Given: 구간 [10, 19]의 마지막 행을 고치고 hash까지 다시 계산 -> 구간 안에서는 이어져 보인다
+            List<AuditLog> rows = write(CHAIN_A, 40);
+            AuditLog forged = rows.get(19).toBuilder().clientIp("10.9.9.9").build();
+            update(CHAIN_A, 19, forged.toBuilder().hash(AuditHashChain.hash(forged)).build());
+
+            AuditChainVerifier.ChainBreak chainBreak = verify().breaks().get(0);
+
+            assertThat(chainBreak.type()).isEqualTo(AuditChainVerifier.BreakType.BROKEN_LINK);
+            assertThat(chainBreak.chainSeq()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("체인마다 순번이 가장 작은 끊김 하나만 보고하고, 다른 체인은 정상으로 본다")
+        void shouldReportFirstBreakPerChain() {
+            List<AuditLog> rows = write(CHAIN_A, 40);
+            write(CHAIN_B, 25);
+            delete(CHAIN_A, 33);
+            update(CHAIN_A, 7, rows.get(7).toBuilder().reason("EDITED").build());
+
+            AuditChainVerifier.Report report = verify();
+
+            assertThat(report.intact()).isFalse();
+            assertThat(report.breaks()).singleElement().satisfies(chainBreak -> {
+                assertThat(chainBreak.chainId()).isEqualTo(CHAIN_A);
+                assertThat(chainBreak.chainSeq()).isEqualTo(7);
+            });
+            assertThat(report.chains()).filteredOn(chain -> chain.chainId().equals(CHAIN_B))
+                    .singleElement().satisfies(chain -> assertThat(chain.firstBreak()).isNull());
+        }
+    }
+}
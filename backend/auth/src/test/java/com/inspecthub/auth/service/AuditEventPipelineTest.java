@@ -0,0 +1,124 @@
+package com.inspecthub.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.common.audit.AuditEvent;
+import com.inspecthub.common.audit.AuditEventType;
+import com.inspecthub.common.config.AuthProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+/**
+ * AuditEventPipeline Tests
+ *
+ * 타입 있는 감사 이벤트 -> audit_log 레코드 변환 후 AuditLogWriter 접수, 버려진 정책 변경 이후 checkpoint
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditEventPipeline - 감사 이벤트 파이프라인")
+class AuditEventPipelineTest {
+
+    private static final LocalDateTime OCCURRED_AT = LocalDateTime.of(2026, 3, 2, 9, 30);
+
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
+    private AuditEventPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new AuditEventPipeline(auditLogWriter,
+                new PolicyRevisionCodec(new AuthProperties.AuditPolicyRevisionConfig(), new ObjectMapper()));
+    }
+
+    private AuditLog published() {
+        ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
+        then(auditLogWriter).should().submit(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("정책 변경은 대상 정책과 함께 기록하고, 처음 보는 정책은 변경 후 상태를 checkpoint로 담는다")
+    void shouldSubmitPolicyChange() {
+        // When
+        pipeline.publish(new AuditEvent.PolicyChanged("01JPOLICY00000000000000000", OCCURRED_AT,
+                "LOGIN_METHOD_ENABLED", "ADMIN01", "LOGIN_POLICY", "01JLP00000000000000000000",
+                "{\"enabledMethods\":[\"AD\"]}", "{\"enabledMethods\":[\"AD\",\"SSO\"]}"));
+
+        // Then
+        AuditLog auditLog = published();
+        assertThat(auditLog.getId()).isEqualTo("01JPOLICY00000000000000000");
+        assertThat(auditLog.getAction()).isEqualTo("LOGIN_METHOD_ENABLED");
+        assertThat(auditLog.getEventType()).isEqualTo(AuditEventType.POLICY_CHANGE);
+        assertThat(auditLog.getUserId()).isEqualTo("ADMIN01");
+        assertThat(auditLog.getTimestamp()).isEqualTo(OCCURRED_AT);
+        assertThat(auditLog.getSuccess()).isTrue();
+        assertThat(auditLog.getSubjectType()).isEqualTo("LOGIN_POLICY");
+        assertThat(auditLog.getSubjectId()).isEqualTo("01JLP00000000000000000000");
+        assertThat(auditLog.getDetails())
+                .isEqualTo("{\"format\":\"checkpoint\",\"state\":{\"enabledMethods\":[\"AD\",\"SSO\"]}}");
+    }
+
+    @Test
+    @DisplayName("정책 변경 감사 로그가 버려지면 다음 변경은 patch가 아닌 checkpoint로 기록한다")
+    void shouldCheckpoint_AfterDroppedChange() {
+        // Given: writer의 버림 통지
+        ArgumentCaptor<Consumer<AuditLog>> onDropped = ArgumentCaptor.captor();
+        then(auditLogWriter).should().onDropped(onDropped.capture());
+        ArgumentCaptor<AuditLog> submitted = ArgumentCaptor.forClass(AuditLog.class);
+
+        pipeline.publish(change("01JPOLICY00000000000000010", "[\"AD\"]", "[\"AD\",\"SSO\"]"));
+        pipeline.publish(change("01JPOLICY00000000000000011", "[\"AD\",\"SSO\"]", "[\"SSO\"]"));
+        then(auditLogWriter).should(times(2)).submit(submitted.capture());
+        assertThat(submitted.getAllValues().get(1).getDetails()).contains("\"format\":\"json-patch\"");
+
+        // When: 두 번째 변경이 저장되지 못함
+        onDropped.getValue().accept(submitted.getAllValues().get(1));
+        pipeline.publish(change("01JPOLICY00000000000000012", "[\"SSO\"]", "[\"SSO\",\"LOCAL\"]"));
+
+        // Then: 저장되지 않은 상태를 기준으로 patch를 만들지 않는다
+        then(auditLogWriter).should(times(3)).submit(submitted.capture());
+        assertThat(submitted.getValue().getDetails())
+                .isEqualTo("{\"format\":\"checkpoint\",\"state\":{\"enabledMethods\":[\"SSO\",\"LOCAL\"]}}");
+    }
+
+    private static AuditEvent.PolicyChanged change(String id, String beforeMethods, String afterMethods) {
+        return new AuditEvent.PolicyChanged(id, OCCURRED_AT, "LOGIN_METHOD_ENABLED", "ADMIN01",
+                "LOGIN_POLICY", "01JLP00000000000000000000",
+                "{\"enabledMethods\":" + beforeMethods + "}", "{\"enabledMethods\":" + afterMethods + "}");
+    }
+
+    @Test
+    @DisplayName("대상 ID가 없는 변경은 전/후 전체를 담고, JSON이 아닌 내용은 문자열로 담는다")
+    void shouldKeepNonJsonAsText() {
+        pipeline.publish(new AuditEvent.PolicyChanged("01JPOLICY00000000000000001", OCCURRED_AT,
+                "LOGIN_PRIORITY_UPDATED", "ADMIN01", "LOGIN_POLICY", null, null, "not-json"));
+
+        assertThat(published().getDetails()).isEqualTo("{\"format\":\"full\",\"before\":null,\"after\":\"not-json\"}");
+    }
+
+    @Test
+    @DisplayName("로그인 실패는 발생 시각과 사유를 유지해 LOGIN_FAILURE로 기록한다")
+    void shouldSubmitLoginFailure() {
+        pipeline.publish(new AuditEvent.LoginFailed("01JLOGIN000000000000000000", OCCURRED_AT,
+                "202401001", "AD", "AD_CIRCUIT_OPEN"));
+
+        AuditLog auditLog = published();
+        assertThat(auditLog.getAction()).isEqualTo("LOGIN_FAILURE");
+        assertThat(auditLog.getEventType()).isEqualTo(AuditEventType.LOGIN_FAILURE);
+        assertThat(auditLog.getTimestamp()).isEqualTo(OCCURRED_AT);
+        assertThat(auditLog.getReason()).isEqualTo("AD_CIRCUIT_OPEN");
+        assertThat(auditLog.getSuccess()).isFalse();
+    }
+}
@@ -0,0 +1,85 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AuditLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuditHashChain Tests
+ *
+ * 감사 로그 해시 체인 - 순번/prevHash 연결, 필드 변경 시 해시 변경, DB 저장 정밀도
+ */
+@DisplayName("AuditHashChain - 감사 로그 해시 체인")
+class AuditHashChainTest {
+
+    private static final String CHAIN_ID = "01JTESTCHAIN00000000000000";
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T00:00:00Z"), ZoneOffset.UTC);
+    private final AuditHashChain chain = new AuditHashChain(CHAIN_ID, clock);
+
+    private static AuditLog event(int sequence) {
+        return AuditLog.createLoginFailure(
+                "ID" + sequence, "EMP" + sequence, "10.0.0.1", "LOCAL", "INVALID_PASSWORD", null, null, null);
+    }
+
+    @Test
+    @DisplayName("순번 0은 genesis에, 이후 레코드는 직전 해시에 연결된다")
+    void shouldLinkInOrder() {
+        // When
+        List<AuditLog> first = chain.link(List.of(event(0), event(1)));
+        AuditLog third = chain.link(event(2));
+
+        // Then
+        assertThat(first).extracting(AuditLog::getChainSeq).containsExactly(0L, 1L);
+        assertThat(first.get(0).getChainId()).isEqualTo(CHAIN_ID);
+        assertThat(first.get(0).getPrevHash()).isEqualTo(AuditHashChain.genesis(CHAIN_ID));
+        assertThat(first.get(1).getPrevHash()).isEqualTo(first.get(0).getHash());
+        assertThat(third.getChainSeq()).isEqualTo(2L);
+        assertThat(third.getPrevHash()).isEqualTo(first.get(1).getHash());
+        assertThat(third.getHash()).hasSize(64).isEqualTo(AuditHashChain.hash(third));
+    }
+
+    @Test
+    @DisplayName("필드 하나만 바뀌어도 해시가 달라진다")
+    void shouldChangeHash_WhenFieldChanges() {
+        AuditLog linked = chain.link(event(0));
+
+        assertThat(AuditHashChain.hash(linked.toBuilder().reason("ACCOUNT_LOCKED").build())).isNotEqualTo(linked.getHash());
+        assertThat(AuditHashChain.hash(linked.toBuilder().success(true).build())).isNotEqualTo(linked.getHash());
+        assertThat(AuditHashChain.hash(linked.toBuilder().chainSeq(1L).build())).isNotEqualTo(linked.getHash());
+    }
+
+    @Test
+    @DisplayName("필드 경계가 달라지면 이어 붙인 값이 같아도 해시가 다르다")
+    void shouldSeparateFieldBoundaries() {
+        AuditLog linked = chain.link(event(0));
+
+        AuditLog shifted = linked.toBuilder().employeeId(linked.getEmployeeId() + "x").username(null).build();
+        AuditLog original = linked.toBuilder().username("x").build();
+
+        assertThat(AuditHashChain.hash(shifted)).isNotEqualTo(AuditHashChain.hash(original));
+    }
+
+    @Test
+    @DisplayName("DB에 저장되는 마이크로초 정밀도로 시각을 맞추고, createdAt이 없으면 현재 시각을 넣어 해시한다")
+    void shouldTruncateToMicros() {
+        AuditLog nanos = event(0).toBuilder()
+                .timestamp(LocalDateTime.of(2026, 3, 1, 9, 0, 0, 123_456_789))
+                .createdAt(null)
+                .build();
+
+        AuditLog linked = chain.link(nanos);
+
+        assertThat(linked.getTimestamp().getNano()).isEqualTo(123_456_000);
+        assertThat(linked.getCreatedAt()).isEqualTo(LocalDateTime.of(2026, 3, 1, 0, 0));
+        assertThat(AuditHashChain.hash(linked)).isEqualTo(linked.getHash());
+    }
+}
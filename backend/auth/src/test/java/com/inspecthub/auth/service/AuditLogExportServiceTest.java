@@ -0,0 +1,176 @@
+package com.inspecthub.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.common.exception.BusinessException;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * AuditLogExportService Tests
+ *
+ * 감사 로그 스트리밍 추출 - CSV 인코딩, NDJSON, gzip, Cursor 종료
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogExportService - 감사 로그 추출")
+class AuditLogExportServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 7, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    @Mock
+    private AuditLogMapper auditLogMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private AuditLogExportService exportService;
+    private ListCursor cursor;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new AuditLogExportService(auditLogMapper, objectMapper);
+        cursor = new ListCursor(List.of(
+                AuditLog.createLoginFailure("ID1", "EMP001", "10.0.0.1", "AD", "INVALID_PASSWORD",
+                        "Mozilla/5.0 (X11, Linux)", null, null).toBuilder().timestamp(START.plusHours(1)).build(),
+                AuditLog.createLoginFailure("ID2", "EMP002", "10.0.0.2", "LOCAL", "=HYPERLINK(\"x\")",
+                        null, null, null).toBuilder().timestamp(START.plusHours(2)).build()));
+    }
+
+    private long export(AuditLogExportService.Format format, boolean gzip, ByteArrayOutputStream out) {
+        given(auditLogMapper.streamByTimestampRange(START, END, null)).willReturn(cursor);
+        return exportService.export(START, END, null, format, gzip, out);
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("헤더와 행을 RFC 4180 형식으로 쓰고 Cursor를 닫는다")
+        void shouldWriteCsvRows() {
+            // Given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            long count = export(AuditLogExportService.Format.CSV, false, out);
+
+            // Then
+            String[] lines = out.toString(StandardCharsets.UTF_8).substring(1).split("\r\n");
+            assertThat(count).isEqualTo(2);
+            assertThat(lines).hasSize(3);
+            assertThat(lines[0]).isEqualTo(String.join(",", AuditLogExportService.CSV_COLUMNS));
+            assertThat(lines[1]).startsWith("ID1,LOGIN_FAILURE,,EMP001,,2026-07-01T01:00,10.0.0.1,false,AD,,")
+                    .contains("\"Mozilla/5.0 (X11, Linux)\"");
+            assertThat(cursor.closed).isTrue();
+        }
+
+        @Test
+        @DisplayName("수식으로 시작하는 값은 '를 붙여 스프레드시트에서 실행되지 않게 한다")
+        void shouldNeutralizeFormulas() {
+            assertThat(AuditLogExportService.csvField("=HYPERLINK(\"x\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+            assertThat(AuditLogExportService.csvField("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+            assertThat(AuditLogExportService.csvField(null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON / gzip")
+    class Ndjson {
+
+        @Test
+        @DisplayName("행마다 JSON 한 줄을 쓴다")
+        void shouldWriteOneJsonPerLine() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            export(AuditLogExportService.Format.NDJSON, false, out);
+
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(2);
+            JsonNode first = objectMapper.readTree(lines[0]);
+            assertThat(first.get("id").asText()).isEqualTo("ID1");
+            assertThat(first.get("timestamp").asText()).isEqualTo("2026-07-01T01:00:00");
+        }
+
+        @Test
+        @DisplayName("gzip=true면 압축된 스트림을 끝까지 완성한다")
+        void shouldGzipOutput() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            export(AuditLogExportService.Format.NDJSON, true, out);
+
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+                String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                assertThat(content.split("\n")).hasSize(2);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식은 VALIDATION_ERROR")
+    void shouldRejectUnknownFormat() {
+        assertThatThrownBy(() -> AuditLogExportService.Format.of("xlsx"))
+                .isInstanceOf(BusinessException.class);
+        assertThat(AuditLogExportService.Format.of("ndjson")).isEqualTo(AuditLogExportService.Format.NDJSON);
+    }
+
+    /**
+     * 테스트용 Cursor - 목록을 순회하고 close 여부를 기록
+     */
+    private static class ListCursor implements Cursor<AuditLog> {
+
+        private final List<AuditLog> rows;
+        private boolean closed;
+
+        ListCursor(List<AuditLog> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return false;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public Iterator<AuditLog> iterator() {
+            return rows.iterator();
+        }
+    }
+}
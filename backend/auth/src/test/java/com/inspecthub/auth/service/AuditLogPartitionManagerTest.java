@@ -0,0 +1,160 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.mapper.AuditLogPartitionMapper;
+import com.inspecthub.common.config.AuthProperties.AuditPartitionConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.InOrder;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+/**
+ * AuditLogPartitionManager Tests
+ *
+ * audit_log 월별 파티션 - 미래 파티션 생성, 보존 기간 지난 파티션 detach/drop
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogPartitionManager - 감사 로그 월별 파티션 관리")
+class AuditLogPartitionManagerTest {
+
+    private static final Clock OCTOBER_2026 =
+            Clock.fixed(Instant.parse("2026-10-17T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Mock
+    private AuditLogPartitionMapper partitionMapper;
+
+    private AuditPartitionConfig config;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        config = new AuditPartitionConfig();
+        config.setEnabled(true);
+        config.setPremakeMonths(2);
+        config.setRetentionMonths(12);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private AuditLogPartitionManager manager() {
+        return new AuditLogPartitionManager(config, partitionMapper, TransactionOperations.withoutTransaction(),
+                meterRegistry, OCTOBER_2026);
+    }
+
+    @Nested
+    @DisplayName("미래 파티션")
+    class Premake {
+
+        @Test
+        @DisplayName("이번 달부터 premakeMonths개월 뒤까지 월초 기준으로 파티션을 확인한다")
+        void shouldEnsureCurrentAndFutureMonths() {
+            // Given
+            given(partitionMapper.ensurePartition(any()))
+                    .willAnswer(invocation -> "audit_log_p" + invocation.<LocalDate>getArgument(0).toString()
+                            .substring(0, 7).replace("-", ""));
+
+            // When
+            AuditLogPartitionManager.Maintenance result = manager().maintain();
+
+            // Then
+            assertThat(result.ensured()).containsExactly("audit_log_p202610", "audit_log_p202611", "audit_log_p202612");
+            then(partitionMapper).should().ensurePartition(LocalDate.of(2026, 10, 1));
+            then(partitionMapper).should().ensurePartition(LocalDate.of(2026, 12, 1));
+        }
+
+        @Test
+        @DisplayName("비활성화되어 있으면 정기 실행에서 아무것도 하지 않는다")
+        void shouldSkip_WhenDisabled() {
+            config.setEnabled(false);
+
+            manager().scheduledMaintain();
+
+            then(partitionMapper).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("보존 기간 정리")
+    class Retention {
+
+        @BeforeEach
+        void partitions() {
+            given(partitionMapper.findPartitionNames()).willReturn(List.of(
+                    "audit_log_default",
+                    "audit_log_p202508",
+                    "audit_log_p202509",
+                    "audit_log_p202510",
+                    "audit_log_p202610"));
+        }
+
+        @Test
+        @DisplayName("보존 기간보다 오래된 월 파티션만 detach한다 (default 파티션 제외)")
+        void shouldDetachExpiredPartitions() {
+            AuditLogPartitionManager.Maintenance result = manager().maintain();
+
+            assertThat(result.retired()).containsExactly("audit_log_p202508", "audit_log_p202509");
+            then(partitionMapper).should().detachPartition("audit_log_p202508");
+            then(partitionMapper).should().detachPartition("audit_log_p202509");
+            then(partitionMapper).should(never()).dropPartition(anyString());
+            InOrder inOrder = inOrder(partitionMapper);
+            inOrder.verify(partitionMapper).setLockTimeout(2_000);
+            inOrder.verify(partitionMapper).detachPartition("audit_log_p202508");
+            assertThat(meterRegistry.get("auth.audit.partition.retired").tag("action", "detach")
+                    .counter().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("retentionAction=drop이면 파티션을 삭제한다")
+        void shouldDropExpiredPartitions() {
+            config.setRetentionAction("drop");
+
+            manager().maintain();
+
+            then(partitionMapper).should().dropPartition("audit_log_p202508");
+            then(partitionMapper).should().dropPartition("audit_log_p202509");
+            then(partitionMapper).should(never()).detachPartition(anyString());
+        }
+
+        @Test
+        @DisplayName("한 파티션이 잠금 대기 한도를 넘어도 나머지는 계속 정리한다 (실패한 파티션은 다음 실행에 재시도)")
+        void shouldContinue_WhenOnePartitionFails() {
+            willThrow(new CannotAcquireLockException("canceling statement due to lock timeout"))
+                    .given(partitionMapper).detachPartition("audit_log_p202508");
+
+            AuditLogPartitionManager.Maintenance result = manager().maintain();
+
+            assertThat(result.retired()).containsExactly("audit_log_p202509");
+            assertThat(meterRegistry.get("auth.audit.partition.failures").counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("파티션 이름 형식이 아니면 월을 해석하지 않는다")
+    void shouldParseOnlyMonthlyPartitionNames() {
+        assertThat(AuditLogPartitionManager.monthOf("audit_log_p202603")).isEqualTo(YearMonth.of(2026, 3));
+        assertThat(AuditLogPartitionManager.monthOf("audit_log_default")).isNull();
+        assertThat(AuditLogPartitionManager.monthOf("audit_log_p202613")).isNull();
+        assertThat(AuditLogPartitionManager.monthOf("audit_log_p202603; DROP TABLE users")).isNull();
+    }
+}
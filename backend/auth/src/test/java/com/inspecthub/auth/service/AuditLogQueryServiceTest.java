@@ -0,0 +1,137 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.domain.AuditLogCursor;
+import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.common.dto.CursorPage;
+import com.inspecthub.common.exception.BusinessException;
+import com.inspecthub.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+/**
+ * AuditLogQueryService Tests
+ *
+ * 감사 로그 keyset 페이지 - 다음 페이지 판단, 커서 생성/복원, 페이지 크기 제한
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogQueryService - 감사 로그 커서 페이지 조회")
+class AuditLogQueryServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 2, 9, 0, 0, 123_456_000);
+
+    @Mock
+    private AuditLogMapper auditLogMapper;
+
+    @InjectMocks
+    private AuditLogQueryService auditLogQueryService;
+
+    private static List<AuditLog> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> AuditLog.createLoginFailure(
+                                "ID" + i, "EMP001", "10.0.0.1", "AD", "INVALID_PASSWORD", null, null, null)
+                        .toBuilder().timestamp(BASE.minusSeconds(i)).build())
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("페이지 구성")
+    class Paging {
+
+        @Test
+        @DisplayName("size보다 한 건 더 조회되면 size건만 반환하고 마지막 행으로 커서를 만든다")
+        void shouldReturnNextCursor_WhenMoreRowsExist() {
+            // Given
+            given(auditLogMapper.findByEmployeeIdAfter("EMP001", null, null, 4)).willReturn(rows(4));
+
+            // When
+            CursorPage<AuditLog> page = auditLogQueryService.findByEmployeeId("EMP001", null, 3);
+
+            // Then
+            assertThat(page.getItems()).extracting(AuditLog::getId).containsExactly("ID0", "ID1", "ID2");
+            assertThat(page.isHasNext()).isTrue();
+            assertThat(AuditLogCursor.decode(page.getNextCursor()))
+                    .isEqualTo(new AuditLogCursor(BASE.minusSeconds(2), "ID2"));
+        }
+
+        @Test
+        @DisplayName("size 이하로 조회되면 마지막 페이지 (nextCursor 없음)")
+        void shouldReturnLastPage() {
+            given(auditLogMapper.findByActionAfter("LOGIN_FAILURE", null, null, 4)).willReturn(rows(2));
+
+            CursorPage<AuditLog> page = auditLogQueryService.findByAction("LOGIN_FAILURE", null, 3);
+
+            assertThat(page.getItems()).hasSize(2);
+            assertThat(page.getNextCursor()).isNull();
+            assertThat(page.isHasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("커서의 (timestamp, id)를 seek 조건으로 넘긴다")
+        void shouldSeekFromCursor() {
+            // Given
+            String cursor = new AuditLogCursor(BASE, "01JBZ8Q3M4N5P6R7S8T9V0W1X2").encode();
+            given(auditLogMapper.findByUserIdAfter(eq("U1"), any(), any(), anyInt())).willReturn(List.of());
+
+            // When
+            auditLogQueryService.findByUserId("U1", cursor, 20);
+
+            // Then
+            then(auditLogMapper).should().findByUserIdAfter("U1", BASE, "01JBZ8Q3M4N5P6R7S8T9V0W1X2", 21);
+        }
+
+        @Test
+        @DisplayName("size가 0 이하면 기본값, 최대값을 넘으면 최대값으로 조회한다")
+        void shouldClampPageSize() {
+            given(auditLogMapper.findBySuccessAfter(eq(false), isNull(), isNull(), anyInt())).willReturn(List.of());
+
+            auditLogQueryService.findBySuccess(false, null, 0);
+            auditLogQueryService.findBySuccess(false, null, 100_000);
+
+            then(auditLogMapper).should()
+                    .findBySuccessAfter(false, null, null, AuditLogQueryService.DEFAULT_PAGE_SIZE + 1);
+            then(auditLogMapper).should()
+                    .findBySuccessAfter(false, null, null, AuditLogQueryService.MAX_PAGE_SIZE + 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 토큰")
+    class CursorToken {
+
+        @Test
+        @DisplayName("형식이 맞지 않는 커서는 INVALID_CURSOR로 거부한다")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> auditLogQueryService.findByClientIp("10.0.0.1", "not-a-cursor!", 10))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.INVALID_CURSOR.getCode());
+        }
+
+        @Test
+        @DisplayName("인코딩한 커서는 같은 (timestamp, id)로 복원된다 (마이크로초 포함)")
+        void shouldRoundTrip() {
+            AuditLogCursor cursor = new AuditLogCursor(BASE, "01JBZ8Q3M4N5P6R7S8T9V0W1X2");
+
+            assertThat(AuditLogCursor.decode(cursor.encode())).isEqualTo(cursor);
+            assertThat(AuditLogCursor.decode(null)).isNull();
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.inspecthub.auth.service;
 import com.inspecthub.auth.domain.AuditLog;
 import com.inspecthub.auth.domain.User;
 import com.inspecthub.auth.domain.UserId;
-import com.inspecthub.auth.mapper.AuditLogMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,7 +34,7 @@ import static org.mockito.Mockito.doNothing;
 class AuditLogServiceTest {
 
     @Mock
-    private AuditLogMapper auditLogMapper;
+    private AuditLogWriter auditLogWriter;
 
     @InjectMocks
     private AuditLogService auditLogService;
@@ -52,13 +51,13 @@ class AuditLogServiceTest {
             String loginMethod = "AD";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(employeeId, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog).isNotNull();
@@ -78,13 +77,13 @@ class AuditLogServiceTest {
             String loginMethod = "SSO";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(employeeId, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog).isNotNull();
@@ -102,13 +101,13 @@ class AuditLogServiceTest {
             String loginMethod = "LOCAL";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(employeeId, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog).isNotNull();
@@ -141,13 +140,13 @@ class AuditLogServiceTest {
                 .build();
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog).isNotNull();
@@ -197,13 +196,13 @@ class AuditLogServiceTest {
             given(request.getHeader("X-Forwarded-For")).willReturn(expectedIp);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getClientIp()).isEqualTo(expectedIp);
@@ -235,13 +234,13 @@ class AuditLogServiceTest {
             given(request.getRemoteAddr()).willReturn(expectedIp);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getClientIp()).isEqualTo(expectedIp);
@@ -273,13 +272,13 @@ class AuditLogServiceTest {
             given(request.getHeader("X-Forwarded-For")).willReturn(multipleIps);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getClientIp()).isEqualTo(expectedIp);
@@ -320,13 +319,13 @@ class AuditLogServiceTest {
             given(request.getHeader("User-Agent")).willReturn(userAgent);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getUserAgent()).isEqualTo(userAgent);
@@ -358,13 +357,13 @@ class AuditLogServiceTest {
             given(request.getHeader("User-Agent")).willReturn(null);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getUserAgent()).isNull();
@@ -397,13 +396,13 @@ class AuditLogServiceTest {
             given(request.getHeader("User-Agent")).willReturn(chromeUserAgent);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getUserAgent()).isEqualTo(chromeUserAgent);
@@ -450,13 +449,13 @@ class AuditLogServiceTest {
             given(session.getId()).willReturn(sessionId);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getSessionId()).isEqualTo(sessionId);
@@ -489,13 +488,13 @@ class AuditLogServiceTest {
             given(request.getSession(false)).willReturn(null);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getSessionId()).isNull();
@@ -536,7 +535,7 @@ class AuditLogServiceTest {
             given(request.getSession(false)).willReturn(null);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             LocalDateTime beforeLog = LocalDateTime.now();
 
@@ -546,7 +545,7 @@ class AuditLogServiceTest {
             LocalDateTime afterLog = LocalDateTime.now();
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getTimestamp()).isNotNull();
@@ -581,7 +580,7 @@ class AuditLogServiceTest {
             given(request.getSession(false)).willReturn(null);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             LocalDateTime now = LocalDateTime.now();
 
@@ -589,7 +588,7 @@ class AuditLogServiceTest {
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getTimestamp()).isNotNull();
@@ -626,13 +625,13 @@ class AuditLogServiceTest {
             given(request.getSession(false)).willReturn(null);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getTimestamp()).isNotNull();
@@ -679,13 +678,13 @@ class AuditLogServiceTest {
             given(request.getHeader("Referer")).willReturn(referer);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getReferer()).isEqualTo(referer);
@@ -719,13 +718,13 @@ class AuditLogServiceTest {
             given(request.getHeader("Referer")).willReturn(null);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(user, request, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getReferer()).isNull();
@@ -745,13 +744,13 @@ class AuditLogServiceTest {
             String loginMethod = "AD";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog).isNotNull();
@@ -773,13 +772,13 @@ class AuditLogServiceTest {
             String loginMethod = "SSO";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog).isNotNull();
@@ -799,13 +798,13 @@ class AuditLogServiceTest {
             String loginMethod = "LOCAL";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog).isNotNull();
@@ -836,13 +835,13 @@ class AuditLogServiceTest {
             given(request.getHeader("X-Forwarded-For")).willReturn(expectedIp);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod, request);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getClientIp()).isEqualTo(expectedIp);
@@ -863,13 +862,13 @@ class AuditLogServiceTest {
             given(request.getRemoteAddr()).willReturn(expectedIp);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod, request);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getClientIp()).isEqualTo(expectedIp);
@@ -888,13 +887,13 @@ class AuditLogServiceTest {
             given(request.getHeader("X-Forwarded-For")).willReturn(multipleIps);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod, request);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getClientIp()).isEqualTo(expectedIp);
@@ -922,13 +921,13 @@ class AuditLogServiceTest {
             given(request.getHeader("User-Agent")).willReturn(userAgent);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod, request);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getUserAgent()).isEqualTo(userAgent);
@@ -948,13 +947,13 @@ class AuditLogServiceTest {
             given(request.getHeader("User-Agent")).willReturn(null);
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod, request);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getUserAgent()).isNull();
@@ -974,13 +973,13 @@ class AuditLogServiceTest {
             String loginMethod = "AD";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getReason()).isEqualTo("ACCOUNT_DISABLED");
@@ -996,13 +995,13 @@ class AuditLogServiceTest {
             String loginMethod = "AD";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getReason()).isEqualTo("ACCOUNT_LOCKED");
@@ -1018,13 +1017,13 @@ class AuditLogServiceTest {
             String loginMethod = "AD";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getReason()).isEqualTo("ACCOUNT_EXPIRED");
@@ -1040,13 +1039,13 @@ class AuditLogServiceTest {
             String loginMethod = "AD";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getReason()).isEqualTo("CREDENTIALS_EXPIRED");
@@ -1062,13 +1061,13 @@ class AuditLogServiceTest {
             String loginMethod = "AD";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getReason()).isEqualTo("AD_SERVER_UNAVAILABLE");
@@ -1084,13 +1083,13 @@ class AuditLogServiceTest {
             String loginMethod = "SSO";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getReason()).isEqualTo("SSO_SERVER_UNAVAILABLE");
@@ -1106,13 +1105,13 @@ class AuditLogServiceTest {
             String loginMethod = "LOCAL";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             assertThat(savedLog.getReason()).isEqualTo("BRUTE_FORCE_DETECTED");
@@ -1132,13 +1131,13 @@ class AuditLogServiceTest {
             String loginMethod = "AD";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(employeeId, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             String id = savedLog.getId();
@@ -1159,13 +1158,13 @@ class AuditLogServiceTest {
             String loginMethod = "AD";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
             String id = savedLog.getId();
@@ -1185,13 +1184,13 @@ class AuditLogServiceTest {
             String loginMethod = "AD";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginSuccess(employeeId, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
 
@@ -1213,13 +1212,13 @@ class AuditLogServiceTest {
             String loginMethod = "AD";
 
             ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-            doNothing().when(auditLogMapper).insert(any(AuditLog.class));
+            doNothing().when(auditLogWriter).submit(any(AuditLog.class));
 
             // When (실행)
             auditLogService.logLoginFailure(employeeId, reason, loginMethod);
 
             // Then (검증)
-            verify(auditLogMapper).insert(auditLogCaptor.capture());
+            verify(auditLogWriter).submit(auditLogCaptor.capture());
 
             AuditLog savedLog = auditLogCaptor.getValue();
 
@@ -0,0 +1,412 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuditLogWriter Tests
+ *
+ * 감사 로그 일괄 기록기 - 크기/linger 기준 배치, 대기열 초과 정책, DB 장애 시 spool, 종료 시 drain
+ */
+@DisplayName("AuditLogWriter - 감사 로그 일괄 기록기")
+class AuditLogWriterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<AuditLog>> batches;
+    private RecordingSpool spool;
+    private AuditHashChain hashChain;
+    private AuditLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batches = new CopyOnWriteArrayList<>();
+        spool = new RecordingSpool();
+        hashChain = new AuditHashChain("01JTESTCHAIN00000000000000", Clock.systemDefaultZone());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    private AuthProperties.AuditWriterConfig config(int queueCapacity, int batchSize, long lingerMillis, String overflow) {
+        AuthProperties.AuditWriterConfig config = new AuthProperties.AuditWriterConfig();
+        config.setQueueCapacity(queueCapacity);
+        config.setBatchSize(batchSize);
+        config.setLingerMillis(lingerMillis);
+        config.setOverflow(overflow);
+        config.setBlockTimeoutMillis(20);
+        return config;
+    }
+
+    private AuditLogWriter start(AuthProperties.AuditWriterConfig config, Consumer<List<AuditLog>> inserter) {
+        writer = new AuditLogWriter(config, inserter, spool, hashChain, meterRegistry);
+        return writer;
+    }
+
+    private static AuditLog event(int sequence) {
+        return AuditLog.createLoginFailure(
+                "ID" + sequence, "EMP" + sequence, "10.0.0.1", "LOCAL", "INVALID_PASSWORD", null, null, null);
+    }
+
+    private double counter(String name, String outcome) {
+        return meterRegistry.get(name).tag("outcome", outcome).counter().count();
+    }
+
+    /**
+     * 첫 배치가 시작되면 latch가 열릴 때까지 writer 스레드를 붙잡는 inserter
+     */
+    private Consumer<List<AuditLog>> blockingInserter(CountDownLatch entered, CountDownLatch release) {
+        return batch -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batches.add(List.copyOf(batch));
+        };
+    }
+
+    @Nested
+    @DisplayName("배치 구성")
+    class Batching {
+
+        @Test
+        @DisplayName("batchSize를 넘지 않는 배치로 모든 이벤트를 기록한다")
+        void shouldWriteAllEventsInBoundedBatches() {
+            // Given
+            start(config(1_000, 50, 20, "block"), batch -> batches.add(List.copyOf(batch)));
+
+            // When
+            for (int i = 0; i < 500; i++) {
+                writer.submit(event(i));
+            }
+            writer.shutdown();
+
+            // Then
+            assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(50));
+            assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(500);
+            assertThat(batches.size()).isLessThan(500);
+            assertThat(meterRegistry.get("auth.audit.writer.written").counter().count()).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("batchSize가 차지 않아도 linger 시간이 지나면 기록한다")
+        void shouldFlushPartialBatch_AfterLinger() throws InterruptedException {
+            CountDownLatch flushed = new CountDownLatch(1);
+            start(config(100, 100, 10, "block"), batch -> {
+                batches.add(List.copyOf(batch));
+                flushed.countDown();
+            });
+
+            writer.submit(event(1));
+            writer.submit(event(2));
+
+            assertThat(flushed.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(batches.get(0)).extracting(AuditLog::getId).containsExactly("ID1", "ID2");
+        }
+
+        @Test
+        @DisplayName("종료 시 대기열에 남은 이벤트를 모두 기록한다")
+        void shouldDrainQueue_OnShutdown() throws InterruptedException {
+            // Given: writer가 첫 배치에서 멈춘 동안 이벤트가 쌓인다
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            start(config(100, 10, 0, "block"), blockingInserter(entered, release));
+            writer.submit(event(0));
+            assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i <= 30; i++) {
+                writer.submit(event(i));
+            }
+
+            // When
+            release.countDown();
+            writer.shutdown();
+
+            // Then
+            assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(31);
+            assertThat(writer.queueDepth()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("이벤트 유형별 지표")
+    class EventMetrics {
+
+        private double count(String name, String type) {
+            return meterRegistry.get("auth.audit.events." + name).tag("type", type).counter().count();
+        }
+
+        @Test
+        @DisplayName("유형별로 접수/기록 건수와 기록 지연을 집계한다")
+        void shouldRecordPerTypeThroughputAndLatency() {
+            start(config(100, 10, 0, "block"), batch -> batches.add(List.copyOf(batch)));
+
+            writer.submit(event(1));
+            writer.submit(AuditLog.createPolicyChange("P1", "LOGIN_METHOD_ENABLED", "ADMIN01", "LOGIN_POLICY", "01JPOLICY00000000000000000", LocalDateTime.now(), "{}"));
+            writer.submit(AuditLog.createPolicyChange("P2", "LOGIN_PRIORITY_UPDATED", "ADMIN01", "LOGIN_POLICY", "01JPOLICY00000000000000000", LocalDateTime.now(), "{}"));
+            writer.shutdown();
+
+            assertThat(count("submitted", "login-failure")).isEqualTo(1);
+            assertThat(count("persisted", "login-failure")).isEqualTo(1);
+            assertThat(count("submitted", "policy-change")).isEqualTo(2);
+            assertThat(count("persisted", "policy-change")).isEqualTo(2);
+            assertThat(meterRegistry.get("auth.audit.events.latency").tag("type", "policy-change").timer().count())
+                    .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("대기열 초과로 버린 이벤트를 유형별 dropped로 집계한다")
+        void shouldRecordPerTypeDrops() throws InterruptedException {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            start(config(1, 1, 0, "drop"), blockingInserter(entered, release));
+            writer.submit(event(0));
+            assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+            writer.submit(event(1));
+
+            writer.submit(AuditLog.createPolicyChange("P1", "LOGIN_METHOD_ENABLED", "ADMIN01", "LOGIN_POLICY", "01JPOLICY00000000000000000", LocalDateTime.now(), "{}"));
+            release.countDown();
+
+            assertThat(count("dropped", "policy-change")).isEqualTo(1);
+            assertThat(count("dropped", "login-failure")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("해시 체인")
+    class HashChain {
+
+        @Test
+        @DisplayName("기록하는 배치에 빈틈 없는 순번과 직전 해시를 붙인다")
+        void shouldLinkBatchesContiguously() {
+            start(config(1_000, 7, 0, "block"), batch -> batches.add(List.copyOf(batch)));
+
+            for (int i = 0; i < 50; i++) {
+                writer.submit(event(i));
+            }
+            writer.shutdown();
+
+            List<AuditLog> written = batches.stream().flatMap(List::stream).toList();
+            assertThat(written).extracting(AuditLog::getChainSeq)
+                    .containsExactlyElementsOf(LongStream.range(0, 50).boxed().toList());
+            assertThat(written.get(0).getPrevHash()).isEqualTo(AuditHashChain.genesis(hashChain.chainId()));
+            for (int i = 1; i < written.size(); i++) {
+                assertThat(written.get(i).getPrevHash()).isEqualTo(written.get(i - 1).getHash());
+            }
+        }
+
+        @Test
+        @DisplayName("spool로 보낸 이벤트도 같은 체인에 이어진다")
+        void shouldLinkSpooledEvents() {
+            start(config(100, 10, 0, "block"), batch -> {
+                throw new IllegalStateException("DB down");
+            });
+
+            writer.submit(event(1));
+            writer.submit(event(2));
+            writer.shutdown();
+
+            assertThat(spool.appended).extracting(AuditLog::getChainSeq).containsExactly(0L, 1L);
+            assertThat(spool.appended.get(1).getPrevHash()).isEqualTo(spool.appended.get(0).getHash());
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열 초과")
+    class Overflow {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private void fillQueue(String overflow) throws InterruptedException {
+            start(config(2, 1, 0, overflow), blockingInserter(entered, release));
+            writer.submit(event(0));
+            assertThat(entered.await(2, TimeUnit.SECONDS)).isTrue();
+            writer.submit(event(1));
+            writer.submit(event(2));
+        }
+
+        @AfterEach
+        void releaseWriter() {
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("DROP - 즉시 버리고 overflow{outcome=dropped}를 증가시킨다")
+        void shouldDrop() throws InterruptedException {
+            fillQueue("drop");
+
+            writer.submit(event(3));
+
+            assertThat(counter("auth.audit.writer.overflow", "dropped")).isEqualTo(1);
+            assertThat(spool.appended).isEmpty();
+        }
+
+        @Test
+        @DisplayName("버린 이벤트는 등록된 리스너에 알리고, 리스너 예외는 무시한다")
+        void shouldNotifyDropListeners() throws InterruptedException {
+            fillQueue("drop");
+            List<String> notified = new CopyOnWriteArrayList<>();
+            writer.onDropped(auditLog -> {
+                throw new IllegalStateException("listener failure");
+            });
+            writer.onDropped(auditLog -> notified.add(auditLog.getId()));
+
+            writer.submit(event(3));
+
+            assertThat(notified).containsExactly("ID3");
+        }
+
+        @Test
+        @DisplayName("SPILL - 로컬 보관소에 기록하고 overflow{outcome=spilled}를 증가시킨다")
+        void shouldSpill() throws InterruptedException {
+            fillQueue("spill");
+
+            writer.submit(event(3));
+
+            assertThat(spool.appended).extracting(AuditLog::getId).containsExactly("ID3");
+            assertThat(counter("auth.audit.writer.overflow", "spilled")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("BLOCK - 제한 시간 동안 대기한 뒤에도 가득 차 있으면 버린다")
+        void shouldBlockThenDrop() throws InterruptedException {
+            fillQueue("block");
+
+            long startedAt = System.nanoTime();
+            writer.submit(event(3));
+
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(15);
+            assertThat(counter("auth.audit.writer.overflow", "dropped")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("DB 장애")
+    class DatabaseFailure {
+
+        @Test
+        @DisplayName("기록에 실패한 배치는 overflow 정책과 관계없이 spool에 보관한다")
+        void shouldSpoolFailedBatch() {
+            start(config(100, 10, 0, "drop"), batch -> {
+                throw new IllegalStateException("DB down");
+            });
+
+            writer.submit(event(1));
+            writer.shutdown();
+
+            assertThat(spool.appended).extracting(AuditLog::getId).containsExactly("ID1");
+            assertThat(meterRegistry.get("auth.audit.writer.spooled").tag("reason", "db-failure")
+                    .counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("DB 기록 실패 직후 spool에 재기록 대기 중이면 DB를 시도하지 않고 spool 뒤에 이어 붙인다")
+        void shouldAppendToSpool_WhileFailingAndPending() {
+            // Given: 첫 배치가 실패해 spool로 감
+            spool.pending = true;
+            AtomicInteger attempts = new AtomicInteger();
+            start(config(100, 1, 0, "block"), batch -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("DB down");
+            });
+
+            // When
+            writer.submit(event(1));
+            writer.submit(event(2));
+            writer.shutdown();
+
+            // Then: 두 번째 배치는 커넥션 타임아웃을 기다리지 않고 spool로
+            assertThat(attempts).hasValue(1);
+            assertThat(spool.appended).extracting(AuditLog::getId).containsExactly("ID1", "ID2");
+            assertThat(meterRegistry.get("auth.audit.writer.spooled").tag("reason", "pending")
+                    .counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("DB 기록이 성공하고 있으면 spool 재기록이 밀려 있어도 DB에 바로 기록한다")
+        void shouldWriteToDatabase_WhenHealthyDespitePendingSpool() {
+            spool.pending = true;
+            start(config(100, 10, 0, "block"), batch -> batches.add(List.copyOf(batch)));
+
+            writer.submit(event(1));
+            writer.shutdown();
+
+            assertThat(batches).singleElement()
+                    .satisfies(batch -> assertThat(batch).extracting(AuditLog::getId).containsExactly("ID1"));
+            assertThat(spool.appended).isEmpty();
+        }
+
+        @Test
+        @DisplayName("spool에도 기록하지 못하면 유실로 집계해 리스너에 알리고 writer는 계속 동작한다")
+        void shouldCountLostEvents_AndKeepRunning() {
+            spool.accepting = false;
+            List<AuditLog> persisted = Collections.synchronizedList(new ArrayList<>());
+            List<String> notified = new CopyOnWriteArrayList<>();
+            start(config(100, 1, 0, "drop"), batch -> {
+                if (batch.get(0).getId().equals("ID1")) {
+                    throw new IllegalStateException("DB down");
+                }
+                persisted.addAll(batch);
+            });
+
+            writer.onDropped(auditLog -> notified.add(auditLog.getId()));
+            writer.submit(event(1));
+            writer.submit(event(2));
+            writer.shutdown();
+
+            assertThat(persisted).extracting(AuditLog::getId).containsExactly("ID2");
+            assertThat(meterRegistry.get("auth.audit.writer.lost").counter().count()).isEqualTo(1);
+            assertThat(notified).containsExactly("ID1");
+        }
+    }
+
+    /**
+     * 테스트용 보관소 - 보관된 이벤트를 메모리에 기록
+     */
+    private static class RecordingSpool implements AuditSpool {
+
+        private final List<AuditLog> appended = new CopyOnWriteArrayList<>();
+        private volatile boolean accepting = true;
+        private volatile boolean pending = false;
+
+        @Override
+        public int append(List<AuditLog> auditLogs) {
+            if (!accepting) {
+                return 0;
+            }
+            appended.addAll(auditLogs);
+            return auditLogs.size();
+        }
+
+        @Override
+        public boolean hasPending() {
+            return pending;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.inspecthub.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuditSpoolReplayer Tests
+ *
+ * spool 재기록 - DB 복구 후 순서대로 재기록, 실패 시 위치 유지, ULID 기준 멱등, 거부된 레코드 quarantine
+ */
+@DisplayName("AuditSpoolReplayer - 감사 로그 spool 재기록")
+class AuditSpoolReplayerTest {
+
+    @TempDir
+    Path directory;
+
+    private MappedAuditSpool spool;
+    private final Map<String, AuditLog> auditLogTable = new LinkedHashMap<>();
+    private final AtomicBoolean databaseUp = new AtomicBoolean(true);
+    private final Set<String> rejectedIds = new HashSet<>();
+    private SimpleMeterRegistry meterRegistry;
+    private AuditSpoolReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        AuthProperties.AuditWriterConfig.SpoolConfig config = new AuthProperties.AuditWriterConfig.SpoolConfig();
+        config.setDir(directory.toString());
+        config.setSegmentBytes(4_096);
+        spool = new MappedAuditSpool(config, new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+        meterRegistry = new SimpleMeterRegistry();
+        // INSERT ... ON CONFLICT (id) DO NOTHING - 한 트랜잭션이므로 거부된 행이 있으면 배치 전체가 롤백된다
+        replayer = new AuditSpoolReplayer(spool, batch -> {
+            if (!databaseUp.get()) {
+                throw new CannotGetJdbcConnectionException("DB down");
+            }
+            if (batch.stream().anyMatch(auditLog -> rejectedIds.contains(auditLog.getId()))) {
+                throw new DataIntegrityViolationException("value too long for type character varying(500)");
+            }
+            batch.forEach(auditLog -> auditLogTable.putIfAbsent(auditLog.getId(), auditLog));
+        }, 5, 0, meterRegistry);
+    }
+
+    private static List<AuditLog> events(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> AuditLog.createLoginFailure(
+                        String.format("01J0000000000000000000%04d", i), "EMP" + i, null, "AD", "DB_DOWN", null, null, null))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("spool의 모든 레코드를 순서대로 재기록하고 spool을 비운다")
+    void shouldReplayAll() {
+        spool.append(events(23));
+
+        int replayed = replayer.replay();
+
+        assertThat(replayed).isEqualTo(23);
+        assertThat(auditLogTable.keySet()).containsExactlyElementsOf(events(23).stream().map(AuditLog::getId).toList());
+        assertThat(spool.hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB가 복구되지 않았으면 위치를 유지하고 다음 시도에서 이어서 재기록한다")
+    void shouldKeepPosition_WhenDatabaseStillDown() {
+        spool.append(events(8));
+        databaseUp.set(false);
+
+        assertThat(replayer.replay()).isZero();
+        assertThat(spool.hasPending()).isTrue();
+
+        databaseUp.set(true);
+        assertThat(replayer.replay()).isEqualTo(8);
+        assertThat(auditLogTable).hasSize(8);
+    }
+
+    @Test
+    @DisplayName("이미 기록된 ID를 다시 재기록해도 행이 중복되지 않는다")
+    void shouldBeIdempotent() {
+        // Given: 재기록 후 checkpoint 저장 전에 종료되어 같은 레코드가 다시 spool에 남은 상황
+        List<AuditLog> events = events(3);
+        events.forEach(auditLog -> auditLogTable.put(auditLog.getId(), auditLog));
+        spool.append(events);
+
+        // When
+        replayer.replay();
+
+        // Then
+        assertThat(auditLogTable).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("DB가 거부한 레코드만 quarantine으로 옮기고 나머지는 재기록한 뒤 계속 진행한다")
+    void shouldQuarantineRejectedRecord() throws IOException {
+        // Given: 두 번째 배치(5~9)의 7번을 DB가 항상 거부
+        List<AuditLog> events = events(12);
+        spool.append(events);
+        rejectedIds.add(events.get(7).getId());
+
+        // When
+        int replayed = replayer.replay();
+
+        // Then
+        assertThat(replayed).isEqualTo(11);
+        assertThat(auditLogTable).hasSize(11).doesNotContainKey(events.get(7).getId());
+        assertThat(spool.hasPending()).isFalse();
+        assertThat(meterRegistry.get("auth.audit.spool.quarantined").counter().count()).isEqualTo(1);
+        assertThat(Files.readAllLines(directory.resolve(MappedAuditSpool.QUARANTINE_FILE))).singleElement()
+                .satisfies(line -> assertThat(line)
+                        .contains("\"id\":\"" + events.get(7).getId() + "\"")
+                        .contains("DataIntegrityViolationException"));
+    }
+
+    @Test
+    @DisplayName("연결 실패는 거부로 보지 않는다")
+    void shouldClassifyFailures() {
+        assertThat(AuditSpoolReplayer.isRejected(new DataIntegrityViolationException("check"))).isTrue();
+        assertThat(AuditSpoolReplayer.isRejected(new CannotGetJdbcConnectionException("down"))).isFalse();
+        assertThat(AuditSpoolReplayer.isRejected(new QueryTimeoutException("timeout"))).isFalse();
+        assertThat(AuditSpoolReplayer.isRejected(new IllegalStateException("tx"))).isFalse();
+    }
+}
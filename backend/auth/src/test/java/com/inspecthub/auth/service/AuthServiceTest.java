@@ -1,6 +1,5 @@
 package com.inspecthub.auth.service;
 
-import com.inspecthub.auth.domain.AccountLockPolicy;
 import com.inspecthub.auth.domain.User;
 import com.inspecthub.auth.domain.UserId;
 import com.inspecthub.auth.repository.UserRepository;
@@ -9,6 +8,7 @@ import com.inspecthub.auth.dto.RefreshTokenRequest;
 import com.inspecthub.auth.dto.TokenResponse;
 import com.inspecthub.common.config.AuthProperties;
 import com.inspecthub.common.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,9 +17,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +31,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import org.mockito.ArgumentCaptor;
@@ -61,11 +65,15 @@ class AuthServiceTest {
     private AuthProperties authProperties;
 
     @Mock
-    private AccountLockPolicy accountLockPolicy;
+    private LoginFailureCounter loginFailureCounter;
 
     @Mock
     private HttpServletRequest httpRequest;
 
+    @Spy
+    private PasswordVerificationExecutor passwordVerificationExecutor =
+            new PasswordVerificationExecutor(1, 4, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
     @InjectMocks
     private AuthService authService;
 
@@ -218,8 +226,10 @@ class AuthServiceTest {
                         assertThat(businessEx.getErrorCode()).isEqualTo("AUTH_002");
                     });
 
-            // And: 로그인 실패 상태가 저장되어야 함 (도메인 메서드 호출 후 save)
-            then(userRepository).should(times(1))
+            // And: 실패 횟수는 원자적 카운터로 기록되고 행 전체 저장은 하지 않아야 함
+            then(loginFailureCounter).should(times(1))
+                    .recordFailure(validUser);
+            then(userRepository).should(never())
                     .save(any(User.class));
 
             // And: 로그인 실패 감사 로그가 기록되어야 함
@@ -275,6 +285,25 @@ class AuthServiceTest {
             // And: 비밀번호 검증이 수행되지 않아야 함
             then(passwordEncoder).should(never()).matches(any(), any());
         }
+
+        @Test
+        @DisplayName("비밀번호 검증 실행기가 포화되면 AUTH_009로 즉시 거절하고 실패 횟수를 올리지 않는다")
+        void shouldRejectWith429_WhenVerifierSaturated() {
+            // Given: 검증 대기열 포화
+            given(userRepository.findByEmployeeId("EMP001"))
+                    .willReturn(Optional.of(validUser));
+            willThrow(new BusinessException("AUTH_009", "로그인 요청이 많습니다. 잠시 후 다시 시도하세요"))
+                    .given(passwordVerificationExecutor).verify(any());
+
+            // When & Then
+            assertThatThrownBy(() -> authService.authenticate(validLoginRequest, httpRequest))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode()).isEqualTo("AUTH_009"));
+
+            // And: 비밀번호 불일치로 기록되지 않아야 함
+            then(userRepository).should(never()).save(any(User.class));
+            then(auditLogService).should(never()).logLoginFailure(any(), eq("INVALID_PASSWORD"), any());
+        }
     }
 
     @Nested
@@ -300,10 +329,10 @@ class AuthServiceTest {
             assertThatThrownBy(() -> authService.authenticate(request, httpRequest))
                     .isInstanceOf(BusinessException.class);
 
-            // Then: 도메인 정책이 적용되고 저장되어야 함
-            then(accountLockPolicy).should(times(1))
-                    .applyLockPolicy(any(User.class), any(Integer.class));
-            then(userRepository).should(times(1))
+            // Then: 원자적 카운터로 기록되어야 함 (잠금 판단은 LoginFailureCounter가 증가 후 값으로 수행)
+            then(loginFailureCounter).should(times(1))
+                    .recordFailure(user);
+            then(userRepository).should(never())
                     .save(any(User.class));
         }
 
@@ -323,10 +352,10 @@ class AuthServiceTest {
                     .password("WrongPassword").build(), httpRequest))
                     .isInstanceOf(BusinessException.class);
 
-            // Then: 도메인 정책이 적용되고 저장되어야 함
-            then(accountLockPolicy).should(times(1))
-                    .applyLockPolicy(any(User.class), any(Integer.class));
-            then(userRepository).should(times(1))
+            // Then: 원자적 카운터로 기록되어야 함 (잠금 판단은 LoginFailureCounter가 증가 후 값으로 수행)
+            then(loginFailureCounter).should(times(1))
+                    .recordFailure(user);
+            then(userRepository).should(never())
                     .save(any(User.class));
         }
 
@@ -346,10 +375,10 @@ class AuthServiceTest {
                     .password("WrongPassword").build(), httpRequest))
                     .isInstanceOf(BusinessException.class);
 
-            // Then: 도메인 정책이 적용되고 저장되어야 함
-            then(accountLockPolicy).should(times(1))
-                    .applyLockPolicy(any(User.class), any(Integer.class));
-            then(userRepository).should(times(1))
+            // Then: 원자적 카운터로 기록되어야 함 (잠금 판단은 LoginFailureCounter가 증가 후 값으로 수행)
+            then(loginFailureCounter).should(times(1))
+                    .recordFailure(user);
+            then(userRepository).should(never())
                     .save(any(User.class));
         }
     }
@@ -411,9 +440,8 @@ class AuthServiceTest {
                     .refreshToken(validRefreshToken)
                     .build();
 
-            given(jwtTokenProvider.validateToken(validRefreshToken)).willReturn(true);
-            given(jwtTokenProvider.isRefreshToken(validRefreshToken)).willReturn(true);
-            given(jwtTokenProvider.getEmployeeId(validRefreshToken)).willReturn("EMP001");
+            given(jwtTokenProvider.verify(validRefreshToken))
+                    .willReturn(refreshClaims("EMP001"));
             given(userRepository.findByEmployeeId("EMP001"))
                     .willReturn(Optional.of(validUser));
             given(jwtTokenProvider.generateAccessToken(validUser))
@@ -441,7 +469,7 @@ class AuthServiceTest {
                     .refreshToken(expiredRefreshToken)
                     .build();
 
-            given(jwtTokenProvider.validateToken(expiredRefreshToken))
+            given(jwtTokenProvider.verify(expiredRefreshToken))
                     .willThrow(new io.jsonwebtoken.ExpiredJwtException(null, null, "Token expired"));
 
             // When & Then: AUTH_005 예외 발생
@@ -467,7 +495,8 @@ class AuthServiceTest {
                     .refreshToken(invalidRefreshToken)
                     .build();
 
-            given(jwtTokenProvider.validateToken(invalidRefreshToken)).willReturn(false);
+            given(jwtTokenProvider.verify(invalidRefreshToken))
+                    .willThrow(new io.jsonwebtoken.security.SignatureException("Invalid signature"));
 
             // When & Then: AUTH_006 예외 발생
             assertThatThrownBy(() -> authService.refreshToken(request))
@@ -488,8 +517,9 @@ class AuthServiceTest {
                     .refreshToken(accessToken)
                     .build();
 
-            given(jwtTokenProvider.validateToken(accessToken)).willReturn(true);
-            given(jwtTokenProvider.isRefreshToken(accessToken)).willReturn(false); // Access Token
+            given(jwtTokenProvider.verify(accessToken))
+                    .willReturn(new VerifiedToken(VerifiedToken.ACCESS, "EMP001",
+                            "01ARZ3NDEKTSV4RRFFQ69G5FAV", Instant.now().plusSeconds(3600))); // Access Token
 
             // When & Then: AUTH_006 예외 발생
             assertThatThrownBy(() -> authService.refreshToken(request))
@@ -505,6 +535,30 @@ class AuthServiceTest {
             then(userRepository).should(never()).findByEmployeeId(any());
         }
 
+        @Test
+        @DisplayName("Refresh Token은 한 번만 파싱/검증한다")
+        void shouldVerifyRefreshTokenOnlyOnce() {
+            // Given
+            String validRefreshToken = "valid.refresh.token";
+            RefreshTokenRequest request = RefreshTokenRequest.builder()
+                    .refreshToken(validRefreshToken)
+                    .build();
+
+            given(jwtTokenProvider.verify(validRefreshToken))
+                    .willReturn(refreshClaims("EMP001"));
+            given(userRepository.findByEmployeeId("EMP001"))
+                    .willReturn(Optional.of(validUser));
+
+            // When
+            authService.refreshToken(request);
+
+            // Then: verify 1회 외에 개별 Claims 조회 메서드는 호출되지 않아야 함
+            then(jwtTokenProvider).should(times(1)).verify(validRefreshToken);
+            then(jwtTokenProvider).should(never()).validateToken(any());
+            then(jwtTokenProvider).should(never()).isRefreshToken(any());
+            then(jwtTokenProvider).should(never()).getEmployeeId(any());
+        }
+
         @Test
         @DisplayName("존재하지 않는 사용자의 Refresh Token을 거부한다")
         void shouldRejectRefreshToken_WhenUserNotFound() {
@@ -514,9 +568,8 @@ class AuthServiceTest {
                     .refreshToken(validRefreshToken)
                     .build();
 
-            given(jwtTokenProvider.validateToken(validRefreshToken)).willReturn(true);
-            given(jwtTokenProvider.isRefreshToken(validRefreshToken)).willReturn(true);
-            given(jwtTokenProvider.getEmployeeId(validRefreshToken)).willReturn("DELETED_USER");
+            given(jwtTokenProvider.verify(validRefreshToken))
+                    .willReturn(refreshClaims("DELETED_USER"));
             given(userRepository.findByEmployeeId("DELETED_USER"))
                     .willReturn(Optional.empty());
 
@@ -539,9 +592,8 @@ class AuthServiceTest {
                     .refreshToken(oldRefreshToken)
                     .build();
 
-            given(jwtTokenProvider.validateToken(oldRefreshToken)).willReturn(true);
-            given(jwtTokenProvider.isRefreshToken(oldRefreshToken)).willReturn(true);
-            given(jwtTokenProvider.getEmployeeId(oldRefreshToken)).willReturn("EMP001");
+            given(jwtTokenProvider.verify(oldRefreshToken))
+                    .willReturn(refreshClaims("EMP001"));
             given(userRepository.findByEmployeeId("EMP001"))
                     .willReturn(Optional.of(validUser));
             given(jwtTokenProvider.generateAccessToken(validUser))
@@ -562,6 +614,10 @@ class AuthServiceTest {
         }
     }
 
+    private VerifiedToken refreshClaims(String employeeId) {
+        return new VerifiedToken(VerifiedToken.REFRESH, employeeId, null, Instant.now().plusSeconds(86400));
+    }
+
     @Nested
     @DisplayName("감사 로그 검증")
     class AuditLogVerification {
@@ -0,0 +1,284 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.User;
+import com.inspecthub.auth.domain.UserId;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.config.AuthProperties.JwtConfig.SigningKeyConfig;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JwtKeyRing Tests
+ *
+ * kid 기반 서명 키 교체 - kid header, 기존 토큰 호환, 설정 배포 단계별 서명 키 추가/전환/제거, ES256
+ */
+@DisplayName("JwtKeyRing - 서명 Key Ring")
+class JwtKeyRingTest {
+
+    private static final String LEGACY_SECRET = "test-secret-key-minimum-256-bits-required-for-HS256-algorithm";
+    private static final String NEW_SECRET = "rotated-secret-key-minimum-256-bits-required-for-HS256-algo";
+
+    private AuthProperties authProperties;
+    private VerifiedTokenCache tokenCache;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        authProperties = new AuthProperties();
+        authProperties.getJwt().setSecret(LEGACY_SECRET);
+        authProperties.getJwt().getAccessToken().setExpirationSeconds(3600);
+        authProperties.getJwt().getRefreshToken().setExpirationSeconds(86400);
+
+        tokenCache = new VerifiedTokenCache(true, 100, new SimpleMeterRegistry(), Clock.systemUTC());
+
+        testUser = User.builder()
+                .id(UserId.of("01ARZ3NDEKTSV4RRFFQ69G5FAV"))
+                .employeeId("EMP001")
+                .name("홍길동")
+                .email("hong@example.com")
+                .build();
+    }
+
+    private String kidOf(String token) {
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+                StandardCharsets.UTF_8);
+        int start = header.indexOf("\"kid\":\"");
+        return start < 0 ? null : header.substring(start + 7, header.indexOf('"', start + 7));
+    }
+
+    @Nested
+    @DisplayName("kid header")
+    class KidHeader {
+
+        @Test
+        @DisplayName("auth.jwt.secret만 설정하면 kid=default로 서명한다")
+        void shouldSignWithLegacyKid_WhenOnlySecretConfigured() {
+            JwtTokenProvider provider = new JwtTokenProvider(authProperties, tokenCache);
+
+            String token = provider.generateAccessToken(testUser);
+
+            assertThat(kidOf(token)).isEqualTo(JwtSigningKey.LEGACY_KID);
+            assertThat(provider.verify(token).employeeId()).isEqualTo("EMP001");
+        }
+
+        @Test
+        @DisplayName("kid 없는 기존 토큰은 기존 secret 키로 검증된다")
+        void shouldVerifyLegacyTokenWithoutKid() {
+            // Given: kid header 없이 기존 방식으로 서명한 토큰
+            String legacyToken = Jwts.builder()
+                    .subject("EMP001")
+                    .claim("type", "access")
+                    .expiration(Date.from(Instant.now().plusSeconds(60)))
+                    .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)))
+                    .compact();
+            JwtTokenProvider provider = new JwtTokenProvider(authProperties, tokenCache);
+
+            // When
+            VerifiedToken verified = provider.verify(legacyToken);
+
+            // Then
+            assertThat(kidOf(legacyToken)).isNull();
+            assertThat(verified.employeeId()).isEqualTo("EMP001");
+        }
+
+        @Test
+        @DisplayName("알 수 없는 kid는 SignatureException")
+        void shouldReject_WhenKidUnknown() {
+            String token = Jwts.builder()
+                    .header().keyId("unknown").and()
+                    .subject("EMP001")
+                    .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)))
+                    .compact();
+            JwtTokenProvider provider = new JwtTokenProvider(authProperties, tokenCache);
+
+            assertThatThrownBy(() -> provider.verify(token))
+                    .isInstanceOf(SignatureException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("서명 키 전환")
+    class Rotation {
+
+        private SigningKeyConfig newKeyConfig() {
+            SigningKeyConfig keyConfig = new SigningKeyConfig();
+            keyConfig.setKid("2024-11");
+            keyConfig.setSecret(NEW_SECRET);
+            return keyConfig;
+        }
+
+        @Test
+        @DisplayName("새 키를 추가만 한 배포는 기존 키로 계속 서명하고 새 kid 토큰도 검증한다")
+        void shouldKeepSigningKey_WhenNewKeyOnlyAdded() {
+            // Given: 1단계 - 새 키 추가, active-key-id 미변경
+            authProperties.getJwt().setKeys(List.of(newKeyConfig()));
+            authProperties.getJwt().setActiveKeyId(JwtSigningKey.LEGACY_KID);
+            JwtTokenProvider stage1 = new JwtTokenProvider(authProperties, tokenCache);
+
+            // When: 2단계 설정으로 배포된 다른 노드가 새 kid로 발급
+            authProperties.getJwt().setActiveKeyId("2024-11");
+            String newToken = new JwtTokenProvider(authProperties, tokenCache).generateAccessToken(testUser);
+
+            // Then
+            assertThat(kidOf(stage1.generateAccessToken(testUser))).isEqualTo(JwtSigningKey.LEGACY_KID);
+            assertThat(kidOf(newToken)).isEqualTo("2024-11");
+            assertThat(stage1.verify(newToken).employeeId()).isEqualTo("EMP001");
+        }
+
+        @Test
+        @DisplayName("서명 키를 바꾼 배포 후에도 기존 키로 발급된 토큰은 검증된다")
+        void shouldVerifyOldTokens_AfterActiveKeyChanged() {
+            // Given
+            String oldToken = new JwtTokenProvider(authProperties, tokenCache).generateAccessToken(testUser);
+
+            // When: 2단계 - 서명 키 전환
+            authProperties.getJwt().setKeys(List.of(newKeyConfig()));
+            authProperties.getJwt().setActiveKeyId("2024-11");
+            JwtTokenProvider provider = new JwtTokenProvider(authProperties, new VerifiedTokenCache(
+                    true, 100, new SimpleMeterRegistry(), Clock.systemUTC()));
+
+            // Then
+            assertThat(kidOf(provider.generateAccessToken(testUser))).isEqualTo("2024-11");
+            assertThat(provider.verify(oldToken).employeeId()).isEqualTo("EMP001");
+        }
+
+        @Test
+        @DisplayName("기존 키를 설정에서 제거하면 그 키의 토큰은 검증에 실패한다")
+        void shouldRejectRemovedKeyTokens() {
+            // Given
+            String oldToken = new JwtTokenProvider(authProperties, tokenCache).generateAccessToken(testUser);
+
+            // When: 3단계 - 기존 secret 제거
+            authProperties.getJwt().setSecret(null);
+            authProperties.getJwt().setKeys(List.of(newKeyConfig()));
+            authProperties.getJwt().setActiveKeyId("2024-11");
+            JwtTokenProvider provider = new JwtTokenProvider(authProperties, new VerifiedTokenCache(
+                    true, 100, new SimpleMeterRegistry(), Clock.systemUTC()));
+
+            // Then
+            assertThatThrownBy(() -> provider.verify(oldToken))
+                    .isInstanceOf(SignatureException.class);
+        }
+
+        @Test
+        @DisplayName("설정된 active-key-id가 없는 kid면 기동에 실패한다")
+        void shouldFailStartup_WhenActiveKidUnknown() {
+            authProperties.getJwt().setActiveKeyId("missing");
+
+            assertThatThrownBy(() -> new JwtKeyRing(authProperties))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("auth.jwt.keys + active-key-id 설정으로 서명 키를 지정한다")
+        void shouldUseConfiguredActiveKey() {
+            // Given
+            SigningKeyConfig keyConfig = new SigningKeyConfig();
+            keyConfig.setKid("2024-11");
+            keyConfig.setSecret(NEW_SECRET);
+            authProperties.getJwt().setKeys(List.of(keyConfig));
+            authProperties.getJwt().setActiveKeyId("2024-11");
+
+            // When
+            JwtKeyRing keyRing = new JwtKeyRing(authProperties);
+
+            // Then: 기존 secret은 kid=default 검증 키로 함께 등록
+            assertThat(keyRing.activeKid()).isEqualTo("2024-11");
+            assertThat(keyRing.find(JwtSigningKey.LEGACY_KID)).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("ES256")
+    class Es256 {
+
+        @Test
+        @DisplayName("ES256 키로 서명/검증하고 JWKS에는 공개 키만 노출된다")
+        void shouldSignWithEs256_AndPublishJwks() {
+            // Given
+            KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+            JwtKeyRing keyRing = new JwtKeyRing(
+                    List.of(JwtSigningKey.es256("es-1", keyPair.getPrivate(), keyPair.getPublic()),
+                            JwtSigningKey.hmac(JwtSigningKey.LEGACY_KID, LEGACY_SECRET)),
+                    "es-1");
+            JwtTokenProvider provider = new JwtTokenProvider(authProperties, keyRing, tokenCache);
+
+            // When
+            String token = provider.generateAccessToken(testUser);
+            Map<String, Object> jwks = keyRing.toJwks();
+
+            // Then
+            assertThat(provider.verify(token).employeeId()).isEqualTo("EMP001");
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> keys = (List<Map<String, Object>>) jwks.get("keys");
+            assertThat(keys).hasSize(1);
+            assertThat(keys.get(0))
+                    .containsEntry("kid", "es-1")
+                    .containsEntry("kty", "EC")
+                    .containsEntry("alg", "ES256")
+                    .doesNotContainKey("d");
+            assertThat((String) keys.get(0).get("x")).hasSize(43);
+            assertThat((String) keys.get(0).get("y")).hasSize(43);
+        }
+
+        @Test
+        @DisplayName("ES256 kid에 HMAC 서명한 토큰은 거부한다 (알고리즘 혼동 방지)")
+        void shouldReject_WhenAlgorithmDoesNotMatchKey() {
+            // Given
+            KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+            JwtKeyRing keyRing = new JwtKeyRing(
+                    List.of(JwtSigningKey.es256("es-1", keyPair.getPrivate(), keyPair.getPublic())),
+                    null);
+            JwtTokenProvider provider = new JwtTokenProvider(authProperties, keyRing, tokenCache);
+            String forged = Jwts.builder()
+                    .header().keyId("es-1").and()
+                    .subject("EMP001")
+                    .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)))
+                    .compact();
+
+            // When & Then
+            assertThatThrownBy(() -> provider.verify(forged))
+                    .isInstanceOf(SignatureException.class);
+        }
+
+        @Test
+        @DisplayName("설정의 Base64 DER 공개 키만 있으면 검증 전용 키가 되고 서명 키로 지정할 수 없다")
+        void shouldLoadVerificationOnlyKey_FromConfig() {
+            // Given
+            KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+            SigningKeyConfig keyConfig = new SigningKeyConfig();
+            keyConfig.setKid("partner");
+            keyConfig.setAlgorithm("ES256");
+            keyConfig.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+            authProperties.getJwt().setKeys(List.of(keyConfig));
+
+            // When
+            JwtKeyRing keyRing = new JwtKeyRing(authProperties);
+
+            // Then
+            assertThat(keyRing.find("partner").canSign()).isFalse();
+            assertThat(keyRing.activeKid()).isEqualTo(JwtSigningKey.LEGACY_KID);
+            authProperties.getJwt().setActiveKeyId("partner");
+            assertThatThrownBy(() -> new JwtKeyRing(authProperties))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -363,4 +363,62 @@ class JwtTokenProviderTest {
             assertThat(isAccessToken).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("단일 파싱 검증 (verify)")
+    class SingleParseVerification {
+
+        @Test
+        @DisplayName("Access Token을 한 번에 검증하고 Claims 뷰를 반환한다")
+        void shouldVerifyAccessToken_AndExposeClaims() {
+            // Given
+            String token = jwtTokenProvider.generateAccessToken(testUser);
+
+            // When
+            VerifiedToken verified = jwtTokenProvider.verify(token);
+
+            // Then
+            assertThat(verified.isAccessToken()).isTrue();
+            assertThat(verified.isRefreshToken()).isFalse();
+            assertThat(verified.employeeId()).isEqualTo("EMP001");
+            assertThat(verified.userId()).isEqualTo("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+            assertThat(verified.expiresAt()).isAfter(Instant.now());
+        }
+
+        @Test
+        @DisplayName("Refresh Token은 userId 없이 타입과 subject만 반환한다")
+        void shouldVerifyRefreshToken_WithMinimalClaims() {
+            // Given
+            String token = jwtTokenProvider.generateRefreshToken(testUser);
+
+            // When
+            VerifiedToken verified = jwtTokenProvider.verify(token);
+
+            // Then
+            assertThat(verified.isRefreshToken()).isTrue();
+            assertThat(verified.employeeId()).isEqualTo("EMP001");
+            assertThat(verified.userId()).isNull();
+        }
+
+        @Test
+        @DisplayName("잘못된 서명의 토큰은 SignatureException을 던진다")
+        void shouldThrow_WhenSignatureIsInvalid() {
+            // Given: 다른 secret으로 서명된 토큰
+            AuthProperties otherProperties = new AuthProperties();
+            otherProperties.getJwt().setSecret("fake-secret-key-minimum-256-bits-required-for-HS256-algorithm");
+            otherProperties.getJwt().getAccessToken().setExpirationSeconds(3600);
+            String foreignToken = new JwtTokenProvider(otherProperties).generateAccessToken(testUser);
+
+            // When & Then
+            assertThatThrownBy(() -> jwtTokenProvider.verify(foreignToken))
+                    .isInstanceOf(SignatureException.class);
+        }
+
+        @Test
+        @DisplayName("빈 토큰은 MalformedJwtException을 던진다")
+        void shouldThrow_WhenTokenIsBlank() {
+            assertThatThrownBy(() -> jwtTokenProvider.verify(" "))
+                    .isInstanceOf(MalformedJwtException.class);
+        }
+    }
 }
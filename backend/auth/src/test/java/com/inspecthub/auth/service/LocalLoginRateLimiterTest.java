@@ -0,0 +1,165 @@
+package com.inspecthub.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalLoginRateLimiter Tests
+ *
+ * 메모리 슬라이딩 윈도우 - 윈도우 한도, 직전 윈도우 가중, 키 분리, 동시 시도, 키 정리
+ */
+@DisplayName("LocalLoginRateLimiter - 메모리 슬라이딩 윈도우 시도 제한")
+class LocalLoginRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    private AtomicLong now;
+    private LocalLoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(WINDOW.toMillis() * 1000);  // 윈도우 시작 시각
+        limiter = new LocalLoginRateLimiter(5, WINDOW, 100, now::get);
+    }
+
+    private int acquireTimes(String key, int times) {
+        int allowed = 0;
+        for (int i = 0; i < times; i++) {
+            if (limiter.tryAcquire(key)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    @Nested
+    @DisplayName("윈도우 한도")
+    class Limit {
+
+        @Test
+        @DisplayName("한 윈도우 안에서는 한도만큼만 허용한다")
+        void shouldAllowUpToLimit() {
+            assertThat(acquireTimes("10.0.0.1", 8)).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("키별로 따로 센다")
+        void shouldCountPerKey() {
+            acquireTimes("10.0.0.1", 5);
+
+            assertThat(limiter.tryAcquire("10.0.0.1")).isFalse();
+            assertThat(limiter.tryAcquire("10.0.0.2")).isTrue();
+        }
+
+        @Test
+        @DisplayName("다음 윈도우 초반에는 직전 윈도우 시도가 가중되어 여전히 제한된다")
+        void shouldWeighPreviousWindow() {
+            // Given: 직전 윈도우에서 한도 소진
+            acquireTimes("EMP001", 5);
+
+            // When: 다음 윈도우 10% 경과 - 직전 5회 × 0.9 = 4.5
+            now.addAndGet(WINDOW.toMillis() + WINDOW.toMillis() / 10);
+
+            // Then: 4.5 + 1 > 5 이므로 거절
+            assertThat(limiter.tryAcquire("EMP001")).isFalse();
+
+            // When: 다음 윈도우 절반 경과 - 직전 5회 × 0.5 = 2.5
+            now.addAndGet(WINDOW.toMillis() * 4 / 10);
+
+            // Then: 2회 더 허용
+            assertThat(acquireTimes("EMP001", 5)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("2개 윈도우 이상 지나면 한도가 초기화된다")
+        void shouldResetAfterTwoWindows() {
+            acquireTimes("EMP001", 5);
+
+            now.addAndGet(WINDOW.toMillis() * 2);
+
+            assertThat(acquireTimes("EMP001", 5)).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성 및 메모리")
+    class ConcurrencyAndMemory {
+
+        @Test
+        @DisplayName("동시 시도 100건 중 정확히 한도만큼만 허용한다")
+        void shouldNeverExceedLimit_UnderContention() throws Exception {
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return limiter.tryAcquire("10.0.0.1");
+                }));
+            }
+            start.countDown();
+
+            int allowed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(5, TimeUnit.SECONDS)) {
+                    allowed++;
+                }
+            }
+            pool.shutdown();
+
+            assertThat(allowed).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("키 상한에 도달하면 시도가 적은 키부터 제거하고, 새 키는 자기 윈도우로 제한한다")
+        void shouldEvictLowCountKeys_WhenFull() {
+            // Given: 상한 100개 키 사용 - blocked는 한도 소진, 나머지는 1회씩
+            assertThat(acquireTimes("blocked", 5)).isEqualTo(5);
+            for (int i = 1; i < 100; i++) {
+                limiter.tryAcquire("old-" + i);
+            }
+            assertThat(limiter.size()).isEqualTo(100);
+
+            // When: 같은 윈도우의 새 키 - 정리할 키가 없어 10%를 제거
+            assertThat(acquireTimes("new-0", 10)).isEqualTo(5);
+
+            // Then
+            assertThat(limiter.size()).isEqualTo(91);
+
+            // When: 키를 계속 바꿔도 (X-Forwarded-For 위조) 밀려나는 것은 시도가 적은 키뿐이다
+            int rotated = 0;
+            for (int i = 0; i < 300; i++) {
+                rotated += acquireTimes("spoofed-" + i, 1);
+            }
+
+            // Then: 새 클라이언트는 모두 허용되고, 한도를 소진한 키의 차단은 유지된다
+            assertThat(rotated).isEqualTo(300);
+            assertThat(limiter.size()).isEqualTo(91);
+            assertThat(limiter.tryAcquire("blocked")).isFalse();
+            assertThat(limiter.tryAcquire("new-0")).isFalse();
+
+            // When: 2개 윈도우 경과 후 다시 상한 도달 - 제거 대신 오래된 키 정리
+            now.addAndGet(WINDOW.toMillis() * 2);
+            for (int i = 0; i < 10; i++) {
+                limiter.tryAcquire("late-" + i);
+            }
+
+            // Then
+            assertThat(limiter.size()).isEqualTo(10);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.AccountLockPolicy;
+import com.inspecthub.auth.domain.User;
+import com.inspecthub.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * LoginFailureCounter Tests
+ *
+ * 원자적 실패 카운터 - 증가 후 값 기준 잠금 판단, 동시 실패 시 증가분 유실 없음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginFailureCounter - 원자적 로그인 실패 카운터")
+class LoginFailureCounterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private LoginFailureCounter counter;
+    private User localUser;
+
+    @BeforeEach
+    void setUp() {
+        counter = new LoginFailureCounter(userRepository, new AccountLockPolicy());
+        localUser = User.createLocalUser(
+                "EMP001", "홍길동", "hong@example.com", "encoded");
+    }
+
+    @Nested
+    @DisplayName("잠금 판단")
+    class LockDecision {
+
+        @Test
+        @DisplayName("증가 후 값이 임계값 미만이면 잠그지 않는다")
+        void shouldNotLock_BelowThreshold() {
+            given(userRepository.incrementFailedAttempts(localUser.getId())).willReturn(4);
+
+            int failedAttempts = counter.recordFailure(localUser);
+
+            assertThat(failedAttempts).isEqualTo(4);
+            then(userRepository).should(never()).lockAccount(any(), any());
+        }
+
+        @Test
+        @DisplayName("증가 후 값이 5면 5분 잠금")
+        void shouldLockFor5Minutes_At5() {
+            given(userRepository.incrementFailedAttempts(localUser.getId())).willReturn(5);
+            LocalDateTime before = LocalDateTime.now();
+
+            counter.recordFailure(localUser);
+
+            ArgumentCaptor<LocalDateTime> lockedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+            then(userRepository).should().lockAccount(eq(localUser.getId()), lockedUntil.capture());
+            assertThat(lockedUntil.getValue()).isBetween(before.plusMinutes(5), LocalDateTime.now().plusMinutes(5));
+        }
+
+        @Test
+        @DisplayName("증가 후 값이 10이면 30분 잠금")
+        void shouldLockFor30Minutes_At10() {
+            given(userRepository.incrementFailedAttempts(localUser.getId())).willReturn(10);
+            LocalDateTime before = LocalDateTime.now();
+
+            counter.recordFailure(localUser);
+
+            ArgumentCaptor<LocalDateTime> lockedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+            then(userRepository).should().lockAccount(eq(localUser.getId()), lockedUntil.capture());
+            assertThat(lockedUntil.getValue()).isBetween(before.plusMinutes(30), LocalDateTime.now().plusMinutes(30));
+        }
+
+        @Test
+        @DisplayName("증가 후 값이 15 이상이면 영구 잠금")
+        void shouldLockPermanently_At15() {
+            given(userRepository.incrementFailedAttempts(localUser.getId())).willReturn(15);
+
+            counter.recordFailure(localUser);
+
+            then(userRepository).should().lockAccount(localUser.getId(), AccountLockPolicy.PERMANENT_LOCK_UNTIL);
+        }
+
+        @Test
+        @DisplayName("AD 사용자는 실패 횟수를 증가시키지 않는다")
+        void shouldNotCount_WhenNotLocalUser() {
+            User adUser = User.createAdUser("EMP002", "김철수", "kim@example.com");
+
+            counter.recordFailure(adUser);
+
+            then(userRepository).should(never()).incrementFailedAttempts(any());
+            then(userRepository).should(never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성")
+    class Concurrency {
+
+        @Test
+        @DisplayName("동시 실패 20건은 모두 집계되고 임계값 도달 요청들이 잠금을 건다")
+        void shouldCountEveryParallelFailure() throws Exception {
+            // Given: DB의 UPDATE ... RETURNING과 같은 원자적 증가
+            AtomicInteger failedAttempts = new AtomicInteger();
+            given(userRepository.incrementFailedAttempts(localUser.getId()))
+                    .willAnswer(invocation -> failedAttempts.incrementAndGet());
+            ConcurrentLinkedQueue<LocalDateTime> locks = new ConcurrentLinkedQueue<>();
+            willAnswer(invocation -> locks.add(invocation.getArgument(1)))
+                    .given(userRepository).lockAccount(eq(localUser.getId()), any());
+
+            // When: 20건 동시 실패
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return counter.recordFailure(localUser);
+                }));
+            }
+            start.countDown();
+            List<Integer> returned = new ArrayList<>();
+            for (Future<Integer> result : results) {
+                returned.add(result.get(5, TimeUnit.SECONDS));
+            }
+            pool.shutdown();
+
+            // Then: 유실 없이 1..20이 한 번씩 반환되고, 5 이상인 16건이 잠금을 요청
+            assertThat(failedAttempts.get()).isEqualTo(20);
+            assertThat(returned).containsExactlyInAnyOrderElementsOf(
+                    java.util.stream.IntStream.rangeClosed(1, 20).boxed().toList());
+            assertThat(locks).hasSize(16);
+            assertThat(locks).contains(AccountLockPolicy.PERMANENT_LOCK_UNTIL);
+            then(userRepository).should(times(20)).incrementFailedAttempts(localUser.getId());
+        }
+    }
+}
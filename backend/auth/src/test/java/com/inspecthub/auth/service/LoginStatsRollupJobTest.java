@@ -0,0 +1,117 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.mapper.LoginStatsRollupMapper;
+import com.inspecthub.common.config.AuthProperties.LoginStatsConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+/**
+ * LoginStatsRollupJob Tests
+ *
+ * 로그인 통계 시간별 집계 - 최초 실행, lookback 재집계, 실행당 상한
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginStatsRollupJob - 로그인 통계 집계 작업")
+class LoginStatsRollupJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 13, 2, 30);
+    private static final LocalDateTime CURRENT_HOUR = LocalDateTime.of(2026, 10, 17, 13, 0);
+
+    @Mock
+    private LoginStatsRollupMapper rollupMapper;
+
+    private LoginStatsConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new LoginStatsConfig();
+        config.setEnabled(true);
+        config.setLookbackHours(24);
+        config.setMaxHoursPerRun(744);
+    }
+
+    private LoginStatsRollupJob job() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+        return new LoginStatsRollupJob(rollupMapper, config, TransactionOperations.withoutTransaction(), clock);
+    }
+
+    @Test
+    @DisplayName("최초 실행은 가장 오래된 이벤트의 시간부터 집계하고, 실행당 maxHoursPerRun까지만 진행한다")
+    void shouldStartFromOldestEvent_AndCapPerRun() {
+        // Given
+        LocalDateTime oldest = LocalDateTime.of(2026, 1, 5, 7, 41);
+        given(rollupMapper.findSealedUntil()).willReturn(null);
+        given(rollupMapper.findOldestEventTimestamp()).willReturn(oldest);
+
+        // When
+        LocalDateTime sealed = job().rollup();
+
+        // Then
+        LocalDateTime from = LocalDateTime.of(2026, 1, 5, 7, 0);
+        then(rollupMapper).should().rollup(from, from.plusHours(744));
+        then(rollupMapper).should().updateSealedUntil(from.plusHours(744));
+        assertThat(sealed).isEqualTo(from.plusHours(744));
+    }
+
+    @Test
+    @DisplayName("이후 실행은 lookbackHours 전부터 현재 정각까지 다시 집계한다 (늦게 들어온 이벤트 반영)")
+    void shouldRecomputeLookbackWindow() {
+        LocalDateTime sealedUntil = CURRENT_HOUR.minusHours(1);
+        given(rollupMapper.findSealedUntil()).willReturn(sealedUntil);
+
+        LocalDateTime sealed = job().rollup();
+
+        then(rollupMapper).should().rollup(sealedUntil.minusHours(24), CURRENT_HOUR);
+        then(rollupMapper).should().updateSealedUntil(CURRENT_HOUR);
+        assertThat(sealed).isEqualTo(CURRENT_HOUR);
+    }
+
+    @Test
+    @DisplayName("이미 현재 정각까지 집계되어 있으면 lookback 구간만 재집계하고 위치는 그대로 둔다")
+    void shouldKeepSealedUntil_WhenUpToDate() {
+        given(rollupMapper.findSealedUntil()).willReturn(CURRENT_HOUR);
+
+        job().rollup();
+
+        then(rollupMapper).should().rollup(CURRENT_HOUR.minusHours(24), CURRENT_HOUR);
+        then(rollupMapper).should(never()).updateSealedUntil(any());
+    }
+
+    @Test
+    @DisplayName("감사 로그가 없으면 현재 정각을 집계 위치로 기록한다")
+    void shouldSealCurrentHour_WhenNoEvents() {
+        given(rollupMapper.findSealedUntil()).willReturn(null);
+        given(rollupMapper.findOldestEventTimestamp()).willReturn(null);
+
+        job().rollup();
+
+        then(rollupMapper).should(never()).rollup(any(), any());
+        then(rollupMapper).should().updateSealedUntil(CURRENT_HOUR);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 정기 실행에서 아무것도 하지 않는다")
+    void shouldSkip_WhenDisabled() {
+        config.setEnabled(false);
+
+        job().scheduledRollup();
+
+        then(rollupMapper).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,103 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.auth.mapper.LoginStatsRollupMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+/**
+ * LoginStatsService Tests
+ *
+ * 로그인 통계 - 집계 완료 구간은 집계 테이블, 정각이 아닌 앞부분과 진행 중인 구간만 원본 COUNT
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginStatsService - 로그인 통계 조회")
+class LoginStatsServiceTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 10, 16, 0, 0);
+
+    @Mock
+    private LoginStatsRollupMapper rollupMapper;
+
+    @Mock
+    private AuditLogMapper auditLogMapper;
+
+    @InjectMocks
+    private LoginStatsService loginStatsService;
+
+    @Test
+    @DisplayName("집계가 끝난 정각 구간은 집계 테이블만 읽는다")
+    void shouldUseRollupOnly_WhenRangeIsSealed() {
+        // Given
+        given(rollupMapper.findSealedUntil()).willReturn(DAY.plusDays(1));
+        given(rollupMapper.sumEventCount("LOGIN_SUCCESS", DAY, DAY.plusHours(12))).willReturn(120L);
+
+        // When
+        long count = loginStatsService.countLoginSuccess(DAY, DAY.plusHours(12));
+
+        // Then
+        assertThat(count).isEqualTo(120);
+        then(auditLogMapper).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("sealed_until 이후 진행 중인 구간은 원본에서 세어 더한다")
+    void shouldAddRawCount_ForCurrentBucket() {
+        // Given: 10시까지 집계 완료, 조회는 10시 40분까지
+        LocalDateTime sealed = DAY.plusHours(10);
+        LocalDateTime now = sealed.plusMinutes(40);
+        given(rollupMapper.findSealedUntil()).willReturn(sealed);
+        given(rollupMapper.sumEventCount("LOGIN_FAILURE", DAY, sealed)).willReturn(30L);
+        given(auditLogMapper.countLoginFailureByDateRange(sealed, now)).willReturn(4L);
+
+        // When
+        long count = loginStatsService.countLoginFailure(DAY, now);
+
+        // Then
+        assertThat(count).isEqualTo(34);
+    }
+
+    @Test
+    @DisplayName("정각이 아닌 시작 시각은 첫 시간의 나머지만 원본에서 센다")
+    void shouldAddRawCount_ForUnalignedStart() {
+        LocalDateTime start = DAY.plusHours(3).plusMinutes(15);
+        given(rollupMapper.findSealedUntil()).willReturn(DAY.plusDays(1));
+        given(rollupMapper.sumEventCount("LOGIN_SUCCESS", DAY.plusHours(4), DAY.plusHours(8))).willReturn(50L);
+        given(auditLogMapper.countLoginSuccessByDateRange(start, DAY.plusHours(4))).willReturn(5L);
+
+        long count = loginStatsService.countLoginSuccess(start, DAY.plusHours(8));
+
+        assertThat(count).isEqualTo(55);
+    }
+
+    @Test
+    @DisplayName("아직 집계 전이거나 한 시간 안쪽 범위면 원본만 센다")
+    void shouldUseRawOnly_WhenNothingSealed() {
+        given(rollupMapper.findSealedUntil()).willReturn(null);
+        given(auditLogMapper.countLoginSuccessByDateRange(DAY, DAY.plusDays(1))).willReturn(7L);
+
+        long count = loginStatsService.countLoginSuccess(DAY, DAY.plusDays(1));
+
+        assertThat(count).isEqualTo(7);
+        then(rollupMapper).should(never()).sumEventCount(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("빈 범위는 0")
+    void shouldReturnZero_ForEmptyRange() {
+        assertThat(loginStatsService.countLoginSuccess(DAY, DAY)).isZero();
+        then(rollupMapper).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,91 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.common.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LoginThrottle Tests
+ *
+ * 로그인 시도 제한 - IP(X-Forwarded-For)와 사원ID 한도, AUTH_010 거절
+ */
+@DisplayName("LoginThrottle - 로그인 시도 제한")
+class LoginThrottleTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = new LoginThrottle(
+                true,
+                new LocalLoginRateLimiter(3, Duration.ofMinutes(1), 100),
+                new LocalLoginRateLimiter(2, Duration.ofMinutes(1), 100),
+                meterRegistry
+        );
+    }
+
+    private static MockHttpServletRequest requestFrom(String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.254");  // 로드밸런서
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+
+    @Test
+    @DisplayName("사원ID 한도를 넘으면 IP가 달라도 AUTH_010으로 거절한다")
+    void shouldRejectByEmployeeId() {
+        throttle.check(requestFrom("203.0.113.1"), "EMP001");
+        throttle.check(requestFrom("203.0.113.2"), "EMP001");
+
+        assertThatThrownBy(() -> throttle.check(requestFrom("203.0.113.3"), "EMP001"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode()).isEqualTo("AUTH_010"));
+        assertThat(meterRegistry.get("auth.login.ratelimit.rejected").tag("scope", "employee").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For의 첫 번째 IP 기준으로 한도를 넘으면 사원ID가 달라도 거절한다")
+    void shouldRejectByClientIp() {
+        throttle.check(requestFrom("203.0.113.1, 10.0.0.1"), "EMP001");
+        throttle.check(requestFrom("203.0.113.1, 10.0.0.2"), "EMP002");
+        throttle.check(requestFrom("203.0.113.1"), "EMP003");
+
+        assertThatThrownBy(() -> throttle.check(requestFrom("203.0.113.1"), "EMP004"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode()).isEqualTo("AUTH_010"));
+        assertThat(meterRegistry.get("auth.login.ratelimit.rejected").tag("scope", "ip").counter().count())
+                .isEqualTo(1.0);
+
+        // 다른 프록시 뒤의 클라이언트는 영향 없음
+        assertThatCode(() -> throttle.check(requestFrom("198.51.100.7"), "EMP004")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("비활성화되면 제한하지 않는다")
+    void shouldNotLimit_WhenDisabled() {
+        LoginThrottle disabled = new LoginThrottle(
+                false,
+                new LocalLoginRateLimiter(1, Duration.ofMinutes(1), 100),
+                new LocalLoginRateLimiter(1, Duration.ofMinutes(1), 100),
+                meterRegistry
+        );
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 5; i++) {
+                disabled.check(requestFrom("203.0.113.1"), "EMP001");
+            }
+        }).doesNotThrowAnyException();
+    }
+}
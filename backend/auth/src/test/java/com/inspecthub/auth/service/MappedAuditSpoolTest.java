@@ -0,0 +1,205 @@
+package com.inspecthub.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MappedAuditSpool Tests
+ *
+ * memory-mapped 감사 로그 spool - 기록/재기록 순서, 세그먼트 회전과 삭제, 재기동 복구, 용량 상한
+ */
+@DisplayName("MappedAuditSpool - 감사 로그 로컬 spool")
+class MappedAuditSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private AuthProperties.AuditWriterConfig.SpoolConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new AuthProperties.AuditWriterConfig.SpoolConfig();
+        config.setDir(directory.toString());
+        config.setSegmentBytes(4_096);
+        config.setMaxSegments(8);
+    }
+
+    private MappedAuditSpool open() {
+        return new MappedAuditSpool(config, objectMapper, new SimpleMeterRegistry());
+    }
+
+    private static AuditLog event(int sequence) {
+        return AuditLog.createLoginFailure(
+                String.format("01J0000000000000000000%04d", sequence),
+                "EMP" + sequence, "10.0.0.1", "LOCAL", "DB_DOWN", "Mozilla/5.0", null, null);
+    }
+
+    private static List<AuditLog> events(int from, int count) {
+        return IntStream.range(from, from + count).mapToObj(MappedAuditSpoolTest::event).toList();
+    }
+
+    /**
+     * 재기록 대기 레코드를 모두 읽고 확인
+     */
+    private static List<AuditLog> drain(MappedAuditSpool spool) {
+        List<AuditLog> replayed = new ArrayList<>();
+        MappedAuditSpool.ReplayBatch batch;
+        while ((batch = spool.nextBatch(7)) != null) {
+            replayed.addAll(batch.auditLogs());
+            spool.acknowledge(batch);
+        }
+        return replayed;
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(MappedAuditSpool.SEGMENT_SUFFIX)).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("기록과 재기록")
+    class AppendAndReplay {
+
+        @Test
+        @DisplayName("기록한 순서대로 모든 필드를 복원한다")
+        void shouldReplayInOrder() {
+            // Given
+            MappedAuditSpool spool = open();
+
+            // When
+            int stored = spool.append(events(0, 3));
+
+            // Then
+            assertThat(stored).isEqualTo(3);
+            assertThat(spool.hasPending()).isTrue();
+            List<AuditLog> replayed = drain(spool);
+            assertThat(replayed).extracting(AuditLog::getId)
+                    .containsExactly(event(0).getId(), event(1).getId(), event(2).getId());
+            assertThat(replayed.get(0))
+                    .usingRecursiveComparison()
+                    .isEqualTo(event(0).toBuilder()
+                            .timestamp(replayed.get(0).getTimestamp())
+                            .createdAt(replayed.get(0).getCreatedAt())
+                            .build());
+            assertThat(spool.hasPending()).isFalse();
+        }
+
+        @Test
+        @DisplayName("acknowledge 전에는 같은 레코드를 다시 읽는다 (재기록 실패 시 재시도)")
+        void shouldReReadUnacknowledgedBatch() {
+            MappedAuditSpool spool = open();
+            spool.append(events(0, 2));
+
+            MappedAuditSpool.ReplayBatch first = spool.nextBatch(10);
+            MappedAuditSpool.ReplayBatch retry = spool.nextBatch(10);
+
+            assertThat(retry.auditLogs()).extracting(AuditLog::getId)
+                    .containsExactlyElementsOf(first.auditLogs().stream().map(AuditLog::getId).toList());
+        }
+
+        @Test
+        @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 회전하고, 재기록이 끝난 세그먼트는 삭제한다")
+        void shouldRotateAndDeleteReplayedSegments() throws IOException {
+            MappedAuditSpool spool = open();
+
+            spool.append(events(0, 40));
+            assertThat(segmentFiles()).isGreaterThan(1);
+
+            assertThat(drain(spool)).hasSize(40);
+            assertThat(segmentFiles()).isEqualTo(1);
+            assertThat(spool.segmentCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("maxSegments에 도달하면 더 기록하지 않고 보관된 건수만 반환한다")
+        void shouldStopAtMaxSegments() {
+            config.setMaxSegments(2);
+            MappedAuditSpool spool = open();
+
+            int stored = spool.append(events(0, 200));
+
+            assertThat(stored).isPositive().isLessThan(200);
+            assertThat(spool.segmentCount()).isEqualTo(2);
+            assertThat(drain(spool)).hasSize(stored);
+        }
+    }
+
+    @Nested
+    @DisplayName("재기동 복구")
+    class Recovery {
+
+        @Test
+        @DisplayName("재기동 후 checkpoint 이후의 레코드부터 재기록하고 새 기록을 이어 붙인다")
+        void shouldResumeFromCheckpoint() {
+            // Given: 일부만 재기록된 상태로 종료
+            MappedAuditSpool before = open();
+            before.append(events(0, 5));
+            before.acknowledge(before.nextBatch(2));
+
+            // When: 재기동
+            MappedAuditSpool after = open();
+            after.append(events(5, 1));
+
+            // Then
+            assertThat(drain(after)).extracting(AuditLog::getId).containsExactly(
+                    event(2).getId(), event(3).getId(), event(4).getId(), event(5).getId());
+        }
+
+        @Test
+        @DisplayName("쓰는 도중 끊긴 레코드는 무시하고 그 자리부터 이어 쓴다")
+        void shouldIgnoreTornRecord() throws IOException {
+            // Given: 완전한 레코드 2건 뒤에 길이만 기록되고 payload가 손상된 레코드
+            MappedAuditSpool before = open();
+            before.append(events(0, 2));
+            Path segment;
+            try (Stream<Path> files = Files.list(directory)) {
+                segment = files.filter(path -> path.toString().endsWith(MappedAuditSpool.SEGMENT_SUFFIX))
+                        .findFirst().orElseThrow();
+            }
+            int end = endOfRecords(segment);
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(12).putInt(100).putInt(12345).putInt(0x7b7b7b7b).flip(), end);
+            }
+
+            // When
+            MappedAuditSpool after = open();
+            after.append(events(2, 1));
+
+            // Then
+            assertThat(drain(after)).extracting(AuditLog::getId)
+                    .containsExactly(event(0).getId(), event(1).getId(), event(2).getId());
+        }
+
+        private int endOfRecords(Path segment) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+            int position = 0;
+            while (buffer.getInt(position) > 0) {
+                position += 8 + buffer.getInt(position);
+            }
+            return position;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.OutboxMessage;
+import com.inspecthub.auth.mapper.OutboxMapper;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+/**
+ * OutboxRelay Tests
+ *
+ * outbox relay - 기록 순(seq) 전달 후 삭제, 실패 시 배치 유지/재전송 (at-least-once, 집계별 순서), 다른 노드 relay 중이면 대기
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay - outbox 메시지 전달")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxMapper outboxMapper;
+
+    /**
+     * outbox_message 테이블 대신 id -> message (기록 순 = seq 순)
+     */
+    private final Map<String, OutboxMessage> table = new LinkedHashMap<>();
+
+    private final InMemoryOutboxBroker broker = new InMemoryOutboxBroker();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        AuthProperties.OutboxConfig config = new AuthProperties.OutboxConfig();
+        config.setEnabled(true);
+        config.setBatchSize(3);
+        config.setPollIntervalMillis(0);
+        relay = new OutboxRelay(outboxMapper, broker, TransactionOperations.withoutTransaction(), config,
+                new SimpleMeterRegistry());
+    }
+
+    private void write(String aggregateType, String aggregateId, int count) {
+        for (int i = 0; i < count; i++) {
+            write(String.format("01JOUTBOX%017d", table.size()), aggregateType, aggregateId, i);
+        }
+    }
+
+    private void write(String id, String aggregateType, String aggregateId, int i) {
+        table.put(id, OutboxMessage.builder()
+                .id(id)
+                .seq((long) table.size() + 1)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType("EVENT_" + i)
+                .payload("{\"seq\":" + i + "}")
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 잠금 획득, 조회/삭제는 table에서
+     */
+    private void givenTable() {
+        given(outboxMapper.tryRelayLock(anyLong())).willReturn(true);
+        given(outboxMapper.findPending(anyInt())).willAnswer(invocation ->
+                table.values().stream().limit(invocation.<Integer>getArgument(0)).toList());
+        willAnswer(invocation -> {
+            List<String> ids = invocation.getArgument(0);
+            ids.forEach(table::remove);
+            return ids.size();
+        }).given(outboxMapper).deleteByIds(anyList());
+    }
+
+    private List<String> payloads(String topic, String key) {
+        return broker.received(topic).stream()
+                .filter(delivery -> delivery.key().equals(key))
+                .map(delivery -> delivery.message().getPayload())
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("전달")
+    class Delivery {
+
+        @Test
+        @DisplayName("대기 메시지를 배치 단위로 모두 보내고, 집계 유형별 topic에 집계 ID를 key로 기록 순서대로 전달한다")
+        void shouldRelayInOrder() {
+            // Given: 배치 3건, 7건 대기
+            write("LOGIN_POLICY", "P1", 4);
+            write("AUDIT_LOG", "CHAIN1", 3);
+            givenTable();
+
+            // When
+            int sent = relay.relay();
+
+            // Then
+            assertThat(sent).isEqualTo(7);
+            assertThat(table).isEmpty();
+            assertThat(payloads("inspecthub.login-policy", "P1"))
+                    .containsExactly("{\"seq\":0}", "{\"seq\":1}", "{\"seq\":2}", "{\"seq\":3}");
+            assertThat(payloads("inspecthub.audit-log", "CHAIN1")).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("같은 체인의 메시지는 id 순서와 무관하게 기록 순(seq)으로 전달한다 (spool 재기록, 단조 증가가 아닌 ID)")
+        void shouldRelayInWriteOrder_WhenIdsAreNotInChainOrder() {
+            // Given: 체인 순서로 기록됐지만 id는 역순
+            write("01JOUTBOX00000000000000009", "AUDIT_LOG", "CHAIN1", 0);
+            write("01JOUTBOX00000000000000005", "AUDIT_LOG", "CHAIN1", 1);
+            write("01JOUTBOX00000000000000007", "AUDIT_LOG", "CHAIN1", 2);
+            write("01JOUTBOX00000000000000001", "AUDIT_LOG", "CHAIN1", 3);
+            givenTable();
+
+            // When
+            relay.relay();
+
+            // Then
+            assertThat(payloads("inspecthub.audit-log", "CHAIN1"))
+                    .containsExactly("{\"seq\":0}", "{\"seq\":1}", "{\"seq\":2}", "{\"seq\":3}");
+        }
+
+        @Test
+        @DisplayName("다른 노드가 relay 중이면 읽지 않는다")
+        void shouldSkip_WhenLockHeldElsewhere() {
+            write("LOGIN_POLICY", "P1", 2);
+            given(outboxMapper.tryRelayLock(anyLong())).willReturn(false);
+
+            assertThat(relay.relay()).isZero();
+
+            then(outboxMapper).should(never()).findPending(anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("전달 실패")
+    class Failure {
+
+        @Test
+        @DisplayName("broker 실패 시 배치를 지우지 않고 실패를 기록하며, 다음 relay에서 같은 배치부터 다시 보낸다")
+        void shouldRetrySameBatch() {
+            // Given: 첫 전송만 실패하는 broker
+            write("LOGIN_POLICY", "P1", 2);
+            givenTable();
+            AtomicInteger calls = new AtomicInteger();
+            Map<String, List<String>> attempts = new TreeMap<>();
+            OutboxBroker flaky = (topicPrefix, messages, timeout) -> {
+                attempts.put("attempt" + calls.get(), messages.stream().map(OutboxMessage::getId).toList());
+                if (calls.getAndIncrement() == 0) {
+                    throw new IllegalStateException("broker unavailable");
+                }
+                broker.send(topicPrefix, messages, timeout);
+            };
+            AuthProperties.OutboxConfig config = new AuthProperties.OutboxConfig();
+            config.setPollIntervalMillis(0);
+            OutboxRelay flakyRelay = new OutboxRelay(outboxMapper, flaky, TransactionOperations.withoutTransaction(),
+                    config, new SimpleMeterRegistry());
+
+            // When
+            int first = flakyRelay.relay();
+            int second = flakyRelay.relay();
+
+            // Then
+            assertThat(first).isZero();
+            then(outboxMapper).should().markFailed(anyList(), anyString());
+            assertThat(second).isEqualTo(2);
+            assertThat(attempts.get("attempt0")).isEqualTo(attempts.get("attempt1"));
+            assertThat(payloads("inspecthub.login-policy", "P1")).containsExactly("{\"seq\":0}", "{\"seq\":1}");
+            assertThat(table).isEmpty();
+        }
+
+        /**
+         * markFailed는 table의 attempts를 올린다
+         */
+        private void givenFailuresRecorded() {
+            willAnswer(invocation -> {
+                List<String> ids = invocation.getArgument(0);
+                ids.forEach(id -> table.computeIfPresent(id, (key, message) -> message.toBuilder()
+                        .attempts(message.getAttempts() + 1)
+                        .lastError(invocation.getArgument(1))
+                        .build()));
+                return ids.size();
+            }).given(outboxMapper).markFailed(anyList(), anyString());
+        }
+
+        private OutboxRelay relayWith(OutboxBroker target, SimpleMeterRegistry meterRegistry) {
+            AuthProperties.OutboxConfig config = new AuthProperties.OutboxConfig();
+            config.setBatchSize(3);
+            config.setPollIntervalMillis(0);
+            config.setMaxAttempts(3);
+            return new OutboxRelay(outboxMapper, target, TransactionOperations.withoutTransaction(), config,
+                    meterRegistry);
+        }
+
+        @Test
+        @DisplayName("maxAttempts번 실패한 배치는 한 건씩 보내 전달 불가 메시지만 격리하고, 그 집계만 건너뛴다")
+        void shouldParkPoisonMessage_AndSkipOnlyItsAggregate() {
+            // Given: P1의 첫 메시지는 broker가 항상 거부 (예: 크기 초과)
+            write("01JOUTBOX00000000000POISON", "LOGIN_POLICY", "P1", 0);
+            write("01JOUTBOX00000000000000002", "LOGIN_POLICY", "P1", 1);
+            write("01JOUTBOX00000000000000003", "LOGIN_POLICY", "P2", 0);
+            givenTable();
+            givenFailuresRecorded();
+            OutboxBroker rejecting = (topicPrefix, messages, timeout) -> {
+                if (messages.stream().anyMatch(message -> message.getId().endsWith("POISON"))) {
+                    throw new IllegalStateException("record too large");
+                }
+                broker.send(topicPrefix, messages, timeout);
+            };
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            OutboxRelay poisonedRelay = relayWith(rejecting, meterRegistry);
+
+            // When: 2회는 배치 전체 재시도, 3회째에 한 건씩
+            int first = poisonedRelay.relay();
+            int second = poisonedRelay.relay();
+            int third = poisonedRelay.relay();
+            int fourth = poisonedRelay.relay();
+
+            // Then
+            assertThat(first + second).isZero();
+            assertThat(third).isEqualTo(1);
+            assertThat(fourth).isEqualTo(1);
+            then(outboxMapper).should().insertDeadLetter("01JOUTBOX00000000000POISON", "record too large");
+            assertThat(payloads("inspecthub.login-policy", "P2")).containsExactly("{\"seq\":0}");
+            assertThat(payloads("inspecthub.login-policy", "P1")).containsExactly("{\"seq\":1}");
+            assertThat(table).isEmpty();
+            assertThat(meterRegistry.get("auth.outbox.parked").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("broker 장애로 모든 메시지가 실패하면 maxAttempts를 넘어도 격리하지 않는다")
+        void shouldNotPark_WhenBrokerIsDown() {
+            // Given
+            write("LOGIN_POLICY", "P1", 1);
+            write("LOGIN_POLICY", "P2", 1);
+            given(outboxMapper.tryRelayLock(anyLong())).willReturn(true);
+            given(outboxMapper.findPending(anyInt())).willAnswer(invocation -> List.copyOf(table.values()));
+            givenFailuresRecorded();
+            OutboxRelay downRelay = relayWith((topicPrefix, messages, timeout) -> {
+                throw new IllegalStateException("broker unavailable");
+            }, new SimpleMeterRegistry());
+
+            // When
+            for (int i = 0; i < 5; i++) {
+                downRelay.relay();
+            }
+
+            // Then
+            then(outboxMapper).should(never()).insertDeadLetter(anyString(), anyString());
+            assertThat(table).hasSize(2);
+        }
+    }
+}
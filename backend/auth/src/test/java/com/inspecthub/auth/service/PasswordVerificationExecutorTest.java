@@ -0,0 +1,130 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.common.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PasswordVerificationExecutor Tests
+ *
+ * BCrypt 검증 전용 실행기 - 결과 전달, 대기열 포화 시 즉시 거절, 제한 시간, 메트릭
+ */
+@DisplayName("PasswordVerificationExecutor - 비밀번호 검증 실행기")
+class PasswordVerificationExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordVerificationExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordVerificationExecutor(1, 1, Duration.ofSeconds(5), meterRegistry);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private boolean blockUntilReleased() {
+        try {
+            return release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Nested
+    @DisplayName("검증 실행")
+    class Verify {
+
+        @Test
+        @DisplayName("검증 결과를 그대로 반환하고 실행 시간을 기록한다")
+        void shouldReturnResult_AndRecordDuration() {
+            assertThat(executor.verify(() -> true)).isTrue();
+            assertThat(executor.verify(() -> false)).isFalse();
+
+            assertThat(meterRegistry.get("auth.password.verify.duration").timer().count()).isEqualTo(2);
+            assertThat(meterRegistry.get("auth.password.verify.wait").timer().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("검증 중 발생한 RuntimeException은 그대로 전달한다")
+        void shouldPropagateRuntimeException() {
+            assertThatThrownBy(() -> executor.verify(() -> {
+                throw new IllegalStateException("AD/SSO 사용자는 비밀번호 검증 불가");
+            }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("AD/SSO 사용자는 비밀번호 검증 불가");
+        }
+    }
+
+    @Nested
+    @DisplayName("Admission Control")
+    class AdmissionControl {
+
+        @Test
+        @DisplayName("실행 스레드와 대기열이 모두 차면 AUTH_009로 즉시 거절한다")
+        void shouldRejectImmediately_WhenSaturated() throws Exception {
+            // Given: 스레드 1개 실행 중 + 대기열 1개 점유
+            CountDownLatch started = new CountDownLatch(1);
+            CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.verify(() -> {
+                started.countDown();
+                return blockUntilReleased();
+            }), Executors.newSingleThreadExecutor());
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(
+                    () -> executor.verify(() -> true), Executors.newSingleThreadExecutor());
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (executor.queueDepth() < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(meterRegistry.get("auth.password.verify.queue.depth").gauge().value()).isEqualTo(1.0);
+
+            // When & Then: 세 번째 요청은 대기하지 않고 거절
+            long startedAt = System.nanoTime();
+            assertThatThrownBy(() -> executor.verify(() -> true))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode()).isEqualTo("AUTH_009"));
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+            assertThat(meterRegistry.get("auth.password.verify.rejected").counter().count()).isEqualTo(1.0);
+
+            // And: 적체가 풀리면 대기 중이던 요청은 정상 처리
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("제한 시간을 넘기면 AUTH_009로 응답한다")
+        void shouldFail_WhenTimeoutExceeded() {
+            PasswordVerificationExecutor shortTimeout =
+                    new PasswordVerificationExecutor(1, 1, Duration.ofMillis(50), new SimpleMeterRegistry());
+            try {
+                assertThatThrownBy(() -> shortTimeout.verify(PasswordVerificationExecutorTest.this::blockUntilReleased))
+                        .isInstanceOf(BusinessException.class)
+                        .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode()).isEqualTo("AUTH_009"));
+            } finally {
+                shortTimeout.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.PermissionGrant;
+import com.inspecthub.auth.domain.PermissionGrant.GrantType;
+import com.inspecthub.auth.repository.PermissionRepository;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PermissionSnapshotService Tests
+ *
+ * 사용자 권한 스냅샷 - BitSet 컴파일, 사용자별 캐시, 버전/TTL 기반 무효화
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionSnapshotService - 사용자 권한 스냅샷")
+class PermissionSnapshotServiceTest {
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    private MutableClock clock;
+    private PermissionSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-15T00:00:00Z"));
+        service = new PermissionSnapshotService(
+                permissionRepository, new AuthProperties.PermissionCacheConfig(), new SimpleMeterRegistry(), clock);
+    }
+
+    private void givenAdminGrants() {
+        given(permissionRepository.findGrantsByEmployeeId("EMP001")).willReturn(List.of(
+                new PermissionGrant(GrantType.GROUP, "PG.ADMIN"),
+                new PermissionGrant(GrantType.PERMISSION, "system:write"),
+                new PermissionGrant(GrantType.MENU, "MENU.SYSTEM")
+        ));
+    }
+
+    @Nested
+    @DisplayName("권한 컴파일")
+    class Compile {
+
+        @Test
+        @DisplayName("그룹은 ROLE_ 권한으로, 권한/메뉴는 코드 그대로 컴파일되고 ROLE_USER가 기본 포함된다")
+        void shouldCompileGroupPermissionAndMenu() {
+            // Given
+            givenAdminGrants();
+
+            // When
+            PermissionSnapshot snapshot = service.getSnapshot("EMP001");
+
+            // Then
+            assertThat(snapshot.hasAuthority("ROLE_USER")).isTrue();
+            assertThat(snapshot.hasAuthority("ROLE_ADMIN")).isTrue();
+            assertThat(snapshot.hasAuthority("system:write")).isTrue();
+            assertThat(snapshot.hasAuthority("MENU.SYSTEM")).isTrue();
+            assertThat(snapshot.hasAuthority("case:approve")).isFalse();
+            assertThat(snapshot.authorities())
+                    .extracting(GrantedAuthority::getAuthority)
+                    .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN", "system:write", "MENU.SYSTEM");
+        }
+
+        @Test
+        @DisplayName("GrantedAuthority 집합으로서 contains가 동작한다 (Spring Security 호환)")
+        void shouldSupportSetContains() {
+            givenAdminGrants();
+
+            PermissionSnapshot snapshot = service.getSnapshot("EMP001");
+
+            assertThat(snapshot.authorities())
+                    .contains(new SimpleGrantedAuthority("ROLE_ADMIN"))
+                    .doesNotContain(new SimpleGrantedAuthority("ROLE_AUDITOR"))
+                    .hasSize(4);
+        }
+
+        @Test
+        @DisplayName("그룹이 없는 사용자는 ROLE_USER만 가진다")
+        void shouldGrantDefaultAuthorityOnly_WhenNoGroups() {
+            given(permissionRepository.findGrantsByEmployeeId("EMP002")).willReturn(List.of());
+
+            PermissionSnapshot snapshot = service.getSnapshot("EMP002");
+
+            assertThat(snapshot.authorities())
+                    .extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_USER");
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 및 무효화")
+    class CacheAndInvalidation {
+
+        @Test
+        @DisplayName("같은 사용자의 두 번째 조회는 DB를 조회하지 않는다")
+        void shouldServeFromCache() {
+            givenAdminGrants();
+
+            PermissionSnapshot first = service.getSnapshot("EMP001");
+            PermissionSnapshot second = service.getSnapshot("EMP001");
+
+            assertThat(second).isSameAs(first);
+            verify(permissionRepository, times(1)).findGrantsByEmployeeId("EMP001");
+        }
+
+        @Test
+        @DisplayName("invalidate(employeeId) 이후에는 다시 컴파일한다")
+        void shouldRecompile_AfterUserInvalidation() {
+            givenAdminGrants();
+            service.getSnapshot("EMP001");
+
+            service.invalidate("EMP001");
+            service.getSnapshot("EMP001");
+
+            verify(permissionRepository, times(2)).findGrantsByEmployeeId("EMP001");
+        }
+
+        @Test
+        @DisplayName("invalidateAll()은 버전을 올려 기존 스냅샷을 모두 무효화한다")
+        void shouldRecompile_AfterVersionBump() {
+            givenAdminGrants();
+            PermissionSnapshot before = service.getSnapshot("EMP001");
+
+            service.invalidateAll();
+            PermissionSnapshot after = service.getSnapshot("EMP001");
+
+            assertThat(after.version()).isEqualTo(before.version() + 1);
+            verify(permissionRepository, times(2)).findGrantsByEmployeeId("EMP001");
+        }
+
+        @Test
+        @DisplayName("TTL이 지나면 다시 컴파일한다")
+        void shouldRecompile_AfterTtl() {
+            givenAdminGrants();
+            service.getSnapshot("EMP001");
+
+            clock.advanceSeconds(301);
+            service.getSnapshot("EMP001");
+
+            verify(permissionRepository, times(2)).findGrantsByEmployeeId("EMP001");
+        }
+    }
+
+    @Nested
+    @DisplayName("DB 권한 버전")
+    class DbVersion {
+
+        @Test
+        @DisplayName("permission_version이 바뀌면 다른 노드의 변경이라도 다음 확인 때 다시 컴파일한다")
+        void shouldRecompile_WhenDbVersionChanges() {
+            // Given
+            givenAdminGrants();
+            given(permissionRepository.findPermissionVersion()).willReturn(7L, 8L);
+            service.getSnapshot("EMP001");
+
+            // When
+            clock.advanceMillis(1_000);
+            service.getSnapshot("EMP001");
+
+            // Then
+            verify(permissionRepository, times(2)).findGrantsByEmployeeId("EMP001");
+        }
+
+        @Test
+        @DisplayName("확인 주기 안에서는 버전을 다시 조회하지 않는다")
+        void shouldThrottleVersionCheck() {
+            givenAdminGrants();
+            given(permissionRepository.findPermissionVersion()).willReturn(7L);
+
+            service.getSnapshot("EMP001");
+            clock.advanceMillis(999);
+            service.getSnapshot("EMP001");
+
+            verify(permissionRepository, times(1)).findPermissionVersion();
+            verify(permissionRepository, times(1)).findGrantsByEmployeeId("EMP001");
+        }
+
+        @Test
+        @DisplayName("버전 조회가 실패해도 캐시된 스냅샷을 사용한다")
+        void shouldKeepSnapshots_WhenVersionCheckFails() {
+            givenAdminGrants();
+            given(permissionRepository.findPermissionVersion())
+                    .willReturn(7L)
+                    .willThrow(new CannotGetJdbcConnectionException("down"));
+            PermissionSnapshot first = service.getSnapshot("EMP001");
+
+            clock.advanceMillis(1_000);
+            PermissionSnapshot second = service.getSnapshot("EMP001");
+
+            assertThat(second).isSameAs(first);
+        }
+    }
+
+    @Test
+    @DisplayName("컴파일 중 invalidate(employeeId)가 호출되면 방금 컴파일한 스냅샷을 캐시에 남기지 않는다")
+    void shouldNotCache_WhenInvalidatedDuringCompile() {
+        // Given: 첫 조회 도중 다른 스레드가 사용자 그룹 매핑을 변경
+        given(permissionRepository.findGrantsByEmployeeId("EMP001"))
+                .willAnswer(invocation -> {
+                    service.invalidate("EMP001");
+                    return List.of(new PermissionGrant(GrantType.GROUP, "PG.ADMIN"));
+                })
+                .willReturn(List.of());
+
+        // When
+        service.getSnapshot("EMP001");
+        PermissionSnapshot second = service.getSnapshot("EMP001");
+
+        // Then
+        assertThat(second.hasAuthority("ROLE_ADMIN")).isFalse();
+        verify(permissionRepository, times(2)).findGrantsByEmployeeId("EMP001");
+    }
+
+    /**
+     * 테스트용 가변 Clock
+     */
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceSeconds(long seconds) {
+            now = now.plusSeconds(seconds);
+        }
+
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
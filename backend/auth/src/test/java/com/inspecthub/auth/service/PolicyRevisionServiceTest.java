@@ -0,0 +1,182 @@
+package com.inspecthub.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspecthub.auth.domain.AuditLog;
+import com.inspecthub.auth.mapper.AuditLogMapper;
+import com.inspecthub.common.audit.AuditEvent;
+import com.inspecthub.common.config.AuthProperties;
+import com.inspecthub.common.exception.BusinessException;
+import com.inspecthub.common.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+/**
+ * PolicyRevisionCodec / PolicyRevisionService Tests
+ *
+ * 정책 변경 이력 - checkpoint/patch 인코딩, checkpoint부터 patch 적용으로 버전 복원, 이력 유실 탐지
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyRevisionService - 정책 변경 이력 복원")
+class PolicyRevisionServiceTest {
+
+    private static final String SUBJECT_ID = "01JLP00000000000000000000";
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Mock
+    private AuditLogMapper auditLogMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * audit_log 테이블 대신 기록 순서대로
+     */
+    private final List<AuditLog> table = new ArrayList<>();
+
+    private PolicyRevisionCodec codec;
+    private PolicyRevisionService service;
+
+    @BeforeEach
+    void setUp() {
+        AuthProperties.AuditPolicyRevisionConfig config = new AuthProperties.AuditPolicyRevisionConfig();
+        config.setCheckpointInterval(4);
+        config.setPageSize(2);
+        codec = new PolicyRevisionCodec(config, objectMapper);
+        service = new PolicyRevisionService(auditLogMapper, config, objectMapper);
+    }
+
+    /**
+     * 정책 버전 states[0] -> states[1] -> ... 변경을 기록하고 각 감사 로그를 반환
+     */
+    private List<AuditLog> record(String... states) {
+        List<AuditLog> rows = new ArrayList<>();
+        for (int i = 1; i < states.length; i++) {
+            int seq = table.size();
+            AuditEvent.PolicyChanged change = new AuditEvent.PolicyChanged(
+                    String.format("01JREV%020d", seq), START.plusMinutes(seq), "LOGIN_POLICY_UPDATED", "ADMIN01",
+                    "LOGIN_POLICY", SUBJECT_ID, states[i - 1], states[i]);
+            AuditLog row = AuditLog.createPolicyChange(change.id(), change.action(), change.actorId(),
+                    change.subjectType(), change.subjectId(), change.occurredAt(), codec.encode(change));
+            table.add(row);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static String state(int version, String... methods) {
+        return "{\"version\":" + version + ",\"enabledMethods\":[" +
+                String.join(",", List.of(methods).stream().map(m -> "\"" + m + "\"").toList()) + "]}";
+    }
+
+    private String format(AuditLog row) throws Exception {
+        return objectMapper.readTree(row.getDetails()).path("format").asText();
+    }
+
+    private PolicyRevisionService.PolicyRevision reconstruct(AuditLog row) {
+        given(auditLogMapper.findById(row.getId())).willReturn(row);
+        willAnswer(invocation -> {
+            LocalDateTime cursorTimestamp = invocation.getArgument(2);
+            String cursorId = invocation.getArgument(3);
+            return table.stream()
+                    .filter(candidate -> candidate.getTimestamp().isBefore(cursorTimestamp)
+                            || (candidate.getTimestamp().isEqual(cursorTimestamp) && candidate.getId().compareTo(cursorId) < 0))
+                    .sorted(Comparator.comparing(AuditLog::getTimestamp).thenComparing(AuditLog::getId).reversed())
+                    .limit(invocation.<Integer>getArgument(4))
+                    .toList();
+        }).given(auditLogMapper).findBySubjectAfter(anyString(), anyString(), any(), anyString(), anyInt());
+        return service.reconstruct(row.getId());
+    }
+
+    @Nested
+    @DisplayName("인코딩")
+    class Encoding {
+
+        @Test
+        @DisplayName("처음 보는 정책은 checkpoint, 이어지는 변경은 patch, checkpointInterval마다 다시 checkpoint")
+        void shouldInterleaveCheckpoints() throws Exception {
+            // When: 6번 변경, 주기 4
+            List<AuditLog> rows = record(state(0, "AD"), state(1, "AD", "SSO"), state(2, "SSO"), state(3, "SSO", "LOCAL"),
+                    state(4, "LOCAL"), state(5, "AD"), state(6, "AD", "LOCAL"));
+
+            // Then
+            List<String> formats = new ArrayList<>();
+            for (AuditLog row : rows) {
+                formats.add(format(row));
+            }
+            assertThat(formats).containsExactly("checkpoint", "json-patch", "json-patch", "json-patch",
+                    "checkpoint", "json-patch");
+            JsonNode patch = objectMapper.readTree(rows.get(1).getDetails());
+            assertThat(patch.path("patch").toString()).contains("/version").doesNotContain("LOCAL");
+        }
+
+        @Test
+        @DisplayName("변경 전 상태가 직전 기록과 다르면 (다른 노드 변경) checkpoint로 기록한다")
+        void shouldCheckpoint_WhenBeforeDiffers() throws Exception {
+            record(state(0, "AD"), state(1, "AD", "SSO"));
+
+            List<AuditLog> rows = record(state(5, "LOCAL"), state(6, "LOCAL", "AD"));
+
+            assertThat(format(rows.get(0))).isEqualTo("checkpoint");
+        }
+    }
+
+    @Nested
+    @DisplayName("복원")
+    class Reconstruction {
+
+        @Test
+        @DisplayName("가장 가까운 checkpoint부터 patch를 적용해 각 시점의 상태를 만든다 (여러 페이지에 걸쳐도)")
+        void shouldReconstructEveryRevision() throws Exception {
+            // Given
+            String[] states = {state(0, "AD"), state(1, "AD", "SSO"), state(2, "SSO"), state(3, "SSO", "LOCAL"),
+                    state(4, "LOCAL"), state(5, "AD")};
+            List<AuditLog> rows = record(states);
+
+            // When
+            PolicyRevisionService.PolicyRevision revision = reconstruct(rows.get(3));
+
+            // Then: rows[0] checkpoint + 3 patch
+            assertThat(revision.state()).isEqualTo(objectMapper.readTree(states[4]));
+            assertThat(revision.patchesApplied()).isEqualTo(3);
+            assertThat(revision.subjectId()).isEqualTo(SUBJECT_ID);
+            assertThat(reconstruct(rows.get(2)).state()).isEqualTo(objectMapper.readTree(states[3]));
+        }
+
+        @Test
+        @DisplayName("중간 로그가 빠지면 base digest가 맞지 않아 AUDIT_REVISION_BROKEN")
+        void shouldFail_WhenRevisionMissing() {
+            List<AuditLog> rows = record(state(0, "AD"), state(1, "AD", "SSO"), state(2, "SSO"), state(3, "LOCAL"));
+            table.remove(rows.get(1));
+
+            assertThatThrownBy(() -> reconstruct(rows.get(2)))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.AUDIT_REVISION_BROKEN.getCode());
+        }
+
+        @Test
+        @DisplayName("없는 감사 로그는 AUDIT_LOG_NOT_FOUND")
+        void shouldFail_WhenNotFound() {
+            assertThatThrownBy(() -> service.reconstruct("NOPE"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.AUDIT_LOG_NOT_FOUND.getCode());
+        }
+    }
+}
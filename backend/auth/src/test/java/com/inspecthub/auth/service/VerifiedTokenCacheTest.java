@@ -0,0 +1,190 @@
+package com.inspecthub.auth.service;
+
+import com.inspecthub.auth.domain.User;
+import com.inspecthub.auth.domain.UserId;
+import com.inspecthub.common.config.AuthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VerifiedTokenCache Tests
+ *
+ * 검증된 Access Token 캐시 - 만료 기반 제거, 크기 제한, 적중/미적중 메트릭
+ */
+@DisplayName("VerifiedTokenCache - 검증된 토큰 캐시")
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(true, 100, meterRegistry, Clock.systemUTC());
+    }
+
+    private VerifiedToken accessToken(Instant expiresAt) {
+        return new VerifiedToken(VerifiedToken.ACCESS, "EMP001", "01ARZ3NDEKTSV4RRFFQ69G5FAV", expiresAt);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("auth.token.cache.gets").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("조회/저장")
+    class GetAndPut {
+
+        @Test
+        @DisplayName("저장된 토큰은 캐시에서 조회되고 hit 메트릭이 증가한다")
+        void shouldReturnCachedToken_AndCountHit() {
+            // Given
+            VerifiedToken verified = accessToken(Instant.now().plusSeconds(3600));
+            cache.put("header.payload.signature", verified);
+
+            // When
+            VerifiedToken result = cache.get("header.payload.signature");
+
+            // Then
+            assertThat(result).isEqualTo(verified);
+            assertThat(count("hit")).isEqualTo(1.0);
+            assertThat(count("miss")).isZero();
+        }
+
+        @Test
+        @DisplayName("저장되지 않은 토큰은 null을 반환하고 miss 메트릭이 증가한다")
+        void shouldReturnNull_AndCountMiss() {
+            assertThat(cache.get("unknown.token.value")).isNull();
+            assertThat(count("miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("토큰 문자열이 한 글자라도 다르면 적중하지 않는다")
+        void shouldNotMatch_WhenTokenDiffers() {
+            cache.put("header.payload.signature", accessToken(Instant.now().plusSeconds(3600)));
+
+            assertThat(cache.get("header.payloaX.signature")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 기반 제거")
+    class ExpiryEviction {
+
+        @Test
+        @DisplayName("exp가 지난 항목은 조회 시 제거되고 null을 반환한다")
+        void shouldEvictExpiredEntry_OnGet() {
+            // Given: 이미 만료된 검증 결과
+            cache.put("expired.token.value", accessToken(Instant.now().minusSeconds(1)));
+
+            // When
+            VerifiedToken result = cache.get("expired.token.value");
+
+            // Then
+            assertThat(result).isNull();
+            assertThat(cache.size()).isZero();
+            assertThat(meterRegistry.get("auth.token.cache.evictions").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("exp가 없는 토큰은 캐시하지 않는다")
+        void shouldNotCache_WhenNoExpiry() {
+            cache.put("no.exp.token", accessToken(null));
+
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("크기 제한")
+    class SizeBound {
+
+        @Test
+        @DisplayName("maxSize를 초과하지 않는다")
+        void shouldStayWithinMaxSize() {
+            // Given
+            VerifiedTokenCache small = new VerifiedTokenCache(true, 10, new SimpleMeterRegistry(), Clock.systemUTC());
+
+            // When
+            for (int i = 0; i < 100; i++) {
+                small.put("token-" + i, accessToken(Instant.now().plusSeconds(3600)));
+            }
+
+            // Then
+            assertThat(small.size()).isLessThanOrEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("비활성화된 캐시는 저장하지 않는다")
+        void shouldNotStore_WhenDisabled() {
+            VerifiedTokenCache disabled = VerifiedTokenCache.disabled();
+
+            disabled.put("token", accessToken(Instant.now().plusSeconds(3600)));
+
+            assertThat(disabled.get("token")).isNull();
+            assertThat(disabled.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("JwtTokenProvider 연동")
+    class ProviderIntegration {
+
+        @Test
+        @DisplayName("같은 Access Token의 두 번째 검증은 캐시에서 처리된다")
+        void shouldServeSecondVerification_FromCache() {
+            // Given
+            AuthProperties authProperties = new AuthProperties();
+            authProperties.getJwt().setSecret("test-secret-key-minimum-256-bits-required-for-HS256-algorithm");
+            authProperties.getJwt().getAccessToken().setExpirationSeconds(3600);
+            authProperties.getJwt().getRefreshToken().setExpirationSeconds(86400);
+            JwtTokenProvider provider = new JwtTokenProvider(authProperties, cache);
+
+            User user = User.builder()
+                    .id(UserId.of("01ARZ3NDEKTSV4RRFFQ69G5FAV"))
+                    .employeeId("EMP001")
+                    .name("홍길동")
+                    .email("hong@example.com")
+                    .build();
+            String token = provider.generateAccessToken(user);
+
+            // When
+            VerifiedToken first = provider.verify(token);
+            VerifiedToken second = provider.verify(token);
+
+            // Then
+            assertThat(second).isEqualTo(first);
+            assertThat(count("miss")).isEqualTo(1.0);
+            assertThat(count("hit")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Refresh Token은 캐시하지 않는다")
+        void shouldNotCacheRefreshToken() {
+            // Given
+            AuthProperties authProperties = new AuthProperties();
+            authProperties.getJwt().setSecret("test-secret-key-minimum-256-bits-required-for-HS256-algorithm");
+            authProperties.getJwt().getRefreshToken().setExpirationSeconds(86400);
+            JwtTokenProvider provider = new JwtTokenProvider(authProperties, cache);
+
+            User user = User.builder()
+                    .id(UserId.of("01ARZ3NDEKTSV4RRFFQ69G5FAV"))
+                    .employeeId("EMP001")
+                    .build();
+
+            // When
+            provider.verify(provider.generateRefreshToken(user));
+
+            // Then
+            assertThat(cache.size()).isZero();
+        }
+    }
+}
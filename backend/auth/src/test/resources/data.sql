@@ -30,5 +30,5 @@ VALUES ('01ARZ3NDEKTSV4RRFFQ69G5FAZ', 'EMP005', '$2a$10$N9qo8uLOickgx2ZMRZoMyeIj
 -- 테스트용 로그인 정책 데이터
 INSERT INTO login_policy (id, name, enabled_methods, priority, active, created_by, created_at)
 VALUES ('01JCXYZ1234567890ABCDEF002', '시스템 로그인 정책', 
-        '["SSO", "AD", "LOCAL"]', '["SSO", "AD", "LOCAL"]', 
+        7, X'000102', 
         true, 'SYSTEM', CURRENT_TIMESTAMP);
@@ -17,8 +17,8 @@ INSERT INTO login_policy (
 ) VALUES (
     '01JCXYZ1234567890ABCDEF002',
     '시스템 로그인 정책',
-    '["SSO", "AD", "LOCAL"]'::jsonb,
-    '["SSO", "AD", "LOCAL"]'::jsonb,
+    7,                                  -- SSO | AD | LOCAL
+    '\x000102'::bytea,                  -- SSO > AD > LOCAL
     true,
     'SYSTEM',
     NOW()
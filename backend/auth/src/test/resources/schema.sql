@@ -18,13 +18,54 @@ CREATE TABLE IF NOT EXISTS users (
 CREATE INDEX IF NOT EXISTS idx_users_employee_id ON users(employee_id);
 CREATE INDEX IF NOT EXISTS idx_users_status ON users(status);
 
+-- 감사 로그 테이블 (V007과 동일 컬럼, AuditLogWriter 배치 기록 대상)
+CREATE TABLE IF NOT EXISTS audit_log (
+    id CHAR(26) PRIMARY KEY,
+    action VARCHAR(50) NOT NULL,
+    user_id VARCHAR(26),
+    employee_id VARCHAR(50),
+    username VARCHAR(100),
+    timestamp TIMESTAMP NOT NULL,
+    client_ip VARCHAR(45),
+    success BOOLEAN,
+    method VARCHAR(20),
+    session_id VARCHAR(100),
+    user_agent TEXT,
+    referer TEXT,
+    reason VARCHAR(200),
+    details TEXT,
+    org_id VARCHAR(26),
+    org_name VARCHAR(200),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    chain_id CHAR(26),
+    chain_seq BIGINT,
+    prev_hash CHAR(64),
+    hash CHAR(64),
+    subject_type VARCHAR(50),
+    subject_id VARCHAR(26)
+);
+
+-- 해시 체인 검증 인덱스 (V011)
+CREATE INDEX IF NOT EXISTS idx_audit_log_chain ON audit_log(chain_id, chain_seq);
+
+-- 정책 변경 이력 인덱스 (V012)
+CREATE INDEX IF NOT EXISTS idx_audit_log_subject_timestamp_id ON audit_log(subject_type, subject_id, timestamp DESC, id DESC);
+
+-- keyset 페이지 인덱스 (V008)
+CREATE INDEX IF NOT EXISTS idx_audit_log_timestamp_id ON audit_log(timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_log_user_id_timestamp_id ON audit_log(user_id, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_log_employee_id_timestamp_id ON audit_log(employee_id, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_log_action_timestamp_id ON audit_log(action, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_log_client_ip_timestamp_id ON audit_log(client_ip, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_log_success_timestamp_id ON audit_log(success, timestamp DESC, id DESC);
+
 -- LoginPolicy 테이블 생성 (H2 PostgreSQL 호환 모드)
 -- H2는 JSON 타입, PostgreSQL은 JSONB 타입 사용
 CREATE TABLE IF NOT EXISTS login_policy (
     id CHAR(26) PRIMARY KEY,
     name VARCHAR(100) NOT NULL,
-    enabled_methods VARCHAR(1000) NOT NULL,  -- H2/PostgreSQL 공용: JSON 문자열로 저장
-    priority VARCHAR(1000) NOT NULL,
+    enabled_methods BIGINT NOT NULL,         -- LoginMethod 비트마스크 (SSO=1, AD=2, LOCAL=4)
+    priority BYTEA NOT NULL,                 -- LoginMethod ordinal 1바이트씩 (우선순위 순)
     active BOOLEAN DEFAULT true,
     created_by VARCHAR(50),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -34,3 +75,28 @@ CREATE TABLE IF NOT EXISTS login_policy (
 
 -- 인덱스 생성
 CREATE UNIQUE INDEX IF NOT EXISTS idx_login_policy_global ON login_policy(name);
+
+CREATE TABLE IF NOT EXISTS outbox_message (
+    id CHAR(26) PRIMARY KEY,
+    seq BIGINT GENERATED ALWAYS AS IDENTITY UNIQUE,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_dead_letter (
+    id CHAR(26) PRIMARY KEY,
+    seq BIGINT NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL,
+    last_error VARCHAR(500),
+    parked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
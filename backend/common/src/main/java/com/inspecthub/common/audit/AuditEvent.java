@@ -0,0 +1,94 @@
+package com.inspecthub.common.audit;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 이벤트
+ *
+ * 모든 모듈은 이 타입으로 감사 이벤트를 만들어 AuditEventPublisher에 넘긴다.
+ * id(ULID)와 occurredAt은 이벤트 생성 시 정해지므로 재시도/재기록해도 같은 이벤트로 식별된다.
+ */
+public sealed interface AuditEvent {
+
+    /**
+     * 이벤트 ID (ULID)
+     */
+    String id();
+
+    /**
+     * 발생 시각
+     */
+    LocalDateTime occurredAt();
+
+    AuditEventType type();
+
+    /**
+     * 로그인 성공
+     *
+     * @param method 로그인 방법 (AD, SSO, LOCAL)
+     */
+    record LoginSucceeded(String id, LocalDateTime occurredAt, String employeeId, String method) implements AuditEvent {
+
+        @Override
+        public AuditEventType type() {
+            return AuditEventType.LOGIN_SUCCESS;
+        }
+    }
+
+    /**
+     * 로그인 실패
+     *
+     * @param method 로그인 방법 (AD, SSO, LOCAL)
+     * @param reason 실패 사유 코드
+     */
+    record LoginFailed(String id, LocalDateTime occurredAt, String employeeId, String method, String reason)
+            implements AuditEvent {
+
+        @Override
+        public AuditEventType type() {
+            return AuditEventType.LOGIN_FAILURE;
+        }
+    }
+
+    /**
+     * 정책 변경
+     *
+     * 변경 전/후 전체 JSON을 받지만 저장은 이전 버전 대비 JSON Patch(RFC 6902)와 주기적 전체 checkpoint로 한다.
+     *
+     * @param action 작업 (SYSTEM_LOGIN_POLICY_UPDATED, LOGIN_METHOD_ENABLED 등)
+     * @param actorId 변경한 관리자 ID
+     * @param subjectType 정책 종류 (LOGIN_POLICY 등) - subjectId와 함께 버전 이력 단위
+     * @param subjectId 정책 ID
+     * @param beforeJson 변경 전 정책 JSON
+     * @param afterJson 변경 후 정책 JSON
+     */
+    record PolicyChanged(String id, LocalDateTime occurredAt, String action, String actorId,
+                         String subjectType, String subjectId,
+                         String beforeJson, String afterJson) implements AuditEvent {
+
+        @Override
+        public AuditEventType type() {
+            return AuditEventType.POLICY_CHANGE;
+        }
+    }
+
+    static LoginSucceeded loginSucceeded(String employeeId, String method) {
+        return new LoginSucceeded(newId(), LocalDateTime.now(), employeeId, method);
+    }
+
+    static LoginFailed loginFailed(String employeeId, String method, String reason) {
+        return new LoginFailed(newId(), LocalDateTime.now(), employeeId, method, reason);
+    }
+
+    static PolicyChanged policyChanged(String action, String actorId, String subjectType, String subjectId,
+                                       String beforeJson, String afterJson) {
+        return new PolicyChanged(newId(), LocalDateTime.now(), action, actorId, subjectType, subjectId,
+                beforeJson, afterJson);
+    }
+
+    private static String newId() {
+        return UlidCreator.getMonotonicUlid().toString();
+    }
+}
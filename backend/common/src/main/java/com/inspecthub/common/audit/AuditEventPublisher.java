@@ -0,0 +1,12 @@
+package com.inspecthub.common.audit;
+
+/**
+ * 감사 이벤트 발행
+ *
+ * 구현체는 이벤트를 대기열에 넣기만 하고 바로 반환한다 (DB 기록은 일괄 기록기가 처리).
+ * 예외를 던지지 않으며, 기록하지 못한 이벤트는 유형별 dropped 지표로 집계한다.
+ */
+public interface AuditEventPublisher {
+
+    void publish(AuditEvent event);
+}
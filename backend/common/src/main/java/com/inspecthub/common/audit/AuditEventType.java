@@ -0,0 +1,21 @@
+package com.inspecthub.common.audit;
+
+import java.util.Locale;
+
+/**
+ * 감사 이벤트 유형
+ *
+ * 파이프라인 지표의 type 태그로 쓰인다. 태그 값이 늘어나지 않도록 세부 작업(action)이 아닌 유형 단위로 집계한다.
+ */
+public enum AuditEventType {
+    LOGIN_SUCCESS,
+    LOGIN_FAILURE,
+    POLICY_CHANGE;
+
+    /**
+     * 지표 태그 값 (login-success, login-failure, policy-change)
+     */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
@@ -0,0 +1,221 @@
+package com.inspecthub.common.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 6902 JSON Patch
+ *
+ * - diff: source -> target 변경을 add/remove/replace 연산으로 만든다.
+ *   배열은 위치 기준으로 비교한다 (같은 위치끼리 재귀 비교, 길이 차이는 끝에서 add/remove).
+ * - apply: add/remove/replace/move/copy/test 연산을 모두 지원하며 원본은 바꾸지 않는다.
+ *
+ * 적용할 수 없는 patch(없는 경로, test 불일치 등)는 IllegalArgumentException
+ */
+public final class JsonPatch {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private JsonPatch() {
+    }
+
+    /**
+     * source를 target으로 바꾸는 patch
+     */
+    public static ArrayNode diff(JsonNode source, JsonNode target) {
+        ArrayNode operations = NODES.arrayNode();
+        diff("", source, target, operations);
+        return operations;
+    }
+
+    private static void diff(String path, JsonNode source, JsonNode target, ArrayNode operations) {
+        if (source.equals(target)) {
+            return;
+        }
+        if (source.isObject() && target.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String childPath = path + "/" + escape(field.getKey());
+                JsonNode targetValue = target.get(field.getKey());
+                if (targetValue == null) {
+                    operations.add(operation("remove", childPath, null));
+                } else {
+                    diff(childPath, field.getValue(), targetValue, operations);
+                }
+            }
+            Iterator<Map.Entry<String, JsonNode>> added = target.fields();
+            while (added.hasNext()) {
+                Map.Entry<String, JsonNode> field = added.next();
+                if (!source.has(field.getKey())) {
+                    operations.add(operation("add", path + "/" + escape(field.getKey()), field.getValue()));
+                }
+            }
+            return;
+        }
+        if (source.isArray() && target.isArray()) {
+            int common = Math.min(source.size(), target.size());
+            for (int i = 0; i < common; i++) {
+                diff(path + "/" + i, source.get(i), target.get(i), operations);
+            }
+            for (int i = common; i < target.size(); i++) {
+                operations.add(operation("add", path + "/" + i, target.get(i)));
+            }
+            for (int i = source.size() - 1; i >= common; i--) {
+                operations.add(operation("remove", path + "/" + i, null));
+            }
+            return;
+        }
+        operations.add(operation("replace", path, target));
+    }
+
+    private static ObjectNode operation(String op, String path, JsonNode value) {
+        ObjectNode operation = NODES.objectNode();
+        operation.put("op", op);
+        operation.put("path", path);
+        if (value != null) {
+            operation.set("value", value.deepCopy());
+        }
+        return operation;
+    }
+
+    /**
+     * patch 적용 결과 (document는 바꾸지 않음)
+     */
+    public static JsonNode apply(JsonNode document, JsonNode patch) {
+        if (patch == null || !patch.isArray()) {
+            throw new IllegalArgumentException("JSON Patch는 연산 배열이어야 합니다");
+        }
+        JsonNode result = document.deepCopy();
+        for (JsonNode operation : patch) {
+            result = applyOne(result, operation);
+        }
+        return result;
+    }
+
+    private static JsonNode applyOne(JsonNode document, JsonNode operation) {
+        String op = required(operation, "op").asText();
+        List<String> path = parsePointer(required(operation, "path").asText());
+        return switch (op) {
+            case "add" -> add(document, path, required(operation, "value").deepCopy());
+            case "remove" -> remove(document, path);
+            case "replace" -> add(remove(document, path), path, required(operation, "value").deepCopy());
+            case "move" -> {
+                List<String> from = parsePointer(required(operation, "from").asText());
+                JsonNode value = get(document, from);
+                yield add(remove(document, from), path, value);
+            }
+            case "copy" -> add(document, path,
+                    get(document, parsePointer(required(operation, "from").asText())).deepCopy());
+            case "test" -> {
+                if (!get(document, path).equals(required(operation, "value"))) {
+                    throw new IllegalArgumentException("JSON Patch test 실패: " + operation.get("path").asText());
+                }
+                yield document;
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 JSON Patch 연산: " + op);
+        };
+    }
+
+    private static JsonNode add(JsonNode document, List<String> path, JsonNode value) {
+        if (path.isEmpty()) {
+            return value;
+        }
+        JsonNode parent = get(document, path.subList(0, path.size() - 1));
+        String token = path.get(path.size() - 1);
+        if (parent instanceof ObjectNode object) {
+            object.set(token, value);
+        } else if (parent instanceof ArrayNode array) {
+            if ("-".equals(token)) {
+                array.add(value);
+            } else {
+                array.insert(index(token, array.size() + 1), value);
+            }
+        } else {
+            throw new IllegalArgumentException("JSON Patch 경로의 부모가 객체/배열이 아닙니다: " + pointer(path));
+        }
+        return document;
+    }
+
+    private static JsonNode remove(JsonNode document, List<String> path) {
+        if (path.isEmpty()) {
+            return NODES.nullNode();
+        }
+        JsonNode parent = get(document, path.subList(0, path.size() - 1));
+        String token = path.get(path.size() - 1);
+        if (parent instanceof ObjectNode object && object.has(token)) {
+            object.remove(token);
+        } else if (parent instanceof ArrayNode array) {
+            array.remove(index(token, array.size()));
+        } else {
+            throw new IllegalArgumentException("JSON Patch 경로가 없습니다: " + pointer(path));
+        }
+        return document;
+    }
+
+    private static JsonNode get(JsonNode document, List<String> path) {
+        JsonNode current = document;
+        for (String token : path) {
+            JsonNode next = current.isArray() ? current.get(index(token, current.size())) : current.get(token);
+            if (next == null) {
+                throw new IllegalArgumentException("JSON Patch 경로가 없습니다: " + pointer(path));
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    private static int index(String token, int limit) {
+        try {
+            int index = Integer.parseInt(token);
+            if (index >= 0 && index < limit && (token.equals("0") || !token.startsWith("0"))) {
+                return index;
+            }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 처리
+        }
+        throw new IllegalArgumentException("JSON Patch 배열 인덱스가 유효하지 않습니다: " + token);
+    }
+
+    private static JsonNode required(JsonNode operation, String field) {
+        JsonNode value = operation.get(field);
+        if (value == null) {
+            throw new IllegalArgumentException("JSON Patch 연산에 " + field + "가 없습니다: " + operation);
+        }
+        return value;
+    }
+
+    /**
+     * RFC 6901 JSON Pointer -> 참조 토큰
+     */
+    static List<String> parsePointer(String pointer) {
+        List<String> tokens = new ArrayList<>();
+        if (pointer.isEmpty()) {
+            return tokens;
+        }
+        if (!pointer.startsWith("/")) {
+            throw new IllegalArgumentException("JSON Pointer는 /로 시작해야 합니다: " + pointer);
+        }
+        for (String token : pointer.substring(1).split("/", -1)) {
+            tokens.add(token.replace("~1", "/").replace("~0", "~"));
+        }
+        return tokens;
+    }
+
+    private static String pointer(List<String> tokens) {
+        StringBuilder pointer = new StringBuilder();
+        tokens.forEach(token -> pointer.append('/').append(escape(token)));
+        return pointer.toString();
+    }
+
+    private static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+}
@@ -0,0 +1,167 @@
+package com.inspecthub.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 최대 항목 수가 있는 노드 메모리 캐시 (ConcurrentHashMap)
+ *
+ * 가득 찬 상태에서 저장하면 용량을 확보한다.
+ * 1. stale 항목 제거 (TTL 경과, 지난 버전 등 - 캐시마다 다른 기준)
+ * 2. 여전히 가득 차 있으면 maxSize의 10%를 임의로 골라 제거 (모든 항목이 같은 확률 - reservoir sampling)
+ *    ConcurrentHashMap 반복 순서대로 지우면 같은 해시 구간의 키만 계속 밀려난다.
+ *
+ * 용량 확보는 maxSize에 도달했을 때만 전체를 훑으므로 저장 비용은 amortized O(1)이다.
+ * 적중/미적중 판단(신선도 확인)은 호출자가 하고 recordHit/recordMiss로 기록한다.
+ *
+ * Metrics (metricPrefix를 준 경우): {metricPrefix}.gets{result=hit|miss}, {metricPrefix}.size
+ */
+public class BoundedCache<K, V> {
+
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final Predicate<? super V> stale;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * 용량 확보 결과
+     *
+     * @param expired stale이라 제거한 항목 수
+     * @param evicted 용량 초과로 임의 제거한 항목 수
+     */
+    public record Eviction(int expired, int evicted) {
+
+        static final Eviction NONE = new Eviction(0, 0);
+
+        public int total() {
+            return expired + evicted;
+        }
+    }
+
+    /**
+     * 지표 없이 생성 (호출자가 별도 지표를 기록하는 경우)
+     *
+     * @param stale 용량 확보 시 먼저 제거할 항목
+     */
+    public BoundedCache(int maxSize, Predicate<? super V> stale) {
+        this.maxSize = maxSize;
+        this.stale = stale;
+        this.hits = null;
+        this.misses = null;
+    }
+
+    /**
+     * @param stale 용량 확보 시 먼저 제거할 항목
+     * @param description 지표 설명의 대상 이름 (예: "사용자" -> "사용자 캐시 적중")
+     */
+    public BoundedCache(int maxSize, Predicate<? super V> stale,
+                        MeterRegistry meterRegistry, String metricPrefix, String description) {
+        this.maxSize = maxSize;
+        this.stale = stale;
+        this.hits = Counter.builder(metricPrefix + ".gets").tag("result", "hit")
+                .description(description + " 캐시 적중").register(meterRegistry);
+        this.misses = Counter.builder(metricPrefix + ".gets").tag("result", "miss")
+                .description(description + " 캐시 미적중").register(meterRegistry);
+        Gauge.builder(metricPrefix + ".size", entries, Map::size)
+                .description(description + " 캐시 항목 수").register(meterRegistry);
+    }
+
+    public V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 저장 - 가득 차 있으면 먼저 용량을 확보한다
+     *
+     * @return 용량 확보로 제거한 항목 수
+     */
+    public Eviction put(K key, V value) {
+        Eviction eviction = entries.size() >= maxSize ? makeRoom() : Eviction.NONE;
+        entries.put(key, value);
+        return eviction;
+    }
+
+    public V remove(K key) {
+        return entries.remove(key);
+    }
+
+    public boolean remove(K key, V value) {
+        return entries.remove(key, value);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 현재 키 (읽기 전용 - 다른 구조를 캐시 항목에 맞춰 정리할 때)
+     */
+    public Set<K> keys() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    public void recordHit() {
+        if (hits != null) {
+            hits.increment();
+        }
+    }
+
+    public void recordMiss() {
+        if (misses != null) {
+            misses.increment();
+        }
+    }
+
+    private Eviction makeRoom() {
+        int before = entries.size();
+        entries.values().removeIf(stale);
+        int expired = Math.max(0, before - entries.size());
+
+        int evicted = 0;
+        if (entries.size() >= maxSize) {
+            for (K victim : sample(Math.max(1, maxSize / 10))) {
+                if (entries.remove(victim) != null) {
+                    evicted++;
+                }
+            }
+        }
+        return new Eviction(expired, evicted);
+    }
+
+    /**
+     * 키 count개를 균등한 확률로 고른다 (Algorithm R - 한 번 훑으며 count개만 보관)
+     */
+    private List<K> sample(int count) {
+        List<K> victims = new ArrayList<>(count);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int seen = 0;
+        for (K key : entries.keySet()) {
+            seen++;
+            if (victims.size() < count) {
+                victims.add(key);
+            } else {
+                int slot = random.nextInt(seen);
+                if (slot < count) {
+                    victims.set(slot, key);
+                }
+            }
+        }
+        return victims;
+    }
+}
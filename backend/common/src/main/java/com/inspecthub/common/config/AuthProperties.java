@@ -4,6 +4,9 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 인증 설정 Properties
  *
@@ -15,16 +18,320 @@ import org.springframework.stereotype.Component;
 public class AuthProperties {
 
     private JwtConfig jwt = new JwtConfig();
+    private PermissionCacheConfig permissionCache = new PermissionCacheConfig();
+    private UserCacheConfig userCache = new UserCacheConfig();
+    private PasswordVerificationConfig passwordVerification = new PasswordVerificationConfig();
+    private LoginRateLimitConfig loginRateLimit = new LoginRateLimitConfig();
+    private AdConfig ad = new AdConfig();
+    private AuditWriterConfig auditWriter = new AuditWriterConfig();
+    private AuditPartitionConfig auditPartition = new AuditPartitionConfig();
+    private LoginStatsConfig loginStats = new LoginStatsConfig();
+    private AuditChainConfig auditChain = new AuditChainConfig();
+    private AuditPolicyRevisionConfig auditPolicyRevision = new AuditPolicyRevisionConfig();
+    private OutboxConfig outbox = new OutboxConfig();
 
     @Data
     public static class JwtConfig {
+        /**
+         * 단일 HMAC secret (kid 없는 기존 토큰 검증용, keys 미설정 시 서명 키)
+         */
         private String secret;
+        /**
+         * 서명에 사용할 키 ID (미설정 시 keys의 첫 번째 서명 가능 키)
+         */
+        private String activeKeyId;
+        /**
+         * 서명/검증 키 목록 (kid 기반 Key Ring)
+         */
+        private List<SigningKeyConfig> keys = new ArrayList<>();
         private TokenConfig accessToken = new TokenConfig();
         private TokenConfig refreshToken = new TokenConfig();
+        private TokenCacheConfig tokenCache = new TokenCacheConfig();
 
         @Data
         public static class TokenConfig {
             private long expirationSeconds;
         }
+
+        /**
+         * 서명 키 설정
+         *
+         * - HMAC: secret 필수
+         * - ES256: publicKey 필수, privateKey 없으면 검증 전용 (Base64 DER 또는 PEM)
+         */
+        @Data
+        public static class SigningKeyConfig {
+            private String kid;
+            private String algorithm = "HMAC";
+            private String secret;
+            private String privateKey;
+            private String publicKey;
+        }
+
+        /**
+         * 검증된 Access Token 캐시 설정
+         */
+        @Data
+        public static class TokenCacheConfig {
+            private boolean enabled = true;
+            private int maxSize = 10_000;
+        }
+    }
+
+    /**
+     * 사용자별 권한 스냅샷 캐시 설정
+     *
+     * versionCheckMillis: DB 권한 버전(permission_version) 확인 주기 - 어느 노드/경로의 권한 변경이든 반영되기까지의 최대 지연
+     * ttlSeconds: 버전 조회가 실패하는 동안의 반영 지연 상한
+     */
+    @Data
+    public static class PermissionCacheConfig {
+        private boolean enabled = true;
+        private int maxSize = 10_000;
+        private long ttlSeconds = 300;
+        private long versionCheckMillis = 1_000;
+    }
+
+    /**
+     * 사원ID별 사용자 조회 near-cache 설정
+     *
+     * 저장/잠금/실패 횟수 변경 시 즉시 무효화되며, ttlSeconds는 무효화 메시지를 놓친 경우의 지연 상한
+     * invalidation: redis(기본, pub/sub으로 다른 노드에 전파) | local(노드 내 무효화만 - 단일 노드 전용)
+     */
+    @Data
+    public static class UserCacheConfig {
+        private boolean enabled = true;
+        private int maxSize = 10_000;
+        private long ttlSeconds = 60;
+        private String invalidation = "redis";
+    }
+
+    /**
+     * 비밀번호(BCrypt) 검증 전용 실행기 설정
+     *
+     * threads: 0이면 CPU 코어 수
+     * queueCapacity: 대기열이 가득 차면 즉시 429 응답
+     */
+    @Data
+    public static class PasswordVerificationConfig {
+        private int threads = 0;
+        private int queueCapacity = 64;
+        private long timeoutMillis = 3_000;
+    }
+
+    /**
+     * 로그인 시도 제한 설정 (슬라이딩 윈도우)
+     *
+     * store: local(노드별 메모리) | redis(노드 간 공유, 장애 시 local로 대체)
+     * ip/employee: 클라이언트 IP별, 사원ID별 윈도우당 허용 횟수
+     * maxKeys: local 저장소가 추적하는 키 수 상한
+     */
+    @Data
+    public static class LoginRateLimitConfig {
+        private boolean enabled = true;
+        private String store = "local";
+        private WindowConfig ip = new WindowConfig(60, 60);
+        private WindowConfig employee = new WindowConfig(10, 60);
+        private int maxKeys = 100_000;
+
+        @Data
+        public static class WindowConfig {
+            private int limit;
+            private long windowSeconds;
+
+            public WindowConfig() {
+            }
+
+            public WindowConfig(int limit, long windowSeconds) {
+                this.limit = limit;
+                this.windowSeconds = windowSeconds;
+            }
+        }
+    }
+
+    /**
+     * AD(LDAP) 연결 설정
+     *
+     * searchPool: 서비스 계정으로 바인드된 사용자 DN 검색용 연결
+     * bindPool: 사용자 비밀번호 검증(bind 후 원복)용 연결
+     * circuitBreaker: 연속 연결 실패 시 일정 시간 AD 로그인을 즉시 실패 처리
+     */
+    @Data
+    public static class AdConfig {
+        /**
+         * ldap://host:389 또는 ldaps://host:636 (여러 개면 순서대로 장애 조치)
+         */
+        private List<String> urls = new ArrayList<>();
+        private String base;
+        private String userSearchFilter = "(sAMAccountName={0})";
+        private String serviceDn;
+        private String servicePassword;
+        private long connectTimeoutMillis = 3_000;
+        private long responseTimeoutMillis = 5_000;
+        private LdapPoolConfig searchPool = new LdapPoolConfig();
+        private LdapPoolConfig bindPool = new LdapPoolConfig();
+        private CircuitBreakerConfig circuitBreaker = new CircuitBreakerConfig();
+        private SyncConfig sync = new SyncConfig();
+
+        /**
+         * LDAP 연결 풀 설정 - maxSize를 넘는 요청은 maxWaitMillis 대기 후 실패
+         */
+        @Data
+        public static class LdapPoolConfig {
+            private int initialSize = 1;
+            private int maxSize = 8;
+            private long maxWaitMillis = 1_000;
+            private long maxConnectionAgeSeconds = 1_800;
+        }
+
+        @Data
+        public static class CircuitBreakerConfig {
+            private boolean enabled = true;
+            private int failureThreshold = 5;
+            private long openSeconds = 30;
+        }
+
+        /**
+         * AD 사용자 일괄 동기화 (displayName, mail, department → users)
+         *
+         * pageSize: LDAP 페이지 크기, batchSize: 한 번에 upsert할 변경 건수
+         */
+        @Data
+        public static class SyncConfig {
+            private boolean enabled = false;
+            private String cron = "0 0 3 * * *";
+            private String userFilter = "(&(objectClass=user)(sAMAccountName=*))";
+            private int pageSize = 500;
+            private int batchSize = 500;
+        }
+    }
+
+    /**
+     * 감사 로그 일괄 기록 설정 (bounded queue + 단일 writer + JDBC batch)
+     *
+     * batchSize개가 모이거나 첫 이벤트 후 lingerMillis가 지나면 한 트랜잭션으로 기록
+     * overflow: 대기열이 가득 찼을 때
+     * - block: blockTimeoutMillis까지 대기 후에도 가득 차 있으면 버림
+     * - spill: 로컬 spool에 기록
+     * - drop: 즉시 버림
+     * DB 기록에 실패한 배치는 정책과 관계없이 spool에 기록되어 replayer가 다시 넣는다.
+     * dbRetryIntervalMillis: DB 기록 실패 후 이 시간 동안은 DB를 시도하지 않고 spool에 이어 붙인다
+     */
+    @Data
+    public static class AuditWriterConfig {
+        private int queueCapacity = 8_192;
+        private int batchSize = 200;
+        private long lingerMillis = 50;
+        private String overflow = "block";
+        private long blockTimeoutMillis = 50;
+        private long dbRetryIntervalMillis = 5_000;
+        private SpoolConfig spool = new SpoolConfig();
+
+        /**
+         * 감사 로그 로컬 spool (memory-mapped, append-only 세그먼트)
+         *
+         * segmentBytes 단위로 파일을 회전하며, maxSegments를 넘으면 더 기록하지 않는다 (디스크 상한).
+         * forceOnAppend: 기록마다 디스크 동기화 - 꺼져 있어도 JVM 종료에는 안전, OS 장애 대비 시 사용
+         */
+        @Data
+        public static class SpoolConfig {
+            private String dir = "./data/audit-spool";
+            private int segmentBytes = 16 * 1024 * 1024;
+            private int maxSegments = 64;
+            private boolean forceOnAppend = false;
+            private long replayIntervalMillis = 1_000;
+            private int replayBatchSize = 500;
+        }
+    }
+
+    /**
+     * audit_log 월별 파티션 관리 (PostgreSQL, V009)
+     *
+     * premakeMonths: 이번 달 이후 미리 만들어 둘 파티션 수
+     * retentionMonths: 보존 기간 - 이보다 오래된 월 파티션을 retentionAction으로 정리
+     * - detach: 파티션을 분리하여 독립 테이블로 남김 (보관/반출 후 별도 삭제)
+     * - drop: 파티션 테이블 삭제
+     * lockTimeoutMillis: detach/drop이 audit_log 잠금(ACCESS EXCLUSIVE)을 기다리는 한도 - 초과 시 다음 실행에 재시도
+     *   (잠금 대기 중에는 뒤따르는 감사 로그 INSERT도 모두 막히므로 짧게 둔다, 0이면 제한 없음)
+     */
+    @Data
+    public static class AuditPartitionConfig {
+        private boolean enabled = false;
+        private String cron = "0 10 0 * * *";
+        private int premakeMonths = 3;
+        private int retentionMonths = 60;
+        private String retentionAction = "detach";
+        private long lockTimeoutMillis = 2_000;
+    }
+
+    /**
+     * 로그인 통계 시간별 집계 (audit_log_login_stats_hourly, V010)
+     *
+     * cron마다 끝난 시간 구간을 원본 audit_log에서 다시 집계한다.
+     * lookbackHours: 이미 집계한 구간 중 다시 집계할 범위 - spool 재기록 등으로 늦게 들어온 행 반영
+     * maxHoursPerRun: 한 번에 집계할 최대 시간 수 (최초 실행 시 전체 이력을 나눠 처리)
+     */
+    @Data
+    public static class LoginStatsConfig {
+        private boolean enabled = false;
+        private String cron = "0 2 * * * *";
+        private int lookbackHours = 24;
+        private int maxHoursPerRun = 24 * 31;
+    }
+
+    /**
+     * 감사 로그 해시 체인 검증 (AuditChainVerifier)
+     *
+     * 체인마다 순번 구간을 segmentSize 단위로 나눠 parallelism개 스레드에서 동시에 검증한다.
+     * parallelism: 0이면 CPU 코어 수
+     * segmentSize: 한 구간의 레코드 수 (구간 경계는 앞 구간 마지막 해시 = 다음 구간 첫 prevHash로 이어 확인)
+     * pageSize: 구간을 읽을 때 한 번에 가져오는 행 수
+     * timestampSlackMinutes: 순번 순서와 timestamp 순서가 어긋날 수 있는 최대 시간 (큐 대기 등)
+     * - 구간 조회를 기간 안 행들의 timestamp 범위 ± 이 값으로 제한해 해당 월 파티션만 읽는다
+     */
+    @Data
+    public static class AuditChainConfig {
+        private int parallelism = 0;
+        private int segmentSize = 100_000;
+        private int pageSize = 5_000;
+        private int timestampSlackMinutes = 60;
+    }
+
+    /**
+     * 정책 변경 감사 로그 저장 형식 (PolicyRevisionCodec)
+     *
+     * 같은 정책의 변경은 직전 버전 대비 JSON Patch로 저장하고 checkpointInterval번째마다 전체 상태를 저장한다.
+     * 복원 시 최대 checkpointInterval - 1개의 patch만 적용하면 된다.
+     * maxCachedSubjects: patch 기준이 되는 정책별 마지막 상태를 메모리에 유지하는 최대 정책 수
+     * pageSize: 복원 시 checkpoint를 찾으며 한 번에 읽는 이력 수
+     */
+    @Data
+    public static class AuditPolicyRevisionConfig {
+        private int checkpointInterval = 20;
+        private int maxCachedSubjects = 1_000;
+        private int pageSize = 50;
+    }
+
+    /**
+     * 트랜잭셔널 outbox - 도메인/감사 이벤트를 같은 트랜잭션으로 outbox_message에 쓰고 relay가 broker로 전달
+     *
+     * enabled=false면 outbox에 쓰지도, relay하지도 않는다.
+     * broker
+     * - memory (기본): 프로세스 내 보관 - enabled=true로는 test 프로파일에서만 기동 (메시지 유실 방지)
+     * - kafka: spring-kafka KafkaTemplate (topic = topicPrefix + "." + 집계 유형, key = 집계 ID)
+     * relay는 pollIntervalMillis마다 오래된 순으로 batchSize건을 보내고, 모두 ack된 뒤에만 삭제한다 (at-least-once).
+     * maxAttempts: 배치가 이만큼 실패하면 한 건씩 보내 계속 실패하는 메시지만 outbox_dead_letter로 격리 (0이면 격리 안 함)
+     * auditEvents: 감사 로그 배치 INSERT와 같은 트랜잭션으로 audit-log 이벤트도 outbox에 쓴다.
+     */
+    @Data
+    public static class OutboxConfig {
+        private boolean enabled = false;
+        private String broker = "memory";
+        private String topicPrefix = "inspecthub";
+        private boolean auditEvents = true;
+        private int batchSize = 500;
+        private long pollIntervalMillis = 500;
+        private long sendTimeoutMillis = 10_000;
+        private int maxAttempts = 10;
     }
 }
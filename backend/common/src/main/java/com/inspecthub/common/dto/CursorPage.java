@@ -0,0 +1,36 @@
+package com.inspecthub.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ *
+ * nextCursor는 클라이언트가 해석하지 않고 다음 요청의 cursor 파라미터로 그대로 넘기는 토큰이며,
+ * 마지막 페이지면 null이다.
+ *
+ * @param <T> 항목 타입
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * 페이지 생성
+     *
+     * @param nextCursor 다음 페이지 토큰 (마지막 페이지면 null)
+     */
+    public static <T> CursorPage<T> of(List<T> items, String nextCursor) {
+        return new CursorPage<>(items, nextCursor, nextCursor != null);
+    }
+}
@@ -25,6 +25,9 @@ public enum ErrorCode {
     AUTH_006(HttpStatus.UNAUTHORIZED, "AUTH_006", "토큰이 만료되었습니다"),
     AUTH_007(HttpStatus.FORBIDDEN, "AUTH_007", "계정이 만료되었습니다"),
     AUTH_008(HttpStatus.UNAUTHORIZED, "AUTH_008", "비밀번호가 만료되었습니다"),
+    AUTH_009(HttpStatus.TOO_MANY_REQUESTS, "AUTH_009", "로그인 요청이 많습니다. 잠시 후 다시 시도하세요"),
+    AUTH_010(HttpStatus.TOO_MANY_REQUESTS, "AUTH_010", "로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도하세요"),
+    AD_CONNECTION_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "AD_CONNECTION_ERROR", "AD 서버 연결 실패"),
 
     // ========== Policy Errors (POLICY_xxx) ==========
     POLICY_NOT_FOUND(HttpStatus.NOT_FOUND, "POLICY_NOT_FOUND", "정책을 찾을 수 없습니다"),
@@ -33,10 +36,15 @@ public enum ErrorCode {
     EMPTY_METHODS(HttpStatus.BAD_REQUEST, "EMPTY_METHODS", "최소 하나의 로그인 방식이 활성화되어야 합니다"),
     LAST_METHOD_DISABLE(HttpStatus.BAD_REQUEST, "LAST_METHOD_DISABLE", "마지막 로그인 방식은 비활성화할 수 없습니다"),
 
+    // ========== Audit Errors ==========
+    AUDIT_LOG_NOT_FOUND(HttpStatus.NOT_FOUND, "AUDIT_LOG_NOT_FOUND", "감사 로그를 찾을 수 없습니다"),
+    AUDIT_REVISION_BROKEN(HttpStatus.CONFLICT, "AUDIT_REVISION_BROKEN", "정책 변경 이력이 끊겨 버전을 복원할 수 없습니다"),
+
     // ========== Validation Errors ==========
     VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", "입력값 검증 실패"),
     INVALID_JSON(HttpStatus.BAD_REQUEST, "INVALID_JSON", "요청 본문을 읽을 수 없습니다"),
     UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "UNSUPPORTED_MEDIA_TYPE", "Content-Type이 지원되지 않습니다"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "유효하지 않은 페이지 커서입니다"),
 
     // ========== Domain Errors ==========
     INVALID_DOMAIN_STATE(HttpStatus.BAD_REQUEST, "INVALID_DOMAIN_STATE", "도메인 상태가 유효하지 않습니다"),
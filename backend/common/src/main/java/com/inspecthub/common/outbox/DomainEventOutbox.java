@@ -0,0 +1,20 @@
+package com.inspecthub.common.outbox;
+
+/**
+ * 트랜잭셔널 outbox
+ *
+ * 도메인 변경과 같은 트랜잭션 안에서 호출한다. 트랜잭션이 커밋되어야 이벤트가 남고 롤백되면 함께 사라진다.
+ * 커밋된 이벤트는 relay가 broker(Kafka)로 전달한다 (at-least-once, 같은 집계 ID 안에서 기록 순서 유지).
+ *
+ * 같은 집계의 이벤트 순서를 지키려면 도메인 변경(행 잠금) 뒤에 호출한다.
+ */
+public interface DomainEventOutbox {
+
+    /**
+     * @param aggregateType 집계 유형 (topic 결정, 예: LOGIN_POLICY)
+     * @param aggregateId   집계 ID (partition key - 같은 ID의 이벤트는 순서대로 전달)
+     * @param eventType     이벤트 유형 (예: LOGIN_METHOD_ENABLED)
+     * @param payload       이벤트 본문 (JSON)
+     */
+    void append(String aggregateType, String aggregateId, String eventType, String payload);
+}
@@ -18,10 +18,15 @@ public interface AuditLogService {
     /**
      * 정책 변경 기록
      *
+     * 같은 (subjectType, subjectId)의 변경은 직전 버전 대비 JSON Patch로 저장되어 정책이 커도 변경분만 쌓인다.
+     *
      * @param action 액션 타입 (SYSTEM_LOGIN_POLICY_UPDATED, LOGIN_METHOD_ENABLED, etc.)
      * @param userId 관리자 사용자 ID
+     * @param subjectType 정책 종류 (LOGIN_POLICY 등)
+     * @param subjectId 정책 ID
      * @param beforeJson 변경 전 정책 JSON
      * @param afterJson 변경 후 정책 JSON
      */
-    void logPolicyChange(String action, String userId, String beforeJson, String afterJson);
+    void logPolicyChange(String action, String userId, String subjectType, String subjectId,
+                         String beforeJson, String afterJson);
 }
@@ -1,41 +1,46 @@
 package com.inspecthub.common.service;
 
+import com.inspecthub.common.audit.AuditEvent;
+import com.inspecthub.common.audit.AuditEventPublisher;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 /**
  * 감사 로그 서비스 구현
  *
- * @Async 비동기 실행
- * 실패 시에도 main flow 방해하지 않음
+ * 타입 있는 AuditEvent로 만들어 AuditEventPublisher에 넘긴다.
+ * 발행은 대기열 접수만 하므로 호출 스레드를 막지 않고, 실패해도 main flow를 방해하지 않는다.
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AuditLogServiceImpl implements AuditLogService {
 
+    private final AuditEventPublisher auditEventPublisher;
+
     @Override
     public void logLoginSuccess(String employeeId, String loginMethod) {
-        log.info("로그인 성공: employeeId={}, method={}", employeeId, loginMethod);
-        // TODO: 실제 감사 로그 저장 로직 구현
+        publish(AuditEvent.loginSucceeded(employeeId, loginMethod));
     }
 
     @Override
     public void logLoginFailure(String employeeId, String reason, String loginMethod) {
-        log.warn("로그인 실패: employeeId={}, reason={}, method={}", employeeId, reason, loginMethod);
-        // TODO: 실제 감사 로그 저장 로직 구현
+        publish(AuditEvent.loginFailed(employeeId, loginMethod, reason));
     }
 
     @Override
-    @Async
-    public void logPolicyChange(String action, String userId, String beforeJson, String afterJson) {
+    public void logPolicyChange(String action, String userId, String subjectType, String subjectId,
+                                String beforeJson, String afterJson) {
+        log.info("정책 변경: action={}, userId={}, subject={}/{}", action, userId, subjectType, subjectId);
+        publish(AuditEvent.policyChanged(action, userId, subjectType, subjectId, beforeJson, afterJson));
+    }
+
+    private void publish(AuditEvent event) {
         try {
-            log.info("정책 변경: action={}, userId={}", action, userId);
-            log.debug("Before: {}", beforeJson);
-            log.debug("After: {}", afterJson);
-            // TODO: 실제 감사 로그 저장 로직 구현
+            auditEventPublisher.publish(event);
         } catch (Exception e) {
-            log.error("감사 로그 저장 실패 - action: {}, userId: {}", action, userId, e);
+            log.error("감사 이벤트 발행 실패 - type: {}, id: {}", event.type(), event.id(), e);
             // DO NOT rethrow - main flow must continue
         }
     }
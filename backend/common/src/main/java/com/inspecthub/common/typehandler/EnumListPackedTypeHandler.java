@@ -0,0 +1,98 @@
+package com.inspecthub.common.typehandler;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MyBatis TypeHandler - List<Enum> <-> BYTEA (원소마다 ordinal 1바이트)
+ *
+ * 순서가 의미 있는 목록(우선순위 등)을 [SSO, AD, LOCAL] -> 0x000102로 저장한다.
+ * JSON 문자열 대비 행마다 파싱/직렬화가 없고 원소당 1바이트다.
+ * - ordinal이 저장 형식이므로 enum 상수는 끝에만 추가하고 순서를 바꾸거나 삭제하지 않는다
+ * - 상수 256개까지, 중복 원소 허용
+ * - NULL 컬럼은 빈 List, enum에 없는 ordinal이 있으면 SQLException
+ *
+ * enum마다 기본 생성자를 가진 하위 클래스를 만들어 매퍼에 지정한다 (MyBatis가 typeHandler 클래스로 생성).
+ *
+ * @param <E> enum 타입
+ */
+public abstract class EnumListPackedTypeHandler<E extends Enum<E>> extends BaseTypeHandler<List<E>> {
+
+    private static final int MAX_CONSTANTS = 256;
+
+    private final Class<E> type;
+
+    protected EnumListPackedTypeHandler(Class<E> type) {
+        this.type = type;
+        int size = type.getEnumConstants().length;
+        if (size > MAX_CONSTANTS) {
+            throw new IllegalArgumentException(
+                    "1바이트 ordinal은 상수 " + MAX_CONSTANTS + "개까지 지원합니다: " + type.getName() + " (" + size + ")");
+        }
+    }
+
+    /**
+     * List -> ordinal 바이트 배열
+     */
+    public static <E extends Enum<E>> byte[] pack(List<E> values) {
+        byte[] packed = new byte[values.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = (byte) values.get(i).ordinal();
+        }
+        return packed;
+    }
+
+    /**
+     * ordinal 바이트 배열 -> List (enum에 없는 ordinal이 있으면 IllegalArgumentException)
+     */
+    public static <E extends Enum<E>> List<E> unpack(byte[] packed, Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        List<E> values = new ArrayList<>(packed.length);
+        for (byte value : packed) {
+            int ordinal = Byte.toUnsignedInt(value);
+            if (ordinal >= constants.length) {
+                throw new IllegalArgumentException("알 수 없는 " + type.getSimpleName() + " ordinal: " + ordinal);
+            }
+            values.add(constants[ordinal]);
+        }
+        return values;
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, List<E> parameter, JdbcType jdbcType) throws SQLException {
+        ps.setBytes(i, pack(parameter));
+    }
+
+    @Override
+    public List<E> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toList(rs.getBytes(columnName));
+    }
+
+    @Override
+    public List<E> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toList(rs.getBytes(columnIndex));
+    }
+
+    @Override
+    public List<E> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toList(cs.getBytes(columnIndex));
+    }
+
+    private List<E> toList(byte[] packed) throws SQLException {
+        if (packed == null) {
+            return new ArrayList<>();
+        }
+        try {
+            return unpack(packed, type);
+        } catch (IllegalArgumentException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.inspecthub.common.typehandler;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * MyBatis TypeHandler - Set<Enum> <-> BIGINT 비트마스크
+ *
+ * 상수의 ordinal 번째 비트로 저장한다 (SSO, AD, LOCAL -> SSO+LOCAL = 0b101 = 5).
+ * JSON 문자열 대비 행마다 파싱/직렬화가 없고, SQL에서 (mask & 비트) 조건으로 바로 조회할 수 있다.
+ * - ordinal이 저장 형식이므로 enum 상수는 끝에만 추가하고 순서를 바꾸거나 삭제하지 않는다
+ * - 상수 64개까지
+ * - NULL 컬럼은 빈 Set, enum에 없는 비트가 있으면 SQLException
+ * - 읽은 Set은 ordinal 순서 (EnumSet)
+ *
+ * enum마다 기본 생성자를 가진 하위 클래스를 만들어 매퍼에 지정한다 (MyBatis가 typeHandler 클래스로 생성).
+ *
+ * @param <E> enum 타입
+ */
+public abstract class EnumSetBitmaskTypeHandler<E extends Enum<E>> extends BaseTypeHandler<Set<E>> {
+
+    private final Class<E> type;
+
+    protected EnumSetBitmaskTypeHandler(Class<E> type) {
+        this.type = type;
+        int size = type.getEnumConstants().length;
+        if (size > Long.SIZE) {
+            throw new IllegalArgumentException(
+                    "비트마스크는 상수 " + Long.SIZE + "개까지 지원합니다: " + type.getName() + " (" + size + ")");
+        }
+    }
+
+    /**
+     * Set -> 비트마스크
+     */
+    public static <E extends Enum<E>> long toMask(Set<E> values) {
+        long mask = 0L;
+        for (E value : values) {
+            mask |= 1L << value.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크 -> Set (enum에 없는 비트가 있으면 IllegalArgumentException)
+     */
+    public static <E extends Enum<E>> EnumSet<E> fromMask(long mask, Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        long known = constants.length == Long.SIZE ? -1L : (1L << constants.length) - 1;
+        if ((mask & ~known) != 0) {
+            throw new IllegalArgumentException(
+                    "알 수 없는 " + type.getSimpleName() + " 비트: 0x" + Long.toHexString(mask & ~known));
+        }
+        EnumSet<E> values = EnumSet.noneOf(type);
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            values.add(constants[Long.numberOfTrailingZeros(remaining)]);
+        }
+        return values;
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, Set<E> parameter, JdbcType jdbcType) throws SQLException {
+        ps.setLong(i, toMask(parameter));
+    }
+
+    @Override
+    public Set<E> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        long mask = rs.getLong(columnName);
+        return rs.wasNull() ? EnumSet.noneOf(type) : toSet(mask);
+    }
+
+    @Override
+    public Set<E> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        long mask = rs.getLong(columnIndex);
+        return rs.wasNull() ? EnumSet.noneOf(type) : toSet(mask);
+    }
+
+    @Override
+    public Set<E> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        long mask = cs.getLong(columnIndex);
+        return cs.wasNull() ? EnumSet.noneOf(type) : toSet(mask);
+    }
+
+    private Set<E> toSet(long mask) throws SQLException {
+        try {
+            return fromMask(mask, type);
+        } catch (IllegalArgumentException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+}
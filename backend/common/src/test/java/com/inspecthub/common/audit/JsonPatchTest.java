@@ -0,0 +1,101 @@
+package com.inspecthub.common.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JsonPatch Tests
+ *
+ * RFC 6902 - diff 결과를 적용하면 target이 되는지, 표준 연산 적용, 잘못된 patch 거부
+ */
+@DisplayName("JsonPatch - RFC 6902 JSON Patch")
+class JsonPatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonNode json(String text) throws Exception {
+        return objectMapper.readTree(text);
+    }
+
+    @Nested
+    @DisplayName("diff")
+    class Diff {
+
+        @Test
+        @DisplayName("바뀐 필드만 연산으로 만들고, 적용하면 target과 같다")
+        void shouldProduceMinimalPatch() throws Exception {
+            // Given
+            JsonNode source = json("{\"enabledMethods\":[\"AD\",\"SSO\"],\"priority\":[\"AD\",\"SSO\",\"LOCAL\"],\"version\":3,\"name\":\"login\"}");
+            JsonNode target = json("{\"enabledMethods\":[\"AD\"],\"priority\":[\"SSO\",\"AD\",\"LOCAL\"],\"version\":4,\"name\":\"login\"}");
+
+            // When
+            JsonNode patch = JsonPatch.diff(source, target);
+
+            // Then
+            assertThat(patch.toString()).doesNotContain("/name");
+            assertThat(patch).hasSize(4);
+            assertThat(JsonPatch.apply(source, patch)).isEqualTo(target);
+        }
+
+        @Test
+        @DisplayName("필드 추가/삭제와 키의 ~, / 문자를 이스케이프한다")
+        void shouldEscapePointerTokens() throws Exception {
+            JsonNode source = json("{\"a/b\":1,\"keep\":{\"x\":1}}");
+            JsonNode target = json("{\"c~d\":2,\"keep\":{\"x\":1,\"y\":[1,2]}}");
+
+            JsonNode patch = JsonPatch.diff(source, target);
+
+            assertThat(patch.toString()).contains("/a~1b").contains("/c~0d");
+            assertThat(JsonPatch.apply(source, patch)).isEqualTo(target);
+        }
+
+        @Test
+        @DisplayName("같은 문서의 diff는 빈 patch다")
+        void shouldBeEmpty_WhenEqual() throws Exception {
+            JsonNode document = json("{\"a\":[1,{\"b\":null}]}");
+
+            assertThat(JsonPatch.diff(document, document.deepCopy())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("apply")
+    class Apply {
+
+        @Test
+        @DisplayName("move/copy/test/배열 끝 추가를 지원하고 원본은 바꾸지 않는다")
+        void shouldApplyAllOperations() throws Exception {
+            JsonNode document = json("{\"a\":{\"b\":1},\"list\":[1,2]}");
+            JsonNode patch = json("[" +
+                    "{\"op\":\"test\",\"path\":\"/a/b\",\"value\":1}," +
+                    "{\"op\":\"copy\",\"from\":\"/a/b\",\"path\":\"/c\"}," +
+                    "{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/moved\"}," +
+                    "{\"op\":\"add\",\"path\":\"/list/-\",\"value\":3}," +
+                    "{\"op\":\"add\",\"path\":\"/list/0\",\"value\":0}]");
+
+            JsonNode result = JsonPatch.apply(document, patch);
+
+            assertThat(result).isEqualTo(json("{\"c\":1,\"moved\":{\"b\":1},\"list\":[0,1,2,3]}"));
+            assertThat(document).isEqualTo(json("{\"a\":{\"b\":1},\"list\":[1,2]}"));
+        }
+
+        @Test
+        @DisplayName("없는 경로 제거, test 불일치, 잘못된 인덱스는 IllegalArgumentException")
+        void shouldRejectInvalidPatch() throws Exception {
+            JsonNode document = json("{\"list\":[1]}");
+
+            assertThatThrownBy(() -> JsonPatch.apply(document, json("[{\"op\":\"remove\",\"path\":\"/missing\"}]")))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> JsonPatch.apply(document, json("[{\"op\":\"test\",\"path\":\"/list/0\",\"value\":2}]")))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> JsonPatch.apply(document, json("[{\"op\":\"replace\",\"path\":\"/list/01\",\"value\":2}]")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
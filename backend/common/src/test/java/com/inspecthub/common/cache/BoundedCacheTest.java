@@ -0,0 +1,107 @@
+package com.inspecthub.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoundedCache Tests
+ *
+ * 최대 항목 수, stale 우선 제거, 용량 초과 시 임의 제거, 적중/미적중/크기 지표
+ */
+@DisplayName("BoundedCache - 크기 제한 로컬 캐시")
+class BoundedCacheTest {
+
+    /**
+     * 키 0 ~ maxSize-1로 가득 채운 캐시 - staleKeys의 값은 stale
+     */
+    private static BoundedCache<Integer, String> filled(int maxSize, Integer... staleKeys) {
+        Set<Integer> stale = Set.of(staleKeys);
+        BoundedCache<Integer, String> cache = new BoundedCache<>(maxSize, value -> value.startsWith("stale"));
+        IntStream.range(0, maxSize).forEach(i -> cache.put(i, (stale.contains(i) ? "stale" : "value") + i));
+        return cache;
+    }
+
+    @Nested
+    @DisplayName("용량 확보")
+    class MakeRoom {
+
+        @Test
+        @DisplayName("가득 차기 전에는 아무것도 제거하지 않는다")
+        void shouldKeepEntries_UntilFull() {
+            BoundedCache<Integer, String> cache = new BoundedCache<>(10, value -> true);
+
+            IntStream.range(0, 10).forEach(i -> assertThat(cache.put(i, "stale" + i).total()).isZero());
+
+            assertThat(cache.size()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("stale 항목이 있으면 그것만 제거하고 나머지는 남긴다")
+        void shouldRemoveStaleFirst() {
+            // Given
+            BoundedCache<Integer, String> cache = filled(100, 7, 42);
+
+            // When
+            BoundedCache.Eviction eviction = cache.put(100, "value100");
+
+            // Then
+            assertThat(eviction).isEqualTo(new BoundedCache.Eviction(2, 0));
+            assertThat(cache.size()).isEqualTo(99);
+            assertThat(cache.get(7)).isNull();
+            assertThat(cache.get(42)).isNull();
+        }
+
+        @Test
+        @DisplayName("stale 항목이 없으면 maxSize의 10%를 제거한 뒤 저장한다")
+        void shouldEvictTenPercent_WhenStillFull() {
+            BoundedCache<Integer, String> cache = filled(100);
+
+            BoundedCache.Eviction eviction = cache.put(100, "value100");
+
+            assertThat(eviction).isEqualTo(new BoundedCache.Eviction(0, 10));
+            assertThat(cache.size()).isEqualTo(91);
+            assertThat(cache.get(100)).isEqualTo("value100");
+        }
+
+        @Test
+        @DisplayName("제거 대상은 해시 순서 앞쪽이 아니라 전체에서 고르게 뽑는다")
+        void shouldEvictUniformly() {
+            // Given: Integer 키의 ConcurrentHashMap 반복 순서는 0, 1, 2, ... - 순서대로 지우면 항상 0~9만 제거된다
+            Set<Integer> evicted = new HashSet<>();
+
+            // When
+            for (int round = 0; round < 50; round++) {
+                BoundedCache<Integer, String> cache = filled(100);
+                cache.put(100, "value100");
+                IntStream.range(0, 100).filter(i -> cache.get(i) == null).forEach(evicted::add);
+            }
+
+            // Then: 50회 x 10건이면 대부분의 키가 한 번 이상 제거된다
+            assertThat(evicted).hasSizeGreaterThan(80);
+        }
+    }
+
+    @Test
+    @DisplayName("지표 - gets{result}와 size를 기록한다")
+    void shouldRecordMetrics() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedCache<String, String> cache = new BoundedCache<>(10, value -> false, meterRegistry, "test.cache", "테스트");
+
+        cache.put("a", "A");
+        cache.recordHit();
+        cache.recordHit();
+        cache.recordMiss();
+
+        assertThat(meterRegistry.get("test.cache.gets").tag("result", "hit").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("test.cache.gets").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("test.cache.size").gauge().value()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.inspecthub.common.service;
+
+import com.inspecthub.common.audit.AuditEvent;
+import com.inspecthub.common.audit.AuditEventPublisher;
+import com.inspecthub.common.audit.AuditEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+/**
+ * AuditLogServiceImpl Tests
+ *
+ * 감사 로그 서비스 - 타입 있는 AuditEvent로 발행, 발행 실패가 호출자에게 전파되지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogServiceImpl - 감사 이벤트 발행")
+class AuditLogServiceImplTest {
+
+    @Mock
+    private AuditEventPublisher auditEventPublisher;
+
+    @InjectMocks
+    private AuditLogServiceImpl auditLogService;
+
+    @Test
+    @DisplayName("정책 변경을 PolicyChanged 이벤트로 발행한다")
+    void shouldPublishPolicyChange() {
+        // When
+        auditLogService.logPolicyChange("LOGIN_METHOD_ENABLED", "ADMIN01",
+                "LOGIN_POLICY", "01JPOLICY00000000000000000", "{\"a\":1}", "{\"a\":2}");
+
+        // Then
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        then(auditEventPublisher).should().publish(captor.capture());
+        assertThat(captor.getValue()).isInstanceOfSatisfying(AuditEvent.PolicyChanged.class, event -> {
+            assertThat(event.type()).isEqualTo(AuditEventType.POLICY_CHANGE);
+            assertThat(event.action()).isEqualTo("LOGIN_METHOD_ENABLED");
+            assertThat(event.actorId()).isEqualTo("ADMIN01");
+            assertThat(event.subjectType()).isEqualTo("LOGIN_POLICY");
+            assertThat(event.subjectId()).isEqualTo("01JPOLICY00000000000000000");
+            assertThat(event.beforeJson()).isEqualTo("{\"a\":1}");
+            assertThat(event.afterJson()).isEqualTo("{\"a\":2}");
+            assertThat(event.id()).hasSize(26);
+            assertThat(event.occurredAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("로그인 실패를 LoginFailed 이벤트로 발행한다")
+    void shouldPublishLoginFailure() {
+        auditLogService.logLoginFailure("202401001", "INVALID_PASSWORD", "LOCAL");
+
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        then(auditEventPublisher).should().publish(captor.capture());
+        assertThat(captor.getValue()).isEqualTo(new AuditEvent.LoginFailed(
+                captor.getValue().id(), captor.getValue().occurredAt(), "202401001", "LOCAL", "INVALID_PASSWORD"));
+    }
+
+    @Test
+    @DisplayName("발행에 실패해도 예외를 던지지 않는다")
+    void shouldNotPropagatePublishFailure() {
+        willThrow(new IllegalStateException("queue closed")).given(auditEventPublisher).publish(any());
+
+        assertThatCode(() -> auditLogService.logPolicyChange(
+                "LOGIN_PRIORITY_UPDATED", "ADMIN01", "LOGIN_POLICY", "01JPOLICY00000000000000000", "{}", "{}"))
+                .doesNotThrowAnyException();
+    }
+}
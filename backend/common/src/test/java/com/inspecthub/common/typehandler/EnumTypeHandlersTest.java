@@ -0,0 +1,121 @@
+package com.inspecthub.common.typehandler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+/**
+ * EnumSetBitmaskTypeHandler / EnumListPackedTypeHandler Tests
+ *
+ * enum 컬렉션 저장 - 비트마스크/ordinal 바이트 변환, NULL 컬럼, enum에 없는 값 거부
+ */
+@DisplayName("Enum TypeHandler - 비트마스크 / packed ordinal")
+class EnumTypeHandlersTest {
+
+    enum Method {
+        SSO, AD, LOCAL
+    }
+
+    static class MethodSetTypeHandler extends EnumSetBitmaskTypeHandler<Method> {
+        MethodSetTypeHandler() {
+            super(Method.class);
+        }
+    }
+
+    static class MethodListTypeHandler extends EnumListPackedTypeHandler<Method> {
+        MethodListTypeHandler() {
+            super(Method.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Set -> 비트마스크")
+    class Bitmask {
+
+        private final MethodSetTypeHandler handler = new MethodSetTypeHandler();
+
+        @Test
+        @DisplayName("ordinal 번째 비트로 저장하고 같은 Set으로 읽는다")
+        void shouldRoundTrip() throws SQLException {
+            // Given
+            PreparedStatement ps = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            given(rs.getLong("enabled_methods")).willReturn(5L);
+
+            // When
+            handler.setNonNullParameter(ps, 1, Set.of(Method.LOCAL, Method.SSO), null);
+            Set<Method> read = handler.getNullableResult(rs, "enabled_methods");
+
+            // Then
+            then(ps).should().setLong(1, 5L);
+            assertThat(read).containsExactly(Method.SSO, Method.LOCAL);
+            assertThat(EnumSetBitmaskTypeHandler.fromMask(EnumSetBitmaskTypeHandler.toMask(EnumSet.allOf(Method.class)), Method.class))
+                    .containsExactly(Method.values());
+        }
+
+        @Test
+        @DisplayName("NULL 컬럼은 빈 Set, enum에 없는 비트는 SQLException")
+        void shouldHandleNullAndUnknownBits() throws SQLException {
+            ResultSet rs = mock(ResultSet.class);
+            given(rs.getLong(1)).willReturn(0L);
+            given(rs.wasNull()).willReturn(true);
+            ResultSet unknown = mock(ResultSet.class);
+            given(unknown.getLong(1)).willReturn(0b1001L);
+
+            assertThat(handler.getNullableResult(rs, 1)).isEmpty();
+            assertThatThrownBy(() -> handler.getNullableResult(unknown, 1))
+                    .isInstanceOf(SQLException.class)
+                    .hasMessageContaining("0x8");
+        }
+    }
+
+    @Nested
+    @DisplayName("List -> packed ordinal")
+    class Packed {
+
+        private final MethodListTypeHandler handler = new MethodListTypeHandler();
+
+        @Test
+        @DisplayName("순서대로 ordinal 1바이트씩 저장하고 같은 순서로 읽는다")
+        void shouldRoundTrip() throws SQLException {
+            // Given
+            PreparedStatement ps = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            given(rs.getBytes("priority")).willReturn(new byte[]{2, 0, 1});
+
+            // When
+            handler.setNonNullParameter(ps, 1, List.of(Method.AD, Method.LOCAL, Method.SSO), null);
+            List<Method> read = handler.getNullableResult(rs, "priority");
+
+            // Then
+            then(ps).should().setBytes(1, new byte[]{1, 2, 0});
+            assertThat(read).containsExactly(Method.LOCAL, Method.SSO, Method.AD);
+        }
+
+        @Test
+        @DisplayName("NULL 컬럼은 빈 List, enum에 없는 ordinal은 SQLException")
+        void shouldHandleNullAndUnknownOrdinal() throws SQLException {
+            ResultSet rs = mock(ResultSet.class);
+            ResultSet unknown = mock(ResultSet.class);
+            given(unknown.getBytes(1)).willReturn(new byte[]{0, 3});
+
+            assertThat(handler.getNullableResult(rs, 1)).isEmpty();
+            assertThatThrownBy(() -> handler.getNullableResult(unknown, 1))
+                    .isInstanceOf(SQLException.class)
+                    .hasMessageContaining("ordinal: 3");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+-- =====================================================
+-- Permission Tables Migration
+-- =====================================================
+-- Description: PermissionGroup(역할 대체) + Feature-Action 권한 + 메뉴 접근
+--              JwtAuthenticationFilter가 사용자별 권한 스냅샷을 컴파일하는 원천 데이터
+-- =====================================================
+
+-- 권한 그룹 (예: PG.ADMIN, PG.INVESTIGATOR)
+CREATE TABLE permission_group (
+    id CHAR(26) PRIMARY KEY,                              -- ULID identifier
+    code VARCHAR(100) NOT NULL UNIQUE,                    -- 그룹 코드 (PG.xxx → ROLE_xxx)
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    created_at TIMESTAMP DEFAULT NOW(),
+    updated_at TIMESTAMP
+);
+
+-- 권한 (feature:action)
+CREATE TABLE permission (
+    id CHAR(26) PRIMARY KEY,
+    feature VARCHAR(50) NOT NULL,                         -- case, policy, user, system ...
+    action VARCHAR(50) NOT NULL,                          -- read, write, approve, delete ...
+    description VARCHAR(200),
+    CONSTRAINT uk_permission_feature_action UNIQUE (feature, action)
+);
+
+-- 메뉴
+CREATE TABLE menu (
+    id CHAR(26) PRIMARY KEY,
+    code VARCHAR(100) NOT NULL UNIQUE,                    -- MENU.xxx
+    name VARCHAR(100) NOT NULL,
+    path VARCHAR(200),
+    parent_id CHAR(26),
+    sort_order INTEGER DEFAULT 0
+);
+
+-- 그룹 ↔ 권한
+CREATE TABLE permission_group_permission (
+    group_id CHAR(26) NOT NULL REFERENCES permission_group(id),
+    permission_id CHAR(26) NOT NULL REFERENCES permission(id),
+    PRIMARY KEY (group_id, permission_id)
+);
+
+-- 그룹 ↔ 메뉴
+CREATE TABLE permission_group_menu (
+    group_id CHAR(26) NOT NULL REFERENCES permission_group(id),
+    menu_id CHAR(26) NOT NULL REFERENCES menu(id),
+    PRIMARY KEY (group_id, menu_id)
+);
+
+-- 사용자 ↔ 그룹 (JWT subject인 사원번호로 연결)
+CREATE TABLE user_permission_group (
+    employee_id VARCHAR(50) NOT NULL REFERENCES users(employee_id),
+    group_id CHAR(26) NOT NULL REFERENCES permission_group(id),
+    PRIMARY KEY (employee_id, group_id)
+);
+
+-- 권한 스냅샷 조회 (사원번호 → 그룹)
+CREATE INDEX idx_user_permission_group_employee ON user_permission_group(employee_id);
+
+-- =====================================================
+-- Default data
+-- =====================================================
+INSERT INTO permission_group (id, code, name, description) VALUES
+    ('01JCXYZ1234567890PGADMIN01', 'PG.ADMIN', '관리자 권한 그룹', '시스템 관리자'),
+    ('01JCXYZ1234567890PGUSER001', 'PG.USER', '일반 사용자 권한 그룹', '기본 업무 사용자');
+
+INSERT INTO permission (id, feature, action, description) VALUES
+    ('01JCXYZ1234567890PERM00001', 'system', 'read', '시스템 설정 조회'),
+    ('01JCXYZ1234567890PERM00002', 'system', 'write', '시스템 설정 변경'),
+    ('01JCXYZ1234567890PERM00003', 'case', 'read', '사례 조회');
+
+INSERT INTO menu (id, code, name, path, parent_id, sort_order) VALUES
+    ('01JCXYZ1234567890MENU00001', 'MENU.DASHBOARD', '대시보드', '/dashboard', NULL, 1),
+    ('01JCXYZ1234567890MENU00002', 'MENU.SYSTEM', '시스템 설정', '/system', NULL, 99);
+
+INSERT INTO permission_group_permission (group_id, permission_id) VALUES
+    ('01JCXYZ1234567890PGADMIN01', '01JCXYZ1234567890PERM00001'),
+    ('01JCXYZ1234567890PGADMIN01', '01JCXYZ1234567890PERM00002'),
+    ('01JCXYZ1234567890PGADMIN01', '01JCXYZ1234567890PERM00003'),
+    ('01JCXYZ1234567890PGUSER001', '01JCXYZ1234567890PERM00003');
+
+INSERT INTO permission_group_menu (group_id, menu_id) VALUES
+    ('01JCXYZ1234567890PGADMIN01', '01JCXYZ1234567890MENU00001'),
+    ('01JCXYZ1234567890PGADMIN01', '01JCXYZ1234567890MENU00002'),
+    ('01JCXYZ1234567890PGUSER001', '01JCXYZ1234567890MENU00001');
+
+-- 개발용 사용자 매핑 (V002 테스트 사용자)
+INSERT INTO user_permission_group (employee_id, group_id)
+SELECT employee_id, '01JCXYZ1234567890PGADMIN01' FROM users WHERE employee_id = 'EMP001';
+
+INSERT INTO user_permission_group (employee_id, group_id)
+SELECT employee_id, '01JCXYZ1234567890PGUSER001' FROM users WHERE employee_id IN ('EMP002', 'EMP003', 'EMP004');
+
+-- Comments
+COMMENT ON TABLE permission_group IS '권한 그룹 (역할 대체)';
+COMMENT ON TABLE permission IS 'Feature-Action 권한';
+COMMENT ON TABLE menu IS '메뉴';
+COMMENT ON TABLE user_permission_group IS '사용자별 권한 그룹';
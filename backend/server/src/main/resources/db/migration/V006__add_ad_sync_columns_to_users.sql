@@ -0,0 +1,20 @@
+-- =====================================================
+-- AD Directory Sync Columns
+-- =====================================================
+-- Description: AD 일괄 동기화(displayName, mail, department)를 위한 users 컬럼 추가
+--              AD 사용자는 비밀번호를 저장하지 않고, mail이 없는 AD 계정도 존재
+-- =====================================================
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS login_method VARCHAR(20) NOT NULL DEFAULT 'LOCAL';
+ALTER TABLE users ADD COLUMN IF NOT EXISTS department VARCHAR(200);
+ALTER TABLE users ADD COLUMN IF NOT EXISTS ad_synced_at TIMESTAMP;
+
+ALTER TABLE users ALTER COLUMN password DROP NOT NULL;
+ALTER TABLE users ALTER COLUMN email DROP NOT NULL;
+
+-- 동기화 시 AD 사용자만 메모리로 적재
+CREATE INDEX IF NOT EXISTS idx_users_login_method ON users(login_method);
+
+COMMENT ON COLUMN users.login_method IS '로그인 방식 (LOCAL/AD/SSO)';
+COMMENT ON COLUMN users.department IS '부서 (AD department)';
+COMMENT ON COLUMN users.ad_synced_at IS '마지막 AD 동기화 반영 시간';
@@ -0,0 +1,32 @@
+-- =====================================================
+-- Audit Log Table
+-- =====================================================
+-- Description: 인증/인가 감사 로그 (auth AuditLogMapper)
+--              id는 이벤트 생성 시 정해지는 ULID - spool 재기록 시 ON CONFLICT (id)로 중복 방지
+--              금융 규정 준수를 위해 삭제하지 않음
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS audit_log (
+    id CHAR(26) PRIMARY KEY,                              -- ULID (이벤트 생성 시 부여)
+    action VARCHAR(50) NOT NULL,                          -- LOGIN_SUCCESS, LOGIN_FAILURE ...
+    user_id VARCHAR(26),
+    employee_id VARCHAR(50),
+    username VARCHAR(100),
+    timestamp TIMESTAMP NOT NULL,                         -- 이벤트 발생 시각
+    client_ip VARCHAR(45),                                -- IPv6 최대 길이
+    success BOOLEAN,
+    method VARCHAR(20),                                   -- AD, SSO, LOCAL
+    session_id VARCHAR(100),
+    user_agent TEXT,
+    referer TEXT,
+    reason VARCHAR(200),
+    details TEXT,                                         -- JSON 문자열
+    org_id VARCHAR(26),
+    org_name VARCHAR(200),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE audit_log IS '인증/인가 감사 로그 (삭제 금지)';
+COMMENT ON COLUMN audit_log.id IS 'ULID - 재기록 멱등성 키';
+COMMENT ON COLUMN audit_log.timestamp IS '이벤트 발생 시각';
+COMMENT ON COLUMN audit_log.created_at IS '감사 로그 생성 시각';
@@ -0,0 +1,14 @@
+-- =====================================================
+-- Audit Log Keyset Pagination Indexes
+-- =====================================================
+-- Description: AuditLogMapper findBy*After 쿼리용 복합 인덱스
+--              WHERE <조건> AND (timestamp, id) < (?, ?) ORDER BY timestamp DESC, id DESC LIMIT n
+--              조건 컬럼 뒤에 (timestamp, id)를 두어 인덱스 한 구간만 읽고 정렬 없이 끝나도록 한다.
+-- =====================================================
+
+CREATE INDEX IF NOT EXISTS idx_audit_log_timestamp_id ON audit_log (timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_log_user_id_timestamp_id ON audit_log (user_id, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_log_employee_id_timestamp_id ON audit_log (employee_id, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_log_action_timestamp_id ON audit_log (action, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_log_client_ip_timestamp_id ON audit_log (client_ip, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_log_success_timestamp_id ON audit_log (success, timestamp DESC, id DESC);
@@ -0,0 +1,101 @@
+-- =====================================================
+-- Audit Log Monthly Range Partitioning (PostgreSQL)
+-- =====================================================
+-- Description: audit_log를 timestamp 기준 월별 RANGE 파티션으로 전환
+--              - 기간 조건이 있는 조회는 해당 월 파티션만 읽음 (partition pruning)
+--              - 보존 기간 정리는 DELETE 대신 파티션 DETACH/DROP (메타데이터 작업)
+--              - 파티션 테이블의 PK는 파티션 키를 포함해야 하므로 (id, timestamp)
+--                spool 재기록은 ON CONFLICT (id, timestamp)로 멱등 보장 (같은 이벤트는 timestamp도 같음)
+--              - 미래 파티션 생성/보존 정리: AuditLogPartitionManager (auth.audit-partition)
+-- =====================================================
+
+-- 1. 기존 테이블 보관 (인덱스/제약조건 이름을 새 테이블에 넘겨주기 위해 먼저 정리)
+ALTER TABLE audit_log RENAME TO audit_log_legacy;
+ALTER TABLE audit_log_legacy RENAME CONSTRAINT audit_log_pkey TO audit_log_legacy_pkey;
+DROP INDEX IF EXISTS idx_audit_log_timestamp_id;
+DROP INDEX IF EXISTS idx_audit_log_user_id_timestamp_id;
+DROP INDEX IF EXISTS idx_audit_log_employee_id_timestamp_id;
+DROP INDEX IF EXISTS idx_audit_log_action_timestamp_id;
+DROP INDEX IF EXISTS idx_audit_log_client_ip_timestamp_id;
+DROP INDEX IF EXISTS idx_audit_log_success_timestamp_id;
+
+-- 2. 파티션 부모 테이블
+CREATE TABLE audit_log (
+    id CHAR(26) NOT NULL,                                 -- ULID (이벤트 생성 시 부여)
+    action VARCHAR(50) NOT NULL,
+    user_id VARCHAR(26),
+    employee_id VARCHAR(50),
+    username VARCHAR(100),
+    timestamp TIMESTAMP NOT NULL,                         -- 파티션 키
+    client_ip VARCHAR(45),
+    success BOOLEAN,
+    method VARCHAR(20),
+    session_id VARCHAR(100),
+    user_agent TEXT,
+    referer TEXT,
+    reason VARCHAR(200),
+    details TEXT,
+    org_id VARCHAR(26),
+    org_name VARCHAR(200),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT audit_log_pkey PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+COMMENT ON TABLE audit_log IS '인증/인가 감사 로그 (월별 파티션, 보존 기간 경과 파티션만 분리/삭제)';
+COMMENT ON COLUMN audit_log.id IS 'ULID - 재기록 멱등성 키 (PK는 파티션 키 포함 (id, timestamp))';
+COMMENT ON COLUMN audit_log.timestamp IS '이벤트 발생 시각 (파티션 키)';
+COMMENT ON COLUMN audit_log.created_at IS '감사 로그 생성 시각';
+
+-- 3. 월 파티션 생성 함수 - audit_log_pYYYYMM, [월초, 다음 달 월초)
+CREATE OR REPLACE FUNCTION audit_log_ensure_partition(p_month DATE)
+RETURNS TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_from DATE := date_trunc('month', p_month)::DATE;
+    v_name TEXT := 'audit_log_p' || to_char(v_from, 'YYYYMM');
+BEGIN
+    IF to_regclass(v_name) IS NULL THEN
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF audit_log FOR VALUES FROM (%L) TO (%L)',
+            v_name, v_from, (v_from + INTERVAL '1 month')::DATE);
+    END IF;
+    RETURN v_name;
+END;
+$$;
+
+COMMENT ON FUNCTION audit_log_ensure_partition(DATE) IS 'audit_log 월 파티션 생성 (이미 있으면 이름만 반환)';
+
+-- 4. 기존 데이터 범위 ~ 이번 달 + 3개월 파티션
+DO $$
+DECLARE
+    v_month DATE := date_trunc('month', COALESCE((SELECT MIN(timestamp) FROM audit_log_legacy), now()))::DATE;
+    v_last DATE := (date_trunc('month', now()) + INTERVAL '3 months')::DATE;
+BEGIN
+    WHILE v_month <= v_last LOOP
+        PERFORM audit_log_ensure_partition(v_month);
+        v_month := (v_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+-- 범위 밖 이벤트 보호용 (미래 파티션이 아직 없을 때 INSERT 실패 방지, 평상시 비어 있음)
+CREATE TABLE audit_log_default PARTITION OF audit_log DEFAULT;
+
+-- 5. keyset 페이지 인덱스 (V008과 동일, 부모에 만들면 모든 파티션에 생성됨)
+CREATE INDEX idx_audit_log_timestamp_id ON audit_log (timestamp DESC, id DESC);
+CREATE INDEX idx_audit_log_user_id_timestamp_id ON audit_log (user_id, timestamp DESC, id DESC);
+CREATE INDEX idx_audit_log_employee_id_timestamp_id ON audit_log (employee_id, timestamp DESC, id DESC);
+CREATE INDEX idx_audit_log_action_timestamp_id ON audit_log (action, timestamp DESC, id DESC);
+CREATE INDEX idx_audit_log_client_ip_timestamp_id ON audit_log (client_ip, timestamp DESC, id DESC);
+CREATE INDEX idx_audit_log_success_timestamp_id ON audit_log (success, timestamp DESC, id DESC);
+
+-- 6. 데이터 이전
+INSERT INTO audit_log
+SELECT id, action, user_id, employee_id, username,
+       timestamp, client_ip, success, method, session_id,
+       user_agent, referer, reason, details, org_id,
+       org_name, created_at
+FROM audit_log_legacy;
+
+DROP TABLE audit_log_legacy;
@@ -0,0 +1,38 @@
+-- =====================================================
+-- Login Statistics Hourly Rollup
+-- =====================================================
+-- Description: 로그인 이벤트 시간별 집계 (시간 × action × method × success)
+--              - LoginStatsRollupJob이 끝난 시간 구간을 audit_log에서 다시 집계 (멱등 upsert)
+--              - LoginStatsService는 집계 완료 구간(sealed_until 이전)은 이 테이블,
+--                이후 진행 중인 구간만 audit_log 원본으로 COUNT
+--              - audit_log 파티션이 보존 기간으로 정리되어도 집계는 남음
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS audit_log_login_stats_hourly (
+    bucket_start TIMESTAMP NOT NULL,                      -- 시간 구간 시작 (date_trunc('hour'))
+    action VARCHAR(50) NOT NULL,                          -- LOGIN_SUCCESS, LOGIN_FAILURE ...
+    method VARCHAR(20) NOT NULL,                          -- AD, SSO, LOCAL ('' = 미상)
+    success BOOLEAN NOT NULL,
+    event_count BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT audit_log_login_stats_hourly_pkey PRIMARY KEY (bucket_start, action, method, success)
+);
+
+CREATE INDEX IF NOT EXISTS idx_login_stats_hourly_action_bucket
+    ON audit_log_login_stats_hourly (action, bucket_start);
+
+COMMENT ON TABLE audit_log_login_stats_hourly IS '로그인 이벤트 시간별 집계';
+COMMENT ON COLUMN audit_log_login_stats_hourly.bucket_start IS '시간 구간 시작 [bucket_start, +1h)';
+
+-- 집계 진행 위치 - sealed_until 이전 구간은 집계 완료 (NULL이면 아직 집계 전)
+CREATE TABLE IF NOT EXISTS audit_log_rollup_state (
+    name VARCHAR(50) PRIMARY KEY,
+    sealed_until TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE audit_log_rollup_state IS '감사 로그 집계 진행 위치';
+
+INSERT INTO audit_log_rollup_state (name, sealed_until)
+VALUES ('login_stats_hourly', NULL)
+ON CONFLICT (name) DO NOTHING;
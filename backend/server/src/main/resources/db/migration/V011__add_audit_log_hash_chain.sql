@@ -0,0 +1,23 @@
+-- =====================================================
+-- Audit Log Hash Chain
+-- =====================================================
+-- Description: 감사 로그 위변조 탐지용 해시 체인 컬럼 (AuditHashChain, AuditChainVerifier)
+--              chain_id  - 기록 프로세스마다 새로 시작하는 체인 ID (ULID)
+--              chain_seq - 체인 안의 순번 (0부터 빈틈 없이 증가)
+--              prev_hash - 직전 레코드의 hash (순번 0은 체인 genesis 해시)
+--              hash      - SHA-256(prev_hash, chain_id, chain_seq, 레코드 필드) hex
+--              기존 행은 체인 정보가 없으며 검증 시 unchained로 따로 집계한다.
+-- =====================================================
+
+ALTER TABLE audit_log ADD COLUMN IF NOT EXISTS chain_id CHAR(26);
+ALTER TABLE audit_log ADD COLUMN IF NOT EXISTS chain_seq BIGINT;
+ALTER TABLE audit_log ADD COLUMN IF NOT EXISTS prev_hash CHAR(64);
+ALTER TABLE audit_log ADD COLUMN IF NOT EXISTS hash CHAR(64);
+
+-- 검증 구간 조회: WHERE chain_id = ? AND chain_seq BETWEEN ? AND ? ORDER BY chain_seq
+CREATE INDEX IF NOT EXISTS idx_audit_log_chain ON audit_log (chain_id, chain_seq);
+
+COMMENT ON COLUMN audit_log.chain_id IS '해시 체인 ID (기록 프로세스별 ULID)';
+COMMENT ON COLUMN audit_log.chain_seq IS '해시 체인 순번';
+COMMENT ON COLUMN audit_log.prev_hash IS '직전 레코드 해시 (SHA-256 hex)';
+COMMENT ON COLUMN audit_log.hash IS '레코드 해시 (SHA-256 hex)';
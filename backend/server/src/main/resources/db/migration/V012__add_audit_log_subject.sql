@@ -0,0 +1,19 @@
+-- =====================================================
+-- Audit Log Subject (정책 변경 이력)
+-- =====================================================
+-- Description: 정책 변경 감사 로그의 대상 (subject_type, subject_id)
+--              같은 대상의 변경은 details에 직전 버전 대비 RFC 6902 JSON Patch로 저장되고
+--              주기적으로 전체 checkpoint가 들어간다 (PolicyRevisionCodec).
+--              특정 버전 복원 시 대상별로 최신순으로 읽어 가장 가까운 checkpoint부터 patch를 적용한다.
+-- =====================================================
+
+ALTER TABLE audit_log ADD COLUMN IF NOT EXISTS subject_type VARCHAR(50);
+ALTER TABLE audit_log ADD COLUMN IF NOT EXISTS subject_id VARCHAR(26);
+
+-- 대상별 이력 (keyset): WHERE subject_type = ? AND subject_id = ? AND (timestamp, id) < (?, ?)
+CREATE INDEX IF NOT EXISTS idx_audit_log_subject_timestamp_id
+    ON audit_log (subject_type, subject_id, timestamp DESC, id DESC)
+    WHERE subject_id IS NOT NULL;
+
+COMMENT ON COLUMN audit_log.subject_type IS '변경 대상 종류 (LOGIN_POLICY 등)';
+COMMENT ON COLUMN audit_log.subject_id IS '변경 대상 ID';
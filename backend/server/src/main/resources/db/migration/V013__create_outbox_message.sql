@@ -0,0 +1,23 @@
+-- =====================================================
+-- Transactional Outbox
+-- =====================================================
+-- Description: 도메인/감사 이벤트를 변경과 같은 트랜잭션으로 기록하는 outbox
+--              - OutboxRelay가 id(ULID) 순으로 읽어 broker(Kafka)로 전달하고, ack 후 삭제
+--              - 여러 노드 중 한 relay만 전달하도록 트랜잭션 advisory lock 사용 (집계별 순서 보장)
+--              - 소비자는 audit_log를 polling하지 않고 topic을 구독
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS outbox_message (
+    id CHAR(26) PRIMARY KEY,                              -- ULID (기록 순서, 소비자 중복 제거 키)
+    aggregate_type VARCHAR(50) NOT NULL,                  -- topic 결정 (LOGIN_POLICY, AUDIT_LOG ...)
+    aggregate_id VARCHAR(100) NOT NULL,                   -- partition key
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,                                -- JSON
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,                  -- 전달 실패 횟수
+    last_error VARCHAR(500)
+);
+
+COMMENT ON TABLE outbox_message IS '트랜잭셔널 outbox (전달 후 삭제)';
+COMMENT ON COLUMN outbox_message.aggregate_id IS 'broker partition key - 같은 집계의 메시지는 기록 순서대로 전달';
+COMMENT ON COLUMN outbox_message.attempts IS '전달 실패 횟수 (실패한 배치는 다음 주기에 그대로 재전송)';
@@ -0,0 +1,53 @@
+-- =====================================================
+-- LoginPolicy enum 컬럼 압축 (PostgreSQL)
+-- =====================================================
+-- Description: enabled_methods/priority를 JSON 문자열에서 enum ordinal 기반 형식으로 전환
+--              - enabled_methods: BIGINT 비트마스크 (SSO=1, AD=2, LOCAL=4) - EnumSetBitmaskTypeHandler
+--              - priority: BYTEA, 우선순위 순으로 ordinal 1바이트씩 (SSO=00, AD=01, LOCAL=02) - EnumListPackedTypeHandler
+--              - 행마다 JSON 파싱/직렬화 제거, 활성 방식 조건은 (enabled_methods & 비트) <> 0 으로 조회
+--              - LoginMethod 선언 순서가 저장 형식이므로 새 방식은 enum 끝에만 추가
+-- =====================================================
+
+-- 1. 알 수 없는 로그인 방식이 있으면 중단 (변환 중 값이 사라지지 않도록)
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1
+        FROM login_policy p,
+             jsonb_array_elements_text(p.enabled_methods::jsonb || p.priority::jsonb) AS m(method)
+        WHERE m.method NOT IN ('SSO', 'AD', 'LOCAL')
+    ) THEN
+        RAISE EXCEPTION 'login_policy에 알 수 없는 로그인 방식이 있습니다';
+    END IF;
+END $$;
+
+-- 2. 새 형식 컬럼 채우기
+ALTER TABLE login_policy ADD COLUMN enabled_methods_mask BIGINT;
+ALTER TABLE login_policy ADD COLUMN priority_packed BYTEA;
+
+UPDATE login_policy p SET
+    enabled_methods_mask = (
+        SELECT COALESCE(SUM(DISTINCT CASE m.method WHEN 'SSO' THEN 1 WHEN 'AD' THEN 2 WHEN 'LOCAL' THEN 4 END), 0)
+        FROM jsonb_array_elements_text(p.enabled_methods::jsonb) AS m(method)
+    ),
+    priority_packed = (
+        SELECT COALESCE(
+                   decode(string_agg(CASE m.method WHEN 'SSO' THEN '00' WHEN 'AD' THEN '01' WHEN 'LOCAL' THEN '02' END,
+                                     '' ORDER BY m.idx), 'hex'),
+                   ''::bytea)
+        FROM jsonb_array_elements_text(p.priority::jsonb) WITH ORDINALITY AS m(method, idx)
+    );
+
+-- 3. 기존 JSON 컬럼 교체
+ALTER TABLE login_policy DROP COLUMN enabled_methods;
+ALTER TABLE login_policy DROP COLUMN priority;
+ALTER TABLE login_policy RENAME COLUMN enabled_methods_mask TO enabled_methods;
+ALTER TABLE login_policy RENAME COLUMN priority_packed TO priority;
+ALTER TABLE login_policy ALTER COLUMN enabled_methods SET NOT NULL;
+ALTER TABLE login_policy ALTER COLUMN priority SET NOT NULL;
+
+-- 최소 1개 방식 활성 (LoginPolicy 도메인 검증과 같음)
+ALTER TABLE login_policy ADD CONSTRAINT chk_login_policy_enabled_methods CHECK (enabled_methods > 0);
+
+COMMENT ON COLUMN login_policy.enabled_methods IS '활성 로그인 방식 비트마스크 (LoginMethod ordinal 비트: SSO=1, AD=2, LOCAL=4)';
+COMMENT ON COLUMN login_policy.priority IS '로그인 방식 우선순위 (LoginMethod ordinal 1바이트씩, 우선순위 순)';
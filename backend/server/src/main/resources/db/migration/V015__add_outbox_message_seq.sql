@@ -0,0 +1,25 @@
+-- =====================================================
+-- outbox 전달 순서 컬럼 (PostgreSQL)
+-- =====================================================
+-- Description: relay 순서를 id(ULID) 대신 DB가 기록 순으로 부여하는 seq로 변경
+--              - 감사 로그 메시지 id는 감사 로그 ID(단조 증가 아님)이고 spool 재기록 시 과거 ID를 가지므로
+--                id 순 전달은 같은 체인(partition key) 안에서도 순서가 바뀔 수 있다
+--              - seq는 INSERT 시점에 부여되므로 배치 트랜잭션 안의 기록 순서(= 체인 순서)를 그대로 따른다
+-- =====================================================
+
+-- 1. 기존 대기 메시지는 기존 전달 순서(id)대로 번호 부여
+ALTER TABLE outbox_message ADD COLUMN seq BIGINT;
+
+UPDATE outbox_message m
+SET seq = o.rn
+FROM (SELECT id, row_number() OVER (ORDER BY id) AS rn FROM outbox_message) o
+WHERE m.id = o.id;
+
+-- 2. 이후 INSERT는 DB가 부여
+ALTER TABLE outbox_message ALTER COLUMN seq SET NOT NULL;
+ALTER TABLE outbox_message ALTER COLUMN seq ADD GENERATED ALWAYS AS IDENTITY;
+SELECT setval(pg_get_serial_sequence('outbox_message', 'seq'), COALESCE(MAX(seq), 0) + 1, false) FROM outbox_message;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_outbox_message_seq ON outbox_message(seq);
+
+COMMENT ON COLUMN outbox_message.seq IS 'relay 전달 순서 (DB 기록 순, 같은 partition key의 메시지 순서 보장)';
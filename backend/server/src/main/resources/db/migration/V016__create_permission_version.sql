@@ -0,0 +1,50 @@
+-- =====================================================
+-- 권한 카탈로그 버전 (PostgreSQL)
+-- =====================================================
+-- Description: 권한 스냅샷 캐시를 모든 노드에서 무효화하기 위한 단일 행 버전
+--              - 그룹/권한/메뉴/사용자-그룹 매핑 테이블이 바뀌면 트리거가 같은 트랜잭션에서 version을 올린다
+--              - 변경 경로(관리 화면, 수동 SQL, 배치)와 무관하게 커밋되는 순간 새 버전이 보인다
+--              - 각 노드의 PermissionSnapshotService는 version-check-millis마다 조회해 바뀌었으면 전체 재컴파일
+-- =====================================================
+
+CREATE TABLE permission_version (
+    id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),    -- 단일 행
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO permission_version (id, version) VALUES (1, 0);
+
+CREATE OR REPLACE FUNCTION bump_permission_version() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE permission_version SET version = version + 1, updated_at = NOW() WHERE id = 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 문장 단위 트리거 - 대량 변경도 버전은 한 번만 증가
+CREATE TRIGGER trg_permission_group_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON permission_group
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_permission_version();
+
+CREATE TRIGGER trg_permission_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON permission
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_permission_version();
+
+CREATE TRIGGER trg_menu_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON menu
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_permission_version();
+
+CREATE TRIGGER trg_permission_group_permission_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON permission_group_permission
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_permission_version();
+
+CREATE TRIGGER trg_permission_group_menu_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON permission_group_menu
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_permission_version();
+
+CREATE TRIGGER trg_user_permission_group_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON user_permission_group
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_permission_version();
+
+COMMENT ON TABLE permission_version IS '권한 카탈로그 버전 (권한 스냅샷 캐시 무효화 기준)';
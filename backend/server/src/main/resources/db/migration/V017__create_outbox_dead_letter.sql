@@ -0,0 +1,25 @@
+-- =====================================================
+-- outbox 격리 메시지 (PostgreSQL)
+-- =====================================================
+-- Description: 반복 전달에 실패하는 메시지(poison message)를 outbox_message에서 옮겨 두는 테이블
+--              - 같은 배치의 다른 메시지는 전달되는데 auth.outbox.max-attempts번 이상 실패한 메시지만 옮긴다
+--              - 옮긴 뒤에는 같은 집계의 뒤 메시지가 이어서 전달된다 (다른 집계는 처음부터 막히지 않음)
+--              - 원인 해결 후 재전송은 운영자가 outbox_message로 다시 INSERT (seq는 새로 부여됨)
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS outbox_dead_letter (
+    id CHAR(26) PRIMARY KEY,                              -- outbox_message.id (소비자 중복 제거 키 유지)
+    seq BIGINT NOT NULL,                                  -- 원래 전달 순서
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL,
+    last_error VARCHAR(500),
+    parked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_dead_letter_aggregate ON outbox_dead_letter(aggregate_type, aggregate_id, seq);
+
+COMMENT ON TABLE outbox_dead_letter IS '전달 불가로 격리된 outbox 메시지 (auth.outbox.parked 지표로 알림)';